@@ -133,4 +133,28 @@ public interface DatabaseProvider extends Serializable {
      *             if the query is invalid
      */
     List<Map<String, Object>> executeQuery(String sql);
+
+    /**
+     * Executes the given SQL query and returns the results as a stream of
+     * compact rows with shared column metadata. Compared to
+     * {@link #executeQuery(String)}, this avoids creating a map per row, and
+     * allows implementations to read rows from a database cursor on demand.
+     * <p>
+     * The default implementation delegates to {@link #executeQuery(String)}.
+     * Override it to stream rows directly from the database. The caller closes
+     * the returned result.
+     * </p>
+     *
+     * @param sql
+     *            the SQL query to execute, not {@code null}
+     * @return the query result, never {@code null}
+     * @throws NullPointerException
+     *             if the query is {@code null}
+     * @throws IllegalArgumentException
+     *             if the query is invalid
+     * @since 25.3
+     */
+    default QueryResult streamQuery(String sql) {
+        return QueryResult.fromMaps(executeQuery(sql));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.ai.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The result of a query executed with
+ * {@link DatabaseProvider#streamQuery(String)}. The column names are provided
+ * once for the whole result, and each row is a compact array of values in the
+ * order of the column names.
+ * <p>
+ * The rows can be backed by an open database cursor, so the result must be
+ * closed after use, preferably with a try-with-resources statement. Closing the
+ * result closes the row stream.
+ * </p>
+ *
+ * <pre>
+ * &#064;Override
+ * public QueryResult streamQuery(String sql) {
+ *     var connection = readOnlyDataSource.getConnection();
+ *     var statement = connection.prepareStatement(sql);
+ *     var resultSet = statement.executeQuery();
+ *     // Read column names from resultSet.getMetaData() and create a stream
+ *     // that reads the next row from the result set on demand
+ *     return new QueryResult(columnNames, rows.onClose(() -&gt; {
+ *         // Close result set, statement and connection
+ *     }));
+ * }
+ * </pre>
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class QueryResult implements AutoCloseable {
+
+    private final List<String> columnNames;
+    private final Stream<Object[]> rows;
+
+    /**
+     * Creates a new query result.
+     *
+     * @param columnNames
+     *            the names of the result columns, not {@code null}
+     * @param rows
+     *            the rows of the result, each with one value per column in
+     *            the order of the column names, not {@code null}
+     */
+    public QueryResult(List<String> columnNames, Stream<Object[]> rows) {
+        this.columnNames = List.copyOf(Objects.requireNonNull(columnNames,
+                "columnNames must not be null"));
+        this.rows = Objects.requireNonNull(rows, "rows must not be null");
+    }
+
+    /**
+     * Creates a query result from rows represented as column-name-to-value
+     * maps. The column names are taken from the first row.
+     *
+     * @param rows
+     *            the rows, not {@code null}
+     * @return the query result, never {@code null}
+     */
+    public static QueryResult fromMaps(List<Map<String, Object>> rows) {
+        Objects.requireNonNull(rows, "rows must not be null");
+        if (rows.isEmpty()) {
+            return new QueryResult(List.of(), Stream.empty());
+        }
+        var columnNames = new ArrayList<>(rows.getFirst().keySet());
+        return new QueryResult(columnNames, rows.stream().map(row -> {
+            var values = new Object[columnNames.size()];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = row.get(columnNames.get(i));
+            }
+            return values;
+        }));
+    }
+
+    /**
+     * Returns the names of the result columns.
+     *
+     * @return an unmodifiable list of column names, never {@code null}
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Returns the rows of the result. The stream can be consumed only once.
+     *
+     * @return the rows, never {@code null}
+     */
+    public Stream<Object[]> getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        rows.close();
+    }
+}
@@ -9,7 +9,10 @@
 package com.vaadin.flow.component.ai.grid;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -28,7 +31,8 @@ import java.util.Set;
  */
 public final class AIDataRow implements Serializable {
 
-    private final Map<String, Object> values;
+    private final Map<String, Integer> columnIndexes;
+    private final Object[] values;
 
     /**
      * Creates a new row from the given column-value map. The map is copied
@@ -39,7 +43,40 @@ public final class AIDataRow implements Serializable {
      */
     AIDataRow(Map<String, Object> values) {
         Objects.requireNonNull(values, "values must not be null");
-        this.values = new LinkedHashMap<>(values);
+        this.columnIndexes = columnIndexes(new ArrayList<>(values.keySet()));
+        this.values = values.values().toArray();
+    }
+
+    /**
+     * Creates a new row from an array of values. The column index map is
+     * shared by all rows of the same query result and must not be modified.
+     *
+     * @param columnIndexes
+     *            the index of each column in the values array, in column
+     *            order, not {@code null}
+     * @param values
+     *            the column values, not {@code null}
+     */
+    AIDataRow(Map<String, Integer> columnIndexes, Object[] values) {
+        this.columnIndexes = Objects.requireNonNull(columnIndexes,
+                "columnIndexes must not be null");
+        this.values = Objects.requireNonNull(values,
+                "values must not be null");
+    }
+
+    /**
+     * Creates the column index map to share between rows of a query result.
+     *
+     * @param columnNames
+     *            the column names, in column order
+     * @return an unmodifiable map from column name to index, in column order
+     */
+    static Map<String, Integer> columnIndexes(List<String> columnNames) {
+        var indexes = new LinkedHashMap<String, Integer>();
+        for (var i = 0; i < columnNames.size(); i++) {
+            indexes.put(columnNames.get(i), i);
+        }
+        return Collections.unmodifiableMap(indexes);
     }
 
     /**
@@ -51,7 +88,8 @@ public final class AIDataRow implements Serializable {
      *         value is {@code null}
      */
     Object get(String column) {
-        return values.get(column);
+        var index = columnIndexes.get(column);
+        return index != null ? values[index] : null;
     }
 
     /**
@@ -60,6 +98,9 @@ public final class AIDataRow implements Serializable {
      * @return the entries, never {@code null}
      */
     Set<Map.Entry<String, Object>> entries() {
-        return values.entrySet();
+        var entries = new LinkedHashMap<String, Object>();
+        columnIndexes.forEach(
+                (column, index) -> entries.put(column, values[index]));
+        return entries.entrySet();
     }
 }
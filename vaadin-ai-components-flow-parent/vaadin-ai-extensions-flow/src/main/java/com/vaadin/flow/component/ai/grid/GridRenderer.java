@@ -15,7 +15,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,18 +22,14 @@ import org.slf4j.LoggerFactory;
 import com.vaadin.flow.component.ai.provider.DatabaseProvider;
 import com.vaadin.flow.component.grid.ColumnTextAlign;
 import com.vaadin.flow.component.grid.Grid;
-import com.vaadin.flow.data.provider.CallbackDataProvider;
-import com.vaadin.flow.data.provider.DataProvider;
-import com.vaadin.flow.data.provider.QuerySortOrder;
-import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.data.renderer.LocalDateRenderer;
 import com.vaadin.flow.data.renderer.LocalDateTimeRenderer;
 import com.vaadin.flow.data.renderer.NumberRenderer;
 
 /**
  * Stateless utility for rendering grid data from SQL queries. Handles column
- * creation, type-based rendering, column grouping, and lazy loading via
- * {@link CallbackDataProvider}.
+ * creation, type-based rendering, column grouping, and lazy loading with
+ * cached row counts and keyset pagination where possible.
  *
  * @author Vaadin Ltd
  * @see GridAIController
@@ -67,10 +62,18 @@ public final class GridRenderer implements Serializable {
      */
     public static void renderGrid(Grid<AIDataRow> grid,
             DatabaseProvider databaseProvider, String query) {
-        var sampleRows = databaseProvider.executeQuery(wrapWithLimit(query, 1));
+        AIDataRow firstRow;
+        try (var sample = databaseProvider
+                .streamQuery(SqlDataProvider.wrapWithLimit(query, 1))) {
+            var columnIndexes = AIDataRow
+                    .columnIndexes(sample.getColumnNames());
+            firstRow = sample.getRows().findFirst()
+                    .map(values -> new AIDataRow(columnIndexes, values))
+                    .orElse(null);
+        }
         removeExtraHeaderRows(grid);
         grid.removeAllColumns();
-        if (sampleRows.isEmpty()) {
+        if (firstRow == null) {
             if (grid.getEmptyStateText() == null
                     && grid.getEmptyStateComponent() == null) {
                 grid.setEmptyStateText(DEFAULT_EMPTY_STATE_TEXT);
@@ -79,7 +82,6 @@ public final class GridRenderer implements Serializable {
             return;
         }
 
-        var firstRow = new AIDataRow(sampleRows.getFirst());
         var sortedColumns = new ArrayList<>(firstRow.entries());
         sortedColumns.sort((a, b) -> {
             var prefixA = GridFormatting.groupPrefix(a.getKey());
@@ -90,7 +92,7 @@ public final class GridRenderer implements Serializable {
             addColumn(grid, entry.getKey(), entry.getValue());
         }
         applyColumnGrouping(grid);
-        var dataProvider = createDataProvider(databaseProvider, query);
+        var dataProvider = new SqlDataProvider(databaseProvider, query);
         grid.setItems(dataProvider);
         LOGGER.info("Grid configured with {} columns", sortedColumns.size());
     }
@@ -161,30 +163,6 @@ public final class GridRenderer implements Serializable {
         }
     }
 
-    private static DataProvider<AIDataRow, Void> createDataProvider(
-            DatabaseProvider databaseProvider, String query) {
-        var countQuery = wrapWithCount(query);
-        return new CallbackDataProvider<>(fetchQuery -> {
-            var sql = enrichQuery(query, fetchQuery.getOffset(),
-                    fetchQuery.getLimit(), fetchQuery.getSortOrders());
-            LOGGER.debug("Fetching rows: {}", sql);
-            return databaseProvider.executeQuery(sql).stream()
-                    .map(AIDataRow::new);
-        }, countFetchQuery -> {
-            LOGGER.debug("Counting rows: {}", countQuery);
-            var countResult = databaseProvider.executeQuery(countQuery);
-            if (countResult.isEmpty()) {
-                return 0;
-            }
-            var entries = new AIDataRow(countResult.getFirst()).entries();
-            if (entries.isEmpty()) {
-                return 0;
-            }
-            var firstValue = entries.iterator().next().getValue();
-            return firstValue instanceof Number n ? n.intValue() : 0;
-        }, row -> row);
-    }
-
     // --- Type conversion helpers ---
 
     private static LocalDate toLocalDate(Object value) {
@@ -206,30 +184,4 @@ public final class GridRenderer implements Serializable {
         }
         return null;
     }
-
-    // --- SQL helpers ---
-
-    private static String enrichQuery(String query, int offset, int limit,
-            List<QuerySortOrder> sortOrders) {
-        var sortOrdersExpression = sortOrders.stream().map(sortOrder -> {
-            var col = sortOrder.getSorted();
-            var dir = sortOrder.getDirection() == SortDirection.ASCENDING
-                    ? "ASC"
-                    : "DESC";
-            return "\"" + col + "\" " + dir;
-        }).collect(Collectors.joining(", "));
-        if (!sortOrdersExpression.isEmpty()) {
-            query = "SELECT * FROM (" + query + ") AS _t ORDER BY "
-                    + sortOrdersExpression;
-        }
-        return wrapWithLimit(query, limit) + " OFFSET " + offset;
-    }
-
-    private static String wrapWithLimit(String query, int limit) {
-        return "SELECT * FROM (" + query + ") AS _limited LIMIT " + limit;
-    }
-
-    private static String wrapWithCount(String query) {
-        return "SELECT COUNT(*) FROM (" + query + ") AS _counted";
-    }
 }
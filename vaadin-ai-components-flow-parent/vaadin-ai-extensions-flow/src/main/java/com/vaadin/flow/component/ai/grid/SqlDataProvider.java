@@ -0,0 +1,236 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.ai.grid;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.ai.provider.DatabaseProvider;
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+/**
+ * Lazy data provider for the rows of an SQL query. Rows are read through
+ * {@link DatabaseProvider#streamQuery(String)} into compact {@link AIDataRow}
+ * instances that share their column metadata.
+ * <p>
+ * The row count is cached until {@link #refreshAll()} is called. When the grid
+ * requests the page directly following the previously fetched one, and the
+ * rows are sorted by a single numeric column without {@code NULL} values, the
+ * page is fetched with keyset pagination instead of an increasingly expensive
+ * {@code OFFSET}.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @author Vaadin Ltd
+ */
+class SqlDataProvider extends AbstractBackEndDataProvider<AIDataRow, Void> {
+
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(SqlDataProvider.class);
+
+    private final DatabaseProvider databaseProvider;
+    private final String query;
+
+    private Integer cachedCount;
+    private final Map<String, Boolean> nullFreeColumns = new HashMap<>();
+    private KeysetCursor cursor;
+
+    SqlDataProvider(DatabaseProvider databaseProvider, String query) {
+        this.databaseProvider = Objects.requireNonNull(databaseProvider);
+        this.query = Objects.requireNonNull(query);
+    }
+
+    @Override
+    protected Stream<AIDataRow> fetchFromBackEnd(Query<AIDataRow, Void> q) {
+        var sortOrders = q.getSortOrders();
+        var offset = q.getOffset();
+        var limit = q.getLimit();
+
+        var keyset = cursor != null && cursor.nextOffset() == offset
+                && isSameSort(cursor.sortOrders(), sortOrders)
+                && isNullFree(sortOrders.getFirst().getSorted());
+        String sql;
+        if (keyset) {
+            sql = keysetQuery(sortOrders.getFirst(), cursor, limit);
+        } else {
+            sql = enrichQuery(query, offset, limit, sortOrders);
+        }
+        LOGGER.debug("Fetching rows: {}", sql);
+
+        List<AIDataRow> rows = new ArrayList<>();
+        try (var result = databaseProvider.streamQuery(sql)) {
+            var columnIndexes = AIDataRow
+                    .columnIndexes(result.getColumnNames());
+            result.getRows().forEach(
+                    values -> rows.add(new AIDataRow(columnIndexes, values)));
+        }
+        cursor = nextCursor(sortOrders, offset, rows, keyset ? cursor : null);
+        return rows.stream();
+    }
+
+    @Override
+    protected int sizeInBackEnd(Query<AIDataRow, Void> q) {
+        if (cachedCount == null) {
+            var countQuery = wrapWithCount(query);
+            LOGGER.debug("Counting rows: {}", countQuery);
+            cachedCount = readCount(countQuery);
+        }
+        return cachedCount;
+    }
+
+    @Override
+    public void refreshAll() {
+        cachedCount = null;
+        nullFreeColumns.clear();
+        cursor = null;
+        super.refreshAll();
+    }
+
+    private int readCount(String countQuery) {
+        try (var result = databaseProvider.streamQuery(countQuery)) {
+            return result.getRows().findFirst()
+                    .filter(values -> values.length > 0)
+                    .map(values -> values[0] instanceof Number n ? n.intValue()
+                            : 0)
+                    .orElse(0);
+        }
+    }
+
+    private boolean isNullFree(String column) {
+        return nullFreeColumns.computeIfAbsent(column,
+                key -> readCount(wrapWithCount("SELECT * FROM (" + query
+                        + ") AS _t WHERE " + quote(key) + " IS NULL")) == 0);
+    }
+
+    /**
+     * Returns the cursor for continuing after the given page, or {@code null}
+     * if the page can't be continued with keyset pagination.
+     */
+    private static KeysetCursor nextCursor(List<QuerySortOrder> sortOrders,
+            int offset, List<AIDataRow> rows, KeysetCursor previous) {
+        if (sortOrders.size() != 1 || rows.isEmpty()) {
+            return null;
+        }
+        var column = sortOrders.getFirst().getSorted();
+        var lastValue = rows.getLast().get(column);
+        if (toLiteral(lastValue) == null) {
+            return null;
+        }
+        // count the rows at the end of the page that have the same value,
+        // which need to be skipped when continuing from that value
+        var ties = 0;
+        for (var i = rows.size() - 1; i >= 0
+                && lastValue.equals(rows.get(i).get(column)); i--) {
+            ties++;
+        }
+        if (ties == rows.size() && offset > 0) {
+            if (previous == null) {
+                // the value may continue from earlier pages
+                return null;
+            }
+            if (lastValue.equals(previous.lastValue())) {
+                ties += previous.ties();
+            }
+        }
+        return new KeysetCursor(List.copyOf(sortOrders),
+                offset + rows.size(), lastValue, ties);
+    }
+
+    private static boolean isSameSort(List<QuerySortOrder> a,
+            List<QuerySortOrder> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (var i = 0; i < a.size(); i++) {
+            if (!a.get(i).getSorted().equals(b.get(i).getSorted())
+                    || a.get(i).getDirection() != b.get(i).getDirection()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String keysetQuery(QuerySortOrder sortOrder, KeysetCursor cursor,
+            int limit) {
+        var ascending = sortOrder.getDirection() == SortDirection.ASCENDING;
+        var column = quote(sortOrder.getSorted());
+        var filtered = "SELECT * FROM (" + query + ") AS _t WHERE " + column
+                + (ascending ? " >= " : " <= ")
+                + toLiteral(cursor.lastValue()) + " ORDER BY " + column
+                + (ascending ? " ASC" : " DESC");
+        return wrapWithLimit(filtered, limit + cursor.ties()) + " OFFSET "
+                + cursor.ties();
+    }
+
+    private static String toLiteral(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return value.toString();
+        }
+        if ((value instanceof Double || value instanceof Float)
+                && Double.isFinite(((Number) value).doubleValue())) {
+            return BigDecimal.valueOf(((Number) value).doubleValue())
+                    .toPlainString();
+        }
+        return null;
+    }
+
+    private static String quote(String column) {
+        return "\"" + column + "\"";
+    }
+
+    // --- SQL helpers ---
+
+    static String enrichQuery(String query, int offset, int limit,
+            List<QuerySortOrder> sortOrders) {
+        var sortOrdersExpression = sortOrders.stream().map(sortOrder -> {
+            var col = sortOrder.getSorted();
+            var dir = sortOrder.getDirection() == SortDirection.ASCENDING
+                    ? "ASC"
+                    : "DESC";
+            return quote(col) + " " + dir;
+        }).collect(Collectors.joining(", "));
+        if (!sortOrdersExpression.isEmpty()) {
+            query = "SELECT * FROM (" + query + ") AS _t ORDER BY "
+                    + sortOrdersExpression;
+        }
+        return wrapWithLimit(query, limit) + " OFFSET " + offset;
+    }
+
+    static String wrapWithLimit(String query, int limit) {
+        return "SELECT * FROM (" + query + ") AS _limited LIMIT " + limit;
+    }
+
+    static String wrapWithCount(String query) {
+        return "SELECT COUNT(*) FROM (" + query + ") AS _counted";
+    }
+
+    private record KeysetCursor(List<QuerySortOrder> sortOrders,
+            int nextOffset, Object lastValue,
+            int ties) implements Serializable {
+    }
+}
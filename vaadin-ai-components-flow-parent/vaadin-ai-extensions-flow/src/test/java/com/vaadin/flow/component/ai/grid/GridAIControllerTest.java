@@ -941,6 +941,70 @@ class GridAIControllerTest {
             Assertions.assertEquals(0, size);
         }
 
+        @Test
+        void count_cachedUntilRefresh() {
+            dbProvider.queryResults = List.of(row("COUNT(*)", 42));
+            grid.getDataProvider().size(new Query<>());
+            grid.getDataProvider().size(new Query<>());
+            Assertions.assertEquals(1, dbProvider.executedQueries.size());
+
+            grid.getDataProvider().refreshAll();
+            grid.getDataProvider().size(new Query<>());
+            Assertions.assertEquals(2, dbProvider.executedQueries.size());
+        }
+
+        @Test
+        void fetch_nextPageSortedByNumericColumn_usesKeyset() {
+            var sort = List
+                    .of(new QuerySortOrder("a", SortDirection.ASCENDING));
+            dbProvider.queryResults = List.of(row("a", 1), row("a", 2));
+            grid.getDataProvider().fetch(new Query<>(0, 2, sort, null, null))
+                    .toList();
+
+            // null check of the sort column
+            dbProvider.queryResults = List.of(row("COUNT(*)", 0));
+            grid.getDataProvider().fetch(new Query<>(2, 2, sort, null, null))
+                    .toList();
+
+            Assertions.assertEquals(
+                    "SELECT COUNT(*) FROM (SELECT * FROM (SELECT a FROM t) AS _t WHERE \"a\" IS NULL) AS _counted",
+                    dbProvider.executedQueries.get(1));
+            Assertions.assertEquals(
+                    "SELECT * FROM (SELECT * FROM (SELECT a FROM t) AS _t WHERE \"a\" >= 2 ORDER BY \"a\" ASC) AS _limited LIMIT 3 OFFSET 1",
+                    dbProvider.executedQueries.get(2));
+        }
+
+        @Test
+        void fetch_nextPageSortedByNullableColumn_usesOffset() {
+            var sort = List
+                    .of(new QuerySortOrder("a", SortDirection.ASCENDING));
+            dbProvider.queryResults = List.of(row("a", 1), row("a", 2));
+            grid.getDataProvider().fetch(new Query<>(0, 2, sort, null, null))
+                    .toList();
+
+            dbProvider.queryResults = List.of(row("COUNT(*)", 3));
+            grid.getDataProvider().fetch(new Query<>(2, 2, sort, null, null))
+                    .toList();
+
+            Assertions.assertTrue(
+                    dbProvider.executedQueries.get(2).endsWith("OFFSET 2"));
+        }
+
+        @Test
+        void fetch_nonSequentialPage_usesOffset() {
+            var sort = List
+                    .of(new QuerySortOrder("a", SortDirection.ASCENDING));
+            dbProvider.queryResults = List.of(row("a", 1), row("a", 2));
+            grid.getDataProvider().fetch(new Query<>(0, 2, sort, null, null))
+                    .toList();
+            grid.getDataProvider().fetch(new Query<>(50, 2, sort, null, null))
+                    .toList();
+
+            Assertions.assertEquals(2, dbProvider.executedQueries.size());
+            Assertions.assertTrue(
+                    dbProvider.executedQueries.get(1).endsWith("OFFSET 50"));
+        }
+
         @Test
         void dataProvider_replacedOnSubsequentUpdate() {
             var first = grid.getDataProvider();
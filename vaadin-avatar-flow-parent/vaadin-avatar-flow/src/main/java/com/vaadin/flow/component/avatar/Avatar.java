@@ -26,11 +26,14 @@ import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.server.AbstractStreamResource;
 import com.vaadin.flow.server.StreamResourceRegistry;
 import com.vaadin.flow.server.streams.AbstractDownloadHandler;
 import com.vaadin.flow.server.streams.DownloadHandler;
+import com.vaadin.flow.shared.Registration;
 
 /**
  * Avatar is a graphical representation of an object or entity, for example a
@@ -95,6 +98,7 @@ public class Avatar extends Component
     }
 
     private AbstractStreamResource imageResource;
+    private Registration sharedImageRegistration;
     private AvatarI18n i18n;
 
     /**
@@ -236,6 +240,7 @@ public class Avatar extends Component
      */
     public void setImage(String url) {
         imageResource = null;
+        unbindSharedImage();
 
         if (url == null) {
             getElement().removeAttribute("img");
@@ -258,6 +263,7 @@ public class Avatar extends Component
     @Deprecated(since = "24.8", forRemoval = true)
     public void setImageResource(AbstractStreamResource resource) {
         imageResource = resource;
+        unbindSharedImage();
         if (resource == null) {
             getElement().removeAttribute("img");
             return;
@@ -283,6 +289,7 @@ public class Avatar extends Component
      * @since 24.8
      */
     public void setImageHandler(DownloadHandler downloadHandler) {
+        unbindSharedImage();
         if (downloadHandler == null) {
             imageResource = null;
             getElement().removeAttribute("img");
@@ -299,6 +306,39 @@ public class Avatar extends Component
         getElement().setAttribute("img", imageResource);
     }
 
+    /**
+     * Sets the image for the avatar as a resource that is shared by the whole
+     * application. All avatars that use equal shared resources reference the
+     * same URL, which the browser can cache, instead of each avatar
+     * registering its own resource.
+     * <p>
+     * Setting the image with this method resets the image URL or resource
+     * that was set with the other image setters. The URL of the resource is
+     * resolved when the avatar is attached.
+     *
+     * @param resource
+     *            the shared resource, or {@code null} to remove the image
+     * @see SharedResource
+     * @since 25.3
+     */
+    public void setSharedImage(SharedResource resource) {
+        imageResource = null;
+        unbindSharedImage();
+        if (resource == null) {
+            getElement().removeAttribute("img");
+            return;
+        }
+        sharedImageRegistration = SharedResourceRegistry.bind(this, "img",
+                resource);
+    }
+
+    private void unbindSharedImage() {
+        if (sharedImageRegistration != null) {
+            sharedImageRegistration.remove();
+            sharedImageRegistration = null;
+        }
+    }
+
     /**
      * Gets the color index for the avatar.
      *
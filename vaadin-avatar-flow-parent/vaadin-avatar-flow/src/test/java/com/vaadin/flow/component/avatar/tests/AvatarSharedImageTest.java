@@ -0,0 +1,120 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.avatar.tests;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.avatar.Avatar;
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.tests.MockUIExtension;
+
+class AvatarSharedImageTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private SharedResourceRegistry registry;
+    private SharedResource resource = SharedResource.fromContent("a.png",
+            "image/png", "png".getBytes(StandardCharsets.UTF_8));
+    private Avatar avatar = new Avatar();
+
+    @BeforeEach
+    void setup() {
+        var registryReference = new AtomicReference<SharedResourceRegistry>();
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Mockito.when(context.getAttribute(
+                Mockito.eq(SharedResourceRegistry.class), Mockito.any()))
+                .thenAnswer(invocation -> registryReference.updateAndGet(
+                        current -> current != null ? current
+                                : create(invocation.getArgument(1))));
+        Mockito.when(ui.getService().getContext()).thenReturn(context);
+        VaadinService.setCurrent(ui.getService());
+        registry = SharedResourceRegistry.get(ui.getService());
+    }
+
+    @AfterEach
+    void tearDown() {
+        VaadinService.setCurrent(null);
+    }
+
+    @Test
+    void setSharedImage_urlSet_registeredWhileAttached() {
+        avatar.setSharedImage(resource);
+
+        Assertions.assertEquals(resource.getUrl(), avatar.getImage());
+        Assertions.assertFalse(registry.isRegistered(resource));
+
+        ui.add(avatar);
+        Assertions.assertTrue(registry.isRegistered(resource));
+
+        ui.remove(avatar);
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void sameSharedImageInTwoAvatars_registeredOnce() {
+        var other = new Avatar();
+        avatar.setSharedImage(resource);
+        other.setSharedImage(SharedResource.fromContent("b.png", "image/png",
+                "png".getBytes(StandardCharsets.UTF_8)));
+        ui.add(avatar);
+        ui.add(other);
+
+        Assertions.assertEquals(1, registry.size());
+
+        ui.remove(avatar);
+        Assertions.assertTrue(registry.isRegistered(resource));
+    }
+
+    @Test
+    void attached_setImage_sharedImageReleased() {
+        avatar.setSharedImage(resource);
+        ui.add(avatar);
+
+        avatar.setImage("https://vaadin.com/");
+
+        Assertions.assertEquals("https://vaadin.com/", avatar.getImage());
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void attached_setSharedImageNull_imageRemovedAndReleased() {
+        avatar.setSharedImage(resource);
+        ui.add(avatar);
+
+        avatar.setSharedImage(null);
+
+        Assertions.assertNull(avatar.getImage());
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    private static SharedResourceRegistry create(
+            Supplier<SharedResourceRegistry> supplier) {
+        return supplier.get();
+    }
+}
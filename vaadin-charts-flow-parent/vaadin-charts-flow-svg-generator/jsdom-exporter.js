@@ -52,6 +52,17 @@ require("highcharts/modules/annotations");
 
 win.Date = Date;
 
+// Snapshot of the global options, restored before each export so that themes
+// and languages set by one export don't leak to the next one when the exporter
+// is reused by a long-lived worker process
+const initialOptions = Highcharts.merge(Highcharts.getOptions());
+
+function resetOptions() {
+    const options = Highcharts.getOptions();
+    Object.keys(options).forEach(key => delete options[key]);
+    Object.assign(options, Highcharts.merge(initialOptions));
+}
+
 function processTextNodes(element, cb) {
     for (var childNode of element.childNodes) {
         if (childNode.nodeType === Node.ELEMENT_NODE) {
@@ -319,7 +330,7 @@ const inflateFunctions = (jsonConfiguration) => {
  *
  * @property {string} chartConfigurationFile A relative path to a file containing the configuration in JSON.
  * @property {object} chartConfiguration An object with the configuration. Only has effect when `chartConfigurationFile` is not provided.
- * @property {string} outFile
+ * @property {string} outFile The file to write the SVG to, or `null` to only return the SVG string.
  * @property {ExportOptions} exportOptions
  */
 
@@ -353,6 +364,8 @@ const jsdomExporter = ({ chartConfigurationFile, chartConfiguration, outFile = '
             );
         }
 
+        resetOptions();
+
         // Disable all animation and default title
         Highcharts.setOptions({
             plotOptions: {
@@ -410,7 +423,15 @@ const jsdomExporter = ({ chartConfigurationFile, chartConfiguration, outFile = '
         let svg = chart.sanitizeSVG(
             chart.container.innerHTML
         ).replace(/^.*<\/div>/g, '');
-        
+
+        // Release the chart, as the container is reused by the next export
+        chart.destroy();
+
+        if (outFile === null) {
+            resolve({ svgString: svg, outFile: null });
+            return;
+        }
+
         fs.writeFile(path.join(__dirname, outFile), svg, function (err) {
             if (err) {
                 reject(err);
@@ -63,6 +63,31 @@ class NodeRunner {
     }
 
     int runJavascript(String script) throws InterruptedException, IOException {
+        ProcessBuilder builder = createProcessBuilder(script);
+        builder.inheritIO();
+        Process process = builder.start();
+        return process.waitFor();
+    }
+
+    /**
+     * Starts a Node.js process running the given script without waiting for
+     * it to complete. The standard input and output of the process are
+     * available through the returned process, and the standard error is
+     * inherited from this process.
+     *
+     * @param script
+     *            the script to run
+     * @return the started process
+     * @throws IOException
+     *             if the process could not be started
+     */
+    Process startJavascript(String script) throws IOException {
+        ProcessBuilder builder = createProcessBuilder(script);
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return builder.start();
+    }
+
+    private ProcessBuilder createProcessBuilder(String script) {
         String nodeExecutable = findNodeExecutable();
         List<String> command = new ArrayList<>();
         command.add(nodeExecutable);
@@ -74,9 +99,6 @@ class NodeRunner {
         } else {
             command.add(script);
         }
-        ProcessBuilder builder = FrontendUtils.createProcessBuilder(command);
-        builder.inheritIO();
-        Process process = builder.start();
-        return process.waitFor();
+        return FrontendUtils.createProcessBuilder(command);
     }
 }
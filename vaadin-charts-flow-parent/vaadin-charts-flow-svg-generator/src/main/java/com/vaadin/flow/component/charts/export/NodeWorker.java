@@ -0,0 +1,233 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.export;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.vaadin.flow.internal.JacksonUtils;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * A long-lived Node.js process running the exporter bundle. Requests and
+ * responses are exchanged over the standard input and output of the process as
+ * frames of one JSON document per line. A worker handles one request at a
+ * time.
+ */
+class NodeWorker implements AutoCloseable {
+
+    /**
+     * Maximum time to wait for the worker to load the exporter bundle.
+     */
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Script run by the worker process. Console output is redirected to the
+     * standard error, so that the standard output only contains response
+     * frames. Requests are processed one at a time, in order.
+     */
+    private static final String SCRIPT_TEMPLATE = "const exporter = require('%s');\n"
+            + "const readline = require('readline');\n"
+            + "console.log = console.info = console.warn = console.error;\n"
+            + "const send = (message) => process.stdout.write(JSON.stringify(message) + '\\n');\n"
+            + "let queue = Promise.resolve();\n"
+            + "readline.createInterface({ input: process.stdin }).on('line', (line) => {\n"
+            + "  queue = queue.then(async () => {\n"
+            + "    const request = JSON.parse(line);\n"
+            + "    try {\n"
+            + "      const result = await exporter({ chartConfiguration: request.configuration,"
+            + " exportOptions: request.exportOptions, outFile: null });\n"
+            + "      send({ id: request.id, svg: result.svgString });\n"
+            + "    } catch (e) {\n"
+            + "      send({ id: request.id, error: String((e && e.stack) || e) });\n"
+            + "    }\n" + "  });\n"
+            + "}).on('close', () => process.exit(0));\n"
+            + "send({ ready: true });";
+
+    /**
+     * Marks the end of the output of the process.
+     */
+    private static final Object END_OF_OUTPUT = new Object();
+
+    private final Process process;
+    private final BufferedWriter input;
+    private final BlockingQueue<Object> output = new LinkedBlockingQueue<>();
+    private boolean ready;
+    private long lastRequestId;
+
+    /**
+     * Starts a new worker process.
+     *
+     * @param nodeRunner
+     *            the runner used to start the Node.js process
+     * @param bundlePath
+     *            the path to the exporter bundle file
+     * @throws IOException
+     *             if the process could not be started
+     */
+    NodeWorker(NodeRunner nodeRunner, Path bundlePath) throws IOException {
+        String script = String.format(SCRIPT_TEMPLATE, bundlePath.toFile()
+                .getAbsolutePath().replaceAll("\\\\", "/"));
+        process = nodeRunner.startJavascript(script);
+        input = new BufferedWriter(new OutputStreamWriter(
+                process.getOutputStream(), StandardCharsets.UTF_8));
+        Thread.ofPlatform().daemon().name("svg-generator-worker-reader")
+                .start(this::readOutput);
+    }
+
+    private void readOutput() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+            }
+        } catch (IOException e) {
+            // The process was closed, handled below
+        } finally {
+            output.add(END_OF_OUTPUT);
+        }
+    }
+
+    /**
+     * Generates an SVG string with this worker.
+     *
+     * @param configurationJson
+     *            the chart configuration as JSON
+     * @param exportOptionsJson
+     *            the export options as JSON, or {@code "null"}
+     * @param timeout
+     *            the maximum time to wait for the SVG, not including the
+     *            startup of the worker
+     * @return the SVG string
+     * @throws WorkerCrashedException
+     *             if the worker process has stopped
+     * @throws IOException
+     *             if the exporter failed to render the chart
+     * @throws TimeoutException
+     *             if the SVG was not generated within the timeout
+     * @throws InterruptedException
+     *             if interrupted while waiting for the SVG
+     */
+    String generate(String configurationJson, String exportOptionsJson,
+            Duration timeout)
+            throws IOException, TimeoutException, InterruptedException {
+        if (!ready) {
+            JsonNode message = poll(STARTUP_TIMEOUT);
+            if (message == null || !message.path("ready").asBoolean()) {
+                throw new WorkerCrashedException(
+                        "The SVG generator worker failed to start");
+            }
+            ready = true;
+        }
+
+        long id = ++lastRequestId;
+        try {
+            input.write("{\"id\":" + id + ",\"configuration\":"
+                    + configurationJson + ",\"exportOptions\":"
+                    + exportOptionsJson + "}");
+            input.newLine();
+            input.flush();
+        } catch (IOException e) {
+            throw new WorkerCrashedException(
+                    "The SVG generator worker has stopped", e);
+        }
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            JsonNode response = poll(
+                    Duration.ofNanos(deadline - System.nanoTime()));
+            if (response == null) {
+                throw new TimeoutException(
+                        "Generating the SVG did not complete in " + timeout);
+            }
+            if (response.path("id").asLong() != id) {
+                continue;
+            }
+            if (response.has("error")) {
+                throw new IOException("Generating the SVG failed: "
+                        + response.get("error").asString());
+            }
+            return response.get("svg").asString();
+        }
+    }
+
+    private JsonNode poll(Duration timeout)
+            throws InterruptedException, WorkerCrashedException {
+        Object line = output.poll(Math.max(0, timeout.toNanos()),
+                TimeUnit.NANOSECONDS);
+        if (line == null) {
+            return null;
+        }
+        if (line == END_OF_OUTPUT) {
+            // Keep the marker for later calls
+            output.add(END_OF_OUTPUT);
+            throw new WorkerCrashedException(
+                    "The SVG generator worker has stopped");
+        }
+        try {
+            return JacksonUtils.readTree((String) line);
+        } catch (RuntimeException e) {
+            throw new WorkerCrashedException(
+                    "Unexpected output from the SVG generator worker", e);
+        }
+    }
+
+    /**
+     * Checks whether the worker process is running.
+     *
+     * @return {@code true} if the process is running
+     */
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public void close() {
+        try {
+            input.close();
+        } catch (IOException e) {
+            // The process has already stopped
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Thrown when the worker process has stopped or cannot be communicated
+     * with. The worker must be replaced.
+     */
+    static class WorkerCrashedException extends IOException {
+        WorkerCrashedException(String message) {
+            super(message);
+        }
+
+        WorkerCrashedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
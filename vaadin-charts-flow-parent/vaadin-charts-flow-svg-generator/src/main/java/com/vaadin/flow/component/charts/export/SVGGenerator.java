@@ -43,6 +43,11 @@ import com.vaadin.flow.component.charts.util.ChartSerialization;
  *  </pre>
  * </code>
  *
+ * <p>
+ * Each call starts a new NodeJS process. For generating many charts, use
+ * {@link SVGGeneratorPool}, which keeps its NodeJS processes running.
+ * </p>
+ *
  * @since 21.0
  */
 public class SVGGenerator implements AutoCloseable {
@@ -0,0 +1,354 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.export;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.util.ChartSerialization;
+
+/**
+ * <p>
+ * A pool of long-lived NodeJS processes that generate SVG strings from chart
+ * {@link Configuration} instances. Unlike {@link SVGGenerator}, which starts a
+ * new NodeJS process for every chart, the workers of the pool load the
+ * exporter once and then render any number of charts, which makes the pool
+ * suitable for generating many charts, for example in a report job. <b>You
+ * must have NodeJS installed for this to work</b>.
+ * </p>
+ * <p>
+ * The pool is thread-safe. Each worker renders one chart at a time, so up to
+ * as many charts as there are workers are rendered in parallel. A chart that
+ * is not rendered within the job timeout fails with an {@link IOException},
+ * and the worker is replaced with a new one, as is the worker of a chart whose
+ * rendering is interrupted. If a worker process stops unexpectedly, it is
+ * replaced and the chart is retried once.
+ * </p>
+ * <p>
+ * You <b>must close the pool</b> when you're done with it, to stop the
+ * worker processes.
+ * </p>
+ * <p>
+ * Example usage:
+ * </p>
+ *
+ * <code>
+ *  <pre>
+ *  try (SVGGeneratorPool pool = new SVGGeneratorPool(4)) {
+ *      List&lt;String&gt; svgs = pool.generate(configurations);
+ *  }
+ *  </pre>
+ * </code>
+ *
+ * @since 25.3
+ */
+public class SVGGeneratorPool implements AutoCloseable {
+
+    /**
+     * The default maximum time for rendering a single chart.
+     */
+    public static final Duration DEFAULT_JOB_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String INTERNAL_BUNDLE_PATH = "/META-INF/frontend/generated/jsdom-exporter-bundle.js";
+
+    private final Path tempDirPath;
+    private final Path bundleTempPath;
+    private final NodeRunner nodeRunner = new NodeRunner();
+    private final Duration jobTimeout;
+    private final List<WorkerSlot> slots = new ArrayList<>();
+    private final BlockingQueue<WorkerSlot> idleSlots = new LinkedBlockingQueue<>();
+    private final ExecutorService executor;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pool with the given number of workers and the
+     * {@link #DEFAULT_JOB_TIMEOUT default job timeout}. The worker processes
+     * are started immediately.
+     *
+     * @param workerCount
+     *            the number of worker processes, at least 1
+     * @throws IOException
+     *             if there's any issue allocating resources or starting the
+     *             worker processes
+     */
+    public SVGGeneratorPool(int workerCount) throws IOException {
+        this(workerCount, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Creates a new pool with the given number of workers and job timeout.
+     * The worker processes are started immediately.
+     *
+     * @param workerCount
+     *            the number of worker processes, at least 1
+     * @param jobTimeout
+     *            the maximum time for rendering a single chart, not
+     *            {@code null}
+     * @throws IOException
+     *             if there's any issue allocating resources or starting the
+     *             worker processes
+     */
+    public SVGGeneratorPool(int workerCount, Duration jobTimeout)
+            throws IOException {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException(
+                    "The worker count must be at least 1.");
+        }
+        this.jobTimeout = Objects.requireNonNull(jobTimeout,
+                "Job timeout must not be null.");
+        tempDirPath = Files.createTempDirectory("svg-export");
+        bundleTempPath = tempDirPath.resolve("export-svg-bundle.js");
+        Files.copy(getClass().getResourceAsStream(INTERNAL_BUNDLE_PATH),
+                bundleTempPath);
+        executor = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().daemon().name("svg-generator-pool-", 0)
+                        .factory());
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                WorkerSlot slot = new WorkerSlot();
+                slot.worker = new NodeWorker(nodeRunner, bundleTempPath);
+                slots.add(slot);
+                idleSlots.add(slot);
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Generates an SVG string from a {@link Configuration} instance.
+     *
+     * @param chartConfiguration
+     *            the {@link Configuration} with the chart's data.
+     * @return an SVG string resulting from the {@link Configuration}.
+     * @throws NullPointerException
+     *             when passing a <code>null</code> configuration.
+     * @throws IllegalStateException
+     *             when called on a closed pool.
+     * @throws IOException
+     *             if rendering the chart fails or times out.
+     * @throws InterruptedException
+     *             if interrupted while waiting for the chart.
+     * @see SVGGenerator#generate(Configuration)
+     */
+    public String generate(Configuration chartConfiguration)
+            throws IOException, InterruptedException {
+        return generate(chartConfiguration, null);
+    }
+
+    /**
+     * Generates an SVG string from a {@link Configuration} instance.
+     *
+     * @param chartConfiguration
+     *            the {@link Configuration} with the chart's data.
+     * @param exportOptions
+     *            optional exporting options to customize the result.
+     * @return an SVG string resulting from the {@link Configuration},
+     *         customized as per the {@link ExportOptions}.
+     * @throws NullPointerException
+     *             when passing a <code>null</code> configuration.
+     * @throws IllegalStateException
+     *             when called on a closed pool.
+     * @throws IOException
+     *             if rendering the chart fails or times out.
+     * @throws InterruptedException
+     *             if interrupted while waiting for the chart.
+     * @see SVGGenerator#generate(Configuration, ExportOptions)
+     */
+    public String generate(Configuration chartConfiguration,
+            ExportOptions exportOptions)
+            throws IOException, InterruptedException {
+        checkOpen();
+        Configuration config = Objects.requireNonNull(chartConfiguration,
+                "Chart configuration must not be null.");
+        return execute(ChartSerialization.toJSON(config),
+                ChartSerialization.toJSON(exportOptions));
+    }
+
+    /**
+     * Generates SVG strings from a list of {@link Configuration} instances,
+     * using all workers of the pool in parallel.
+     *
+     * @param chartConfigurations
+     *            the configurations of the charts to render.
+     * @return the SVG strings, in the order of the configurations.
+     * @throws NullPointerException
+     *             when passing a <code>null</code> list or configuration.
+     * @throws IllegalStateException
+     *             when called on a closed pool.
+     * @throws IOException
+     *             if rendering any of the charts fails or times out.
+     * @throws InterruptedException
+     *             if interrupted while waiting for the charts.
+     */
+    public List<String> generate(List<Configuration> chartConfigurations)
+            throws IOException, InterruptedException {
+        return generate(chartConfigurations, null);
+    }
+
+    /**
+     * Generates SVG strings from a list of {@link Configuration} instances,
+     * using all workers of the pool in parallel. The same export options are
+     * used for all charts.
+     *
+     * @param chartConfigurations
+     *            the configurations of the charts to render.
+     * @param exportOptions
+     *            optional exporting options to customize the results.
+     * @return the SVG strings, in the order of the configurations.
+     * @throws NullPointerException
+     *             when passing a <code>null</code> list or configuration.
+     * @throws IllegalStateException
+     *             when called on a closed pool.
+     * @throws IOException
+     *             if rendering any of the charts fails or times out.
+     * @throws InterruptedException
+     *             if interrupted while waiting for the charts.
+     */
+    public List<String> generate(List<Configuration> chartConfigurations,
+            ExportOptions exportOptions)
+            throws IOException, InterruptedException {
+        checkOpen();
+        Objects.requireNonNull(chartConfigurations,
+                "Chart configurations must not be null.");
+        chartConfigurations.forEach(config -> Objects.requireNonNull(config,
+                "Chart configuration must not be null."));
+        String jsonExportOptions = ChartSerialization.toJSON(exportOptions);
+
+        List<Future<String>> futures = new ArrayList<>();
+        for (Configuration config : chartConfigurations) {
+            futures.add(executor.submit(() -> execute(
+                    ChartSerialization.toJSON(config), jsonExportOptions)));
+        }
+        List<String> svgs = new ArrayList<>(futures.size());
+        try {
+            for (Future<String> future : futures) {
+                svgs.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return svgs;
+    }
+
+    private String execute(String jsonConfig, String jsonExportOptions)
+            throws IOException, InterruptedException {
+        WorkerSlot slot = idleSlots.take();
+        try {
+            for (int attempt = 0;; attempt++) {
+                checkOpen();
+                if (slot.worker == null || !slot.worker.isAlive()) {
+                    slot.discardWorker();
+                    slot.worker = new NodeWorker(nodeRunner, bundleTempPath);
+                }
+                try {
+                    return slot.worker.generate(jsonConfig, jsonExportOptions,
+                            jobTimeout);
+                } catch (NodeWorker.WorkerCrashedException e) {
+                    // Replace the worker and retry once
+                    slot.discardWorker();
+                    if (attempt > 0) {
+                        throw e;
+                    }
+                } catch (TimeoutException e) {
+                    // The worker may still be busy with the chart
+                    slot.discardWorker();
+                    throw new IOException(e.getMessage(), e);
+                } catch (InterruptedException e) {
+                    // Like after a timeout, the worker may still be busy with
+                    // the chart, so it must not render the next one
+                    slot.discardWorker();
+                    throw e;
+                }
+            }
+        } finally {
+            if (closed) {
+                slot.discardWorker();
+            }
+            idleSlots.add(slot);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("This pool is already closed.");
+        }
+    }
+
+    /**
+     * Checks if this pool is closed.
+     *
+     * @return <code>true</code> if the pool is closed, <code>false</code>
+     *         otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops the worker processes and deletes the temporary files of this
+     * pool. Charts being rendered when the pool is closed fail.
+     *
+     * @throws IOException
+     *             if deleting the temporary files fails
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        executor.shutdownNow();
+        slots.forEach(WorkerSlot::discardWorker);
+        Files.deleteIfExists(bundleTempPath);
+        Files.deleteIfExists(tempDirPath);
+    }
+
+    /**
+     * Holds the worker of one of the parallel execution slots of the pool. A
+     * worker that has crashed or timed out is discarded, and a new one is
+     * started when the slot is used next.
+     */
+    private static class WorkerSlot {
+        private volatile NodeWorker worker;
+
+        private void discardWorker() {
+            NodeWorker discarded = worker;
+            worker = null;
+            if (discarded != null) {
+                discarded.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.export;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.vaadin.flow.component.charts.model.Configuration;
+
+/**
+ * Compares the throughput of {@link SVGGenerator} and
+ * {@link SVGGeneratorPool}. Not run as part of the test suite. Run the
+ * {@link #main(String[])} method with the number of charts and the number of
+ * pool workers as optional arguments, for example {@code 200 4}.
+ */
+public class SVGGeneratorPoolBenchmark {
+
+    public static void main(String[] args)
+            throws IOException, InterruptedException {
+        int chartCount = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int workerCount = args.length > 1 ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+
+        List<Configuration> configurations = new ArrayList<>();
+        for (int i = 0; i < chartCount; i++) {
+            Configuration configuration = SVGTestUtil
+                    .createPieChartConfiguration();
+            configuration.setTitle("Chart " + i);
+            configurations.add(configuration);
+        }
+
+        long start = System.nanoTime();
+        try (SVGGenerator generator = new SVGGenerator()) {
+            for (Configuration configuration : configurations) {
+                generator.generate(configuration);
+            }
+        }
+        report("SVGGenerator", chartCount, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        try (SVGGeneratorPool pool = new SVGGeneratorPool(workerCount)) {
+            pool.generate(configurations);
+        }
+        report("SVGGeneratorPool (" + workerCount + " workers)", chartCount,
+                System.nanoTime() - start);
+    }
+
+    private static void report(String name, int chartCount, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%s: %d charts in %.1f s, %.1f charts/s%n", name,
+                chartCount, seconds, chartCount / seconds);
+    }
+}
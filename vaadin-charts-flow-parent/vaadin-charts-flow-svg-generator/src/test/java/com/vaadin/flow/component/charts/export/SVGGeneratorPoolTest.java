@@ -0,0 +1,132 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.export;
+
+import static com.vaadin.flow.component.charts.export.SVGTestUtil.createPieChartConfiguration;
+import static com.vaadin.flow.component.charts.export.SVGTestUtil.readUtf8File;
+import static com.vaadin.flow.component.charts.export.SVGTestUtil.sanitizeSvg;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.themes.LumoDarkTheme;
+
+class SVGGeneratorPoolTest {
+
+    private SVGGeneratorPool pool;
+
+    @BeforeEach
+    void setup() throws IOException {
+        pool = new SVGGeneratorPool(2);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        pool.close();
+    }
+
+    @Test
+    void generateSVGFromAnEmptyConfiguration()
+            throws IOException, InterruptedException {
+        String svg = pool.generate(new Configuration());
+        assertEquals(sanitizeSvg(readFixture("empty.svg")), sanitizeSvg(svg));
+    }
+
+    @Test
+    void generateWithTheme_themeNotUsedForNextChart()
+            throws IOException, InterruptedException {
+        ExportOptions options = new ExportOptions();
+        options.setTheme(new LumoDarkTheme());
+        String darkSvg = pool.generate(createPieChartConfiguration(),
+                options);
+        assertEquals(sanitizeSvg(readFixture("lumo-dark.svg")),
+                sanitizeSvg(darkSvg));
+
+        // Render on both workers, including the one that used the theme
+        List<String> svgs = pool.generate(
+                List.of(createPieChartConfiguration(),
+                        createPieChartConfiguration()));
+        for (String svg : svgs) {
+            assertEquals(sanitizeSvg(readFixture("pie.svg")),
+                    sanitizeSvg(svg));
+        }
+    }
+
+    @Test
+    void generateBatch_resultsInConfigurationOrder()
+            throws IOException, InterruptedException {
+        List<String> svgs = pool.generate(List.of(new Configuration(),
+                createPieChartConfiguration(), new Configuration()));
+
+        assertEquals(3, svgs.size());
+        assertEquals(sanitizeSvg(readFixture("empty.svg")),
+                sanitizeSvg(svgs.get(0)));
+        assertEquals(sanitizeSvg(readFixture("pie.svg")),
+                sanitizeSvg(svgs.get(1)));
+        assertEquals(sanitizeSvg(readFixture("empty.svg")),
+                sanitizeSvg(svgs.get(2)));
+    }
+
+    @Test
+    void jobTimeout_throwsIOException() throws IOException {
+        try (SVGGeneratorPool timeoutPool = new SVGGeneratorPool(1,
+                Duration.ofNanos(1))) {
+            assertThrows(IOException.class,
+                    () -> timeoutPool.generate(createPieChartConfiguration()));
+        }
+    }
+
+    @Test
+    void interruptedJob_nextChartGenerated()
+            throws IOException, InterruptedException {
+        try (SVGGeneratorPool singleWorkerPool = new SVGGeneratorPool(1)) {
+            Thread thread = Thread.ofPlatform().start(() -> {
+                try {
+                    singleWorkerPool.generate(createPieChartConfiguration());
+                } catch (IOException | InterruptedException e) {
+                    // expected when interrupted
+                }
+            });
+            thread.interrupt();
+            thread.join();
+
+            String svg = singleWorkerPool.generate(new Configuration());
+            assertEquals(sanitizeSvg(readFixture("empty.svg")),
+                    sanitizeSvg(svg));
+        }
+    }
+
+    @Test
+    void closedPool_throwsIllegalStateException() throws IOException {
+        pool.close();
+        assertTrue(pool.isClosed());
+        assertThrows(IllegalStateException.class,
+                () -> pool.generate(new Configuration()));
+    }
+
+    @Test
+    void invalidWorkerCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SVGGeneratorPool(0));
+    }
+
+    private static String readFixture(String name) throws IOException {
+        return readUtf8File(Paths.get("src", "test", "resources", name));
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.vaadin.flow.component.charts.model.ChartType;
+import com.vaadin.flow.component.charts.model.Configuration;
+import com.vaadin.flow.component.charts.model.Cursor;
+import com.vaadin.flow.component.charts.model.DataSeries;
+import com.vaadin.flow.component.charts.model.DataSeriesItem;
+import com.vaadin.flow.component.charts.model.PlotOptionsPie;
+import com.vaadin.flow.component.charts.model.Tooltip;
+
+/**
+ * Chart configurations and SVG helpers shared by the SVG generator tests.
+ */
+public final class SVGTestUtil {
+
+    private SVGTestUtil() {
+    }
+
+    /**
+     * Creates the configuration of a pie chart with browser market shares.
+     *
+     * @return the chart configuration
+     */
+    public static Configuration createPieChartConfiguration() {
+        Configuration conf = new Configuration();
+        conf.setTitle("Browser market shares in January, 2018");
+        conf.getChart().setType(ChartType.PIE);
+
+        Tooltip tooltip = new Tooltip();
+        tooltip.setValueDecimals(1);
+        conf.setTooltip(tooltip);
+
+        PlotOptionsPie plotOptions = new PlotOptionsPie();
+        plotOptions.setAllowPointSelect(true);
+        plotOptions.setCursor(Cursor.POINTER);
+        plotOptions.setShowInLegend(true);
+        conf.setPlotOptions(plotOptions);
+
+        DataSeries series = new DataSeries();
+        DataSeriesItem chrome = new DataSeriesItem("Chrome", 61.41);
+        chrome.setSliced(true);
+        chrome.setSelected(true);
+        series.add(chrome);
+        series.add(new DataSeriesItem("Internet Explorer", 11.84));
+        series.add(new DataSeriesItem("Firefox", 10.85));
+        series.add(new DataSeriesItem("Edge", 4.67));
+        series.add(new DataSeriesItem("Safari", 4.18));
+        series.add(new DataSeriesItem("Sogou Explorer", 1.64));
+        series.add(new DataSeriesItem("Opera", 6.2));
+        series.add(new DataSeriesItem("QQ", 1.2));
+        series.add(new DataSeriesItem("Others", 2.61));
+        conf.setSeries(series);
+        return conf;
+    }
+
+    /**
+     * Generated SVG documents have some elements with an "id" attribute having
+     * a value that is hard to predict and match to any specific expected value.
+     * This method replaces those Ids with simple, predictable values. First one
+     * will be replaced by "id-0" and all others just add 1 from the previous.
+     * All mentions of the same id will also be replaced.
+     *
+     * @param svg
+     *            the string representation of the svg with Ids to replace.
+     * @return the same svg string but with all ids replaced with a predictable
+     *         pattern.
+     */
+    private static String replaceIds(String svg) {
+        String regex = "id=\"[\\w-]+\"";
+        Pattern pattern = Pattern.compile(regex);
+        Matcher matcher = pattern.matcher(svg);
+        int index = 0;
+        while (matcher.find()) {
+            String group = matcher.group();
+            svg = svg.replaceAll(group.substring(4, group.length() - 1),
+                    "id-" + index++);
+        }
+        return svg;
+    }
+
+    public static String readUtf8File(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    private static String normalizeFloatingPointCoordinates(String svg) {
+        var pattern = Pattern.compile("(\\d+\\.\\d{10,})");
+        return pattern.matcher(svg).replaceAll(matchResult -> {
+            var value = Double.parseDouble(matchResult.group(1));
+            // Round to 8 decimal places to eliminate precision differences
+            return String.format("%.8f", value);
+        });
+    }
+
+    public static String sanitizeSvg(String svg) {
+        return normalizeFloatingPointCoordinates(replaceIds(svg));
+    }
+}
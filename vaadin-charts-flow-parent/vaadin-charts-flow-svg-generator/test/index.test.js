@@ -81,6 +81,25 @@ describe('jsdom-exporter', () => {
     expect(document.querySelector('.highcharts-no-data').textContent).to.be.equal('custom message');
   });
 
+  it('should not keep theme of previous export', async () => {
+    await jsdomExporter({
+      chartConfiguration: {},
+      exportOptions: { theme: { chart: { backgroundColor: "red" } } }
+    });
+    const result = await jsdomExporter({ chartConfiguration: {} });
+    const document = parseSVG(result.svgString);
+
+    const backgroundColor = document.querySelector('.highcharts-background').getAttribute('fill');
+    expect(backgroundColor).to.be.not.equal('red');
+  });
+
+  it('should not write file if outFile is null', async () => {
+    const result = await jsdomExporter({ chartConfiguration: {}, outFile: null });
+
+    expect(result.outFile).to.be.null;
+    expect(parseSVG(result.svgString).querySelector('svg')).to.be.not.null;
+  });
+
   it('should not inflate functions if "executeFunctions" is not enabled', async () => {
     const result = await jsdomExporter({
       chartConfiguration: {
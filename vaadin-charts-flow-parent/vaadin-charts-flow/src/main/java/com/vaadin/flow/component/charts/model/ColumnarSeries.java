@@ -0,0 +1,393 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.vaadin.flow.component.charts.Chart;
+import com.vaadin.flow.component.charts.events.XAxesExtremesSetEvent;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * A series of numeric x/y points stored in primitive column arrays. Compared to
+ * {@link DataSeries} or {@link DataProviderSeries}, no object is created per
+ * point, which makes this series suitable for very large data sets such as long
+ * time series.
+ * <p>
+ * The x values must be sorted in ascending order. {@link Double#NaN} y values
+ * are rendered as gaps.
+ * <p>
+ * When a maximum number of points is set with {@link #setMaxPoints(int)}, the
+ * series is downsampled before it is sent to the browser. Only the points
+ * within the visible x range are considered, see
+ * {@link #setVisibleRange(double, double)}. Use
+ * {@link #trackXAxisExtremes(Chart)} to update the visible range automatically
+ * when the user zooms the chart, so that zooming in fetches the data at a
+ * higher resolution.
+ *
+ * @since 25.3
+ */
+public class ColumnarSeries extends AbstractSeries {
+
+    /**
+     * The algorithm used to reduce the number of points sent to the browser.
+     */
+    public enum Downsampling {
+        /**
+         * All points within the visible range are sent.
+         */
+        NONE,
+        /**
+         * Largest-Triangle-Three-Buckets, which preserves the visual shape of
+         * the series. Suitable for line and area charts.
+         */
+        LTTB,
+        /**
+         * The minimum and maximum point of each bucket are kept, which
+         * preserves peaks and valleys.
+         */
+        MIN_MAX
+    }
+
+    private static final double[] EMPTY = new double[0];
+
+    @JsonIgnore
+    private double[] xValues = EMPTY;
+
+    @JsonIgnore
+    private double[] yValues = EMPTY;
+
+    @JsonIgnore
+    private int maxPoints;
+
+    @JsonIgnore
+    private Downsampling downsampling = Downsampling.LTTB;
+
+    @JsonIgnore
+    private double visibleMin = Double.NaN;
+
+    @JsonIgnore
+    private double visibleMax = Double.NaN;
+
+    /**
+     * Creates a new empty series.
+     */
+    public ColumnarSeries() {
+    }
+
+    /**
+     * Creates a new empty series with the given name.
+     *
+     * @param name
+     *            the name of the series
+     */
+    public ColumnarSeries(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a new series with the given name and values.
+     *
+     * @param name
+     *            the name of the series
+     * @param xValues
+     *            the x values, sorted in ascending order
+     * @param yValues
+     *            the y values
+     * @see #setData(double[], double[])
+     */
+    public ColumnarSeries(String name, double[] xValues, double[] yValues) {
+        this(name);
+        setData(xValues, yValues);
+    }
+
+    /**
+     * Sets the values of this series. The arrays are used as is and not
+     * copied, call {@link #updateSeries()} if you modify them afterwards.
+     *
+     * @param xValues
+     *            the x values, sorted in ascending order, not {@code null}
+     * @param yValues
+     *            the y values, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the arrays have different lengths
+     */
+    public void setData(double[] xValues, double[] yValues) {
+        Objects.requireNonNull(xValues, "X values cannot be null");
+        Objects.requireNonNull(yValues, "Y values cannot be null");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "X and Y values must have the same length");
+        }
+        this.xValues = xValues;
+        this.yValues = yValues;
+        updateSeries();
+    }
+
+    /**
+     * Sets the values of this series using epoch millisecond timestamps as x
+     * values.
+     *
+     * @param timestamps
+     *            the x values as epoch milliseconds, sorted in ascending
+     *            order, not {@code null}
+     * @param yValues
+     *            the y values, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the arrays have different lengths
+     * @see #setData(double[], double[])
+     */
+    public void setData(long[] timestamps, double[] yValues) {
+        Objects.requireNonNull(timestamps, "Timestamps cannot be null");
+        double[] x = new double[timestamps.length];
+        for (int i = 0; i < timestamps.length; i++) {
+            x[i] = timestamps[i];
+        }
+        setData(x, yValues);
+    }
+
+    /**
+     * Gets the x values of this series. The returned array is not a copy.
+     *
+     * @return the x values
+     */
+    public double[] getXValues() {
+        return xValues;
+    }
+
+    /**
+     * Gets the y values of this series. The returned array is not a copy.
+     *
+     * @return the y values
+     */
+    public double[] getYValues() {
+        return yValues;
+    }
+
+    /**
+     * Gets the number of points in this series, before downsampling.
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return xValues.length;
+    }
+
+    /**
+     * Gets the maximum number of points sent to the browser.
+     *
+     * @return the maximum number of points, or {@code 0} if not limited
+     */
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * Sets the maximum number of points sent to the browser. When the visible
+     * range contains more points, the series is downsampled using the
+     * algorithm set with {@link #setDownsampling(Downsampling)}. The first and
+     * last point of the series, which are sent even when they are outside of
+     * the {@link #setVisibleRange(double, double) visible range}, count
+     * towards the maximum. A value of {@code 0} disables downsampling. The
+     * default value is {@code 0}.
+     *
+     * @param maxPoints
+     *            the maximum number of points, or {@code 0} to not limit
+     * @throws IllegalArgumentException
+     *             if the value is negative, or positive and less than
+     *             {@code 3}
+     */
+    public void setMaxPoints(int maxPoints) {
+        if (maxPoints < 0 || (maxPoints > 0 && maxPoints < 3)) {
+            throw new IllegalArgumentException(
+                    "Max points must be 0 or at least 3");
+        }
+        this.maxPoints = maxPoints;
+        updateSeries();
+    }
+
+    /**
+     * Gets the downsampling algorithm.
+     *
+     * @return the downsampling algorithm
+     */
+    public Downsampling getDownsampling() {
+        return downsampling;
+    }
+
+    /**
+     * Sets the algorithm used when the series is downsampled. The default
+     * value is {@link Downsampling#LTTB}.
+     *
+     * @param downsampling
+     *            the downsampling algorithm, not {@code null}
+     * @see #setMaxPoints(int)
+     */
+    public void setDownsampling(Downsampling downsampling) {
+        this.downsampling = Objects.requireNonNull(downsampling,
+                "Downsampling cannot be null");
+        updateSeries();
+    }
+
+    /**
+     * Sets the x range that is currently visible. Only the points within this
+     * range, plus the first and last point of the series to retain the full
+     * extent of the axis, are sent to the browser. Pass {@link Double#NaN} for
+     * both values to make the whole series visible, which is the default.
+     *
+     * @param min
+     *            the minimum visible x value
+     * @param max
+     *            the maximum visible x value
+     */
+    public void setVisibleRange(double min, double max) {
+        if (Double.isNaN(min) || Double.isNaN(max) || min >= max) {
+            min = Double.NaN;
+            max = Double.NaN;
+        }
+        if (Double.compare(min, visibleMin) == 0
+                && Double.compare(max, visibleMax) == 0) {
+            return;
+        }
+        visibleMin = min;
+        visibleMax = max;
+        updateSeries();
+    }
+
+    /**
+     * Gets the minimum visible x value.
+     *
+     * @return the minimum visible x value, or {@link Double#NaN} if the whole
+     *         series is visible
+     */
+    public double getVisibleMin() {
+        return visibleMin;
+    }
+
+    /**
+     * Gets the maximum visible x value.
+     *
+     * @return the maximum visible x value, or {@link Double#NaN} if the whole
+     *         series is visible
+     */
+    public double getVisibleMax() {
+        return visibleMax;
+    }
+
+    /**
+     * Updates the visible range of this series whenever the extremes of its x
+     * axis are changed in the given chart, for example when the user zooms.
+     * The series is then resent at the resolution of the new range.
+     *
+     * @param chart
+     *            the chart displaying this series, not {@code null}
+     * @return a registration for removing the tracking
+     */
+    public Registration trackXAxisExtremes(Chart chart) {
+        Objects.requireNonNull(chart, "Chart cannot be null");
+        return chart.addXAxesExtremesSetListener(
+                (XAxesExtremesSetEvent event) -> {
+                    int axisIndex = getxAxis() == null ? 0 : getxAxis();
+                    if (event.getAxisIndex() == axisIndex) {
+                        setVisibleRange(event.getMinimum(),
+                                event.getMaximum());
+                    }
+                });
+    }
+
+    /**
+     * Computes the indexes of the points that are sent to the browser, taking
+     * into account the visible range and the downsampling settings.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @return the indexes of the points to render, in ascending order
+     */
+    public int[] computeRenderedIndexes() {
+        int size = xValues.length;
+        int from = 0;
+        int to = size;
+        if (!Double.isNaN(visibleMin)) {
+            // include one point outside of each end so that lines are drawn
+            // up to the edges of the plot area
+            from = Math.max(0, lowerBound(xValues, visibleMin) - 1);
+            to = Math.min(size, upperBound(xValues, visibleMax) + 1);
+        }
+
+        // the first and last point of the series, which are added when they
+        // are outside of the range, count towards the maximum
+        int threshold = maxPoints - (from > 0 ? 1 : 0) - (to < size ? 1 : 0);
+        int[] indexes;
+        if (maxPoints == 0 || to - from <= threshold
+                || downsampling == Downsampling.NONE) {
+            indexes = range(from, to);
+        } else if (downsampling == Downsampling.MIN_MAX) {
+            indexes = SeriesDownsampler.minMax(xValues, yValues, from, to,
+                    threshold);
+        } else {
+            indexes = SeriesDownsampler.lttb(xValues, yValues, from, to,
+                    threshold);
+        }
+        return withEndpoints(indexes, size);
+    }
+
+    private static int[] withEndpoints(int[] indexes, int size) {
+        if (size == 0) {
+            return indexes;
+        }
+        boolean hasFirst = indexes.length > 0 && indexes[0] == 0;
+        boolean hasLast = indexes.length > 0
+                && indexes[indexes.length - 1] == size - 1;
+        if (hasFirst && hasLast) {
+            return indexes;
+        }
+        int offset = hasFirst ? 0 : 1;
+        int[] result = new int[indexes.length + offset + (hasLast ? 0 : 1)];
+        result[0] = 0;
+        System.arraycopy(indexes, 0, result, offset, indexes.length);
+        result[result.length - 1] = size - 1;
+        return result;
+    }
+
+    private static int[] range(int from, int to) {
+        int[] indexes = new int[to - from];
+        Arrays.setAll(indexes, i -> from + i);
+        return indexes;
+    }
+
+    private static int lowerBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import java.util.Arrays;
+
+/**
+ * Downsampling algorithms for {@link ColumnarSeries}. All methods operate on a
+ * sub range of the given column arrays and return the indexes of the selected
+ * points in ascending order.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+final class SeriesDownsampler {
+
+    private SeriesDownsampler() {
+    }
+
+    /**
+     * Selects {@code threshold} points from the range using the
+     * Largest-Triangle-Three-Buckets algorithm. The first and last point of the
+     * range are always selected, unless the threshold is less than two.
+     */
+    static int[] lttb(double[] x, double[] y, int from, int to,
+            int threshold) {
+        if (threshold < 3) {
+            return endpoints(from, to, threshold);
+        }
+        int length = to - from;
+        int[] selected = new int[threshold];
+        int count = 0;
+        selected[count++] = from;
+
+        double bucketSize = (double) (length - 2) / (threshold - 2);
+        int a = from;
+        for (int i = 0; i < threshold - 2; i++) {
+            // average of the next bucket, used as the third triangle point
+            int nextStart = from + (int) Math.floor((i + 1) * bucketSize) + 1;
+            int nextEnd = Math.min(
+                    from + (int) Math.floor((i + 2) * bucketSize) + 1, to);
+            double avgX = 0;
+            double avgY = 0;
+            int avgCount = 0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                if (!Double.isNaN(y[j])) {
+                    avgX += x[j];
+                    avgY += y[j];
+                    avgCount++;
+                }
+            }
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            }
+
+            int bucketStart = from + (int) Math.floor(i * bucketSize) + 1;
+            int bucketEnd = from + (int) Math.floor((i + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = bucketStart;
+            for (int j = bucketStart; j < bucketEnd; j++) {
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a])
+                        - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            selected[count++] = maxIndex;
+            a = maxIndex;
+        }
+        selected[count++] = to - 1;
+        return selected;
+    }
+
+    /**
+     * Selects at most {@code threshold} points from the range by keeping the
+     * points with the minimum and maximum y value of each bucket. The first and
+     * last point of the range are always selected, unless the threshold is
+     * less than two. With a threshold of three, there is no room for a minimum
+     * and a maximum besides the first and last point, so the remaining point
+     * is selected with {@link #lttb(double[], double[], int, int, int)}.
+     */
+    static int[] minMax(double[] x, double[] y, int from, int to,
+            int threshold) {
+        if (threshold < 4) {
+            return lttb(x, y, from, to, threshold);
+        }
+        // the first and last point count towards the threshold
+        int buckets = (threshold - 2) / 2;
+        int inner = to - from - 2;
+        int[] selected = new int[buckets * 2 + 2];
+        int count = 0;
+        selected[count++] = from;
+        for (int i = 0; i < buckets; i++) {
+            int start = from + 1 + (int) ((long) i * inner / buckets);
+            int end = from + 1 + (int) ((long) (i + 1) * inner / buckets);
+            int minIndex = -1;
+            int maxIndex = -1;
+            for (int j = start; j < end; j++) {
+                if (Double.isNaN(y[j])) {
+                    continue;
+                }
+                if (minIndex < 0 || y[j] < y[minIndex]) {
+                    minIndex = j;
+                }
+                if (maxIndex < 0 || y[j] > y[maxIndex]) {
+                    maxIndex = j;
+                }
+            }
+            if (minIndex < 0) {
+                if (start < end) {
+                    // bucket only contains gaps, keep one to render the gap
+                    selected[count++] = start;
+                }
+            } else if (minIndex == maxIndex) {
+                selected[count++] = minIndex;
+            } else {
+                selected[count++] = Math.min(minIndex, maxIndex);
+                selected[count++] = Math.max(minIndex, maxIndex);
+            }
+        }
+        selected[count++] = to - 1;
+        return Arrays.copyOf(selected, count);
+    }
+
+    private static int[] endpoints(int from, int to, int threshold) {
+        return threshold < 2 ? new int[] { from } : new int[] { from, to - 1 };
+    }
+}
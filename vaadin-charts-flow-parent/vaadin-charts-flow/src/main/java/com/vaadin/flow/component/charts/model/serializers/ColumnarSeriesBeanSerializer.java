@@ -0,0 +1,76 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model.serializers;
+
+import com.vaadin.flow.component.charts.model.ColumnarSeries;
+import com.vaadin.flow.component.charts.model.PlotOptionsSeries;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+
+/**
+ * Custom bean serializer for {@link ColumnarSeries}. The data points are
+ * streamed directly to the generator as {@code [x, y]} pairs without building
+ * an intermediate JSON tree.
+ *
+ * @since 25.3
+ */
+public class ColumnarSeriesBeanSerializer
+        extends BeanSerializationDelegate<ColumnarSeries> {
+
+    // largest integer that a double, and thus a JS number, can hold exactly
+    private static final double MAX_SAFE_INTEGER = 9007199254740991d;
+
+    @Override
+    public Class<ColumnarSeries> getBeanClass() {
+        return ColumnarSeries.class;
+    }
+
+    @Override
+    public void serialize(ColumnarSeries bean,
+            BeanSerializerDelegator<ColumnarSeries> serializer,
+            JsonGenerator jgen, SerializationContext context) {
+        jgen.writeStartObject();
+
+        if (bean.getPlotOptions() != null
+                && !(bean.getPlotOptions() instanceof PlotOptionsSeries)) {
+            jgen.writePOJOProperty("type",
+                    bean.getPlotOptions().getChartType());
+        }
+
+        // write other fields as per normal serialization rules
+        serializer.serializeProperties(bean, jgen, context);
+
+        double[] xValues = bean.getXValues();
+        double[] yValues = bean.getYValues();
+        jgen.writeName("data");
+        jgen.writeStartArray();
+        for (int index : bean.computeRenderedIndexes()) {
+            jgen.writeStartArray();
+            writeNumber(jgen, xValues[index]);
+            writeNumber(jgen, yValues[index]);
+            jgen.writeEndArray();
+        }
+        jgen.writeEndArray();
+
+        jgen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator jgen, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            jgen.writeNull();
+        } else if (value == Math.rint(value)
+                && Math.abs(value) <= MAX_SAFE_INTEGER) {
+            // avoid exponent notation for timestamps
+            jgen.writeNumber((long) value);
+        } else {
+            jgen.writeNumber(value);
+        }
+    }
+}
@@ -10,6 +10,7 @@ package com.vaadin.flow.component.charts.model.serializers;
 
 import com.vaadin.flow.component.charts.model.AbstractSeries;
 import com.vaadin.flow.component.charts.model.AxisTitle;
+import com.vaadin.flow.component.charts.model.ColumnarSeries;
 import com.vaadin.flow.component.charts.model.DataProviderSeries;
 import com.vaadin.flow.component.charts.model.DataSeriesItem;
 import com.vaadin.flow.component.charts.model.LegendTitle;
@@ -37,6 +38,11 @@ public class DefaultBeanSerializerModifier extends ValueSerializerModifier {
             return new BeanSerializerDelegator<>(
                     (BeanSerializerBase) serializer,
                     new DataProviderSeriesBeanSerializer());
+        } else if (ColumnarSeries.class
+                .isAssignableFrom(beanDesc.getBeanClass())) {
+            return new BeanSerializerDelegator<>(
+                    (BeanSerializerBase) serializer,
+                    new ColumnarSeriesBeanSerializer());
         } else if (DataSeriesItem.class
                 .isAssignableFrom(beanDesc.getBeanClass())) {
             return new BeanSerializerDelegator<>(
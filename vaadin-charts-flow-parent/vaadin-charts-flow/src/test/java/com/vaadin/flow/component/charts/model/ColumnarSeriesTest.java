@@ -0,0 +1,187 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.charts.model;
+
+import static com.vaadin.flow.component.charts.util.ChartSerialization.toJSON;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ColumnarSeriesTest {
+
+    @Test
+    void toJSON_dataSerializedAsPairs() {
+        var series = new ColumnarSeries("s", new double[] { 0, 1, 2 },
+                new double[] { 1.5, Double.NaN, 3 });
+
+        Assertions.assertEquals(
+                "{\"name\":\"s\",\"data\":[[0,1.5],[1,null],[2,3]]}",
+                toJSON(series));
+    }
+
+    @Test
+    void setData_timestamps_serializedWithoutExponent() {
+        var series = new ColumnarSeries();
+        series.setData(new long[] { 1700000000000L }, new double[] { 1 });
+
+        Assertions.assertEquals("{\"data\":[[1700000000000,1]]}",
+                toJSON(series));
+    }
+
+    @Test
+    void setData_differentLengths_throws() {
+        var series = new ColumnarSeries();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> series.setData(new double[2], new double[3]));
+    }
+
+    @Test
+    void noMaxPoints_allIndexesRendered() {
+        var series = createSeries(100);
+
+        Assertions.assertEquals(100, series.computeRenderedIndexes().length);
+    }
+
+    @Test
+    void lttb_limitedToMaxPoints_endpointsKept() {
+        var series = createSeries(10_000);
+        series.setMaxPoints(500);
+
+        int[] indexes = series.computeRenderedIndexes();
+        Assertions.assertEquals(500, indexes.length);
+        Assertions.assertEquals(0, indexes[0]);
+        Assertions.assertEquals(9_999, indexes[indexes.length - 1]);
+        assertAscending(indexes);
+    }
+
+    @Test
+    void minMax_limitedToMaxPoints_extremesKept() {
+        var series = createSeries(10_000);
+        series.getYValues()[5_000] = 1_000;
+        series.getYValues()[6_000] = -1_000;
+        series.setDownsampling(ColumnarSeries.Downsampling.MIN_MAX);
+        series.setMaxPoints(100);
+
+        int[] indexes = series.computeRenderedIndexes();
+        Assertions.assertTrue(indexes.length <= 100);
+        assertAscending(indexes);
+        Assertions.assertTrue(contains(indexes, 5_000));
+        Assertions.assertTrue(contains(indexes, 6_000));
+    }
+
+    @Test
+    void smallMaxPoints_limitedToMaxPoints() {
+        var series = createSeries(1_000);
+        assertLimitedToSmallMaxPoints(series);
+    }
+
+    @Test
+    void visibleRange_smallMaxPoints_endpointsCounted() {
+        var series = createSeries(1_000);
+        series.setVisibleRange(100, 900);
+        assertLimitedToSmallMaxPoints(series);
+    }
+
+    @Test
+    void visibleRange_onlyRangeAndEndpointsRendered() {
+        var series = createSeries(10_000);
+        series.setVisibleRange(1_000, 1_010);
+
+        int[] indexes = series.computeRenderedIndexes();
+        // range with one neighbour on each side, plus first and last point
+        Assertions.assertEquals(15, indexes.length);
+        Assertions.assertEquals(0, indexes[0]);
+        Assertions.assertEquals(999, indexes[1]);
+        Assertions.assertEquals(1_011, indexes[13]);
+        Assertions.assertEquals(9_999, indexes[14]);
+    }
+
+    @Test
+    void visibleRange_zoomedIn_higherResolution() {
+        var series = createSeries(100_000);
+        series.setMaxPoints(1_000);
+        long full = countInRange(series.computeRenderedIndexes(), 10_000,
+                20_000);
+
+        series.setVisibleRange(10_000, 20_000);
+        long zoomed = countInRange(series.computeRenderedIndexes(), 10_000,
+                20_000);
+
+        Assertions.assertTrue(zoomed > full * 5);
+    }
+
+    @Test
+    void visibleRange_nan_wholeSeriesVisible() {
+        var series = createSeries(100);
+        series.setVisibleRange(10, 20);
+        series.setVisibleRange(Double.NaN, Double.NaN);
+
+        Assertions.assertTrue(Double.isNaN(series.getVisibleMin()));
+        Assertions.assertEquals(100, series.computeRenderedIndexes().length);
+    }
+
+    @Test
+    void setMaxPoints_tooSmall_throws() {
+        var series = new ColumnarSeries();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> series.setMaxPoints(2));
+    }
+
+    private static void assertLimitedToSmallMaxPoints(ColumnarSeries series) {
+        for (var downsampling : List.of(ColumnarSeries.Downsampling.LTTB,
+                ColumnarSeries.Downsampling.MIN_MAX)) {
+            series.setDownsampling(downsampling);
+            for (int maxPoints = 3; maxPoints <= 8; maxPoints++) {
+                series.setMaxPoints(maxPoints);
+
+                int[] indexes = series.computeRenderedIndexes();
+                Assertions.assertTrue(indexes.length <= maxPoints,
+                        downsampling + " with " + maxPoints + " max points: "
+                                + indexes.length + " points");
+                Assertions.assertEquals(0, indexes[0]);
+                Assertions.assertEquals(series.size() - 1,
+                        indexes[indexes.length - 1]);
+                assertAscending(indexes);
+            }
+        }
+    }
+
+    private static ColumnarSeries createSeries(int size) {
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 100d);
+        }
+        return new ColumnarSeries("s", x, y);
+    }
+
+    private static void assertAscending(int[] indexes) {
+        for (int i = 1; i < indexes.length; i++) {
+            Assertions.assertTrue(indexes[i - 1] < indexes[i]);
+        }
+    }
+
+    private static long countInRange(int[] indexes, int min, int max) {
+        return Arrays.stream(indexes)
+                .filter(i -> i >= min && i <= max).count();
+    }
+
+    private static boolean contains(int[] indexes, int index) {
+        for (int i : indexes) {
+            if (i == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -30,6 +30,7 @@ import com.vaadin.flow.component.Unit;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataKeyMapper;
@@ -627,7 +628,7 @@ public class MultiSelectComboBox<TItem>
      */
     public void setI18n(MultiSelectComboBoxI18n i18n) {
         super.setI18n(i18n);
-        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        SharedI18nRegistry.setI18nProperty(this, JacksonUtils.beanToJson(i18n));
     }
 
     /**
@@ -15,10 +15,13 @@
  */
 package com.vaadin.flow.component.contextmenu;
 
+import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -35,6 +38,7 @@ import com.vaadin.flow.component.shared.internal.OverlayAutoAddController;
 import com.vaadin.flow.dom.DomEvent;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableRunnable;
+import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.shared.Registration;
 
 import tools.jackson.databind.node.ObjectNode;
@@ -72,6 +76,7 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
     private Component target;
     private MenuManager<C, I, S> menuManager;
     private MenuItemsArrayGenerator<I> menuItemsArrayGenerator;
+    private ContextMenuI18n i18n;
 
     private String openOnEventName = "vaadin-contextmenu";
     private Registration targetBeforeOpenRegistration;
@@ -424,6 +429,33 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
                 (ComponentEventListener) listener);
     }
 
+    /**
+     * Gets the internationalization object previously set for this component.
+     * <p>
+     * NOTE: Updating the instance that is returned from this method will not
+     * update the component if not set again using
+     * {@link #setI18n(ContextMenuI18n)}
+     *
+     * @return the i18n object or {@code null} if no i18n object has been set
+     * @since 25.3
+     */
+    public ContextMenuI18n getI18n() {
+        return i18n;
+    }
+
+    /**
+     * Sets the internationalization object for this component.
+     *
+     * @param i18n
+     *            the i18n object, not {@code null}
+     * @since 25.3
+     */
+    public void setI18n(ContextMenuI18n i18n) {
+        this.i18n = Objects.requireNonNull(i18n,
+                "The i18n properties object should not be null");
+        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+    }
+
     /**
      * Gets the menu manager.
      *
@@ -531,4 +563,41 @@ public abstract class ContextMenuBase<C extends ContextMenuBase<C, I, S>, I exte
             SlotUtils.addToSlot(this, "tooltip", new Element("vaadin-tooltip"));
         }
     }
+
+    /**
+     * The internationalization properties for context menus.
+     *
+     * @since 25.3
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ContextMenuI18n implements Serializable {
+        private String loading;
+
+        /**
+         * Gets the text that is used on the placeholder item shown in a sub
+         * menu with lazy content until the content has been loaded, to make it
+         * accessible.
+         *
+         * @return the aria-label of the placeholder item
+         * @see SubMenuBase#setLazyContent(com.vaadin.flow.function.SerializableConsumer)
+         */
+        public String getLoading() {
+            return loading;
+        }
+
+        /**
+         * Sets the text that is used on the placeholder item shown in a sub
+         * menu with lazy content until the content has been loaded, to make it
+         * accessible.
+         *
+         * @param loading
+         *            the aria-label of the placeholder item
+         * @return this instance for method chaining
+         * @see SubMenuBase#setLazyContent(com.vaadin.flow.function.SerializableConsumer)
+         */
+        public ContextMenuI18n setLoading(String loading) {
+            this.loading = loading;
+            return this;
+        }
+    }
 }
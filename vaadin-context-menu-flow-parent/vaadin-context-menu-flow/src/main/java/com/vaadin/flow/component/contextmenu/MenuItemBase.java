@@ -125,11 +125,13 @@ public abstract class MenuItemBase<C extends ContextMenuBase<C, I, S>, I extends
      * Gets whether this item has a sub menu attached to it or not.
      *
      * @return {@code true} if this component has a sub menu with content inside
-     *         it, {@code false} otherwise
+     *         it or with lazy content that has not been loaded yet,
+     *         {@code false} otherwise
      * @see #getSubMenu()
      */
     public boolean isParentItem() {
-        return getSubMenu().getChildren().findAny().isPresent();
+        return getSubMenu().getChildren().findAny().isPresent()
+                || getSubMenu().hasPendingLazyContent();
     }
 
     /**
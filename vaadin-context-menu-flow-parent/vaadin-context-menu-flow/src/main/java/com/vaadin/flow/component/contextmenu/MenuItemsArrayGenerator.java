@@ -16,12 +16,20 @@
 package com.vaadin.flow.component.contextmenu;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableSupplier;
 
 /**
  * A class which is utilized internally by components such as context menu and
@@ -39,19 +47,59 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
 
     private boolean updateScheduled = false;
     private final Element container;
+    private final Element rootContainer;
+    private Map<SubMenuBase<?, I, ?>, Element> subMenuContainers = new HashMap<>();
+    // The item owning each sub menu container
+    private Map<Element, Element> containerOwners = new HashMap<>();
+    // The state of each container as last sent to the client, empty until the
+    // items have been generated for the current attach
+    private final Map<Element, List<ItemState>> sentStates = new HashMap<>();
+    private SerializableSupplier<Stream<Component>> rootComponents;
 
     public MenuItemsArrayGenerator(Component menu) {
         this.menu = menu;
+        rootComponents = menu::getChildren;
         container = new Element("div");
+        rootContainer = new Element("div");
+        container.appendChild(rootContainer);
         getElement().appendVirtualChild(container);
 
         menu.getUI().ifPresent(this::addContextMenuDependencies);
-        menu.addAttachListener(e -> addContextMenuDependencies(e.getUI()));
+        menu.addAttachListener(e -> {
+            addContextMenuDependencies(e.getUI());
+            // The client has no items after being attached
+            sentStates.clear();
+        });
+    }
+
+    /**
+     * Sets the supplier of the root level components that are sent to the
+     * client. The root level components that are left out are not attached,
+     * and neither are their sub menus. By default, all children of the menu
+     * are sent.
+     *
+     * @param rootComponents
+     *            the supplier of the root level components to send, not
+     *            {@code null}
+     * @since 25.3
+     */
+    public void setRootComponents(
+            SerializableSupplier<Stream<Component>> rootComponents) {
+        this.rootComponents = Objects.requireNonNull(rootComponents);
     }
 
     /**
      * Rebuilds the client-side items array with the current components in the
      * menu and its sub menus.
+     * <p>
+     * The containers of the menu and its sub menus are kept between updates,
+     * and only the containers whose children have changed are updated. When
+     * only the content of sub menus has changed, the client regenerates only
+     * the items of those sub menus instead of the whole items tree. The content
+     * of sub menus with lazy content is not generated until the sub menu is
+     * opened for the first time.
+     *
+     * @see SubMenuBase#setLazyContent(SerializableConsumer)
      */
     public void generate() {
         if (updateScheduled) {
@@ -59,42 +107,153 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
         }
         updateScheduled = true;
         runBeforeClientResponse(ui -> {
-            container.removeAllChildren();
-            getItems().forEach(this::resetContainers);
+            Map<SubMenuBase<?, I, ?>, Element> previousContainers = subMenuContainers;
+            subMenuContainers = new HashMap<>();
+            containerOwners = new HashMap<>();
 
-            int containerNodeId = createNewContainer(menu.getChildren());
-            getElement().callJsFunction("$connector.generateItems",
-                    containerNodeId);
+            List<Component> components = rootComponents.get().toList();
+            updateContainer(rootContainer, components.stream());
+            components.stream().filter(MenuItemBase.class::isInstance)
+                    .map(MenuItemBase.class::cast).forEach(
+                            item -> updateSubMenu(item, previousContainers));
+
+            // Remove the containers of sub menus that are no longer present
+            previousContainers.values().forEach(Element::removeFromParent);
+
+            List<Element> changedOwners = collectChangedOwners();
+            if (changedOwners == null) {
+                getElement().callJsFunction("$connector.generateItems",
+                        rootContainer.getNode().getId());
+            } else if (!changedOwners.isEmpty()) {
+                getElement().callJsFunction("$connector.generateSubItems",
+                        changedOwners.toArray(Serializable[]::new));
+            }
 
             updateScheduled = false;
         });
     }
 
-    private void resetContainers(MenuItemBase<?, I, ?> menuItem) {
-        if (!menuItem.isParentItem()) {
-            menuItem.getElement().removeProperty("_containerNodeId");
-            return;
+    /**
+     * Compares the containers with the states last sent to the client and
+     * returns the items whose sub menu items need to be generated again. An
+     * item is left out if the sub menu of one of its ancestors is generated
+     * again anyway.
+     *
+     * @return the items whose sub menus have changed, or {@code null} if the
+     *         root level items have changed and the whole items tree needs to
+     *         be generated
+     */
+    private List<Element> collectChangedOwners() {
+        Map<Element, List<ItemState>> states = new HashMap<>();
+        states.put(rootContainer, getState(rootContainer));
+        containerOwners.keySet().forEach(
+                subContainer -> states.put(subContainer, getState(subContainer)));
+
+        boolean rootChanged = !states.get(rootContainer)
+                .equals(sentStates.get(rootContainer));
+        Set<Element> changedContainers = new HashSet<>();
+        states.forEach((subContainer, state) -> {
+            if (!state.equals(sentStates.get(subContainer))) {
+                changedContainers.add(subContainer);
+            }
+        });
+        sentStates.clear();
+        sentStates.putAll(states);
+        if (rootChanged) {
+            return null;
         }
-        SubMenuBase<?, I, ?> subMenu = menuItem.getSubMenu();
 
-        int containerNodeId = createNewContainer(subMenu.getChildren());
-        menuItem.getElement().setProperty("_containerNodeId", containerNodeId);
+        List<Element> changedOwners = new ArrayList<>();
+        for (Element subContainer : changedContainers) {
+            if (!hasChangedAncestor(subContainer, changedContainers)) {
+                changedOwners.add(containerOwners.get(subContainer));
+            }
+        }
+        return changedOwners;
+    }
 
-        subMenu.getItems().stream().forEach(this::resetContainers);
+    private boolean hasChangedAncestor(Element subContainer,
+            Set<Element> changedContainers) {
+        Element ancestor = containerOwners.get(subContainer).getParent();
+        while (ancestor != null && containerOwners.containsKey(ancestor)) {
+            if (changedContainers.contains(ancestor)) {
+                return true;
+            }
+            ancestor = containerOwners.get(ancestor).getParent();
+        }
+        return false;
     }
 
-    private int createNewContainer(Stream<Component> components) {
-        Element subContainer = new Element("div");
-        container.appendChild(subContainer);
+    /**
+     * Gets the state of the children of the given container that the client
+     * reads when generating the items.
+     */
+    private static List<ItemState> getState(Element subContainer) {
+        return subContainer.getChildren()
+                .map(child -> new ItemState(child,
+                        child.getProperty("tooltip"),
+                        child.getProperty("tooltipPosition"),
+                        child.getProperty("_containerNodeId", -1),
+                        child.getProperty("_lazySubMenu", false)))
+                .toList();
+    }
+
+    private void updateSubMenu(MenuItemBase<?, I, ?> menuItem,
+            Map<SubMenuBase<?, I, ?>, Element> previousContainers) {
+        Element itemElement = menuItem.getElement();
+        SubMenuBase<?, I, ?> subMenu = menuItem.getSubMenu();
+        setProperty(itemElement, "_lazySubMenu",
+                subMenu.hasPendingLazyContent());
+        if (!subMenu.getChildren().findAny().isPresent()) {
+            if (itemElement.hasProperty("_containerNodeId")) {
+                itemElement.removeProperty("_containerNodeId");
+            }
+            return;
+        }
 
-        components
-                .forEach(child -> subContainer.appendChild(child.getElement()));
-        return subContainer.getNode().getId();
+        Element subContainer = previousContainers.remove(subMenu);
+        if (subContainer == null) {
+            subContainer = new Element("div");
+            container.appendChild(subContainer);
+        }
+        subMenuContainers.put(subMenu, subContainer);
+        containerOwners.put(subContainer, itemElement);
+        updateContainer(subContainer, subMenu.getChildren());
+        int containerNodeId = subContainer.getNode().getId();
+        if (itemElement.getProperty("_containerNodeId",
+                -1) != containerNodeId) {
+            itemElement.setProperty("_containerNodeId", containerNodeId);
+        }
+
+        subMenu.getItems().forEach(
+                item -> updateSubMenu(item, previousContainers));
     }
 
-    private Stream<MenuItemBase> getItems() {
-        return menu.getChildren().filter(MenuItemBase.class::isInstance)
-                .map(MenuItemBase.class::cast);
+    /**
+     * Updates the children of the given container to match the given
+     * components. The container is left untouched if it already has the same
+     * children in the same order.
+     */
+    private void updateContainer(Element subContainer,
+            Stream<Component> components) {
+        List<Element> elements = components.map(Component::getElement)
+                .toList();
+        if (subContainer.getChildren().toList().equals(elements)) {
+            return;
+        }
+        subContainer.removeAllChildren();
+        elements.forEach(subContainer::appendChild);
+    }
+
+    private static void setProperty(Element element, String name,
+            boolean value) {
+        if (value) {
+            if (!element.getProperty(name, false)) {
+                element.setProperty(name, true);
+            }
+        } else if (element.hasProperty(name)) {
+            element.removeProperty(name);
+        }
     }
 
     private void runBeforeClientResponse(SerializableConsumer<UI> command) {
@@ -109,4 +268,9 @@ public class MenuItemsArrayGenerator<I extends MenuItemBase<?, I, ?>>
     private void addContextMenuDependencies(UI ui) {
         ui.getInternals().addComponentDependencies(ContextMenu.class);
     }
+
+    private record ItemState(Element element, String tooltip,
+            String tooltipPosition, int containerNodeId,
+            boolean lazySubMenu) implements Serializable {
+    }
 }
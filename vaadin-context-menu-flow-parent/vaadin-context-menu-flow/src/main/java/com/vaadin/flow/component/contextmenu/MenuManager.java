@@ -351,4 +351,12 @@ public class MenuManager<C extends Component, I extends MenuItemBase<?, I, S>, S
         contentReset.run();
     }
 
+    /**
+     * Requests the client-side items to be regenerated, for example when the
+     * state of the lazy content of a sub menu has changed.
+     */
+    void resetContent() {
+        contentReset.run();
+    }
+
 }
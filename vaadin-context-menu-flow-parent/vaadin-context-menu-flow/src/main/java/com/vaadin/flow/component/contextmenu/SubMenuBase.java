@@ -21,6 +21,8 @@ import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.dom.DomListenerRegistration;
+import com.vaadin.flow.function.SerializableConsumer;
 
 /**
  * Base class for sub-menus in {@link ContextMenuBase} extensions. Classes
@@ -40,6 +42,8 @@ public abstract class SubMenuBase<C extends ContextMenuBase<C, I, S>, I extends
 
     private MenuManager<C, I, S> menuManager;
     private final I parentMenuItem;
+    private SerializableConsumer<S> lazyContent;
+    private DomListenerRegistration lazyContentRequestRegistration;
 
     public SubMenuBase(I parentMenuItem) {
         this.parentMenuItem = parentMenuItem;
@@ -160,6 +164,79 @@ public abstract class SubMenuBase<C extends ContextMenuBase<C, I, S>, I extends
         getMenuManager().addSeparator();
     }
 
+    /**
+     * Sets a callback that adds the content of this sub menu when the sub menu
+     * is opened for the first time. Until then, the parent menu item is shown
+     * as a parent item, but no components are created for the sub menu and
+     * nothing is sent to the browser for it. This is useful for large menus
+     * with many nested sub menus, which are typically opened only partially.
+     * <p>
+     * The callback is called at most once. Setting a new callback after the
+     * content has been loaded calls the new callback when the sub menu is
+     * opened the next time, in addition to the existing content.
+     *
+     * @param lazyContent
+     *            the callback that adds the content to this sub menu, or
+     *            {@code null} to remove a callback that has not been called
+     *            yet
+     * @throws IllegalStateException
+     *             if the parent menu item is checkable
+     * @see #loadLazyContent()
+     * @since 25.3
+     */
+    public void setLazyContent(SerializableConsumer<S> lazyContent) {
+        if (lazyContent != null && parentMenuItem.isCheckable()) {
+            throw new IllegalStateException(
+                    "A checkable item cannot have a sub menu");
+        }
+        if (lazyContentRequestRegistration != null) {
+            lazyContentRequestRegistration.remove();
+            lazyContentRequestRegistration = null;
+        }
+        this.lazyContent = lazyContent;
+        if (lazyContent != null) {
+            lazyContentRequestRegistration = parentMenuItem.getElement()
+                    .addEventListener("sub-menu-requested",
+                            e -> loadLazyContent());
+        }
+        getMenuManager().resetContent();
+    }
+
+    /**
+     * Gets whether this sub menu has lazy content that has not been loaded
+     * yet.
+     *
+     * @return {@code true} if the lazy content callback has not been called
+     *         yet, {@code false} otherwise
+     * @see #setLazyContent(SerializableConsumer)
+     * @since 25.3
+     */
+    public boolean hasPendingLazyContent() {
+        return lazyContent != null;
+    }
+
+    /**
+     * Loads the lazy content of this sub menu immediately, without waiting for
+     * the sub menu to be opened. Does nothing if there is no pending lazy
+     * content.
+     *
+     * @see #setLazyContent(SerializableConsumer)
+     * @since 25.3
+     */
+    @SuppressWarnings("unchecked")
+    public void loadLazyContent() {
+        if (lazyContent == null) {
+            return;
+        }
+        SerializableConsumer<S> content = lazyContent;
+        lazyContent = null;
+        lazyContentRequestRegistration.remove();
+        lazyContentRequestRegistration = null;
+
+        content.accept((S) this);
+        getMenuManager().resetContent();
+    }
+
     /**
      * Gets a (sub) menu manager.
      *
@@ -18,6 +18,8 @@ function initLazy(contextMenu, appId) {
     return;
   }
 
+  let rootNodeId;
+
   contextMenu.$connector = {
     /**
      * Generates and assigns the items to the context menu.
@@ -25,9 +27,24 @@ function initLazy(contextMenu, appId) {
      * @param {number} nodeId
      */
     generateItems(nodeId) {
-      const items = generateItemsTree(appId, nodeId);
+      rootNodeId = nodeId;
+      const items = generateItemsTree(appId, nodeId, contextMenu);
 
       contextMenu.items = items;
+    },
+
+    /**
+     * Generates the sub menu items of the given items again, keeping the rest
+     * of the items tree.
+     *
+     * @param {...HTMLElement} components the items whose sub menus have changed
+     */
+    generateSubItems(...components) {
+      if (!components.every((component) => generateSubItemsTree(appId, component, contextMenu))) {
+        contextMenu.$connector.generateItems(rootNodeId);
+        return;
+      }
+      contextMenu.items = [...contextMenu.items];
     }
   };
 }
@@ -41,8 +58,9 @@ function initLazy(contextMenu, appId) {
  *
  * @param {string} appId
  * @param {number} nodeId
+ * @param {HTMLElement} menu the menu to read the i18n properties from
  */
-function generateItemsTree(appId, nodeId) {
+function generateItemsTree(appId, nodeId, menu) {
   const container = getContainer(appId, nodeId);
   if (!container) {
     return;
@@ -58,15 +76,90 @@ function generateItemsTree(appId, nodeId) {
       tooltip: child.tooltip,
       tooltipPosition: child.tooltipPosition
     };
-    // Do not hardcode tag name to allow `vaadin-menu-bar-item`
-    if (child._hasVaadinItemMixin && child._containerNodeId) {
-      item.children = generateItemsTree(appId, child._containerNodeId);
+    const children = generateChildren(appId, child, menu);
+    if (children) {
+      item.children = children;
     }
     child._item = item;
     return item;
   });
 }
 
+/**
+ * Generates the sub menu items of the given item again and assigns them to the
+ * existing item object.
+ *
+ * @param {string} appId
+ * @param {HTMLElement} component the item whose sub menu has changed
+ * @param {HTMLElement} menu the menu to read the i18n properties from
+ * @return {boolean} false if the item has not been generated yet
+ */
+function generateSubItemsTree(appId, component, menu) {
+  // The menu bar keeps its root items in `_rootItem`, as `_item` is reassigned
+  // when the item is moved to the overflow menu
+  const item = component._rootItem || component._item;
+  if (!item) {
+    return false;
+  }
+  item.children = generateChildren(appId, component, menu);
+  return true;
+}
+
+function generateChildren(appId, child, menu) {
+  // Do not hardcode tag name to allow `vaadin-menu-bar-item`
+  if (!child._hasVaadinItemMixin) {
+    return undefined;
+  }
+  let children;
+  if (child._containerNodeId) {
+    children = generateItemsTree(appId, child._containerNodeId, menu);
+  }
+  if (child._lazySubMenu) {
+    if (!children || children.length === 0) {
+      // Show the item as a parent item until the content has been loaded
+      children = [{ component: createLoadingItem(child, menu), disabled: true }];
+    }
+    requestLazySubMenu(child);
+  }
+  return children;
+}
+
+/**
+ * Creates the placeholder shown in a lazy sub menu until its content has been
+ * loaded, labelled with the `loading` i18n property of the menu.
+ *
+ * @param {HTMLElement} parent the item owning the sub menu
+ * @param {HTMLElement} menu the menu to read the i18n properties from
+ */
+function createLoadingItem(parent, menu) {
+  const placeholder = document.createElement(parent.localName);
+  placeholder.textContent = '…';
+  const i18n = (menu && menu.i18n) || {};
+  placeholder.setAttribute('aria-label', i18n.loading || 'Loading');
+  return placeholder;
+}
+
+/**
+ * Requests the server to load the lazy content of the sub menu of the given
+ * item when the user is about to open it, that is when the item is hovered,
+ * focused or clicked.
+ *
+ * @param {HTMLElement} component
+ */
+function requestLazySubMenu(component) {
+  if (component.__requestLazySubMenu) {
+    return;
+  }
+  const events = ['mouseenter', 'focusin', 'click'];
+  const request = () => {
+    events.forEach((event) => component.removeEventListener(event, request));
+    delete component.__requestLazySubMenu;
+    component.dispatchEvent(new CustomEvent('sub-menu-requested'));
+  };
+  component.__requestLazySubMenu = request;
+  events.forEach((event) => component.addEventListener(event, request));
+}
+
 /**
  * Sets the checked state for a context menu item.
  *
@@ -118,6 +211,7 @@ function setTheme(component, theme) {
 window.Vaadin.Flow.contextMenuConnector = {
   initLazy,
   generateItemsTree,
+  generateSubItemsTree,
   setChecked,
   setKeepOpen,
   setTheme
@@ -37,6 +37,26 @@ import com.vaadin.flow.component.html.Span;
  */
 class ContextMenuTest {
 
+    @Test
+    void setI18n_getI18n_loadingSetToElement() {
+        ContextMenu contextMenu = new ContextMenu();
+        ContextMenuBase.ContextMenuI18n i18n = new ContextMenuBase.ContextMenuI18n()
+                .setLoading("Loading items");
+
+        contextMenu.setI18n(i18n);
+
+        Assertions.assertSame(i18n, contextMenu.getI18n());
+        Assertions.assertEquals("{\"loading\":\"Loading items\"}",
+                contextMenu.getElement().getPropertyRaw("i18n").toString());
+    }
+
+    @Test
+    void setI18n_null_throws() {
+        ContextMenu contextMenu = new ContextMenu();
+        Assertions.assertThrows(NullPointerException.class,
+                () -> contextMenu.setI18n(null));
+    }
+
     @Test
     void createContextMenuWithTargetAndChildren_getChildrenReturnsChildren() {
         Span span1 = new Span("Text 1");
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.contextmenu;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
+import com.vaadin.tests.MockUIExtension;
+
+class MenuItemsArrayGeneratorTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private ContextMenu contextMenu;
+    private MenuItem parentItem;
+    private MenuItem childItem;
+
+    @BeforeEach
+    void setup() {
+        contextMenu = new ContextMenu();
+        parentItem = contextMenu.addItem("parent");
+        childItem = parentItem.getSubMenu().addItem("child");
+        ui.add(contextMenu);
+        ui.fakeClientCommunication();
+    }
+
+    @Test
+    void generate_itemsInContainers() {
+        Assertions.assertTrue(parentItem.getElement().getParent() != null);
+        Assertions.assertEquals(
+                childItem.getElement().getParent().getNode().getId(),
+                parentItem.getElement().getProperty("_containerNodeId", -1));
+    }
+
+    @Test
+    void itemChanged_containersKept() {
+        var rootContainer = parentItem.getElement().getParent();
+        var subContainer = childItem.getElement().getParent();
+
+        childItem.setTooltipText("tooltip");
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(rootContainer,
+                parentItem.getElement().getParent());
+        Assertions.assertEquals(subContainer,
+                childItem.getElement().getParent());
+    }
+
+    @Test
+    void subMenuItemChanged_onlySubMenuRegenerated() {
+        ui.dumpPendingJavaScriptInvocations();
+
+        childItem.setTooltipText("tooltip");
+        ui.fakeClientCommunication();
+
+        List<JavaScriptInvocation> invocations = getGenerateInvocations();
+        Assertions.assertEquals(1, invocations.size());
+        Assertions.assertTrue(invocations.get(0).getExpression()
+                .contains("generateSubItems"));
+        Assertions.assertTrue(invocations.get(0).getParameters()
+                .contains(parentItem.getElement()));
+    }
+
+    @Test
+    void nestedSubMenusChanged_outermostSubMenuRegenerated() {
+        MenuItem grandChildItem = childItem.getSubMenu().addItem("grandchild");
+        ui.fakeClientCommunication();
+        ui.dumpPendingJavaScriptInvocations();
+
+        childItem.setTooltipText("tooltip");
+        grandChildItem.setTooltipText("tooltip");
+        ui.fakeClientCommunication();
+
+        List<JavaScriptInvocation> invocations = getGenerateInvocations();
+        Assertions.assertEquals(1, invocations.size());
+        Assertions.assertTrue(invocations.get(0).getParameters()
+                .contains(parentItem.getElement()));
+        Assertions.assertFalse(invocations.get(0).getParameters()
+                .contains(childItem.getElement()));
+    }
+
+    @Test
+    void rootItemChanged_allItemsRegenerated() {
+        ui.dumpPendingJavaScriptInvocations();
+
+        parentItem.setTooltipText("tooltip");
+        ui.fakeClientCommunication();
+
+        List<JavaScriptInvocation> invocations = getGenerateInvocations();
+        Assertions.assertEquals(1, invocations.size());
+        Assertions.assertTrue(invocations.get(0).getExpression()
+                .contains("generateItems"));
+    }
+
+    @Test
+    void reattached_allItemsRegenerated() {
+        ui.remove(contextMenu);
+        ui.add(contextMenu);
+        ui.dumpPendingJavaScriptInvocations();
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(getGenerateInvocations().stream()
+                .anyMatch(invocation -> invocation.getExpression()
+                        .contains("generateItems")));
+    }
+
+    @Test
+    void subMenuContentRemoved_containerRemoved() {
+        var subContainer = childItem.getElement().getParent();
+
+        parentItem.getSubMenu().removeAll();
+        ui.fakeClientCommunication();
+
+        Assertions.assertNull(subContainer.getParent());
+        Assertions.assertFalse(
+                parentItem.getElement().hasProperty("_containerNodeId"));
+    }
+
+    @Test
+    void lazySubMenu_contentNotGenerated() {
+        MenuItem lazyItem = contextMenu.addItem("lazy");
+        lazyItem.getSubMenu().setLazyContent(subMenu -> subMenu.addItem("x"));
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(
+                lazyItem.getElement().getProperty("_lazySubMenu", false));
+        Assertions.assertFalse(
+                lazyItem.getElement().hasProperty("_containerNodeId"));
+
+        lazyItem.getSubMenu().loadLazyContent();
+        ui.fakeClientCommunication();
+
+        Assertions.assertFalse(
+                lazyItem.getElement().hasProperty("_lazySubMenu"));
+        Assertions.assertTrue(
+                lazyItem.getElement().hasProperty("_containerNodeId"));
+    }
+
+    private List<JavaScriptInvocation> getGenerateInvocations() {
+        return ui.dumpPendingJavaScriptInvocations().stream()
+                .map(PendingJavaScriptInvocation::getInvocation)
+                .filter(invocation -> invocation.getExpression()
+                        .contains("$connector.generate"))
+                .toList();
+    }
+}
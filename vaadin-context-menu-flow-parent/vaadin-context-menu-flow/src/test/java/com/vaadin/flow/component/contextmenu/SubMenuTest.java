@@ -16,6 +16,7 @@
 package com.vaadin.flow.component.contextmenu;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -27,6 +28,9 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Hr;
 import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
 
 /**
  * Unit tests for SubMenu.
@@ -216,6 +220,63 @@ class SubMenuTest {
         Assertions.assertSame(subMenu, parentItem.getSubMenu());
     }
 
+    @Test
+    void setLazyContent_notLoaded_parentItemWithoutChildren() {
+        AtomicInteger calls = new AtomicInteger();
+        subMenu.setLazyContent(menu -> calls.incrementAndGet());
+
+        Assertions.assertTrue(subMenu.hasPendingLazyContent());
+        Assertions.assertTrue(parentItem.isParentItem());
+        verifyChildren(subMenu);
+        Assertions.assertEquals(0, calls.get());
+    }
+
+    @Test
+    void setLazyContent_loadLazyContent_contentAddedOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        subMenu.setLazyContent(menu -> {
+            calls.incrementAndGet();
+            menu.addItem("foo");
+        });
+
+        subMenu.loadLazyContent();
+        subMenu.loadLazyContent();
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertFalse(subMenu.hasPendingLazyContent());
+        Assertions.assertEquals(1, subMenu.getItems().size());
+    }
+
+    @Test
+    void setLazyContent_subMenuRequestedFromClient_contentLoaded() {
+        subMenu.setLazyContent(menu -> menu.addItem("foo"));
+
+        parentItem.getElement().getNode()
+                .getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(parentItem.getElement(),
+                        "sub-menu-requested",
+                        JacksonUtils.createObjectNode()));
+
+        Assertions.assertFalse(subMenu.hasPendingLazyContent());
+        Assertions.assertEquals(1, subMenu.getItems().size());
+    }
+
+    @Test
+    void setLazyContent_null_noPendingContent() {
+        subMenu.setLazyContent(menu -> menu.addItem("foo"));
+        subMenu.setLazyContent(null);
+
+        Assertions.assertFalse(subMenu.hasPendingLazyContent());
+        Assertions.assertFalse(parentItem.isParentItem());
+    }
+
+    @Test
+    void setLazyContent_checkableParent_throws() {
+        parentItem.setCheckable(true);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> subMenu.setLazyContent(menu -> menu.addItem("foo")));
+    }
+
     private void verifyChildren(SubMenu subMenu,
             Component... expectedChildren) {
         List<Component> children = subMenu.getChildren().toList();
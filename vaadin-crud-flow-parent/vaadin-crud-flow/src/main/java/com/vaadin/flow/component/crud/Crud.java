@@ -30,6 +30,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.shared.SlotUtils;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.renderer.LitRenderer;
 import com.vaadin.flow.internal.JacksonUtils;
@@ -533,7 +534,7 @@ public class Crud<E> extends Component implements HasSize, HasTheme, HasStyle {
 
     @SuppressWarnings("removal")
     private void setI18n(CrudI18n i18n, boolean fireEvent) {
-        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        SharedI18nRegistry.setI18nProperty(this, JacksonUtils.beanToJson(i18n));
         if (fireEvent) {
             ComponentUtil.fireEvent(this.grid,
                     new CrudI18nUpdatedEvent(this, false, i18n));
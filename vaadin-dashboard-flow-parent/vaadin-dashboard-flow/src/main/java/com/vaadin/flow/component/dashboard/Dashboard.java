@@ -12,6 +12,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -79,6 +80,10 @@ public class Dashboard extends Component
 
     private boolean pendingUpdate = false;
 
+    private String sentStructure;
+
+    private final Map<Integer, WidgetSpan> sentSpans = new HashMap<>();
+
     /**
      * Creates an empty dashboard.
      */
@@ -679,6 +684,8 @@ public class Dashboard extends Component
         getElement().executeJs(
                 "Vaadin.FlowComponentHost.patchVirtualContainer(this);");
         customizeItemMovedEvent();
+        // a new client element needs the full items array
+        sentStructure = null;
         doUpdateClient();
     }
 
@@ -724,6 +731,12 @@ public class Dashboard extends Component
     }
 
     private void updateClientItems() {
+        String structure = getItemsStructure();
+        if (structure.equals(sentStructure)) {
+            updateClientItemSpans();
+            return;
+        }
+
         ArrayNode itemsJson = JacksonUtils.createArrayNode();
         for (Component component : childrenComponents) {
             if (component instanceof DashboardSection section) {
@@ -742,6 +755,11 @@ public class Dashboard extends Component
                 itemsJson.add(widgetJson);
             }
         }
+        sentStructure = structure;
+        sentSpans.clear();
+        getWidgets().forEach(widget -> sentSpans.put(
+                widget.getElement().getNode().getId(),
+                new WidgetSpan(widget.getColspan(), widget.getRowspan())));
 
         String appId = UI.getCurrentOrThrow().getInternals().getAppId();
         getElement().executeJs(
@@ -762,6 +780,56 @@ public class Dashboard extends Component
                 itemsJson, appId);
     }
 
+    /**
+     * Sends only the widgets whose colspan or rowspan changed since the last
+     * update, for when the order and nesting of the items is unchanged.
+     */
+    private void updateClientItemSpans() {
+        ArrayNode changesJson = JacksonUtils.createArrayNode();
+        for (DashboardWidget widget : getWidgets()) {
+            int nodeId = widget.getElement().getNode().getId();
+            WidgetSpan span = new WidgetSpan(widget.getColspan(),
+                    widget.getRowspan());
+            if (!span.equals(sentSpans.put(nodeId, span))) {
+                changesJson.add(getWidgetRepresentation(widget));
+            }
+        }
+        if (changesJson.isEmpty()) {
+            return;
+        }
+        getElement().executeJs(
+                """
+                        const changes = new Map($0.map(change => [change.id, change]));
+                        function applyChanges(items) {
+                          return items.map(item => {
+                            if (item.items) {
+                              return { ...item, items: applyChanges(item.items) };
+                            }
+                            const change = changes.get(item.id);
+                            return change ? { ...item, colspan: change.colspan, rowspan: change.rowspan } : item;
+                          });
+                        }
+                        this.items = applyChanges(this.items || []);
+                        """,
+                changesJson);
+    }
+
+    private String getItemsStructure() {
+        StringBuilder structure = new StringBuilder();
+        for (Component component : childrenComponents) {
+            structure.append(component.getElement().getNode().getId());
+            if (component instanceof DashboardSection section) {
+                structure.append('[');
+                section.getWidgets().forEach(widget -> structure
+                        .append(widget.getElement().getNode().getId())
+                        .append(','));
+                structure.append(']');
+            }
+            structure.append(',');
+        }
+        return structure.toString();
+    }
+
     private static ObjectNode getWidgetRepresentation(DashboardWidget widget) {
         ObjectNode widgetJson = JacksonUtils.createObjectNode();
         widgetJson.put("id", widget.getElement().getNode().getId());
@@ -974,6 +1042,10 @@ public class Dashboard extends Component
         return null;
     }
 
+    private record WidgetSpan(int colspan,
+            int rowspan) implements Serializable {
+    }
+
     /**
      * The internationalization properties for {@link Dashboard}.
      */
@@ -8,12 +8,15 @@
  */
 package com.vaadin.flow.component.dashboard;
 
+import com.vaadin.flow.component.AttachEvent;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.SlotUtils;
 import com.vaadin.flow.dom.SignalBinding;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.signals.Signal;
 
 /**
@@ -35,6 +38,12 @@ public class DashboardWidget extends Component {
 
     private int rowspan = 1;
 
+    private SerializableSupplier<? extends Component> lazyContentSupplier;
+
+    private boolean releaseLazyContentWhenHidden = true;
+
+    private Registration lazyContentVisibilityRegistration;
+
     /**
      * Creates an empty widget.
      */
@@ -173,6 +182,80 @@ public class DashboardWidget extends Component {
      *            the content to set
      */
     public void setContent(Component content) {
+        removeLazyContentSupplier();
+        doSetContent(content);
+    }
+
+    /**
+     * Sets a supplier that creates the content of the widget only when the
+     * widget is scrolled into the viewport. This avoids creating and sending
+     * the content of widgets that are never seen, which can considerably speed
+     * up the initial rendering of dashboards with many widgets.
+     * <p>
+     * When the widget is scrolled out of the viewport, the content is removed,
+     * and created again with the supplier once it becomes visible. Use
+     * {@link #setReleaseLazyContentWhenHidden(boolean)} to keep the content
+     * once it has been created.
+     * <p>
+     * Calling this method removes any current content. Setting content with
+     * {@link #setContent(Component)} removes the content supplier. Set
+     * {@code null} to remove the current content supplier.
+     *
+     * @param contentSupplier
+     *            the supplier that creates the content, or {@code null} to
+     *            remove the current supplier
+     * @since 25.3
+     */
+    public void setLazyContent(
+            SerializableSupplier<? extends Component> contentSupplier) {
+        removeLazyContentSupplier();
+        doSetContent(null);
+        if (contentSupplier == null) {
+            return;
+        }
+        lazyContentSupplier = contentSupplier;
+        lazyContentVisibilityRegistration = getElement()
+                .addEventListener("lazy-content-visible-changed",
+                        e -> onLazyContentVisibleChanged(e.getEventData()
+                                .get("event.detail.visible").booleanValue()))
+                .addEventData("event.detail.visible");
+        if (isAttached()) {
+            observeLazyContentVisibility();
+        }
+    }
+
+    /**
+     * Returns whether lazily created content is removed when the widget is
+     * scrolled out of the viewport. The default is {@code true}.
+     *
+     * @return {@code true} if lazy content is removed when hidden,
+     *         {@code false} otherwise
+     * @see #setLazyContent(SerializableSupplier)
+     * @since 25.3
+     */
+    public boolean isReleaseLazyContentWhenHidden() {
+        return releaseLazyContentWhenHidden;
+    }
+
+    /**
+     * Sets whether lazily created content is removed when the widget is
+     * scrolled out of the viewport. When removed, the content is created again
+     * with the supplier once the widget becomes visible, which frees server
+     * and browser memory at the cost of losing the state of the content. The
+     * default is {@code true}.
+     *
+     * @param releaseLazyContentWhenHidden
+     *            {@code true} to remove lazy content when hidden,
+     *            {@code false} to keep it once created
+     * @see #setLazyContent(SerializableSupplier)
+     * @since 25.3
+     */
+    public void setReleaseLazyContentWhenHidden(
+            boolean releaseLazyContentWhenHidden) {
+        this.releaseLazyContentWhenHidden = releaseLazyContentWhenHidden;
+    }
+
+    private void doSetContent(Component content) {
         Component initialContent = getContent();
         if (initialContent == content) {
             return;
@@ -254,6 +337,54 @@ public class DashboardWidget extends Component {
         return true;
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        if (lazyContentSupplier != null) {
+            observeLazyContentVisibility();
+        }
+    }
+
+    private void observeLazyContentVisibility() {
+        getElement().executeJs(
+                """
+                        this.__lazyContentObserver?.disconnect();
+                        this.__lazyContentObserver = new IntersectionObserver((entries) => {
+                          const visible = entries[entries.length - 1].isIntersecting;
+                          if (visible !== this.__lazyContentVisible) {
+                            this.__lazyContentVisible = visible;
+                            this.dispatchEvent(new CustomEvent('lazy-content-visible-changed', { detail: { visible } }));
+                          }
+                        });
+                        this.__lazyContentObserver.observe(this);
+                        """);
+    }
+
+    private void onLazyContentVisibleChanged(boolean visible) {
+        if (lazyContentSupplier == null) {
+            return;
+        }
+        if (visible && getContent() == null) {
+            doSetContent(lazyContentSupplier.get());
+        } else if (!visible && releaseLazyContentWhenHidden) {
+            doSetContent(null);
+        }
+    }
+
+    private void removeLazyContentSupplier() {
+        if (lazyContentSupplier == null) {
+            return;
+        }
+        lazyContentSupplier = null;
+        lazyContentVisibilityRegistration.remove();
+        lazyContentVisibilityRegistration = null;
+        getElement().executeJs("""
+                this.__lazyContentObserver?.disconnect();
+                delete this.__lazyContentObserver;
+                delete this.__lazyContentVisible;
+                """);
+    }
+
     private void notifyParentDashboardOrSection() {
         getParent().ifPresent(parent -> {
             if (parent instanceof Dashboard dashboard) {
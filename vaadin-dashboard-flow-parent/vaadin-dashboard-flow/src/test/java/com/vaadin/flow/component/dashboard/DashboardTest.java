@@ -22,8 +22,12 @@ import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 
+import tools.jackson.databind.node.ArrayNode;
+
 class DashboardTest extends DashboardTestBase {
     private Dashboard dashboard;
 
@@ -789,6 +793,57 @@ class DashboardTest extends DashboardTestBase {
         assertChildComponents(dashboard, widget);
     }
 
+    @Test
+    void setColspanOnExistingWidget_onlyChangedWidgetSent() {
+        DashboardWidget widget1 = getNewWidget();
+        DashboardWidget widget2 = getNewWidget();
+        dashboard.add(widget1, widget2);
+        ui.dumpPendingJavaScriptInvocations();
+
+        widget2.setColspan(2);
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+
+        Assertions.assertEquals(1, invocations.size());
+        JavaScriptInvocation invocation = invocations.get(0).getInvocation();
+        Assertions.assertTrue(
+                invocation.getExpression().contains("applyChanges"));
+        ArrayNode changes = (ArrayNode) invocation.getParameters().get(1);
+        Assertions.assertEquals(1, changes.size());
+        Assertions.assertEquals(widget2.getElement().getNode().getId(),
+                changes.get(0).get("id").intValue());
+        Assertions.assertEquals(2, changes.get(0).get("colspan").intValue());
+    }
+
+    @Test
+    void setSameColspanOnExistingWidget_nothingSent() {
+        DashboardWidget widget = getNewWidget();
+        dashboard.add(widget);
+        ui.dumpPendingJavaScriptInvocations();
+
+        widget.setColspan(2);
+        widget.setColspan(1);
+
+        Assertions.assertTrue(ui.dumpPendingJavaScriptInvocations().isEmpty());
+    }
+
+    @Test
+    void addWidgetToExistingDashboard_allItemsSent() {
+        dashboard.add(getNewWidget());
+        ui.dumpPendingJavaScriptInvocations();
+
+        dashboard.add(getNewWidget());
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+
+        Assertions.assertEquals(1, invocations.size());
+        JavaScriptInvocation invocation = invocations.get(0).getInvocation();
+        Assertions.assertTrue(
+                invocation.getExpression().contains("populateComponents"));
+        ArrayNode items = (ArrayNode) invocation.getParameters().get(1);
+        Assertions.assertEquals(2, items.size());
+    }
+
     @Test
     void setMaximumColumnWidth_valueIsCorrectlySet() {
         String propertyName = "--vaadin-dashboard-col-max-width";
@@ -8,11 +8,19 @@
  */
 package com.vaadin.flow.component.dashboard;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+import tools.jackson.databind.node.ObjectNode;
 
 class DashboardWidgetTest extends DashboardTestBase {
 
@@ -273,6 +281,79 @@ class DashboardWidgetTest extends DashboardTestBase {
         Assertions.assertEquals(header, widget.getHeaderContent());
     }
 
+    @Test
+    void setLazyContent_contentNotCreatedUntilVisible() {
+        AtomicInteger created = new AtomicInteger();
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(() -> {
+            created.incrementAndGet();
+            return new Div();
+        });
+        ui.add(widget);
+        ui.fakeClientCommunication();
+
+        Assertions.assertNull(widget.getContent());
+        Assertions.assertEquals(0, created.get());
+
+        fireLazyContentVisibleChanged(widget, true);
+        Assertions.assertNotNull(widget.getContent());
+        Assertions.assertEquals(1, created.get());
+    }
+
+    @Test
+    void setLazyContent_hidden_contentReleased() {
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(Div::new);
+        ui.add(widget);
+
+        fireLazyContentVisibleChanged(widget, true);
+        Component content = widget.getContent();
+        fireLazyContentVisibleChanged(widget, false);
+        Assertions.assertNull(widget.getContent());
+
+        fireLazyContentVisibleChanged(widget, true);
+        Assertions.assertNotNull(widget.getContent());
+        Assertions.assertNotEquals(content, widget.getContent());
+    }
+
+    @Test
+    void setLazyContent_releaseDisabled_hidden_contentKept() {
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(Div::new);
+        widget.setReleaseLazyContentWhenHidden(false);
+        ui.add(widget);
+
+        fireLazyContentVisibleChanged(widget, true);
+        Component content = widget.getContent();
+        fireLazyContentVisibleChanged(widget, false);
+        fireLazyContentVisibleChanged(widget, true);
+        Assertions.assertEquals(content, widget.getContent());
+    }
+
+    @Test
+    void setLazyContent_setContent_supplierRemoved() {
+        Div content = new Div();
+        DashboardWidget widget = getNewWidget();
+        widget.setLazyContent(Div::new);
+        widget.setContent(content);
+
+        fireLazyContentVisibleChanged(widget, false);
+        Assertions.assertEquals(content, widget.getContent());
+    }
+
+    @Test
+    void setLazyContent_existingContentRemoved() {
+        DashboardWidget widget = getNewWidget();
+        widget.setContent(new Div());
+        widget.setLazyContent(Div::new);
+        Assertions.assertNull(widget.getContent());
+    }
+
+    @Test
+    void releaseLazyContentWhenHidden_defaultValue() {
+        Assertions.assertTrue(getNewWidget().isReleaseLazyContentWhenHidden());
+    }
+
     @Test
     void setWidgetVisibility_exceptionIsThrown() {
         DashboardWidget widget = getNewWidget();
@@ -287,4 +368,13 @@ class DashboardWidgetTest extends DashboardTestBase {
         DashboardWidget widget = getNewWidget();
         Assertions.assertTrue(widget.isVisible());
     }
+
+    private static void fireLazyContentVisibleChanged(DashboardWidget widget,
+            boolean visible) {
+        ObjectNode eventData = JacksonUtils.createObjectNode();
+        eventData.put("event.detail.visible", visible);
+        widget.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(widget.getElement(),
+                        "lazy-content-visible-changed", eventData));
+    }
 }
@@ -86,6 +86,15 @@ describe('date-picker connector', () => {
         expect(result.year).to.equal(new Date().getFullYear());
       });
     });
+
+    it('should not modify the given i18n object', () => {
+      const i18n = { dateFormats: ['dd-MM-yy'], referenceDate: '1940-01-01' };
+      datePicker.$connector.updateI18n('en-US', i18n);
+      datePicker.$connector.updateI18n('en-US', i18n);
+      expect(i18n.referenceDate).to.equal('1940-01-01');
+      const result = datePicker.i18n.parseDate(DATE) as DatePickerDate;
+      expect(result.year).to.equal(1914);
+    });
   });
 
   describe('date metadata', () => {
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.datepicker;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link DateMetadataProvider} that caches the metadata of another provider
+ * on the server, one month at a time. A single instance can be shared by any
+ * number of {@link DatePicker} and date time picker instances, for example by
+ * storing it in a static field, so that a backend, such as a holiday calendar
+ * or a booking system, is only queried once per month until the cached
+ * metadata expires:
+ *
+ * <pre>
+ * private static final CachingDateMetadataProvider HOLIDAYS = new CachingDateMetadataProvider(
+ *         range -&gt; holidayService.getHolidays(range.start(), range.end()),
+ *         Duration.ofHours(1));
+ *
+ * datePicker.setDateMetadataProvider(HOLIDAYS);
+ * </pre>
+ *
+ * The wrapped provider is always called with a range that covers whole
+ * months, and only for the months that are not cached. As it may be called
+ * from any session, and from a background thread when prefetching is enabled
+ * with {@link #setPrefetchExecutor(Executor)}, it must be thread-safe and must
+ * not depend on the current UI or session.
+ * <p>
+ * Call {@link #invalidate()} or {@link #invalidate(DateRange)} when the data
+ * behind the wrapped provider changes. The browser caches the metadata of the
+ * months it has shown as well, so also call
+ * {@link DatePicker#refreshDateMetadata()} on the pickers that should show the
+ * change right away.
+ * <p>
+ * At most {@link #setMaxCachedMonths(int) a limited number of months} are
+ * cached. When the limit is exceeded, expired months are discarded first,
+ * and then the months that expire soonest.
+ * <p>
+ * The cached metadata is not serialized. A deserialized instance starts with
+ * an empty cache and without a prefetch executor.
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class CachingDateMetadataProvider implements DateMetadataProvider {
+
+    /**
+     * The default maximum number of cached months.
+     */
+    public static final int DEFAULT_MAX_CACHED_MONTHS = 240;
+
+    private final DateMetadataProvider delegate;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private volatile int maxCachedMonths = DEFAULT_MAX_CACHED_MONTHS;
+
+    private transient Map<YearMonth, CachedMonth> cache;
+    private transient Set<YearMonth> prefetching;
+    private transient Executor prefetchExecutor;
+
+    /**
+     * Creates a provider that caches the metadata of the given provider for
+     * the given time.
+     *
+     * @param delegate
+     *            the provider to cache the metadata of, not {@code null}
+     * @param timeToLive
+     *            how long the metadata of a month is cached, not {@code null}
+     * @throws IllegalArgumentException
+     *             if the time to live is zero or negative
+     */
+    public CachingDateMetadataProvider(DateMetadataProvider delegate,
+            Duration timeToLive) {
+        this(delegate, timeToLive, Clock.systemUTC());
+    }
+
+    CachingDateMetadataProvider(DateMetadataProvider delegate,
+            Duration timeToLive, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate,
+                "Delegate provider cannot be null");
+        this.timeToLive = Objects.requireNonNull(timeToLive,
+                "Time to live cannot be null");
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            throw new IllegalArgumentException(
+                    "Time to live must be positive");
+        }
+        this.clock = clock;
+        initCache();
+    }
+
+    private void initCache() {
+        cache = new ConcurrentHashMap<>();
+        prefetching = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Sets the maximum number of months to cache. When more months are
+     * loaded, expired months are discarded first, and then the months that
+     * expire soonest. The default is {@value #DEFAULT_MAX_CACHED_MONTHS}.
+     *
+     * @param maxCachedMonths
+     *            the maximum number of months to cache
+     * @throws IllegalArgumentException
+     *             if the maximum is zero or negative
+     */
+    public void setMaxCachedMonths(int maxCachedMonths) {
+        if (maxCachedMonths <= 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of cached months must be positive");
+        }
+        this.maxCachedMonths = maxCachedMonths;
+        evict(clock.instant());
+    }
+
+    /**
+     * Gets the maximum number of months to cache.
+     *
+     * @return the maximum number of cached months
+     */
+    public int getMaxCachedMonths() {
+        return maxCachedMonths;
+    }
+
+    /**
+     * Sets the executor used to load the months before and after a requested
+     * range in the background, so that the metadata is already cached when
+     * the user moves to the previous or next month. Prefetching is disabled by
+     * default.
+     *
+     * @param prefetchExecutor
+     *            the executor to load adjacent months with, or {@code null} to
+     *            disable prefetching
+     */
+    public void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Gets the executor used to load adjacent months in the background.
+     *
+     * @return the prefetch executor, or {@code null} if prefetching is
+     *         disabled
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    /**
+     * Discards all cached metadata.
+     */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Discards the cached metadata of the months that the given range
+     * overlaps.
+     *
+     * @param range
+     *            the range of dates to discard the metadata of, not
+     *            {@code null}
+     */
+    public void invalidate(DateRange range) {
+        Objects.requireNonNull(range, "Range cannot be null");
+        YearMonth last = YearMonth.from(range.end());
+        for (YearMonth month = YearMonth.from(range.start()); !month
+                .isAfter(last); month = month.plusMonths(1)) {
+            cache.remove(month);
+        }
+    }
+
+    @Override
+    public Collection<DateMetadata> getDateMetadata(DateRange range) {
+        YearMonth first = YearMonth.from(range.start());
+        YearMonth last = YearMonth.from(range.end());
+        Map<YearMonth, List<DateMetadata>> months = load(first, last);
+
+        List<DateMetadata> result = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month
+                .plusMonths(1)) {
+            for (DateMetadata entry : months.get(month)) {
+                if (!entry.date().isBefore(range.start())
+                        && !entry.date().isAfter(range.end())) {
+                    result.add(entry);
+                }
+            }
+        }
+
+        prefetch(first.minusMonths(1));
+        prefetch(last.plusMonths(1));
+        return result;
+    }
+
+    private Map<YearMonth, List<DateMetadata>> load(YearMonth first,
+            YearMonth last) {
+        Instant now = clock.instant();
+        Map<YearMonth, CachedMonth> months = new HashMap<>();
+        Map<YearMonth, CachedMonth> created = new HashMap<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month
+                .plusMonths(1)) {
+            CachedMonth cached = cache.get(month);
+            if (cached != null && cached.isExpired(now)) {
+                cache.remove(month, cached);
+            }
+            // Only one caller loads a month that is missing, the others wait
+            // for its result
+            CachedMonth newMonth = new CachedMonth(new CompletableFuture<>(),
+                    now.plus(timeToLive));
+            cached = cache.computeIfAbsent(month, key -> newMonth);
+            if (cached == newMonth) {
+                created.put(month, newMonth);
+            }
+            months.put(month, cached);
+        }
+        if (!created.isEmpty()) {
+            fetch(created);
+            evict(now);
+        }
+
+        Map<YearMonth, List<DateMetadata>> result = new HashMap<>();
+        months.forEach((month, cached) -> result.put(month, cached.join()));
+        return result;
+    }
+
+    private void fetch(Map<YearMonth, CachedMonth> months) {
+        // A single query for all missing months, which may include some
+        // months loaded by other callers in between
+        YearMonth first = months.keySet().stream()
+                .min(Comparator.naturalOrder()).orElseThrow();
+        YearMonth last = months.keySet().stream()
+                .max(Comparator.naturalOrder()).orElseThrow();
+        Collection<DateMetadata> metadata;
+        try {
+            metadata = delegate.getDateMetadata(
+                    new DateRange(first.atDay(1), last.atEndOfMonth()));
+        } catch (RuntimeException e) {
+            months.forEach((month, cached) -> {
+                cache.remove(month, cached);
+                cached.metadata().completeExceptionally(e);
+            });
+            throw e;
+        }
+
+        Map<YearMonth, List<DateMetadata>> entries = new HashMap<>();
+        months.keySet()
+                .forEach(month -> entries.put(month, new ArrayList<>()));
+        if (metadata != null) {
+            metadata.stream().filter(Objects::nonNull).forEach(entry -> {
+                List<DateMetadata> monthEntries = entries
+                        .get(YearMonth.from(entry.date()));
+                if (monthEntries != null) {
+                    monthEntries.add(entry);
+                }
+            });
+        }
+        // Months invalidated while loading have been removed from the cache
+        // already, so their possibly outdated metadata is only returned to
+        // the callers waiting for it
+        months.forEach((month, cached) -> cached.metadata()
+                .complete(List.copyOf(entries.get(month))));
+    }
+
+    private void evict(Instant now) {
+        int max = maxCachedMonths;
+        if (cache.size() <= max) {
+            return;
+        }
+        cache.values().removeIf(cached -> cached.isExpired(now));
+        int excess = cache.size() - max;
+        if (excess > 0) {
+            cache.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(
+                            Comparator.comparing(CachedMonth::expiresAt)))
+                    .limit(excess).map(Map.Entry::getKey).toList()
+                    .forEach(cache::remove);
+        }
+    }
+
+    private void prefetch(YearMonth month) {
+        Executor executor = prefetchExecutor;
+        if (executor == null) {
+            return;
+        }
+        CachedMonth cached = cache.get(month);
+        if (cached != null && !cached.isExpired(clock.instant())) {
+            return;
+        }
+        // Many pickers showing the same month should not prefetch the
+        // adjacent months more than once
+        if (!prefetching.add(month)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                load(month, month);
+            } finally {
+                prefetching.remove(month);
+            }
+        });
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initCache();
+    }
+
+    private record CachedMonth(
+            CompletableFuture<List<DateMetadata>> metadata, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        List<DateMetadata> join() {
+            try {
+                return metadata.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
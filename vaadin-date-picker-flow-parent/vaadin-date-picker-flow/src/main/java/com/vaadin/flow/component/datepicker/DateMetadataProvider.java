@@ -40,8 +40,9 @@ import com.vaadin.flow.function.SerializableFunction;
  * Entries can also carry custom CSS part names, so that a theme can style
  * particular dates. See {@link DateMetadata} for the details.
  * <p>
- * Results are cached per month in the browser, but not on the server, so an
- * expensive implementation should cache its own results. Call
+ * Results are cached per month in the browser, but not on the server. Wrap an
+ * expensive implementation in a {@link CachingDateMetadataProvider} to share
+ * its results between picker instances on the server. Call
  * {@link DatePicker#refreshDateMetadata()} when the data behind the callback
  * has changed.
  *
@@ -18,7 +18,9 @@ package com.vaadin.flow.component.datepicker;
 import java.io.Serializable;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -62,6 +64,7 @@ import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.HasValidationProperties;
 import com.vaadin.flow.component.shared.InputField;
 import com.vaadin.flow.component.shared.ValidationUtil;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.component.shared.internal.ValidationController;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.binder.HasValidator;
@@ -180,6 +183,13 @@ public class DatePicker
     private final Set<DayOfWeek> disabledWeekdays = EnumSet
             .noneOf(DayOfWeek.class);
 
+    /*
+     * The web component requests the metadata of the months it shows, so a
+     * longer range can only come from a tampered client. It is rejected, so
+     * that a client cannot make the provider load any number of months.
+     */
+    private static final int MAX_DATE_METADATA_REQUEST_MONTHS = 24;
+
     private DateMetadataProvider dateMetadataProvider;
 
     private StateTree.ExecutionRegistration pendingDateMetadataUpdate;
@@ -744,6 +754,9 @@ public class DatePicker
      *            the last date of the range, as an ISO 8601 date
      * @return the metadata entries for the dates in the range that are disabled
      *         or have custom part names
+     * @throws IllegalArgumentException
+     *             if the range spans more than
+     *             {@value #MAX_DATE_METADATA_REQUEST_MONTHS} months
      */
     @AllowInert
     @ClientCallable(DisabledUpdateMode.ALWAYS)
@@ -755,6 +768,13 @@ public class DatePicker
 
         DateRange range = new DateRange(LocalDate.parse(start),
                 LocalDate.parse(end));
+        long months = ChronoUnit.MONTHS.between(YearMonth.from(range.start()),
+                YearMonth.from(range.end()));
+        if (months >= MAX_DATE_METADATA_REQUEST_MONTHS) {
+            throw new IllegalArgumentException(
+                    "The requested date metadata range spans more than "
+                            + MAX_DATE_METADATA_REQUEST_MONTHS + " months");
+        }
         Collection<DateMetadata> metadata = dateMetadataProvider
                 .getDateMetadata(range);
         if (metadata == null) {
@@ -1037,8 +1057,19 @@ public class DatePicker
 
         // Call update function in connector with locale and I18N settings
         // The connector is expected to handle that either of those can be null
-        getElement().callJsFunction("$connector.updateI18n", languageTag,
-                i18nObject);
+        if (i18nObject == null) {
+            getElement().callJsFunction("$connector.updateI18n", languageTag,
+                    null);
+            return;
+        }
+        // The I18N settings are sent once per UI and shared by all date
+        // pickers that use the same settings
+        getUI().ifPresent(ui -> {
+            String key = SharedI18nRegistry.register(ui, i18nObject);
+            getElement().executeJs("this.$connector.updateI18n($0, "
+                    + SharedI18nRegistry.getJsExpression(1) + ")",
+                    languageTag, key);
+        });
     }
 
     private ObjectNode getI18nAsJsonObject() {
@@ -169,14 +169,13 @@ window.Vaadin.Flow.datepickerConnector.initLazy = (datepicker) => {
   datepicker.$connector.updateI18n = (locale, i18n) => {
     // Either use custom formats specified in I18N, or create format from locale
     const hasCustomFormats = i18n && i18n.dateFormats && i18n.dateFormats.length > 0;
-    if (i18n && i18n.referenceDate) {
-      i18n.referenceDate = extractDateParts(new Date(i18n.referenceDate));
-    }
+    // The I18N object can be shared by several date pickers, so it must not be modified
+    const referenceDate = i18n && i18n.referenceDate ? extractDateParts(new Date(i18n.referenceDate)) : undefined;
     const usedFormats = hasCustomFormats ? i18n.dateFormats : [createLocaleBasedDateFormat(locale)];
     const formatterAndParser = createFormatterAndParser(usedFormats);
 
     // Merge new I18N settings with formatting and parsing functions
-    datepicker.i18n = Object.assign({}, i18n, formatterAndParser);
+    datepicker.i18n = Object.assign({}, i18n, referenceDate && { referenceDate }, formatterAndParser);
   };
 
   // STABLE reference — created once per connector, never reassigned. Assigning a new function
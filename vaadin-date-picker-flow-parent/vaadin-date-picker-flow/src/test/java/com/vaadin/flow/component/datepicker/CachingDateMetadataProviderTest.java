@@ -0,0 +1,360 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.datepicker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingDateMetadataProviderTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final List<DateRange> requestedRanges = new ArrayList<>();
+    private final TestClock clock = new TestClock();
+    private CachingDateMetadataProvider provider;
+
+    @BeforeEach
+    void setup() {
+        // Disables the first day of every month
+        DateMetadataProvider delegate = range -> {
+            requestedRanges.add(range);
+            List<DateMetadata> result = new ArrayList<>();
+            for (LocalDate date = range.start(); !date
+                    .isAfter(range.end()); date = date.plusDays(1)) {
+                if (date.getDayOfMonth() == 1) {
+                    result.add(new DateMetadata(date, true, null));
+                }
+            }
+            return result;
+        };
+        provider = new CachingDateMetadataProvider(delegate, TIME_TO_LIVE,
+                clock);
+    }
+
+    @Test
+    void sameMonthRequestedTwice_delegateCalledOnce() {
+        DateRange january = range("2024-01-01", "2024-01-31");
+        Collection<DateMetadata> first = provider.getDateMetadata(january);
+        Collection<DateMetadata> second = provider.getDateMetadata(january);
+
+        Assertions.assertEquals(List.of(january), requestedRanges);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(
+                List.of(new DateMetadata(date("2024-01-01"), true, null)),
+                List.copyOf(second));
+    }
+
+    @Test
+    void singleDateRequested_wholeMonthLoaded() {
+        provider.getDateMetadata(range("2024-01-15", "2024-01-15"));
+        Collection<DateMetadata> result = provider
+                .getDateMetadata(range("2024-01-01", "2024-01-01"));
+
+        Assertions.assertEquals(List.of(range("2024-01-01", "2024-01-31")),
+                requestedRanges);
+        Assertions.assertEquals(1, result.size());
+    }
+
+    @Test
+    void partialRange_resultLimitedToRange() {
+        Collection<DateMetadata> result = provider
+                .getDateMetadata(range("2024-01-02", "2024-02-28"));
+
+        Assertions.assertEquals(
+                List.of(new DateMetadata(date("2024-02-01"), true, null)),
+                List.copyOf(result));
+    }
+
+    @Test
+    void rangeWithCachedMonths_onlyMissingMonthsLoaded() {
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        requestedRanges.clear();
+
+        Collection<DateMetadata> result = provider
+                .getDateMetadata(range("2024-01-01", "2024-03-31"));
+
+        Assertions.assertEquals(List.of(range("2024-02-01", "2024-03-31")),
+                requestedRanges);
+        Assertions.assertEquals(3, result.size());
+    }
+
+    @Test
+    void sharedByPickers_delegateCalledOnce() {
+        DatePicker first = new DatePicker();
+        first.setDateMetadataProvider(provider);
+        DatePicker second = new DatePicker();
+        second.setDateMetadataProvider(provider);
+
+        Assertions.assertTrue(first.isDateDisabled(date("2024-01-01")));
+        Assertions.assertTrue(second.isDateDisabled(date("2024-01-01")));
+        Assertions.assertFalse(second.isDateDisabled(date("2024-01-02")));
+        Assertions.assertEquals(1, requestedRanges.size());
+    }
+
+    @Test
+    void timeToLiveExpired_monthLoadedAgain() {
+        DateRange january = range("2024-01-01", "2024-01-31");
+        provider.getDateMetadata(january);
+        clock.advance(TIME_TO_LIVE.minusSeconds(1));
+        provider.getDateMetadata(january);
+        Assertions.assertEquals(1, requestedRanges.size());
+
+        clock.advance(Duration.ofSeconds(1));
+        provider.getDateMetadata(january);
+        Assertions.assertEquals(2, requestedRanges.size());
+    }
+
+    @Test
+    void invalidateRange_onlyOverlappingMonthsLoadedAgain() {
+        provider.getDateMetadata(range("2024-01-01", "2024-03-31"));
+        requestedRanges.clear();
+
+        provider.invalidate(range("2024-02-10", "2024-02-10"));
+        provider.getDateMetadata(range("2024-01-01", "2024-03-31"));
+
+        Assertions.assertEquals(List.of(range("2024-02-01", "2024-02-29")),
+                requestedRanges);
+    }
+
+    @Test
+    void invalidate_allMonthsLoadedAgain() {
+        provider.getDateMetadata(range("2024-01-01", "2024-02-29"));
+        requestedRanges.clear();
+
+        provider.invalidate();
+        provider.getDateMetadata(range("2024-01-01", "2024-02-29"));
+
+        Assertions.assertEquals(List.of(range("2024-01-01", "2024-02-29")),
+                requestedRanges);
+    }
+
+    @Test
+    void invalidatedWhileLoading_resultNotCached() {
+        DateMetadataProvider delegate = range -> {
+            requestedRanges.add(range);
+            provider.invalidate();
+            return List.of();
+        };
+        provider = new CachingDateMetadataProvider(delegate, TIME_TO_LIVE,
+                clock);
+
+        DateRange january = range("2024-01-01", "2024-01-31");
+        provider.getDateMetadata(january);
+        provider.getDateMetadata(january);
+
+        Assertions.assertEquals(2, requestedRanges.size());
+    }
+
+    @Test
+    void prefetchExecutor_adjacentMonthsLoaded() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        provider.setPrefetchExecutor(executor);
+        Assertions.assertSame(executor, provider.getPrefetchExecutor());
+
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        // Requesting the same month again does not queue more tasks
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        Assertions.assertEquals(2, tasks.size());
+
+        tasks.forEach(Runnable::run);
+        Assertions.assertEquals(List.of(range("2024-01-01", "2024-01-31"),
+                range("2023-12-01", "2023-12-31"),
+                range("2024-02-01", "2024-02-29")), requestedRanges);
+
+        requestedRanges.clear();
+        provider.setPrefetchExecutor(null);
+        provider.getDateMetadata(range("2024-02-01", "2024-02-29"));
+        Assertions.assertTrue(requestedRanges.isEmpty());
+    }
+
+    @Test
+    void maxCachedMonthsExceeded_monthExpiringSoonestEvicted() {
+        provider.setMaxCachedMonths(2);
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        clock.advance(Duration.ofSeconds(1));
+        provider.getDateMetadata(range("2024-02-01", "2024-02-29"));
+        clock.advance(Duration.ofSeconds(1));
+        provider.getDateMetadata(range("2024-03-01", "2024-03-31"));
+        requestedRanges.clear();
+
+        provider.getDateMetadata(range("2024-03-01", "2024-03-31"));
+        Assertions.assertTrue(requestedRanges.isEmpty());
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        Assertions.assertEquals(List.of(range("2024-01-01", "2024-01-31")),
+                requestedRanges);
+    }
+
+    @Test
+    void maxCachedMonthsExceeded_expiredMonthsEvictedFirst() {
+        provider.setMaxCachedMonths(2);
+        provider.getDateMetadata(range("2024-01-01", "2024-01-31"));
+        clock.advance(TIME_TO_LIVE.minusSeconds(1));
+        provider.getDateMetadata(range("2024-02-01", "2024-02-29"));
+        clock.advance(Duration.ofSeconds(1));
+        provider.getDateMetadata(range("2024-03-01", "2024-03-31"));
+        requestedRanges.clear();
+
+        // January expired, so February is kept although it expires soonest
+        provider.getDateMetadata(range("2024-02-01", "2024-03-31"));
+        Assertions.assertTrue(requestedRanges.isEmpty());
+    }
+
+    @Test
+    void nonPositiveMaxCachedMonths_throws() {
+        Assertions.assertEquals(
+                CachingDateMetadataProvider.DEFAULT_MAX_CACHED_MONTHS,
+                provider.getMaxCachedMonths());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> provider.setMaxCachedMonths(0));
+    }
+
+    @Test
+    void sameMonthRequestedConcurrently_delegateCalledOnce()
+            throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<DateRange> ranges = new ArrayList<>();
+        provider = new CachingDateMetadataProvider(range -> {
+            synchronized (ranges) {
+                ranges.add(range);
+            }
+            loading.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(new DateMetadata(range.start(), true, null));
+        }, TIME_TO_LIVE, clock);
+        DateRange january = range("2024-01-01", "2024-01-31");
+
+        CompletableFuture<Collection<DateMetadata>> first = new CompletableFuture<>();
+        CompletableFuture<Collection<DateMetadata>> second = new CompletableFuture<>();
+        Thread.ofPlatform().start(
+                () -> first.complete(provider.getDateMetadata(january)));
+        Assertions.assertTrue(loading.await(10, TimeUnit.SECONDS));
+        Thread secondThread = Thread.ofPlatform().start(
+                () -> second.complete(provider.getDateMetadata(january)));
+        // Wait until the second caller is blocked, either waiting for the
+        // first one or loading the month itself
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (secondThread.getState() != Thread.State.WAITING
+                && secondThread.getState() != Thread.State.TIMED_WAITING
+                && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        Assertions.assertEquals(1, first.get(10, TimeUnit.SECONDS).size());
+        Assertions.assertEquals(1, second.get(10, TimeUnit.SECONDS).size());
+        Assertions.assertEquals(List.of(january), ranges);
+    }
+
+    @Test
+    void delegateThrows_monthNotCached() {
+        DateRange january = range("2024-01-01", "2024-01-31");
+        provider = new CachingDateMetadataProvider(range -> {
+            requestedRanges.add(range);
+            throw new IllegalStateException("Backend unavailable");
+        }, TIME_TO_LIVE, clock);
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> provider.getDateMetadata(january));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> provider.getDateMetadata(january));
+        Assertions.assertEquals(2, requestedRanges.size());
+    }
+
+    @Test
+    void nonPositiveTimeToLive_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingDateMetadataProvider(range -> List.of(),
+                        Duration.ZERO));
+    }
+
+    @Test
+    void serializeAndDeserialize_cacheUsable() throws Exception {
+        CachingDateMetadataProvider original = new CachingDateMetadataProvider(
+                range -> List.of(new DateMetadata(range.start(), true, null)),
+                TIME_TO_LIVE);
+        original.getDateMetadata(range("2024-01-01", "2024-01-31"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        CachingDateMetadataProvider copy;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (CachingDateMetadataProvider) in.readObject();
+        }
+
+        Assertions.assertEquals(1, copy
+                .getDateMetadata(range("2024-01-01", "2024-01-31")).size());
+    }
+
+    private static DateRange range(String start, String end) {
+        return new DateRange(date(start), date(end));
+    }
+
+    private static LocalDate date(String date) {
+        return LocalDate.parse(date);
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
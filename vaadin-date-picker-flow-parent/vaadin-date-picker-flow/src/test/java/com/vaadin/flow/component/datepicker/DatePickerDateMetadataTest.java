@@ -18,6 +18,7 @@ package com.vaadin.flow.component.datepicker;
 import java.lang.reflect.Method;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -222,6 +223,20 @@ class DatePickerDateMetadataTest {
                 capturedRange.get().end());
     }
 
+    @Test
+    void requestDateMetadata_rangeTooLong_throws() {
+        List<DateRange> ranges = new ArrayList<>();
+        picker.setDateMetadataProvider(range -> {
+            ranges.add(range);
+            return List.of();
+        });
+
+        picker.requestDateMetadata("2023-01-01", "2024-12-31");
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> picker.requestDateMetadata("2023-01-01", "2025-01-01"));
+        Assertions.assertEquals(1, ranges.size());
+    }
+
     @Test
     void requestDateMetadata_returnsIsoDates() {
         picker.setDateMetadataProvider(range -> List
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.datepicker;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.datepicker.DatePicker.DatePickerI18n;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.tests.MockUIExtension;
+
+class DatePickerSharedI18nTest {
+
+    private static final int FORM_SIZE = 60;
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    @Test
+    void sameI18n_sentOncePerUI() {
+        for (int i = 0; i < FORM_SIZE; i++) {
+            DatePicker picker = new DatePicker();
+            picker.setI18n(createI18n());
+            ui.add(picker);
+        }
+
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(1, invocations.stream()
+                .filter(invocation -> invocation.getInvocation()
+                        .getExpression().contains("__sharedI18n ||="))
+                .count());
+        Assertions.assertEquals(FORM_SIZE, invocations.stream()
+                .filter(invocation -> invocation.getInvocation()
+                        .getExpression().contains("updateI18n"))
+                .count());
+    }
+
+    @Test
+    void formWithManyDatePickers_payloadReduced() {
+        for (int i = 0; i < FORM_SIZE; i++) {
+            DatePicker picker = new DatePicker();
+            picker.setI18n(createI18n());
+            ui.add(picker);
+        }
+
+        long sharedPayload = ui.dumpPendingJavaScriptInvocations().stream()
+                .flatMap(invocation -> invocation.getInvocation()
+                        .getParameters().stream())
+                .mapToLong(parameter -> String.valueOf(parameter).length())
+                .sum();
+        // Each date picker used to send its own copy of the i18n object
+        long perComponentPayload = (long) FORM_SIZE
+                * JacksonUtils.beanToJson(createI18n()).toString().length();
+
+        Assertions.assertTrue(sharedPayload * 5 < perComponentPayload,
+                "Expected the shared i18n payload of " + sharedPayload
+                        + " characters to be a fraction of "
+                        + perComponentPayload);
+    }
+
+    @Test
+    void differentI18n_sentSeparately() {
+        DatePicker first = new DatePicker();
+        first.setI18n(createI18n());
+        DatePicker second = new DatePicker();
+        second.setI18n(createI18n().setToday("Heute"));
+        ui.add(first);
+        ui.add(second);
+
+        Assertions.assertEquals(2, ui.dumpPendingJavaScriptInvocations()
+                .stream()
+                .filter(invocation -> invocation.getInvocation()
+                        .getExpression().contains("__sharedI18n ||="))
+                .count());
+    }
+
+    private static DatePickerI18n createI18n() {
+        return new DatePickerI18n()
+                .setMonthNames(List.of("January", "February", "March",
+                        "April", "May", "June", "July", "August",
+                        "September", "October", "November", "December"))
+                .setWeekdays(List.of("Sunday", "Monday", "Tuesday",
+                        "Wednesday", "Thursday", "Friday", "Saturday"))
+                .setWeekdaysShort(List.of("Sun", "Mon", "Tue", "Wed", "Thu",
+                        "Fri", "Sat"))
+                .setFirstDayOfWeek(1).setToday("Today").setCancel("Cancel")
+                .setDateFormats("dd.MM.yyyy", "dd.MM.yy")
+                .setReferenceDate(LocalDate.of(2000, 1, 1))
+                .setBadInputErrorMessage("Invalid date")
+                .setRequiredErrorMessage("Required");
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared;
+
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+import com.vaadin.flow.function.SerializableSupplier;
+
+/**
+ * An immutable resource, such as an icon or an avatar image, that is shared by
+ * all components and sessions of an application. Unlike a
+ * {@link com.vaadin.flow.server.streams.DownloadHandler DownloadHandler}, which
+ * is registered separately for each component that uses it, all components
+ * using equal shared resources reference the same URL. The browser can thus
+ * cache the resource once for the whole application.
+ * <p>
+ * A shared resource is identified either by a hash of its content, see
+ * {@link #fromContent(String, String, byte[])}, or by a logical key, see
+ * {@link #fromKey(String, String, String, SerializableSupplier)}. The content of
+ * a resource must never change, as it is served with long-lived cache headers.
+ * <p>
+ * Shared resources are public: they are served to any client that knows the
+ * URL, without a session or an access check. See
+ * {@link SharedResourceRegistry} for the access model.
+ *
+ * @see SharedResourceRegistry
+ * @since 25.3
+ */
+public final class SharedResource implements Serializable {
+
+    private final String identity;
+    private final String fileName;
+    private final String contentType;
+    private final SerializableSupplier<byte[]> content;
+
+    private SharedResource(String identity, String fileName,
+            String contentType, SerializableSupplier<byte[]> content) {
+        this.identity = identity;
+        this.fileName = Objects.requireNonNull(fileName,
+                "File name cannot be null");
+        this.contentType = Objects.requireNonNull(contentType,
+                "Content type cannot be null");
+        this.content = content;
+    }
+
+    /**
+     * Creates a shared resource that is identified by a hash of its content.
+     * Resources with the same content share the same URL, regardless of their
+     * file names.
+     *
+     * @param fileName
+     *            the file name used in the URL, not {@code null}
+     * @param contentType
+     *            the MIME type of the content, for example
+     *            {@code image/svg+xml}, not {@code null}
+     * @param content
+     *            the content, not {@code null}
+     * @return the shared resource
+     */
+    public static SharedResource fromContent(String fileName,
+            String contentType, byte[] content) {
+        Objects.requireNonNull(content, "Content cannot be null");
+        byte[] copy = content.clone();
+        return new SharedResource("c" + hash(copy), fileName, contentType,
+                () -> copy);
+    }
+
+    /**
+     * Creates a shared resource that is identified by a logical key, for
+     * example the ID of a user for an avatar image. The content is loaded with
+     * the given supplier only when the resource is requested by a browser for
+     * the first time, and it is loaded only once while the resource is in use.
+     * <p>
+     * The content for a key must never change. If the content can change,
+     * include a version in the key, for example {@code "avatar:42:v3"}.
+     * <p>
+     * The key is not included in the URL of the resource. The URL contains an
+     * HMAC of the key with a secret of the application, so that it cannot be
+     * derived from the key by other clients.
+     *
+     * @param key
+     *            the logical key of the resource, not {@code null}
+     * @param fileName
+     *            the file name used in the URL, not {@code null}
+     * @param contentType
+     *            the MIME type of the content, not {@code null}
+     * @param content
+     *            the supplier of the content, not {@code null}
+     * @return the shared resource
+     */
+    public static SharedResource fromKey(String key, String fileName,
+            String contentType, SerializableSupplier<byte[]> content) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(content, "Content supplier cannot be null");
+        return new SharedResource("k" + key, fileName, contentType,
+                content);
+    }
+
+    /**
+     * Gets the file name of this resource.
+     *
+     * @return the file name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Gets the MIME type of this resource.
+     *
+     * @return the MIME type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets the URL of this resource in the current application, relative to
+     * the application root.
+     *
+     * @return the URL of this resource
+     * @throws IllegalStateException
+     *             if there is no current service
+     * @see SharedResourceRegistry#getUrl(SharedResource)
+     */
+    public String getUrl() {
+        return SharedResourceRegistry.getCurrent().getUrl(this);
+    }
+
+    /**
+     * Gets the value that identifies this resource regardless of the
+     * application, which is the hash of the content or the logical key.
+     *
+     * @return the identity of this resource
+     */
+    String getIdentity() {
+        return identity;
+    }
+
+    byte[] loadContent() {
+        return Objects.requireNonNull(content.get(),
+                "Shared resource content cannot be null");
+    }
+
+    static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(bytes);
+            // 128 bits are plenty to avoid collisions in practice
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof SharedResource other
+                && identity.equals(other.identity);
+    }
+
+    @Override
+    public int hashCode() {
+        return identity.hashCode();
+    }
+}
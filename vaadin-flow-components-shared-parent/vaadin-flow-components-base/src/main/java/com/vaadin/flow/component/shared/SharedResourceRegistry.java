@@ -0,0 +1,409 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.server.HttpStatusCode;
+import com.vaadin.flow.server.RequestHandler;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Application-wide registry of {@link SharedResource}s. Each distinct resource
+ * is registered only once, regardless of how many components and sessions use
+ * it, and it is served from a single immutable URL with an {@code ETag} and
+ * long-lived cache headers. Nothing is stored in the session.
+ * <p>
+ * Registrations are reference counted: a resource is served as long as at
+ * least one registration for it has not been removed. Components typically
+ * use {@link #bind(Component, String, SharedResource)}, which keeps the
+ * resource registered while the component is attached.
+ * <p>
+ * The registry handles the requests to the resource URLs as a
+ * {@link RequestHandler}, which is added to the service automatically.
+ * <h2>Access model</h2>
+ * Shared resources are public. A registered resource is served to any client
+ * that requests its URL, without a session and without an access check, and
+ * the response may be stored by shared caches. Only use shared resources for
+ * content that every user of the application is allowed to see, and use a
+ * {@link com.vaadin.flow.server.streams.DownloadHandler DownloadHandler} for
+ * content that must be restricted.
+ * <p>
+ * The URL of a resource contains an HMAC of the content hash or logical key of
+ * the resource, computed with a secret of the application. The URL thus cannot
+ * be derived from a key, such as a user ID, and it is only known to the
+ * clients it has been sent to. The secret is generated randomly when the
+ * application starts, unless it is set with the {@value #SECRET_PROPERTY}
+ * configuration property. Set the property to the same value on all nodes of a
+ * cluster, so that the URLs are the same on all nodes, and keep it secret.
+ *
+ * @since 25.3
+ */
+public final class SharedResourceRegistry implements RequestHandler {
+
+    static final String PATH_PREFIX = "VAADIN/dynamic/shared-resource/";
+
+    /**
+     * The configuration property for the secret used to compute the URLs of
+     * shared resources.
+     */
+    public static final String SECRET_PROPERTY = "sharedResourceSecret";
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final byte[] secret;
+
+    SharedResourceRegistry() {
+        this(createSecret());
+    }
+
+    SharedResourceRegistry(byte[] secret) {
+        this.secret = secret.clone();
+    }
+
+    private static byte[] createSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private static SharedResourceRegistry create(VaadinService service) {
+        String secret = service.getDeploymentConfiguration()
+                .getStringProperty(SECRET_PROPERTY, null);
+        if (secret == null || secret.isBlank()) {
+            return new SharedResourceRegistry();
+        }
+        return new SharedResourceRegistry(
+                secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the registry of the application of the given service.
+     *
+     * @param service
+     *            the service of the application, not {@code null}
+     * @return the registry, not {@code null}
+     */
+    public static SharedResourceRegistry get(VaadinService service) {
+        Objects.requireNonNull(service, "Service cannot be null");
+        return service.getContext().getAttribute(
+                SharedResourceRegistry.class, () -> create(service));
+    }
+
+    /**
+     * Gets the registry of the current application.
+     *
+     * @return the registry, not {@code null}
+     * @throws IllegalStateException
+     *             if there is no current service
+     */
+    public static SharedResourceRegistry getCurrent() {
+        VaadinService service = VaadinService.getCurrent();
+        if (service == null) {
+            throw new IllegalStateException(
+                    "No VaadinService available for the shared resource registry");
+        }
+        return get(service);
+    }
+
+    /**
+     * Gets the URL of the given resource in this application, relative to the
+     * application root.
+     *
+     * @param resource
+     *            the resource, not {@code null}
+     * @return the URL of the resource
+     */
+    public String getUrl(SharedResource resource) {
+        Objects.requireNonNull(resource, "Resource cannot be null");
+        return PATH_PREFIX + getId(resource) + "/"
+                + URLEncoder.encode(resource.getFileName(),
+                        StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Gets the identifier of the given resource in the URL, which is an HMAC
+     * of the identity of the resource with the secret of this registry.
+     *
+     * @param resource
+     *            the resource
+     * @return the identifier
+     */
+    String getId(SharedResource resource) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+            byte[] digest = mac.doFinal(resource.getIdentity()
+                    .getBytes(StandardCharsets.UTF_8));
+            // 128 bits are plenty to avoid collisions and guessing
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(
+                    HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Registers the given resource, or increments the reference count of an
+     * equal resource that is already registered.
+     *
+     * @param resource
+     *            the resource to register, not {@code null}
+     * @return a registration for removing this reference to the resource
+     */
+    public Registration register(SharedResource resource) {
+        Objects.requireNonNull(resource, "Resource cannot be null");
+        entries.compute(getId(resource), (id, entry) -> {
+            Entry result = entry != null ? entry : new Entry(resource);
+            result.references++;
+            return result;
+        });
+        return new Registration() {
+            private boolean removed;
+
+            @Override
+            public void remove() {
+                if (!removed) {
+                    removed = true;
+                    release(resource);
+                }
+            }
+        };
+    }
+
+    private void release(SharedResource resource) {
+        entries.computeIfPresent(getId(resource),
+                (id, entry) -> --entry.references > 0 ? entry : null);
+    }
+
+    /**
+     * Gets whether the given resource is currently registered.
+     *
+     * @param resource
+     *            the resource to check, not {@code null}
+     * @return {@code true} if the resource is registered, {@code false}
+     *         otherwise
+     */
+    public boolean isRegistered(SharedResource resource) {
+        return entries.containsKey(getId(resource));
+    }
+
+    /**
+     * Gets the number of distinct resources that are currently registered.
+     *
+     * @return the number of registered resources
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the URL of the given resource in the application of the given
+     * component, or of the current application if the component is not
+     * attached.
+     *
+     * @param component
+     *            the component using the resource, not {@code null}
+     * @param resource
+     *            the resource, not {@code null}
+     * @return the URL of the resource, or {@code null} if the component is not
+     *         attached and there is no current service
+     */
+    public static String resolveUrl(Component component,
+            SharedResource resource) {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(resource, "Resource cannot be null");
+        VaadinService service = component.getUI()
+                .map(ui -> ui.getSession().getService())
+                .orElseGet(VaadinService::getCurrent);
+        return service == null ? null : get(service).getUrl(resource);
+    }
+
+    /**
+     * Sets the URL of the given resource to an attribute of the component
+     * element, and keeps the resource registered in the registry of the
+     * application while the component is attached.
+     * <p>
+     * The URL depends on the application, so it is set when the component is
+     * attached. It is set right away if the component is already attached or
+     * there is a current service, and otherwise the attribute is removed until
+     * then.
+     *
+     * @param component
+     *            the component using the resource, not {@code null}
+     * @param attribute
+     *            the name of the attribute to set the URL to, not
+     *            {@code null}
+     * @param resource
+     *            the resource, not {@code null}
+     * @return a registration for unbinding the resource from the component,
+     *         which does not remove the attribute
+     */
+    public static Registration bind(Component component, String attribute,
+            SharedResource resource) {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(attribute, "Attribute cannot be null");
+        Objects.requireNonNull(resource, "Resource cannot be null");
+        String url = resolveUrl(component, resource);
+        if (url != null) {
+            component.getElement().setAttribute(attribute, url);
+        } else {
+            component.getElement().removeAttribute(attribute);
+        }
+        return retain(component, new Binding(resource, component, attribute));
+    }
+
+    /**
+     * Keeps the given resource registered in the registry of the application
+     * while the component is attached. Use this method when the URL of the
+     * resource is passed to the client in some other way than as an attribute,
+     * for example as a part of a JSON property.
+     *
+     * @param component
+     *            the component using the resource, not {@code null}
+     * @param resource
+     *            the resource, not {@code null}
+     * @return a registration for releasing the resource
+     * @see #resolveUrl(Component, SharedResource)
+     */
+    public static Registration retain(Component component,
+            SharedResource resource) {
+        Objects.requireNonNull(component, "Component cannot be null");
+        Objects.requireNonNull(resource, "Resource cannot be null");
+        return retain(component, new Binding(resource, null, null));
+    }
+
+    private static Registration retain(Component component, Binding binding) {
+        Registration attachRegistration = component.addAttachListener(
+                event -> binding.acquire(event.getSession().getService()));
+        Registration detachRegistration = component
+                .addDetachListener(event -> binding.release());
+        component.getUI().ifPresent(
+                ui -> binding.acquire(ui.getSession().getService()));
+        return () -> {
+            attachRegistration.remove();
+            detachRegistration.remove();
+            binding.release();
+        };
+    }
+
+    @Override
+    public boolean handleRequest(VaadinSession session, VaadinRequest request,
+            VaadinResponse response) throws IOException {
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null || !pathInfo.startsWith("/" + PATH_PREFIX)) {
+            return false;
+        }
+        String path = pathInfo.substring(PATH_PREFIX.length() + 1);
+        int separator = path.indexOf('/');
+        String id = separator < 0 ? path : path.substring(0, separator);
+
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            response.sendError(HttpStatusCode.NOT_FOUND.getCode(),
+                    "Resource is not available");
+            return true;
+        }
+        byte[] content = entry.getContent();
+        String etag = '"' + entry.getETag() + '"';
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control", CACHE_CONTROL);
+        if (etag.equals(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpStatusCode.NOT_MODIFIED.getCode());
+            return true;
+        }
+        response.setContentType(entry.resource.getContentType());
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+        return true;
+    }
+
+    private static class Entry implements Serializable {
+        private final SharedResource resource;
+        private int references;
+        private byte[] content;
+        private String etag;
+
+        private Entry(SharedResource resource) {
+            this.resource = resource;
+        }
+
+        private synchronized byte[] getContent() {
+            if (content == null) {
+                content = resource.loadContent();
+                etag = SharedResource.hash(content);
+            }
+            return content;
+        }
+
+        private synchronized String getETag() {
+            getContent();
+            return etag;
+        }
+    }
+
+    private static class Binding implements Serializable {
+        private final SharedResource resource;
+        private final Component component;
+        private final String attribute;
+        private Registration registration;
+
+        private Binding(SharedResource resource, Component component,
+                String attribute) {
+            this.resource = resource;
+            this.component = component;
+            this.attribute = attribute;
+        }
+
+        private void acquire(VaadinService service) {
+            SharedResourceRegistry registry = get(service);
+            if (registration == null) {
+                registration = registry.register(resource);
+            }
+            if (attribute != null) {
+                component.getElement().setAttribute(attribute,
+                        registry.getUrl(resource));
+            }
+        }
+
+        private void release() {
+            if (registration != null) {
+                registration.remove();
+                registration = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Set;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.StateTree;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Sends i18n objects to the browser at most once per UI. Each distinct i18n
+ * object is identified by a hash of its JSON content and stored in a client
+ * side dictionary, and components refer to it by that key instead of each
+ * component sending its own copy. This reduces the payload of views with many
+ * components using the same i18n settings, such as forms with a large number
+ * of date pickers.
+ * <p>
+ * The i18n value is applied with a JavaScript invocation instead of as an
+ * element property, so it is not available through
+ * {@link com.vaadin.flow.dom.Element#getProperty(String)} on the server.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @since 25.3
+ */
+public final class SharedI18nRegistry {
+
+    private static final String DICTIONARY = "window.Vaadin.__sharedI18n";
+
+    private SharedI18nRegistry() {
+    }
+
+    /**
+     * Sets the {@code i18n} property of the given component to the given
+     * value through the shared dictionary of the component's UI. The value is
+     * re-applied whenever the component is attached, because the property is
+     * not part of the element state.
+     *
+     * @param component
+     *            the component to set the property for, not {@code null}
+     * @param i18n
+     *            the i18n object, or {@code null} to clear the property
+     */
+    public static void setI18nProperty(Component component, JsonNode i18n) {
+        Objects.requireNonNull(component, "Component must not be null");
+        PropertyState state = ComponentUtil.getData(component,
+                PropertyState.class);
+        if (state == null) {
+            PropertyState newState = new PropertyState();
+            ComponentUtil.setData(component, PropertyState.class, newState);
+            component.addAttachListener(
+                    event -> newState.schedule(component));
+            state = newState;
+        }
+        state.i18n = i18n == null || i18n.isNull() ? null : i18n;
+        state.schedule(component);
+    }
+
+    /**
+     * Makes sure that the given i18n object is available in the client side
+     * dictionary of the given UI, and returns its key. The object is only
+     * sent if it has not been sent to the UI before. Use
+     * {@link #getJsExpression(int)} to refer to the object in a JavaScript
+     * invocation that is executed after this method has been called.
+     *
+     * @param ui
+     *            the UI to send the object to, not {@code null}
+     * @param i18n
+     *            the i18n object, not {@code null}
+     * @return the key of the object in the dictionary
+     */
+    public static String register(UI ui, JsonNode i18n) {
+        Objects.requireNonNull(ui, "UI must not be null");
+        Objects.requireNonNull(i18n, "I18n object must not be null");
+        String key = createKey(i18n);
+        SentKeys sentKeys = ComponentUtil.getData(ui, SentKeys.class);
+        if (sentKeys == null) {
+            sentKeys = new SentKeys();
+            ComponentUtil.setData(ui, SentKeys.class, sentKeys);
+        }
+        if (sentKeys.keys.add(key)) {
+            ui.getElement().executeJs(
+                    "(window.Vaadin.__sharedI18n ||= {})[$0] = $1", key, i18n);
+        }
+        return key;
+    }
+
+    /**
+     * Gets a JavaScript expression that looks up an i18n object from the
+     * client side dictionary, with the key passed as the parameter with the
+     * given index. The returned object is shared, so it must not be modified.
+     *
+     * @param parameterIndex
+     *            the index of the parameter holding the key
+     * @return the JavaScript expression
+     */
+    public static String getJsExpression(int parameterIndex) {
+        return DICTIONARY + "[$" + parameterIndex + "]";
+    }
+
+    static String createKey(JsonNode i18n) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(i18n.toString().getBytes(StandardCharsets.UTF_8));
+            // 64 bits are enough to tell apart the i18n objects of one UI
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class PropertyState implements Serializable {
+        private JsonNode i18n;
+        private StateTree.ExecutionRegistration pendingUpdate;
+
+        private void schedule(Component component) {
+            component.getUI().ifPresent(ui -> {
+                if (pendingUpdate != null) {
+                    pendingUpdate.remove();
+                }
+                pendingUpdate = ui.beforeClientResponse(component,
+                        context -> {
+                            pendingUpdate = null;
+                            apply(ui, component);
+                        });
+            });
+        }
+
+        private void apply(UI ui, Component component) {
+            if (i18n == null) {
+                component.getElement().executeJs("this.i18n = null");
+                return;
+            }
+            String key = register(ui, i18n);
+            // Each component gets its own copy, as components may modify
+            // the object they are given
+            component.getElement().executeJs(
+                    "this.i18n = structuredClone(" + getJsExpression(0) + ")",
+                    key);
+        }
+    }
+
+    private static final class SentKeys implements Serializable {
+        private final Set<String> keys = new HashSet<>();
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.tests.MockUIExtension;
+
+class SharedResourceRegistryTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private SharedResourceRegistry registry;
+
+    @Tag("img")
+    private static class TestComponent extends Component {
+    }
+
+    @BeforeEach
+    void setup() {
+        registry = new SharedResourceRegistry();
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Mockito.when(context.getAttribute(
+                ArgumentMatchers.eq(SharedResourceRegistry.class),
+                ArgumentMatchers.any())).thenReturn(registry);
+        Mockito.when(ui.getService().getContext()).thenReturn(context);
+        VaadinService.setCurrent(ui.getService());
+    }
+
+    @AfterEach
+    void tearDown() {
+        VaadinService.setCurrent(null);
+    }
+
+    @Test
+    void fromContent_sameContent_sameUrl() {
+        var first = SharedResource.fromContent("a.svg", "image/svg+xml",
+                bytes("<svg/>"));
+        var second = SharedResource.fromContent("a.svg", "image/svg+xml",
+                bytes("<svg/>"));
+        var other = SharedResource.fromContent("a.svg", "image/svg+xml",
+                bytes("<svg></svg>"));
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.getUrl(), second.getUrl());
+        Assertions.assertNotEquals(first.getUrl(), other.getUrl());
+        Assertions.assertTrue(first.getUrl().startsWith(
+                SharedResourceRegistry.PATH_PREFIX + registry.getId(first)
+                        + "/"));
+    }
+
+    @Test
+    void fromKey_urlDoesNotContainKeyOrItsHash() {
+        var key = "avatar:1";
+        var resource = SharedResource.fromKey(key, "a.png", "image/png",
+                () -> bytes("png"));
+
+        Assertions.assertFalse(resource.getUrl().contains(key));
+        Assertions.assertFalse(resource.getUrl().contains(
+                SharedResource.hash(bytes(key))));
+        Assertions.assertEquals(resource.getUrl(), registry.getUrl(
+                SharedResource.fromKey(key, "a.png", "image/png", () -> null)));
+    }
+
+    @Test
+    void differentSecrets_differentUrls() {
+        var resource = SharedResource.fromKey("avatar:1", "a.png",
+                "image/png", () -> bytes("png"));
+        var first = new SharedResourceRegistry(bytes("first secret"));
+        var second = new SharedResourceRegistry(bytes("second secret"));
+
+        Assertions.assertNotEquals(first.getUrl(resource),
+                second.getUrl(resource));
+        Assertions.assertEquals(first.getUrl(resource),
+                new SharedResourceRegistry(bytes("first secret"))
+                        .getUrl(resource));
+        Assertions.assertNotEquals(registry.getUrl(resource),
+                new SharedResourceRegistry().getUrl(resource));
+    }
+
+    @Test
+    void get_secretFromConfiguration_sameUrlsOnAllNodes() {
+        Mockito.when(ui.getService().getDeploymentConfiguration()
+                .getStringProperty(SharedResourceRegistry.SECRET_PROPERTY,
+                        null))
+                .thenReturn("cluster secret");
+        var resource = SharedResource.fromKey("avatar:1", "a.png",
+                "image/png", () -> bytes("png"));
+
+        var firstNode = createRegistryOfNewApplication();
+        var secondNode = createRegistryOfNewApplication();
+
+        Assertions.assertEquals(firstNode.getUrl(resource),
+                secondNode.getUrl(resource));
+        Assertions.assertEquals(
+                new SharedResourceRegistry(bytes("cluster secret"))
+                        .getUrl(resource),
+                firstNode.getUrl(resource));
+    }
+
+    @Test
+    void handleRequest_unknownId_notFound() throws IOException {
+        var resource = resource("a");
+        registry.register(resource);
+        var url = new SharedResourceRegistry().getUrl(resource);
+
+        var response = handle(url, null);
+
+        Mockito.verify(response.mock).sendError(
+                ArgumentMatchers.eq(404), ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void fromKey_contentNotLoadedUntilRequested() throws IOException {
+        var loads = new AtomicInteger();
+        var resource = SharedResource.fromKey("avatar:1", "a.png",
+                "image/png", () -> {
+                    loads.incrementAndGet();
+                    return bytes("png");
+                });
+        registry.register(resource);
+        Assertions.assertEquals(0, loads.get());
+
+        handle(resource.getUrl(), null);
+        handle(resource.getUrl(), null);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    void register_sameResourceTwice_registeredOnce() {
+        var first = registry.register(resource("a"));
+        var second = registry.register(resource("a"));
+        Assertions.assertEquals(1, registry.size());
+
+        first.remove();
+        Assertions.assertTrue(registry.isRegistered(resource("a")));
+
+        second.remove();
+        Assertions.assertFalse(registry.isRegistered(resource("a")));
+    }
+
+    @Test
+    void register_removeTwice_releasedOnce() {
+        var first = registry.register(resource("a"));
+        registry.register(resource("a"));
+
+        first.remove();
+        first.remove();
+        Assertions.assertTrue(registry.isRegistered(resource("a")));
+    }
+
+    @Test
+    void handleRequest_servesContentWithCacheHeaders() throws IOException {
+        var resource = resource("content");
+        registry.register(resource);
+
+        var response = handle(resource.getUrl(), null);
+
+        Mockito.verify(response.mock).setContentType("text/plain");
+        Mockito.verify(response.mock).setHeader(
+                ArgumentMatchers.eq("Cache-Control"),
+                ArgumentMatchers.contains("immutable"));
+        Mockito.verify(response.mock).setHeader(ArgumentMatchers.eq("ETag"),
+                ArgumentMatchers.anyString());
+        Assertions.assertEquals("content",
+                response.output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void handleRequest_matchingETag_notModified() throws IOException {
+        var resource = resource("content");
+        registry.register(resource);
+        var etag = '"' + SharedResource.hash(bytes("content")) + '"';
+
+        var response = handle(resource.getUrl(), etag);
+
+        Mockito.verify(response.mock).setStatus(304);
+        Assertions.assertEquals(0, response.output.size());
+    }
+
+    @Test
+    void handleRequest_notRegistered_notFound() throws IOException {
+        var response = handle(resource("a").getUrl(), null);
+
+        Mockito.verify(response.mock).sendError(
+                ArgumentMatchers.eq(404), ArgumentMatchers.anyString());
+    }
+
+    @Test
+    void handleRequest_otherPath_notHandled() throws IOException {
+        var request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getPathInfo()).thenReturn("/VAADIN/other");
+
+        Assertions.assertFalse(registry.handleRequest(ui.getSession(),
+                request, Mockito.mock(VaadinResponse.class)));
+    }
+
+    @Test
+    void bind_attributeSet_registeredWhileAttached() {
+        var resource = resource("a");
+        var first = new TestComponent();
+        var second = new TestComponent();
+        SharedResourceRegistry.bind(first, "src", resource);
+        SharedResourceRegistry.bind(second, "src", resource);
+
+        Assertions.assertEquals(resource.getUrl(),
+                first.getElement().getAttribute("src"));
+        Assertions.assertFalse(registry.isRegistered(resource));
+
+        ui.add(first);
+        ui.add(second);
+        Assertions.assertEquals(1, registry.size());
+
+        ui.remove(first);
+        Assertions.assertTrue(registry.isRegistered(resource));
+
+        ui.remove(second);
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void bind_attached_removeRegistration_released() {
+        var resource = resource("a");
+        var component = new TestComponent();
+        ui.add(component);
+
+        Registration registration = SharedResourceRegistry.bind(component,
+                "src", resource);
+        Assertions.assertTrue(registry.isRegistered(resource));
+
+        registration.remove();
+        Assertions.assertFalse(registry.isRegistered(resource));
+
+        ui.remove(component);
+        ui.add(component);
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void bind_noCurrentService_urlSetOnAttach() {
+        var resource = resource("a");
+        var component = new TestComponent();
+        component.getElement().setAttribute("src", "previous.png");
+        VaadinService.setCurrent(null);
+
+        SharedResourceRegistry.bind(component, "src", resource);
+        Assertions.assertNull(component.getElement().getAttribute("src"));
+
+        ui.add(component);
+        Assertions.assertEquals(registry.getUrl(resource),
+                component.getElement().getAttribute("src"));
+        Assertions.assertTrue(registry.isRegistered(resource));
+    }
+
+    @Test
+    void resolveUrl_noCurrentService_resolvedWhenAttached() {
+        var resource = resource("a");
+        var component = new TestComponent();
+        VaadinService.setCurrent(null);
+
+        Assertions.assertNull(
+                SharedResourceRegistry.resolveUrl(component, resource));
+
+        ui.add(component);
+        Assertions.assertEquals(registry.getUrl(resource),
+                SharedResourceRegistry.resolveUrl(component, resource));
+    }
+
+    private SharedResourceRegistry createRegistryOfNewApplication() {
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Mockito.when(context.getAttribute(
+                ArgumentMatchers.eq(SharedResourceRegistry.class),
+                ArgumentMatchers.any()))
+                .thenAnswer(invocation -> invocation
+                        .<Supplier<SharedResourceRegistry>> getArgument(1)
+                        .get());
+        Mockito.when(ui.getService().getContext()).thenReturn(context);
+        return SharedResourceRegistry.get(ui.getService());
+    }
+
+    private MockResponse handle(String url, String ifNoneMatch)
+            throws IOException {
+        var request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getPathInfo()).thenReturn("/" + url);
+        Mockito.when(request.getHeader("If-None-Match"))
+                .thenReturn(ifNoneMatch);
+        var response = new MockResponse();
+        Assertions.assertTrue(registry.handleRequest(ui.getSession(), request,
+                response.mock));
+        return response;
+    }
+
+    private static SharedResource resource(String content) {
+        return SharedResource.fromContent("file.txt", "text/plain",
+                bytes(content));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class MockResponse {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private final VaadinResponse mock = Mockito.mock(VaadinResponse.class);
+
+        private MockResponse() throws IOException {
+            Mockito.when(mock.getOutputStream())
+                    .thenReturn(new ServletOutputStream() {
+                        @Override
+                        public void write(int b) {
+                            output.write(b);
+                        }
+
+                        @Override
+                        public boolean isReady() {
+                            return true;
+                        }
+
+                        @Override
+                        public void setWriteListener(WriteListener listener) {
+                        }
+                    });
+        }
+    }
+}
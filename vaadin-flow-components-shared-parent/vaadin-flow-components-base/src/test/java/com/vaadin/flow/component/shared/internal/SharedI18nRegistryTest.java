@@ -0,0 +1,146 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.shared.internal;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.node.ObjectNode;
+
+class SharedI18nRegistryTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    @Tag("test-component")
+    private static class TestComponent extends Component {
+    }
+
+    @Test
+    void setI18nProperty_manyComponents_dictionaryEntrySentOnce() {
+        for (int i = 0; i < 3; i++) {
+            TestComponent component = new TestComponent();
+            ui.add(component);
+            SharedI18nRegistry.setI18nProperty(component, createI18n("a"));
+        }
+
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(1, getDictionaryInvocations(invocations));
+        Assertions.assertEquals(3, getPropertyInvocations(invocations));
+    }
+
+    @Test
+    void setI18nProperty_differentObjects_differentKeys() {
+        TestComponent first = new TestComponent();
+        TestComponent second = new TestComponent();
+        ui.add(first);
+        ui.add(second);
+        SharedI18nRegistry.setI18nProperty(first, createI18n("a"));
+        SharedI18nRegistry.setI18nProperty(second, createI18n("b"));
+
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(2, getDictionaryInvocations(invocations));
+        Assertions.assertNotEquals(
+                SharedI18nRegistry.createKey(createI18n("a")),
+                SharedI18nRegistry.createKey(createI18n("b")));
+    }
+
+    @Test
+    void setI18nProperty_setMultipleTimes_appliedOnce() {
+        TestComponent component = new TestComponent();
+        ui.add(component);
+        SharedI18nRegistry.setI18nProperty(component, createI18n("a"));
+        SharedI18nRegistry.setI18nProperty(component, createI18n("b"));
+
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(1, getDictionaryInvocations(invocations));
+        Assertions.assertEquals(1, getPropertyInvocations(invocations));
+    }
+
+    @Test
+    void setI18nProperty_detached_appliedOnAttach() {
+        TestComponent component = new TestComponent();
+        SharedI18nRegistry.setI18nProperty(component, createI18n("a"));
+        Assertions.assertEquals(0,
+                ui.dumpPendingJavaScriptInvocations().size());
+
+        ui.add(component);
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(1, getDictionaryInvocations(invocations));
+        Assertions.assertEquals(1, getPropertyInvocations(invocations));
+    }
+
+    @Test
+    void setI18nProperty_reattached_propertyAppliedAgain() {
+        TestComponent component = new TestComponent();
+        ui.add(component);
+        SharedI18nRegistry.setI18nProperty(component, createI18n("a"));
+        ui.dumpPendingJavaScriptInvocations();
+
+        ui.remove(component);
+        ui.add(component);
+        List<PendingJavaScriptInvocation> invocations = ui
+                .dumpPendingJavaScriptInvocations();
+        Assertions.assertEquals(0, getDictionaryInvocations(invocations));
+        Assertions.assertEquals(1, getPropertyInvocations(invocations));
+    }
+
+    @Test
+    void register_newUI_dictionaryEntrySentAgain() {
+        SharedI18nRegistry.register(ui.getUI(), createI18n("a"));
+        SharedI18nRegistry.register(ui.getUI(), createI18n("a"));
+        Assertions.assertEquals(1, getDictionaryInvocations(
+                ui.dumpPendingJavaScriptInvocations()));
+
+        ui.replaceUI();
+        SharedI18nRegistry.register(ui.getUI(), createI18n("a"));
+        Assertions.assertEquals(1, getDictionaryInvocations(
+                ui.dumpPendingJavaScriptInvocations()));
+    }
+
+    private static ObjectNode createI18n(String value) {
+        ObjectNode i18n = JacksonUtils.createObjectNode();
+        i18n.put("label", value);
+        return i18n;
+    }
+
+    private static long getDictionaryInvocations(
+            List<PendingJavaScriptInvocation> invocations) {
+        return invocations.stream().filter(invocation -> invocation
+                .getInvocation().getExpression().contains("__sharedI18n ||="))
+                .count();
+    }
+
+    private static long getPropertyInvocations(
+            List<PendingJavaScriptInvocation> invocations) {
+        return invocations.stream().filter(invocation -> invocation
+                .getInvocation().getExpression().contains("this.i18n ="))
+                .count();
+    }
+}
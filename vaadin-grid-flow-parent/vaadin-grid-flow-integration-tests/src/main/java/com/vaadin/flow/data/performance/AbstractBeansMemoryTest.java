@@ -132,8 +132,19 @@ public abstract class AbstractBeansMemoryTest<T extends Component> extends Div
             setBackendContainer(component, persons);
         }
 
-        memoryMessage.setText(String
-                .valueOf(GraphLayout.parseInstance(component).totalSize()));
+        memoryMessage.setText(String.valueOf(getMemoryUsage(component)));
+    }
+
+    /**
+     * Gets the memory used by the component, in bytes. By default, this is the
+     * size of the whole object graph reachable from the component.
+     *
+     * @param component
+     *            the component to measure
+     * @return the memory usage in bytes
+     */
+    protected long getMemoryUsage(T component) {
+        return GraphLayout.parseInstance(component).totalSize();
     }
 
     private void createMenu(T component) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.performance;
+
+import java.util.stream.IntStream;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.NativeButton;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.HasUrlParameter;
+import com.vaadin.flow.router.OptionalParameter;
+import com.vaadin.flow.router.Route;
+
+/**
+ * Measures the cost of rendering components while scrolling through a grid
+ * with a {@link ComponentRenderer} column, with or without component
+ * recycling. Add {@code recycle} to the URL parameter to enable recycling.
+ * The number of created components and the recycle hit rate are shown when
+ * the statistics button is clicked.
+ */
+@Route("vaadin-grid/" + ComponentRendererRecycling.PATH)
+public class ComponentRendererRecycling extends Div
+        implements HasUrlParameter<String> {
+
+    public static final String PATH = "component-renderer-recycling";
+
+    public static final int ITEM_COUNT = 1000;
+
+    private int createdCount;
+
+    @Override
+    public void setParameter(BeforeEvent event,
+            @OptionalParameter String parameter) {
+        removeAll();
+        createdCount = 0;
+
+        ComponentRenderer<Span, Integer> renderer = new ComponentRenderer<>(
+                () -> {
+                    createdCount++;
+                    return new Span();
+                }, (span, item) -> span.setText("Item " + item));
+        if (parameter != null && parameter.contains("recycle")) {
+            renderer.setRecyclePoolSize(150);
+        }
+
+        Grid<Integer> grid = new Grid<>();
+        grid.addColumn(renderer).setHeader("Component");
+        grid.setItems(DataProvider.fromCallbacks(
+                query -> IntStream
+                        .range(query.getOffset(),
+                                query.getOffset() + query.getLimit())
+                        .boxed(),
+                query -> ITEM_COUNT));
+
+        Span created = new Span();
+        created.setId("created");
+        Span hitRate = new Span();
+        hitRate.setId("hit-rate");
+        NativeButton statistics = new NativeButton("Show statistics", e -> {
+            created.setText(String.valueOf(createdCount));
+            hitRate.setText(String.valueOf(renderer.getRecycleHitRate()));
+        });
+        statistics.setId("statistics");
+
+        add(grid, statistics, created, hitRate);
+    }
+}
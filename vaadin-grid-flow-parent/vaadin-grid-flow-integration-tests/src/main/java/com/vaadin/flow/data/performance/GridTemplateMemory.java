@@ -0,0 +1,123 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.performance;
+
+import java.util.List;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.grid.GridTemplate;
+import com.vaadin.flow.data.bean.Person;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.ValueProvider;
+import com.vaadin.flow.router.BeforeEvent;
+import com.vaadin.flow.router.Route;
+
+/**
+ * Measures the memory used per grid instance by a 40 column grid, with the
+ * columns either added one by one or applied from a shared
+ * {@link GridTemplate}. Add {@code template} to the URL parameter to use the
+ * template. The shared template itself is not included in the reported size.
+ */
+@Route("vaadin-grid/" + GridTemplateMemory.PATH)
+public class GridTemplateMemory extends AbstractBeansMemoryTest<Grid<Person>> {
+
+    public static final String PATH = "grid-template-memory";
+
+    private static final int COLUMN_COUNT = 40;
+
+    private static final List<ValueProvider<Person, ?>> VALUE_PROVIDERS = List
+            .of(Person::getId, Person::getFirstName, Person::getLastName,
+                    Person::getAge, Person::getGender, Person::getEmail,
+                    Person::getDeceased, Person::getSalary, Person::getRent,
+                    Person::getSalaryDouble, Person::getBirthDate);
+
+    private static final GridTemplate<Person> TEMPLATE = createTemplate();
+
+    private boolean useTemplate;
+
+    @Override
+    public void setParameter(BeforeEvent event, String parameter) {
+        useTemplate = parameter != null && parameter.contains("template");
+        super.setParameter(event, parameter);
+    }
+
+    @Override
+    protected Grid<Person> createComponent() {
+        Grid<Person> grid = new Grid<>();
+        if (useTemplate) {
+            grid.setColumns(TEMPLATE);
+            return grid;
+        }
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            if (i % 4 == 3) {
+                grid.addColumn(createRenderer(i)).setKey("c" + i)
+                        .setHeader("Column " + i);
+            } else {
+                grid.addColumn(getValueProvider(i)).setKey("c" + i)
+                        .setHeader("Column " + i).setSortable(true);
+            }
+        }
+        return grid;
+    }
+
+    private static GridTemplate<Person> createTemplate() {
+        GridTemplate.Builder<Person> builder = GridTemplate.builder();
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            if (i % 4 == 3) {
+                builder.addColumn("c" + i, createRenderer(i))
+                        .setHeader("Column " + i);
+            } else {
+                builder.addColumn("c" + i, getValueProvider(i))
+                        .setHeader("Column " + i).setSortable(true);
+            }
+        }
+        return builder.build();
+    }
+
+    private static ValueProvider<Person, ?> getValueProvider(int column) {
+        return VALUE_PROVIDERS.get(column % VALUE_PROVIDERS.size());
+    }
+
+    private static LitRenderer<Person> createRenderer(int column) {
+        return LitRenderer.<Person> of("<b>${item.value}</b>")
+                .withProperty("value", getValueProvider(column));
+    }
+
+    @Override
+    protected long getMemoryUsage(Grid<Person> grid) {
+        GraphLayout layout = GraphLayout.parseInstance(grid);
+        if (useTemplate) {
+            layout = layout.subtract(GraphLayout.parseInstance(TEMPLATE));
+        }
+        return layout.totalSize();
+    }
+
+    @Override
+    protected void setInMemoryContainer(Grid<Person> grid, List<Person> data) {
+        grid.setItems(data);
+    }
+
+    @Override
+    protected void setBackendContainer(Grid<Person> grid, List<Person> data) {
+        grid.setItems(new CallbackDataProvider<>(
+                query -> data.stream().skip(query.getOffset())
+                        .limit(query.getLimit()),
+                query -> data.size()));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid.it;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.flow.component.grid.testbench.GridElement;
+import com.vaadin.flow.data.performance.ComponentRendererRecycling;
+import com.vaadin.flow.testutil.TestPath;
+import com.vaadin.tests.AbstractComponentIT;
+
+/**
+ * Scrolls through a grid with a component column with and without component
+ * recycling, and compares the number of created components and the time
+ * spent scrolling.
+ */
+@TestPath("vaadin-grid/" + ComponentRendererRecycling.PATH)
+public class ComponentRendererRecyclingIT extends AbstractComponentIT {
+
+    @Test
+    public void scrollThroughItems_recyclingCreatesFewerComponents() {
+        open();
+        scrollThroughItems();
+        int createdWithoutRecycling = Integer
+                .parseInt($("span").id("created").getText());
+
+        getDriver().get(getRootURL() + "/vaadin-grid/"
+                + ComponentRendererRecycling.PATH + "/recycle");
+        scrollThroughItems();
+        int createdWithRecycling = Integer
+                .parseInt($("span").id("created").getText());
+        double hitRate = Double
+                .parseDouble($("span").id("hit-rate").getText());
+
+        Assert.assertTrue(
+                "Expected fewer than " + createdWithoutRecycling
+                        + " components with recycling, but "
+                        + createdWithRecycling + " were created",
+                createdWithRecycling < createdWithoutRecycling);
+        Assert.assertTrue("Expected a hit rate above 0.5, but it was "
+                + hitRate, hitRate > 0.5);
+    }
+
+    private void scrollThroughItems() {
+        GridElement grid = $(GridElement.class).first();
+        int itemCount = ComponentRendererRecycling.ITEM_COUNT;
+        for (int row = 0; row < itemCount; row += 25) {
+            grid.scrollToRow(row);
+        }
+        grid.scrollToRow(itemCount - 1);
+
+        $("button").id("statistics").click();
+    }
+}
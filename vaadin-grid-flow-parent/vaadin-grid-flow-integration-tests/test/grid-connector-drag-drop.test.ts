@@ -94,4 +94,96 @@ describe('grid connector - drag and drop', () => {
       expect(setDraggedItemsCount.calledWith(5)).to.be.true;
     });
   });
+
+  describe('lazy drag data', () => {
+    let lazyItems: Item[];
+
+    beforeEach(async () => {
+      lazyItems = [
+        { key: '0', name: 'foo' },
+        { key: '1', name: 'bar' }
+      ];
+      setRootItems(grid.$connector, lazyItems);
+      grid.rowsDraggable = true;
+      grid.__dragDataTypes = ['text'];
+      grid.__lazyDragData = true;
+      grid.$server.fetchDragData = sinon.spy(() => Promise.resolve({ '0': { text: 'foo lazy drag data' } }));
+      await nextFrame();
+    });
+
+    function dispatchPointerEvent(rowIndex: number, type: string, clientX: number) {
+      getBodyCell(grid, rowIndex, 0)!.dispatchEvent(
+        new PointerEvent(type, { bubbles: true, composed: true, clientX, clientY: 0 })
+      );
+    }
+
+    function pressRow(rowIndex: number) {
+      dispatchPointerEvent(rowIndex, 'pointerdown', 0);
+    }
+
+    function pressAndMoveRow(rowIndex: number) {
+      pressRow(rowIndex);
+      dispatchPointerEvent(rowIndex, 'pointermove', 10);
+    }
+
+    it('should fetch the drag data of the pressed row when the pointer moves', () => {
+      pressAndMoveRow(0);
+      expect(grid.$server.fetchDragData).to.be.calledOnceWith(['0']);
+    });
+
+    it('should fetch the drag data only once per press', () => {
+      pressAndMoveRow(0);
+      dispatchPointerEvent(0, 'pointermove', 20);
+      expect(grid.$server.fetchDragData).to.be.calledOnce;
+    });
+
+    it('should not fetch the drag data when the pressed row is only clicked', () => {
+      pressRow(0);
+      dispatchPointerEvent(0, 'pointermove', 1);
+      dispatchPointerEvent(0, 'pointerup', 1);
+      dispatchPointerEvent(0, 'pointermove', 10);
+      expect(grid.$server.fetchDragData).to.not.be.called;
+    });
+
+    it('should set the fetched drag data when dragging the pressed row', async () => {
+      pressAndMoveRow(0);
+      await grid.$server.fetchDragData.firstCall.returnValue;
+
+      const { setDragData } = dispatchDragStart([lazyItems[0]]);
+      expect(setDragData.calledWith('text', 'foo lazy drag data')).to.be.true;
+    });
+
+    it('should set the column values as drag data when the data has not been fetched', () => {
+      const { setDragData } = dispatchDragStart([lazyItems[1]]);
+      expect(setDragData.calledWith('text', 'bar')).to.be.true;
+    });
+
+    it('should set the item key as drag data when there are no text columns', () => {
+      grid.querySelector('vaadin-grid-column')!.path = '';
+
+      const { setDragData } = dispatchDragStart([lazyItems[1]]);
+      expect(setDragData.calledWith('text', '1')).to.be.true;
+    });
+
+    it('should fall back to the column values for text/plain drag data', () => {
+      grid.__dragDataTypes = ['text/plain'];
+
+      const { setDragData } = dispatchDragStart([lazyItems[1]]);
+      expect(setDragData.calledWith('text/plain', 'bar')).to.be.true;
+    });
+
+    it('should leave out other drag data types when the data has not been fetched', () => {
+      grid.__dragDataTypes = ['text', 'text/uri-list'];
+
+      const { setDragData } = dispatchDragStart([lazyItems[1]]);
+      expect(setDragData.calledWith('text', 'bar')).to.be.true;
+      expect(setDragData.calledWith('text/uri-list')).to.be.false;
+    });
+
+    it('should not fetch the drag data when not lazy', () => {
+      grid.__lazyDragData = false;
+      pressAndMoveRow(0);
+      expect(grid.$server.fetchDragData).to.not.be.called;
+    });
+  });
 });
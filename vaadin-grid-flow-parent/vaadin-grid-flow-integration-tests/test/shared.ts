@@ -74,6 +74,8 @@ export function init(
     deselect: sinon.spy(),
     deselectAll: sinon.spy(),
     setDetailsVisible: sinon.spy(),
+    setDetailsRenderedRange: sinon.spy(),
+    fetchDragData: sinon.spy(() => Promise.resolve({})),
     updateExpandedState: sinon.spy(),
     setViewportRange: sinon.spy(() => {
       const promise = sinon.promise<void>();
@@ -82,6 +84,8 @@ export function init(
     }),
     setViewportRangeByIndexPath: sinon.spy(),
     sortersChanged: sinon.spy(),
+    clientSideSortersChanged: sinon.spy(),
+    clientSideFilterChanged: sinon.spy(),
     setShiftKeyDown: sinon.spy(),
     updateContextMenuTargetItem: sinon.spy(),
   };
@@ -15,18 +15,27 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.vaadin.flow.component.AbstractField.ComponentValueChangeEvent;
 import com.vaadin.flow.component.ComponentEventListener;
@@ -34,7 +43,10 @@ import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.grid.Grid.AbstractGridExtension;
 import com.vaadin.flow.data.provider.DataCommunicator;
 import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.InMemoryDataProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
 import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
 import com.vaadin.flow.data.selection.MultiSelect;
@@ -63,6 +75,16 @@ public abstract class AbstractGridMultiSelectionModel<T>
         extends AbstractGridExtension<T> implements GridMultiSelectionModel<T> {
 
     private final Map<Object, T> selected;
+    private final Set<Object> excludedIds = new LinkedHashSet<>();
+    private boolean symbolicSelectAll;
+    private boolean allSelected;
+    // The filter of the grid when all items were selected
+    private Object allSelectedFilter;
+    // Where the last page of fetchSelectedItems ended, so that paging through
+    // the selection in order does not skip the preceding items again
+    private PageQuery<T> pagingCursorQuery;
+    private int pagingCursorIndex;
+    private int pagingCursorBackendIndex;
     private final GridSelectionColumn selectionColumn;
     private SelectAllCheckboxVisibility selectAllCheckBoxVisibility;
     private Registration selectionBindingCleanup;
@@ -124,11 +146,15 @@ public abstract class AbstractGridMultiSelectionModel<T>
             return;
         }
 
-        Set<T> oldSelection = getSelectedItems();
-        selected.put(getItemId(item), item);
+        Set<T> oldSelection = allSelected ? null : getSelectedItems();
+        if (allSelected) {
+            excludedIds.remove(getItemId(item));
+            pagingCursorQuery = null;
+        } else {
+            selected.put(getItemId(item), item);
+        }
 
-        fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
-                getGrid().asMultiSelect(), oldSelection, true));
+        fireSelectionChange(oldSelection, true);
 
         ComponentUtil.fireEvent(getGrid(), new ClientItemToggleEvent<>(
                 getGrid(), item, true, selectionColumn.isShiftKeyDown()));
@@ -139,12 +165,7 @@ public abstract class AbstractGridMultiSelectionModel<T>
             return;
         }
 
-        long size = getDataProviderSize();
-        selectionColumn.setSelectAllCheckboxState(
-                !isHierarchicalDataProvider() && size == selected.size());
-        selectionColumn.setSelectAllCheckboxIndeterminateState(
-                isHierarchicalDataProvider() ? selected.size() > 0
-                        : selected.size() > 0 && selected.size() < size);
+        updateSelectAllCheckboxState();
     }
 
     @Override
@@ -154,15 +175,24 @@ public abstract class AbstractGridMultiSelectionModel<T>
             return;
         }
 
-        Set<T> oldSelection = getSelectedItems();
-        selected.remove(getItemId(item));
+        Set<T> oldSelection = allSelected ? null : getSelectedItems();
+        if (allSelected) {
+            excludedIds.add(getItemId(item));
+            pagingCursorQuery = null;
+        } else {
+            selected.remove(getItemId(item));
+        }
 
-        fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
-                getGrid().asMultiSelect(), oldSelection, true));
+        fireSelectionChange(oldSelection, true);
 
         ComponentUtil.fireEvent(getGrid(), new ClientItemToggleEvent<>(
                 getGrid(), item, false, selectionColumn.isShiftKeyDown()));
 
+        if (allSelected) {
+            updateSelectAllCheckboxState();
+            return;
+        }
+
         long size = getDataProviderSize();
         selectionColumn.setSelectAllCheckboxState(false);
         selectionColumn.setSelectAllCheckboxIndeterminateState(
@@ -172,6 +202,9 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public Set<T> getSelectedItems() {
+        if (allSelected) {
+            return new SelectedItemsView();
+        }
         /*
          * A new LinkedHashSet is created to avoid
          * ConcurrentModificationExceptions when changing the selection during
@@ -191,16 +224,27 @@ public abstract class AbstractGridMultiSelectionModel<T>
      * over this Set and modifying the selection during iteration to avoid
      * ConcurrentModificationExceptions.
      *
+     * <p>
+     * When all items are selected symbolically, iterating over the returned
+     * Set fetches the selected items from the data provider page by page.
+     *
      * @return An unmodifiable view of the selected item ids. Updates in the
      *         selection may or may not be directly reflected in the Set.
      * @since 23.2
      */
     protected Set<Object> getSelectedItemIds() {
+        if (allSelected) {
+            return new SelectedItemIdsView(new SelectedItemsView());
+        }
         return Collections.unmodifiableSet(this.selected.keySet());
     }
 
     @Override
     public Optional<T> getFirstSelectedItem() {
+        if (allSelected) {
+            return fetchSelectedItems(new Query<>(0, 1, null, null, null))
+                    .findFirst();
+        }
         return selected.values().stream().findFirst();
     }
 
@@ -231,6 +275,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public void selectAll() {
+        if (isSymbolicSelectAllEnabled()) {
+            doSelectAllSymbolically(false);
+            return;
+        }
         updateSelection(
                 fetchAllItems()
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
@@ -241,6 +289,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public void deselectAll() {
+        if (allSelected) {
+            doDeselectAllSymbolically(false);
+            return;
+        }
         updateSelection(Collections.emptySet(), getSelectedItems());
         selectionColumn.setSelectAllCheckboxState(false);
         selectionColumn.setSelectAllCheckboxIndeterminateState(false);
@@ -255,9 +307,97 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     @Override
     public boolean isSelected(T item) {
+        if (allSelected) {
+            return !excludedIds.contains(getItemId(item));
+        }
         return selected.containsKey(getItemId(item));
     }
 
+    @Override
+    public void setSymbolicSelectAll(boolean symbolicSelectAll) {
+        if (!symbolicSelectAll && allSelected) {
+            // Keep the selection by loading the selected items
+            Map<Object, T> items = mapItemsById(getSelectedItems());
+            allSelected = false;
+            excludedIds.clear();
+            pagingCursorQuery = null;
+            selected.putAll(items);
+        }
+        this.symbolicSelectAll = symbolicSelectAll;
+    }
+
+    @Override
+    public boolean isSymbolicSelectAll() {
+        return symbolicSelectAll;
+    }
+
+    @Override
+    public boolean isAllSelected() {
+        return allSelected;
+    }
+
+    @Override
+    public long getSelectedItemCount() {
+        if (!allSelected) {
+            return selected.size();
+        }
+        DataProvider<T, ?> dataProvider = getGrid().getDataCommunicator()
+                .getDataProvider();
+        long size = dataProvider.size(getGrid().getDataCommunicator()
+                .buildQuery(0, Integer.MAX_VALUE));
+        return Math.max(0, size - excludedIds.size());
+    }
+
+    @Override
+    public Stream<T> fetchSelectedItems(Query<T, ?> query) {
+        Objects.requireNonNull(query, "query cannot be null");
+        if (!allSelected) {
+            return GridMultiSelectionModel.super.fetchSelectedItems(query);
+        }
+
+        PageQuery<T> pageQuery = createPageQuery(query);
+        int offset = query.getOffset();
+        int index = 0;
+        int backendIndex = 0;
+        if (excludedIds.isEmpty()) {
+            index = offset;
+            backendIndex = offset;
+        } else if (pageQuery.equals(pagingCursorQuery)
+                && pagingCursorIndex <= offset) {
+            // Continue from where the previous page ended instead of skipping
+            // all the preceding items again
+            index = pagingCursorIndex;
+            backendIndex = pagingCursorBackendIndex;
+        }
+        SelectedItemsIterator iterator = new SelectedItemsIterator(pageQuery,
+                excludedIds, index, backendIndex, true);
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED), false)
+                .skip(offset - index).limit(query.getLimit());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Override
+    public Registration addSymbolicSelectionListener(
+            ComponentEventListener<SymbolicSelectionEvent<T>> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        return ComponentUtil.addListener(getGrid(),
+                SymbolicSelectionEvent.class,
+                (ComponentEventListener) listener);
+    }
+
+    /**
+     * Clears the selection if all items are selected symbolically and the
+     * filter of the grid is no longer the one the items were selected with.
+     */
+    void onFilterChange() {
+        if (allSelected
+                && !Objects.equals(allSelectedFilter, getGridFilter())) {
+            doDeselectAllSymbolically(false);
+        }
+    }
+
     @Override
     public MultiSelect<Grid<T>, T> asMultiSelect() {
         return new MultiSelect<Grid<T>, T>() {
@@ -426,6 +566,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
         if (!isSelectAllCheckboxVisible()) {
             return;
         }
+        if (isSymbolicSelectAllEnabled()) {
+            doSelectAllSymbolically(true);
+            return;
+        }
         doUpdateSelection(
                 fetchAllItems()
                         .collect(Collectors.toCollection(LinkedHashSet::new)),
@@ -455,6 +599,45 @@ public abstract class AbstractGridMultiSelectionModel<T>
                 Integer.MAX_VALUE));
     }
 
+    /**
+     * Creates the query used to fetch selected items from the data provider.
+     * The sort orders, in-memory sorting and filter of the given query are
+     * used if set, and those of the grid otherwise.
+     *
+     * @param query
+     *            the query given by the caller
+     * @return the query to fetch the items with
+     */
+    private PageQuery<T> createPageQuery(Query<T, ?> query) {
+        Query<T, ?> gridQuery = getGrid().getDataCommunicator().buildQuery(0,
+                0);
+        List<QuerySortOrder> sortOrders = query.getSortOrders();
+        if (sortOrders == null || sortOrders.isEmpty()) {
+            sortOrders = gridQuery.getSortOrders();
+        }
+        Comparator<T> inMemorySorting = query.getInMemorySorting() != null
+                ? query.getInMemorySorting()
+                : gridQuery.getInMemorySorting();
+        Object filter = query.getFilter().isPresent()
+                ? query.getFilter().get()
+                : gridQuery.getFilter().orElse(null);
+        return new PageQuery<>(sortOrders, inMemorySorting, filter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> fetchPage(PageQuery<T> pageQuery, int offset, int limit) {
+        DataProvider<T, Object> dataProvider = (DataProvider<T, Object>) getGrid()
+                .getDataCommunicator().getDataProvider();
+        return dataProvider.fetch(new Query<>(offset, limit,
+                pageQuery.sortOrders(), pageQuery.inMemorySorting(),
+                pageQuery.filter())).toList();
+    }
+
+    private Object getGridFilter() {
+        return getGrid().getDataCommunicator().buildQuery(0, 0).getFilter()
+                .orElse(null);
+    }
+
     /**
      * Fetch all the descendants of the given parent item from the given data
      * provider.
@@ -485,6 +668,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
         if (!isSelectAllCheckboxVisible()) {
             return;
         }
+        if (allSelected) {
+            doDeselectAllSymbolically(true);
+            return;
+        }
         doUpdateSelection(Collections.emptySet(), getSelectedItems(), true);
         selectionColumn.setSelectAllCheckboxState(false);
         selectionColumn.setSelectAllCheckboxIndeterminateState(false);
@@ -504,6 +691,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
 
     private void doUpdateSelection(Map<Object, T> addedItems,
             Map<Object, T> removedItems, boolean userOriginated) {
+        if (allSelected) {
+            doUpdateExclusions(addedItems, removedItems, userOriginated);
+            return;
+        }
 
         if (selected.keySet().containsAll(addedItems.keySet()) && Collections
                 .disjoint(selected.keySet(), removedItems.keySet())) {
@@ -518,9 +709,91 @@ public abstract class AbstractGridMultiSelectionModel<T>
         sendSelectionUpdate(new LinkedHashSet<>(removedItems.values()),
                 getGrid()::doClientSideDeselection);
 
-        fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
-                getGrid().asMultiSelect(), oldSelection, userOriginated));
+        fireSelectionChange(oldSelection, userOriginated);
+
+        updateSelectAllCheckboxState();
+    }
+
+    private void doUpdateExclusions(Map<Object, T> addedItems,
+            Map<Object, T> removedItems, boolean userOriginated) {
+        boolean changed = excludedIds.removeAll(addedItems.keySet());
+        changed |= excludedIds.addAll(removedItems.keySet());
+        if (!changed) {
+            return;
+        }
+        pagingCursorQuery = null;
+
+        sendSelectionUpdate(new LinkedHashSet<>(addedItems.values()),
+                getGrid()::doClientSideSelection);
+        sendSelectionUpdate(new LinkedHashSet<>(removedItems.values()),
+                getGrid()::doClientSideDeselection);
+
+        fireSelectionChange(null, userOriginated);
+
+        updateSelectAllCheckboxState();
+    }
+
+    private void doSelectAllSymbolically(boolean userOriginated) {
+        if (allSelected && excludedIds.isEmpty()) {
+            return;
+        }
+        allSelected = true;
+        allSelectedFilter = getGridFilter();
+        excludedIds.clear();
+        pagingCursorQuery = null;
+        selected.clear();
+        getGrid().refreshViewport();
+
+        fireSelectionChange(null, userOriginated);
+
+        selectionColumn.setSelectAllCheckboxState(true);
+        selectionColumn.setSelectAllCheckboxIndeterminateState(false);
+    }
+
+    private void doDeselectAllSymbolically(boolean userOriginated) {
+        allSelected = false;
+        allSelectedFilter = null;
+        excludedIds.clear();
+        pagingCursorQuery = null;
+        getGrid().refreshViewport();
+
+        fireSelectionChange(null, userOriginated);
+
+        selectionColumn.setSelectAllCheckboxState(false);
+        selectionColumn.setSelectAllCheckboxIndeterminateState(false);
+    }
+
+    /**
+     * Fires the events for a selection change. A {@link MultiSelectionEvent}
+     * is only fired when neither the old nor the new selection is a symbolic
+     * selection of all items, as the event holds the selected items.
+     *
+     * @param oldSelection
+     *            the selected items before the change, or {@code null} if all
+     *            items were selected symbolically
+     * @param userOriginated
+     *            {@code true} if the change was made by the user
+     */
+    private void fireSelectionChange(Set<T> oldSelection,
+            boolean userOriginated) {
+        if (oldSelection != null && !allSelected) {
+            fireSelectionEvent(new MultiSelectionEvent<>(getGrid(),
+                    getGrid().asMultiSelect(), oldSelection, userOriginated));
+        }
+        if (symbolicSelectAll) {
+            ComponentUtil.fireEvent(getGrid(),
+                    new SymbolicSelectionEvent<>(getGrid(), userOriginated,
+                            this, allSelected, excludedIds));
+        }
+    }
 
+    private void updateSelectAllCheckboxState() {
+        if (allSelected) {
+            selectionColumn.setSelectAllCheckboxState(excludedIds.isEmpty());
+            selectionColumn.setSelectAllCheckboxIndeterminateState(
+                    !excludedIds.isEmpty());
+            return;
+        }
         long size = getDataProviderSize();
         selectionColumn.setSelectAllCheckboxState(
                 !isHierarchicalDataProvider() && size == selected.size());
@@ -529,6 +802,10 @@ public abstract class AbstractGridMultiSelectionModel<T>
                         : selected.size() > 0 && selected.size() < size);
     }
 
+    private boolean isSymbolicSelectAllEnabled() {
+        return symbolicSelectAll && !isHierarchicalDataProvider();
+    }
+
     private Map<Object, T> mapItemsById(Set<T> items) {
         return items.stream().collect(LinkedHashMap::new,
                 (map, item) -> map.put(this.getItemId(item), item),
@@ -577,4 +854,191 @@ public abstract class AbstractGridMultiSelectionModel<T>
         return getGrid().getDataCommunicator()
                 .getDataProvider() instanceof HierarchicalDataProvider;
     }
+
+    /**
+     * The sort orders, in-memory sorting and filter used to fetch the selected
+     * items from the data provider.
+     */
+    private record PageQuery<T>(List<QuerySortOrder> sortOrders,
+            Comparator<T> inMemorySorting,
+            Object filter) implements Serializable {
+    }
+
+    /**
+     * Iterates over the items matching a query, skipping the excluded ids and
+     * fetching the items from the data provider one page at a time.
+     */
+    private final class SelectedItemsIterator implements Iterator<T> {
+        private final PageQuery<T> pageQuery;
+        private final Set<Object> excluded;
+        private final boolean updateCursor;
+        private final int pageSize = Math.max(1, getGrid().getPageSize());
+        private int index;
+        private int backendIndex;
+        private Iterator<T> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private T next;
+
+        private SelectedItemsIterator(PageQuery<T> pageQuery,
+                Set<Object> excluded, int index, int backendIndex,
+                boolean updateCursor) {
+            this.pageQuery = pageQuery;
+            this.excluded = excluded;
+            this.index = index;
+            this.backendIndex = backendIndex;
+            this.updateCursor = updateCursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (!page.hasNext()) {
+                    if (lastPage) {
+                        return false;
+                    }
+                    List<T> items = fetchPage(pageQuery, backendIndex,
+                            pageSize);
+                    lastPage = items.size() < pageSize;
+                    page = items.iterator();
+                    if (!page.hasNext()) {
+                        return false;
+                    }
+                }
+                T item = page.next();
+                backendIndex++;
+                if (!excluded.contains(getItemId(item))) {
+                    next = item;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T item = next;
+            next = null;
+            index++;
+            if (updateCursor) {
+                pagingCursorQuery = pageQuery;
+                pagingCursorIndex = index;
+                pagingCursorBackendIndex = backendIndex;
+            }
+            return item;
+        }
+    }
+
+    /**
+     * An unmodifiable view of all items selected symbolically, as they were
+     * when the view was created. The items are fetched from the data provider
+     * page by page when iterating.
+     */
+    private final class SelectedItemsView extends AbstractSet<T>
+            implements Serializable {
+        private final PageQuery<T> pageQuery = createPageQuery(
+                new Query<>());
+        private final Set<Object> excluded = Set.copyOf(excludedIds);
+        private final DataProvider<T, ?> dataProvider = getGrid()
+                .getDataCommunicator().getDataProvider();
+        private long size = -1;
+
+        @Override
+        public Iterator<T> iterator() {
+            return new SelectedItemsIterator(pageQuery, excluded, 0, 0, false);
+        }
+
+        @Override
+        public int size() {
+            if (size < 0) {
+                size = getSelectedItemCount();
+            }
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean contains(Object item) {
+            return item != null && !excluded.contains(getItemId((T) item))
+                    && matchesFilter((T) item);
+        }
+
+        private boolean containsId(Object id) {
+            if (excluded.contains(id)) {
+                return false;
+            }
+            if (!hasInMemoryFilter()) {
+                return true;
+            }
+            // The filter can only be tested with the item, which can be found
+            // by its id from the items of a list data provider
+            if (dataProvider instanceof ListDataProvider<T> listDataProvider) {
+                return listDataProvider.getItems().stream()
+                        .filter(item -> id.equals(getItemId(item)))
+                        .anyMatch(this::matchesFilter);
+            }
+            return true;
+        }
+
+        private boolean hasInMemoryFilter() {
+            return pageQuery.filter() instanceof Predicate<?>
+                    || (dataProvider instanceof InMemoryDataProvider<T> inMemoryDataProvider
+                            && inMemoryDataProvider.getFilter() != null);
+        }
+
+        /**
+         * Tests the item with the filter of the grid and the filter of an
+         * in-memory data provider. Filters of a back end data provider can not
+         * be tested for a single item, so items are assumed to match them.
+         */
+        @SuppressWarnings("unchecked")
+        private boolean matchesFilter(T item) {
+            if (pageQuery.filter() instanceof Predicate<?> filter
+                    && !((Predicate<T>) filter).test(item)) {
+                return false;
+            }
+            return !(dataProvider instanceof InMemoryDataProvider<T> inMemoryDataProvider)
+                    || inMemoryDataProvider.getFilter() == null
+                    || inMemoryDataProvider.getFilter().test(item);
+        }
+    }
+
+    /**
+     * An unmodifiable view of the ids of all items selected symbolically.
+     */
+    private final class SelectedItemIdsView extends AbstractSet<Object>
+            implements Serializable {
+        private final SelectedItemsView items;
+
+        private SelectedItemIdsView(SelectedItemsView items) {
+            this.items = items;
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            Iterator<T> iterator = items.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return getItemId(iterator.next());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+
+        @Override
+        public boolean contains(Object id) {
+            return id != null && items.containsId(id);
+        }
+    }
 }
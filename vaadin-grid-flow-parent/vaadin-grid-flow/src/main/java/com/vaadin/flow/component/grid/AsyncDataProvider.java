@@ -0,0 +1,251 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableRunnable;
+
+/**
+ * Back end data provider that runs the fetch and count callbacks
+ * asynchronously, so that slow back end calls do not block the session while
+ * they are running.
+ * <p>
+ * A fetch or count request that has no result yet starts the callback and
+ * returns an empty result, which makes the grid show placeholder rows. When the
+ * result arrives, it is stored and the grid is notified with the session
+ * locked, which makes the grid request the same range again and receive the
+ * stored result. Arriving results do not fire data change events, so that they
+ * do not affect the selection or other state that depends on the data set. Results and pending requests are kept for several
+ * pages, so that a viewport spanning more than one page is loaded by requests
+ * running in parallel. Pending requests are only cancelled when the sorting
+ * changes, when the data is refreshed, when the grid is detached or when too
+ * many pages are loading at the same time.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @param <T>
+ *            the type of items
+ */
+class AsyncDataProvider<T> extends AbstractBackEndDataProvider<T, Void> {
+
+    /**
+     * The maximum number of pages whose results are kept. The least recently
+     * used page is discarded when a new page is loaded.
+     */
+    static final int MAX_READY_PAGES = 16;
+
+    /**
+     * The maximum number of pages loading at the same time. The oldest pending
+     * request is cancelled when another page is requested.
+     */
+    static final int MAX_PENDING_FETCHES = 8;
+
+    private final Grid.AsyncFetchCallback<T> fetchCallback;
+    private final Grid.AsyncCountCallback<T> countCallback;
+    private final SerializableConsumer<SerializableRunnable> access;
+    private final SerializableRunnable countArrived;
+    private final SerializableRunnable itemsArrived;
+
+    private Integer count;
+    private transient CompletableFuture<Integer> pendingCount;
+
+    private List<String> sortOrders = List.of();
+    // Access ordered, so that the first entry is the least recently used page
+    private final LinkedHashMap<PageKey, List<T>> readyPages = new LinkedHashMap<>(
+            16, 0.75f, true);
+    private transient LinkedHashMap<PageKey, CompletableFuture<List<T>>> pendingFetches = new LinkedHashMap<>();
+
+    /**
+     * Creates a new asynchronous data provider.
+     *
+     * @param fetchCallback
+     *            the callback for fetching items
+     * @param countCallback
+     *            the callback for counting items
+     * @param access
+     *            runs the given command with the session locked, for example
+     *            through {@code UI.access}
+     * @param countArrived
+     *            called with the session locked when a count has arrived
+     * @param itemsArrived
+     *            called with the session locked when a page of items has
+     *            arrived
+     */
+    AsyncDataProvider(Grid.AsyncFetchCallback<T> fetchCallback,
+            Grid.AsyncCountCallback<T> countCallback,
+            SerializableConsumer<SerializableRunnable> access,
+            SerializableRunnable countArrived,
+            SerializableRunnable itemsArrived) {
+        this.fetchCallback = Objects.requireNonNull(fetchCallback,
+                "Fetch callback cannot be null");
+        this.countCallback = Objects.requireNonNull(countCallback,
+                "Count callback cannot be null");
+        this.access = Objects.requireNonNull(access);
+        this.countArrived = Objects.requireNonNull(countArrived);
+        this.itemsArrived = Objects.requireNonNull(itemsArrived);
+    }
+
+    @Override
+    protected Stream<T> fetchFromBackEnd(Query<T, Void> query) {
+        List<String> querySortOrders = query.getSortOrders().stream()
+                .map(order -> order.getSorted() + " " + order.getDirection())
+                .toList();
+        if (!querySortOrders.equals(sortOrders)) {
+            // Results and pending requests for another sorting are out of date
+            cancelPendingFetches();
+            readyPages.clear();
+            sortOrders = querySortOrders;
+        }
+
+        PageKey key = new PageKey(query.getOffset(), query.getLimit());
+        List<T> ready = readyPages.get(key);
+        if (ready != null) {
+            return ready.stream();
+        }
+        if (pendingFetches.containsKey(key)) {
+            return Stream.empty();
+        }
+
+        CompletableFuture<List<T>> future = toFuture(
+                fetchCallback.fetch(query));
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            List<T> items = Objects.requireNonNullElse(future.join(),
+                    List.of());
+            putReadyPage(key, items);
+            return items.stream();
+        }
+        if (pendingFetches.size() >= MAX_PENDING_FETCHES) {
+            PageKey oldest = pendingFetches.keySet().iterator().next();
+            pendingFetches.remove(oldest).cancel(true);
+        }
+        pendingFetches.put(key, future);
+        future.whenComplete((items, error) -> access.accept(() -> {
+            if (pendingFetches.get(key) != future) {
+                // cancelled, or superseded by a request for another sorting
+                return;
+            }
+            pendingFetches.remove(key);
+            if (error != null) {
+                LoggerFactory.getLogger(AsyncDataProvider.class)
+                        .error("Fetching items failed", error);
+                return;
+            }
+            putReadyPage(key, Objects.requireNonNullElse(items, List.of()));
+            itemsArrived.run();
+        }));
+        return Stream.empty();
+    }
+
+    @Override
+    protected int sizeInBackEnd(Query<T, Void> query) {
+        if (count != null) {
+            return count;
+        }
+        if (pendingCount == null) {
+            CompletableFuture<Integer> future = toFuture(
+                    countCallback.count(query));
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                count = Objects.requireNonNullElse(future.join(), 0);
+                return count;
+            }
+            pendingCount = future;
+            future.whenComplete((result, error) -> access.accept(() -> {
+                if (pendingCount != future) {
+                    return;
+                }
+                pendingCount = null;
+                if (error != null) {
+                    LoggerFactory.getLogger(AsyncDataProvider.class)
+                            .error("Counting items failed", error);
+                    return;
+                }
+                count = Objects.requireNonNullElse(result, 0);
+                countArrived.run();
+            }));
+        }
+        return 0;
+    }
+
+    /**
+     * Discards all results and pending requests, and refreshes the grid, which
+     * fetches the count and items again.
+     */
+    @Override
+    public void refreshAll() {
+        cancelPendingRequests();
+        count = null;
+        readyPages.clear();
+        super.refreshAll();
+    }
+
+    /**
+     * Cancels the pending requests without discarding the results that have
+     * already arrived. Called when the grid is detached, as the results of
+     * pending requests can not be applied while the grid has no UI. The
+     * requests are started again when the grid requests the data after being
+     * attached.
+     */
+    void cancelPendingRequests() {
+        cancelPendingFetches();
+        if (pendingCount != null) {
+            var future = pendingCount;
+            pendingCount = null;
+            future.cancel(false);
+        }
+    }
+
+    private void cancelPendingFetches() {
+        var futures = List.copyOf(pendingFetches.values());
+        pendingFetches.clear();
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private void putReadyPage(PageKey key, List<T> items) {
+        readyPages.put(key, items);
+        if (readyPages.size() > MAX_READY_PAGES) {
+            readyPages.remove(readyPages.keySet().iterator().next());
+        }
+    }
+
+    private static <R> CompletableFuture<R> toFuture(
+            CompletionStage<R> stage) {
+        Objects.requireNonNull(stage, "Callback must not return null");
+        return stage.toCompletableFuture();
+    }
+
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        pendingFetches = new LinkedHashMap<>();
+    }
+
+    private record PageKey(int offset, int limit) implements Serializable {
+    }
+}
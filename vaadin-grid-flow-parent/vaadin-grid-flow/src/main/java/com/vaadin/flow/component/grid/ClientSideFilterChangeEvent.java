@@ -0,0 +1,59 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import com.vaadin.flow.component.ComponentEvent;
+
+/**
+ * Event fired when the text that the rows of a Grid are filtered with is
+ * changed in the browser.
+ *
+ * @param <T>
+ *            the grid bean type
+ *
+ * @author Vaadin Ltd
+ *
+ * @see Grid#getClientSideFilter()
+ * @see Grid#addClientSideFilterChangeListener(com.vaadin.flow.component.ComponentEventListener)
+ *
+ * @since 25.3
+ */
+public class ClientSideFilterChangeEvent<T> extends ComponentEvent<Grid<T>> {
+
+    private final String filter;
+
+    /**
+     * Creates a new client-side filter change event.
+     *
+     * @param source
+     *            the component that fired the event
+     * @param filter
+     *            the new filter, an empty string if not filtered
+     */
+    public ClientSideFilterChangeEvent(Grid<T> source, String filter) {
+        super(source, true);
+        this.filter = filter;
+    }
+
+    /**
+     * Gets the new client-side filter.
+     *
+     * @return the filter, an empty string if not filtered
+     */
+    public String getFilter() {
+        return filter;
+    }
+}
@@ -16,6 +16,9 @@
 package com.vaadin.flow.component.grid;
 
 import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -29,6 +32,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
@@ -99,6 +103,7 @@ import com.vaadin.flow.data.provider.HasDataView;
 import com.vaadin.flow.data.provider.HasLazyDataView;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.InMemoryDataProvider;
+import com.vaadin.flow.data.provider.ItemCountChangeEvent;
 import com.vaadin.flow.data.provider.ItemIndexProvider;
 import com.vaadin.flow.data.provider.KeyMapper;
 import com.vaadin.flow.data.provider.ListDataProvider;
@@ -457,6 +462,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         };
 
         private SerializableComparator<T> comparator;
+        private ValueProvider<T, ?> sortKeyProvider;
 
         private final CompositeDataGenerator<T> compositeDataGenerator = new CompositeDataGenerator<>() {
             @Override
@@ -806,6 +812,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
             Objects.requireNonNull(comparator, "Comparator must not be null");
             setSortable(true);
             this.comparator = comparator::compare;
+            sortKeyProvider = null;
             return this;
         }
 
@@ -839,6 +846,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
                     "Key extractor must not be null");
             setComparator(Comparator.comparing(keyExtractor,
                     Comparator.nullsLast(Comparator.naturalOrder())));
+            sortKeyProvider = keyExtractor;
             return this;
         }
 
@@ -1312,9 +1320,16 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
      */
     private class DetailsManager extends AbstractGridExtension<T> {
 
+        private static final int MAX_RENDERED_WINDOW = 1000;
+
         private final HashMap<Object, T> detailsVisible = new HashMap<>();
         private Registration rendererRegistration;
         private DataGenerator<T> rendererDataGenerator;
+        private boolean lazy;
+        private int retention = 10;
+        private Set<Object> renderedWindow = Set.of();
+        private int viewportStart;
+        private int viewportEnd = -1;
 
         /**
          * Constructs a new details manager for the given grid.
@@ -1401,7 +1416,95 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         public void generateData(T item, ObjectNode jsonObject) {
             if (rendererDataGenerator != null && isDetailsVisible(item)) {
                 jsonObject.put("detailsOpened", true);
-                rendererDataGenerator.generateData(item, jsonObject);
+                if (isInRenderedWindow(item)) {
+                    rendererDataGenerator.generateData(item, jsonObject);
+                } else {
+                    // the client keeps the last known height of the details
+                    // until the row is rendered again
+                    jsonObject.put("detailsPlaceholder", true);
+                    rendererDataGenerator.destroyData(item);
+                }
+            }
+        }
+
+        private boolean isInRenderedWindow(T item) {
+            return !lazy || renderedWindow.contains(getItemId(item));
+        }
+
+        private void setLazy(boolean lazy) {
+            if (this.lazy == lazy) {
+                return;
+            }
+            this.lazy = lazy;
+            renderedWindow = Set.of();
+            getGrid().getElement().setProperty("__lazyDetails", lazy);
+            detailsVisible.values().forEach(this::refresh);
+        }
+
+        private void setRetention(int retention) {
+            if (retention < 0) {
+                throw new IllegalArgumentException(
+                        "Retention must not be negative");
+            }
+            this.retention = retention;
+        }
+
+        /**
+         * Stores the range of rows requested by the client, which is the
+         * active range of the data communicator once it has been sent.
+         *
+         * @param start
+         *            the index of the first requested row
+         * @param length
+         *            the number of requested rows
+         */
+        private void setViewportRange(int start, int length) {
+            viewportStart = start;
+            viewportEnd = start + length - 1;
+        }
+
+        /**
+         * Updates the range of rows rendered by the client. In lazy mode, the
+         * details components are only created for rows within the range
+         * extended by the retention, and released for the other rows. The
+         * range is clamped to the rows requested by the client, so that the
+         * items are found in the active range of the data communicator
+         * instead of being fetched from the data provider.
+         *
+         * @param first
+         *            the index of the first rendered row
+         * @param last
+         *            the index of the last rendered row
+         */
+        private void setRenderedRange(int first, int last) {
+            if (!lazy) {
+                return;
+            }
+            DataCommunicator<T> communicator = getGrid()
+                    .getDataCommunicator();
+            int start = Math.max(viewportStart,
+                    Math.max(0, first - retention));
+            int end = Math.min(viewportEnd,
+                    Math.min(communicator.getItemCount() - 1,
+                            Math.min(last, first + MAX_RENDERED_WINDOW)
+                                    + retention));
+            Set<Object> window = new HashSet<>();
+            for (int index = start; index <= end; index++) {
+                T item = communicator.getItem(index);
+                if (item != null) {
+                    window.add(getItemId(item));
+                }
+            }
+            Set<Object> previous = renderedWindow;
+            renderedWindow = window;
+            if (rendererDataGenerator == null) {
+                return;
+            }
+            for (Map.Entry<Object, T> entry : detailsVisible.entrySet()) {
+                if (window.contains(entry.getKey()) != previous
+                        .contains(entry.getKey())) {
+                    refresh(entry.getValue());
+                }
             }
         }
 
@@ -1435,7 +1538,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         @Override
         public void refreshData(T item) {
             if (rendererDataGenerator != null) {
-                if (isDetailsVisible(item)) {
+                if (isDetailsVisible(item) && isInRenderedWindow(item)) {
                     rendererDataGenerator.refreshData(item);
                 } else {
                     rendererDataGenerator.destroyData(item);
@@ -1525,6 +1628,8 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     private SerializablePredicate<T> dragFilter = item -> true;
     private Map<String, SerializableFunction<T, String>> dragDataGenerators = new HashMap<>();
 
+    private static final int MAX_FETCHED_DRAG_DATA_ITEMS = 1000;
+
     private Registration dataProviderChangeRegistration;
 
     private SerializableFunction<T, String> tooltipGenerator = item -> null;
@@ -1539,6 +1644,15 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private StateTree.ExecutionRegistration pendingScrollRegistration;
 
+    private static final int MAX_CLIENT_SIDE_DATA_THRESHOLD = 1000;
+    private static final long MAX_SAFE_JS_INTEGER = (1L << 53) - 1;
+
+    private int clientSideDataThreshold;
+    private boolean clientSideDataActive;
+    private String clientSideFilter = "";
+    private Map<Object, Integer> clientSideSortIndexes;
+    private Registration clientSideDataGeneratorRegistration;
+
     /**
      * Creates a new instance, with page size of 50.
      */
@@ -1820,6 +1934,11 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
             @Override
             public void onPreserveExisting(DataChangeEvent<T> dataChangeEvent) {
+                if (getSelectionModel() instanceof GridMultiSelectionModel<T> multiSelectionModel
+                        && multiSelectionModel.isAllSelected()) {
+                    // All items matching the filter are still selected
+                    return;
+                }
                 Map<Object, T> deselectionCandidateIdsToItems = getSelectedItems()
                         .stream().collect(Collectors
                                 .toMap(getDataProvider()::getId, item -> item));
@@ -1852,6 +1971,9 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private void handleDataChange(DataChangeEvent<T> dataChangeEvent) {
         onDataProviderChange();
+        if (!(dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent)) {
+            clientSideSortIndexes = null;
+        }
         if (!(dataChangeEvent instanceof DataChangeEvent.DataRefreshEvent)
                 && !(getSelectionModel() instanceof GridNoneSelectionModel)) {
             selectionPreservationHandler.handleDataChange(dataChangeEvent);
@@ -1993,6 +2115,8 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         ((Column<T>) column).comparator = ((a, b) -> compareMaybeComparables(
                 applyValueProvider(valueProvider, a),
                 applyValueProvider(valueProvider, b)));
+        ((Column<T>) column).sortKeyProvider = item -> applyValueProvider(
+                valueProvider, item);
         return column;
     }
 
@@ -2149,8 +2273,12 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
      */
     protected <C extends Column<T>> C addColumn(Renderer<T> renderer,
             BiFunction<Renderer<T>, String, C> columnFactory) {
-        String columnId = createColumnId(true);
+        return addColumn(renderer, createColumnId(true), columnFactory);
+    }
 
+    private <C extends Column<T>> C addColumn(Renderer<T> renderer,
+            String columnId,
+            BiFunction<Renderer<T>, String, C> columnFactory) {
         C column = columnFactory.apply(renderer, columnId);
         idToColumnMap.put(columnId, column);
         column.getElement().setProperty("_flowId", columnId);
@@ -2380,6 +2508,62 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         Stream.of(propertyNames).forEach(this::addColumn);
     }
 
+    /**
+     * Replaces the columns of this grid with the columns defined by the given
+     * template.
+     * <p>
+     * The renderers and comparators of the template are shared with all other
+     * grids that use the same template, so only the column components are
+     * created for this grid. The columns can be configured further through
+     * {@link #getColumnByKey(String)}, which only affects this grid.
+     * <p>
+     * Note that this also removes any existing columns, including their
+     * headers and footers.
+     *
+     * @param template
+     *            the template defining the columns, not {@code null}
+     * @see GridTemplate
+     * @since 25.3
+     */
+    public void setColumns(GridTemplate<T> template) {
+        Objects.requireNonNull(template, "Template must not be null");
+        removeAllColumns();
+        for (GridTemplate.ColumnSpec<T> spec : template.getColumnSpecs()) {
+            Column<T> column = addColumn(spec.renderer(), spec.id(),
+                    getDefaultColumnFactory());
+            column.setKey(spec.key());
+            if (spec.comparator() != null) {
+                column.comparator = spec.comparator();
+                column.sortKeyProvider = spec.sortKeyProvider();
+            }
+            if (spec.sortProperties() != null) {
+                column.setSortProperty(spec.sortProperties());
+            }
+            column.setSortable(spec.sortable());
+            if (spec.header() != null) {
+                column.setHeader(spec.header());
+            }
+            if (spec.width() != null) {
+                column.setWidth(spec.width());
+            }
+            if (spec.flexGrow() != null) {
+                column.setFlexGrow(spec.flexGrow());
+            }
+            if (spec.autoWidth()) {
+                column.setAutoWidth(true);
+            }
+            if (spec.resizable()) {
+                column.setResizable(true);
+            }
+            if (spec.frozen()) {
+                column.setFrozen(true);
+            }
+            if (spec.textAlign() != null) {
+                column.setTextAlign(spec.textAlign());
+            }
+        }
+    }
+
     /**
      * Sets the defined columns as sortable, based on the given property names.
      * <p>
@@ -2988,6 +3172,102 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         return getLazyDataView();
     }
 
+    /**
+     * Callback interface for fetching a list of items asynchronously from a
+     * backend.
+     *
+     * @param <T>
+     *            the type of the items to fetch
+     * @see #setItemsAsync(AsyncFetchCallback, AsyncCountCallback)
+     * @since 25.3
+     */
+    @FunctionalInterface
+    public interface AsyncFetchCallback<T> extends Serializable {
+
+        /**
+         * Starts fetching the items for the given query. The returned stage
+         * completes with the items once they are available. The callback is
+         * called with the session locked, so it should only start the
+         * backend call, for example on a virtual thread, and return
+         * immediately.
+         *
+         * @param query
+         *            the query that defines which items to fetch and the
+         *            sorting
+         * @return a stage that completes with the items, not {@code null}
+         */
+        CompletionStage<List<T>> fetch(Query<T, Void> query);
+    }
+
+    /**
+     * Callback interface for counting the items in a backend asynchronously.
+     *
+     * @param <T>
+     *            the type of the items to count
+     * @see #setItemsAsync(AsyncFetchCallback, AsyncCountCallback)
+     * @since 25.3
+     */
+    @FunctionalInterface
+    public interface AsyncCountCallback<T> extends Serializable {
+
+        /**
+         * Starts counting the items for the given query. The returned stage
+         * completes with the count once it is available. The callback is
+         * called with the session locked, so it should only start the
+         * backend call and return immediately.
+         *
+         * @param query
+         *            the query that defines which items to count
+         * @return a stage that completes with the count, not {@code null}
+         */
+        CompletionStage<Integer> count(Query<T, Void> query);
+    }
+
+    /**
+     * Supply items lazily with asynchronous callbacks. Unlike
+     * {@link #setItems(CallbackDataProvider.FetchCallback, CallbackDataProvider.CountCallback)},
+     * the backend calls do not run while the session is locked, so a slow
+     * backend does not block other requests of the same user. Usage example:
+     * <p>
+     * {@code grid.setItemsAsync(
+     *         query -> CompletableFuture.supplyAsync(
+     *                 () -> orderService.getOrders(query.getOffset(), query.getLimit()),
+     *                 virtualThreadExecutor),
+     *         query -> CompletableFuture.supplyAsync(
+     *                 () -> orderService.countOrders(), virtualThreadExecutor));}
+     * <p>
+     * While items are being fetched, the grid shows placeholder rows. Results
+     * are applied using {@code UI.access}, so server push or polling must be
+     * enabled for the results to reach the browser without user interaction.
+     * The pages of a viewport that spans several pages are fetched in
+     * parallel. Pending fetches are cancelled when the sorting changes, when
+     * the grid is detached, and when too many pages are loading at the same
+     * time, for example because the user keeps scrolling.
+     * <p>
+     * The count and the most recently fetched pages are kept until
+     * {@link DataProvider#refreshAll()} is called on the data provider.
+     *
+     * @param fetchCallback
+     *            a function that starts fetching the items for a query, not
+     *            {@code null}
+     * @param countCallback
+     *            a function that starts counting the items, not {@code null}
+     * @return a data view for further configuration
+     * @since 25.3
+     */
+    public GridLazyDataView<T> setItemsAsync(
+            AsyncFetchCallback<T> fetchCallback,
+            AsyncCountCallback<T> countCallback) {
+        // Arriving results do not change the data set, so they are applied
+        // without a data change event, which would reset the selection. A
+        // count arrives while no rows are shown, so the data communicator is
+        // reset to fetch the size again. A page only refreshes the viewport,
+        // which keeps the rendered components of the rows already shown.
+        return setItems(new AsyncDataProvider<>(fetchCallback, countCallback,
+                command -> getUI().ifPresent(ui -> ui.access(command::run)),
+                getDataCommunicator()::reset, this::refreshViewport));
+    }
+
     /**
      * @since 24.7
      */
@@ -3793,6 +4073,70 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         return !getElement().getProperty("__disallowDetailsOnClick", false);
     }
 
+    /**
+     * Sets whether the item details components are created lazily, only for
+     * the rows that are rendered by the client.
+     * <p>
+     * By default, a details component is created for every row with visible
+     * details that has been sent to the client, which also includes rows in a
+     * buffer around the viewport. In lazy mode, the component is only created
+     * when the row is within the rows rendered by the client, extended by the
+     * number of rows set with {@link #setItemDetailsRetention(int)}, and it is
+     * released when the row moves out of that range. The details stay open
+     * while released, and the client reserves the last known height of the
+     * details, so that the scroll position stays stable.
+     * <p>
+     * This is useful with a {@link ComponentRenderer} when details are opened
+     * for many rows.
+     *
+     * @param lazy
+     *            {@code true} to create the item details components lazily,
+     *            {@code false} to create them for all rows sent to the client
+     * @see #setItemDetailsRenderer(Renderer)
+     * @since 25.3
+     */
+    public void setItemDetailsLazy(boolean lazy) {
+        detailsManager.setLazy(lazy);
+    }
+
+    /**
+     * Gets whether the item details components are created lazily.
+     *
+     * @return {@code true} if the item details components are created lazily
+     * @see #setItemDetailsLazy(boolean)
+     * @since 25.3
+     */
+    public boolean isItemDetailsLazy() {
+        return detailsManager.lazy;
+    }
+
+    /**
+     * Sets the number of rows before and after the rendered rows for which the
+     * item details components are kept when lazy item details are enabled.
+     * Larger values create the components ahead of scrolling, at the cost of
+     * more components in memory. The default is 10.
+     *
+     * @param rows
+     *            the number of rows, not negative
+     * @see #setItemDetailsLazy(boolean)
+     * @since 25.3
+     */
+    public void setItemDetailsRetention(int rows) {
+        detailsManager.setRetention(rows);
+    }
+
+    /**
+     * Gets the number of rows before and after the rendered rows for which the
+     * item details components are kept when lazy item details are enabled.
+     *
+     * @return the number of rows
+     * @see #setItemDetailsRetention(int)
+     * @since 25.3
+     */
+    public int getItemDetailsRetention() {
+        return detailsManager.retention;
+    }
+
     /**
      * Returns the visibility of details component for given item.
      *
@@ -3920,6 +4264,243 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         return Boolean.parseBoolean(multiSort);
     }
 
+    /**
+     * Sets the maximum number of items for which sorting and text filtering
+     * happen in the browser. When the grid uses an in-memory
+     * {@link ListDataProvider} with at most this many items, all items are sent
+     * to the client once, together with the sort keys of the sortable columns.
+     * Sorting by a column and filtering by text are then applied in the browser
+     * without waiting for the server. The server is notified of the new sort
+     * order afterwards, which fires a {@link SortEvent} as usual, without
+     * sending the items again.
+     * <p>
+     * The sort keys are available for columns added with
+     * {@link #addColumn(ValueProvider)} or sorted with
+     * {@link Column#setComparator(ValueProvider)}, when the values are strings,
+     * booleans, numbers or local dates and times. Sorting by other columns, such
+     * as columns with a custom {@link Comparator}, is still done on the server.
+     * <p>
+     * The default is 0, which disables client-side data.
+     *
+     * @param threshold
+     *            the maximum number of items to sort and filter in the
+     *            browser, between 0 and 1000
+     * @see #getClientSideFilter()
+     * @since 25.3
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void setClientSideDataThreshold(int threshold) {
+        if (threshold < 0 || threshold > MAX_CLIENT_SIDE_DATA_THRESHOLD) {
+            throw new IllegalArgumentException(
+                    "The client-side data threshold must be between 0 and "
+                            + MAX_CLIENT_SIDE_DATA_THRESHOLD);
+        }
+        clientSideDataThreshold = threshold;
+        if (threshold > 0 && clientSideDataGeneratorRegistration == null) {
+            clientSideDataGeneratorRegistration = addDataGenerator(
+                    this::generateClientSideData);
+            // The item count is only known after the data communicator has
+            // fetched it
+            ComponentUtil.addListener(this, ItemCountChangeEvent.class,
+                    (ComponentEventListener) (
+                            event -> scheduleClientSideDataUpdate()));
+        }
+        scheduleClientSideDataUpdate();
+    }
+
+    /**
+     * Gets the maximum number of items for which sorting and text filtering
+     * happen in the browser.
+     *
+     * @return the client-side data threshold, 0 if disabled
+     * @see #setClientSideDataThreshold(int)
+     * @since 25.3
+     */
+    public int getClientSideDataThreshold() {
+        return clientSideDataThreshold;
+    }
+
+    /**
+     * Gets whether all items are currently on the client, so that sorting and
+     * text filtering happen in the browser.
+     *
+     * @return {@code true} if client-side data is active
+     */
+    boolean isClientSideDataActive() {
+        return clientSideDataActive;
+    }
+
+    /**
+     * Gets the text that the rows are filtered with in the browser. A row is
+     * shown if any of its column sort keys contains the text, ignoring case.
+     * <p>
+     * The filter is purely visual: it is only applied in the browser while
+     * client-side data is active, see {@link #setClientSideDataThreshold(int)},
+     * and does not affect the items of the data view on the server, for
+     * example when selecting all items. Use
+     * {@link GridListDataView#setFilter(SerializablePredicate)} to filter the
+     * items on the server instead.
+     * <p>
+     * The filter is changed in the browser, for example by a text field,
+     * without a round trip:
+     *
+     * <pre>
+     * textField.getElement().executeJs(
+     *         "this.addEventListener('input', () => $0.$connector.setClientSideFilter(this.value))",
+     *         grid.getElement());
+     * </pre>
+     *
+     * The server is notified of the new filter after a short delay, which
+     * fires a {@link ClientSideFilterChangeEvent}.
+     *
+     * @return the client-side filter, an empty string if not filtered
+     * @see #addClientSideFilterChangeListener(ComponentEventListener)
+     * @since 25.3
+     */
+    public String getClientSideFilter() {
+        return clientSideFilter;
+    }
+
+    /**
+     * Adds a listener that is notified when the client-side filter is changed
+     * in the browser.
+     *
+     * @param listener
+     *            the listener to add, not {@code null}
+     * @return a handle that can be used for removing the listener
+     * @see #getClientSideFilter()
+     * @since 25.3
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public Registration addClientSideFilterChangeListener(
+            ComponentEventListener<ClientSideFilterChangeEvent<T>> listener) {
+        return addListener(ClientSideFilterChangeEvent.class,
+                (ComponentEventListener) listener);
+    }
+
+    @ClientCallable
+    private void clientSideFilterChanged(String filter) {
+        String newFilter = filter == null ? "" : filter;
+        if (!newFilter.equals(clientSideFilter)) {
+            clientSideFilter = newFilter;
+            fireEvent(new ClientSideFilterChangeEvent<>(this, newFilter));
+        }
+    }
+
+    private void updateClientSideFilter() {
+        // Restores the filter of the browser after the connector has been
+        // initialized again
+        getElement().executeJs(
+                "this.$connector?.setClientSideFilter($0, false)",
+                clientSideFilter);
+    }
+
+    private void scheduleClientSideDataUpdate() {
+        getElement().getNode().runWhenAttached(ui -> ui
+                .beforeClientResponse(this, context -> updateClientSideData()));
+    }
+
+    private void updateClientSideData() {
+        int itemCount = getDataCommunicator().getItemCount();
+        boolean active = clientSideDataThreshold > 0
+                && getDataProvider() instanceof ListDataProvider
+                && itemCount <= clientSideDataThreshold;
+        if (active != clientSideDataActive) {
+            clientSideDataActive = active;
+            clientSideSortIndexes = null;
+            getElement().setProperty("__clientSideData", active);
+            // Resend the items with or without the sort keys
+            getDataCommunicator().reset();
+        }
+        if (active) {
+            getDataCommunicator().setViewportRange(0, itemCount);
+        }
+    }
+
+    private void generateClientSideData(T item, ObjectNode jsonObject) {
+        if (!clientSideDataActive) {
+            return;
+        }
+        ObjectNode sortKeys = JacksonUtils.createObjectNode();
+        for (Column<T> column : getColumns()) {
+            if (column.isSortable() && column.sortKeyProvider != null) {
+                putSortKey(sortKeys, column.getInternalId(),
+                        column.sortKeyProvider.apply(item));
+            }
+        }
+        jsonObject.set("sortKeys", sortKeys);
+        Integer sortIndex = getClientSideSortIndexes()
+                .get(getDataProvider().getId(item));
+        if (sortIndex != null) {
+            jsonObject.put("sortIndex", sortIndex);
+        }
+    }
+
+    /**
+     * Puts the given value to the sort keys if the browser compares it the
+     * same way as its natural order on the server. Other values are left out,
+     * so that sorting by the column is done on the server.
+     */
+    private static void putSortKey(ObjectNode sortKeys, String columnId,
+            Object value) {
+        if (value == null) {
+            sortKeys.putNull(columnId);
+        } else if (value instanceof String string) {
+            sortKeys.put(columnId, string);
+        } else if (value instanceof Boolean bool) {
+            sortKeys.put(columnId, bool);
+        } else if (value instanceof Integer || value instanceof Short
+                || value instanceof Byte) {
+            sortKeys.put(columnId, ((Number) value).intValue());
+        } else if (value instanceof Long number
+                && Math.abs(number) <= MAX_SAFE_JS_INTEGER) {
+            sortKeys.put(columnId, number.longValue());
+        } else if ((value instanceof Double || value instanceof Float)
+                && Double.isFinite(((Number) value).doubleValue())) {
+            sortKeys.put(columnId, ((Number) value).doubleValue());
+        } else if (value instanceof LocalDate date
+                && isFourDigitYear(date.getYear())) {
+            sortKeys.put(columnId, date.toString());
+        } else if (value instanceof LocalDateTime dateTime
+                && isFourDigitYear(dateTime.getYear())) {
+            sortKeys.put(columnId, dateTime.toString());
+        } else if (value instanceof LocalTime time) {
+            sortKeys.put(columnId, time.toString());
+        }
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        // ISO strings of other years do not sort alphabetically
+        return year >= 0 && year <= 9999;
+    }
+
+    /**
+     * Gets the index of each item in the order of the data provider and the
+     * sort comparator of the data view, which the browser uses to order items
+     * with equal sort keys the same way as the server.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, Integer> getClientSideSortIndexes() {
+        if (clientSideSortIndexes == null) {
+            clientSideSortIndexes = new HashMap<>();
+            if (getDataProvider() instanceof ListDataProvider) {
+                ListDataProvider<T> dataProvider = (ListDataProvider<T>) getDataProvider();
+                SerializableComparator<T> dataViewSorting = (SerializableComparator<T>) DataViewUtils
+                        .getComponentSortComparator(this).orElse(null);
+                List<T> items = dataProvider
+                        .fetch(new Query<>(0, Integer.MAX_VALUE,
+                                Collections.emptyList(), dataViewSorting,
+                                null))
+                        .toList();
+                for (int i = 0; i < items.size(); i++) {
+                    clientSideSortIndexes
+                            .putIfAbsent(dataProvider.getId(items.get(i)), i);
+                }
+            }
+        }
+        return clientSideSortIndexes;
+    }
+
     @ClientCallable
     private void updateContextMenuTargetItem(String key, String colId) {
         getElement().setProperty("_contextMenuTargetItemKey", key);
@@ -4022,7 +4603,34 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
                             + "reason this is not an option, increase the page size of the grid so that rendering "
                             + "every item at once doesn't result in a request for over 10 pages.");
         }
+        if (clientSideDataActive) {
+            // The client sorts and filters the items itself, so it needs all
+            // of them regardless of the rendered range
+            start = 0;
+            length = Math.max(length, getDataCommunicator().getItemCount());
+        }
         getDataCommunicator().setViewportRange(start, length);
+        detailsManager.setViewportRange(start, length);
+    }
+
+    @ClientCallable
+    private void setDetailsRenderedRange(int first, int last) {
+        detailsManager.setRenderedRange(first, last);
+    }
+
+    @ClientCallable
+    private ObjectNode fetchDragData(ArrayNode keys) {
+        ObjectNode dragData = JacksonUtils.createObjectNode();
+        if (!isRowsDraggable() || dragDataGenerators.isEmpty()) {
+            return dragData;
+        }
+        int limit = Math.min(keys.size(), MAX_FETCHED_DRAG_DATA_ITEMS);
+        for (int i = 0; i < limit; i++) {
+            String key = keys.get(i).asString();
+            findByKey(key).filter(dragFilter).ifPresent(
+                    item -> dragData.set(key, createDragData(item)));
+        }
+        return dragData;
     }
 
     @ClientCallable
@@ -4037,6 +4645,23 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     @ClientCallable
     private void sortersChanged(ArrayNode sorters) {
+        setSortOrder(parseSorters(sorters), true);
+    }
+
+    @ClientCallable
+    private void clientSideSortersChanged(ArrayNode sorters) {
+        if (clientSideDataActive
+                && getDataCommunicator() instanceof GridDataCommunicator<T> gridDataCommunicator) {
+            // The browser already holds all items and has sorted them, so
+            // only the sort order is recorded without resending the items
+            gridDataCommunicator.runWithoutReset(
+                    () -> setSortOrder(parseSorters(sorters), true));
+        } else {
+            sortersChanged(sorters);
+        }
+    }
+
+    private List<GridSortOrder<T>> parseSorters(ArrayNode sorters) {
         GridSortOrderBuilder<T> sortOrderBuilder = new GridSortOrderBuilder<>();
         for (int i = 0; i < sorters.size(); ++i) {
             JsonNode sorter = sorters.get(i);
@@ -4062,7 +4687,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
                 }
             }
         }
-        setSortOrder(sortOrderBuilder.build(), true);
+        return sortOrderBuilder.build();
     }
 
     /**
@@ -4107,6 +4732,9 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         initConnector();
         updateClientSorterDirections();
         updateClientSelectionMode();
+        if (!clientSideFilter.isEmpty()) {
+            updateClientSideFilter();
+        }
         if (getDataProvider() != null) {
             handleDataProviderChange(getDataProvider());
         }
@@ -4123,6 +4751,11 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
             dataProviderChangeRegistration.remove();
             dataProviderChangeRegistration = null;
         }
+        if (getDataProvider() instanceof AsyncDataProvider<?> asyncDataProvider) {
+            // Results can not be applied without a UI, so the requests are
+            // started again when the grid is attached
+            asyncDataProvider.cancelPendingRequests();
+        }
         super.onDetach(detachEvent);
     }
 
@@ -4616,14 +5249,21 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     }
 
     private void generateDragData(T item, ObjectNode jsonObject) {
+        if (isDragDataLazy()) {
+            return;
+        }
+        ObjectNode dragData = createDragData(item);
+        if (!JacksonUtils.getKeys(dragData).isEmpty()) {
+            jsonObject.set("dragData", dragData);
+        }
+    }
+
+    private ObjectNode createDragData(T item) {
         ObjectNode dragData = JacksonUtils.createObjectNode();
 
         this.dragDataGenerators.entrySet().forEach(entry -> dragData
                 .put(entry.getKey(), entry.getValue().apply(item)));
-
-        if (!JacksonUtils.getKeys(dragData).isEmpty()) {
-            jsonObject.set("dragData", dragData);
-        }
+        return dragData;
     }
 
     private void generateSelectableData(T item, ObjectNode jsonObject) {
@@ -4769,6 +5409,10 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
 
     private void handleDataProviderChange(DataProvider<T, ?> dataProvider) {
         onDataProviderChange();
+        clientSideSortIndexes = null;
+        if (clientSideDataThreshold > 0) {
+            scheduleClientSideDataUpdate();
+        }
 
         if (dataProviderChangeRegistration != null) {
             dataProviderChangeRegistration.remove();
@@ -4996,6 +5640,43 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         refreshViewport();
     }
 
+    /**
+     * Sets whether the drag data is generated only for the items that the user
+     * is about to drag, instead of for every row sent to the client.
+     * <p>
+     * By default, every drag data generator set with
+     * {@link #setDragDataGenerator(String, SerializableFunction)} is run for
+     * each row sent to the client, and the generated data is included in the
+     * row data. With lazy drag data, the row data only tells whether the row
+     * can be dragged, and the client fetches the drag data of the rows to be
+     * dragged when the user moves a pointer pressed on a draggable row. If the
+     * data has not arrived when the drag starts, the values of the text columns
+     * of those rows, or their keys, are used as the {@code text/plain} drag
+     * data instead, and the other types are left out. The dragged items are
+     * always available in the {@link GridDragStartEvent}.
+     *
+     * @param lazy
+     *            {@code true} to generate the drag data on demand,
+     *            {@code false} to generate it for every row
+     * @since 25.3
+     */
+    public void setDragDataLazy(boolean lazy) {
+        getElement().setProperty("__lazyDragData", lazy);
+        refreshViewport();
+    }
+
+    /**
+     * Gets whether the drag data is generated on demand.
+     *
+     * @return {@code true} if the drag data is generated on demand,
+     *         {@code false} otherwise
+     * @see #setDragDataLazy(boolean)
+     * @since 25.3
+     */
+    public boolean isDragDataLazy() {
+        return getElement().getProperty("__lazyDragData", false);
+    }
+
     /**
      * Sets the function that is used for generating tooltip text for all cells
      * in this grid. Tooltip generators set to individual columns have priority
@@ -5451,6 +6132,7 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
     private void onInMemoryFilterOrSortingChange(
             SerializablePredicate<T> filter,
             SerializableComparator<T> sortComparator) {
+        clientSideSortIndexes = null;
         updateInMemorySorting(sortComparator);
         updateInMemoryFiltering(filter);
     }
@@ -5465,6 +6147,9 @@ public class Grid<T> extends Component implements HasStyle, HasSize,
         @SuppressWarnings("unchecked")
         SerializableConsumer<SerializablePredicate<T>> inMemoryFilter = (SerializableConsumer<SerializablePredicate<T>>) filterSlot;
         inMemoryFilter.accept(componentInMemoryFilter);
+        if (selectionModel instanceof AbstractGridMultiSelectionModel<T> multiSelectionModel) {
+            multiSelectionModel.onFilterChange();
+        }
     }
 
     /**
@@ -24,6 +24,9 @@ import com.vaadin.flow.dom.Element;
  * WARNING: This class is for internal use only.
  */
 class GridDataCommunicator<T> extends DataCommunicator<T> {
+
+    private boolean resetSuppressed;
+
     public GridDataCommunicator(Element element,
             CompositeDataGenerator<T> dataGenerator,
             ArrayUpdater arrayUpdater) {
@@ -36,4 +39,27 @@ class GridDataCommunicator<T> extends DataCommunicator<T> {
     public void refreshViewport() {
         super.refreshViewport();
     }
+
+    @Override
+    public void reset() {
+        if (!resetSuppressed) {
+            super.reset();
+        }
+    }
+
+    /**
+     * Runs the given action without resending the items to the client, for
+     * changes that the client has already applied to the items it holds.
+     *
+     * @param action
+     *            the action to run
+     */
+    void runWithoutReset(Runnable action) {
+        resetSuppressed = true;
+        try {
+            action.run();
+        } finally {
+            resetSuppressed = false;
+        }
+    }
 }
@@ -15,8 +15,13 @@
  */
 package com.vaadin.flow.component.grid;
 
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.data.binder.Binder;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.selection.MultiSelect;
 import com.vaadin.flow.data.selection.MultiSelectionEvent;
 import com.vaadin.flow.data.selection.MultiSelectionListener;
@@ -191,4 +196,126 @@ public interface GridMultiSelectionModel<T>
      * @since 24.2
      */
     boolean isDragSelect();
+
+    /**
+     * Sets whether selecting all items is stored symbolically, as all items
+     * matching the current filter except the items that have been deselected
+     * afterwards, instead of loading every item into memory.
+     * <p>
+     * When enabled, {@link #selectAll()} and the select all checkbox do not
+     * fetch any items. Use {@link #getSelectedItemCount()} and
+     * {@link #fetchSelectedItems(Query)} to access the selection page by page,
+     * and {@link #addSymbolicSelectionListener(ComponentEventListener)} to
+     * listen to selection changes. While all items are selected,
+     * {@link MultiSelectionEvent}s are not fired and
+     * {@link #getSelectedItems()} returns a view that fetches the selected
+     * items from the data provider page by page when iterated.
+     * <p>
+     * The selection of all items is cleared when the filter of the grid
+     * changes and when other items are set, as the items that were selected
+     * may no longer be the same. It is kept when the data provider fires a
+     * data change event, unless the selection preservation mode of the grid is
+     * {@link com.vaadin.flow.component.shared.SelectionPreservationMode#DISCARD}.
+     * This has no effect with hierarchical data providers.
+     * <p>
+     * The default implementation does not support symbolic select all.
+     *
+     * @param symbolicSelectAll
+     *            {@code true} to store select all symbolically, {@code false}
+     *            to load all items when selecting all
+     * @throws UnsupportedOperationException
+     *             if enabled and the selection model does not support it
+     * @since 25.3
+     */
+    default void setSymbolicSelectAll(boolean symbolicSelectAll) {
+        if (symbolicSelectAll) {
+            throw new UnsupportedOperationException(
+                    "This selection model does not support symbolic select all");
+        }
+    }
+
+    /**
+     * Gets whether selecting all items is stored symbolically.
+     *
+     * @return {@code true} if select all is stored symbolically
+     * @see #setSymbolicSelectAll(boolean)
+     * @since 25.3
+     */
+    default boolean isSymbolicSelectAll() {
+        return false;
+    }
+
+    /**
+     * Gets whether all items matching the current filter are selected, except
+     * the items that have been deselected afterwards. This can only be the
+     * case when symbolic select all is enabled.
+     *
+     * @return {@code true} if all items are selected symbolically
+     * @see #setSymbolicSelectAll(boolean)
+     * @since 25.3
+     */
+    default boolean isAllSelected() {
+        return false;
+    }
+
+    /**
+     * Gets the number of selected items without loading them. When all items
+     * are selected symbolically, this uses the count of the data provider.
+     *
+     * @return the number of selected items
+     * @since 25.3
+     */
+    default long getSelectedItemCount() {
+        return getSelectedItems().size();
+    }
+
+    /**
+     * Fetches a page of the selected items.
+     * <p>
+     * When all items are selected symbolically, the items are fetched from the
+     * data provider one page at a time, skipping the deselected items. The
+     * sort orders, in-memory sorting and filter of the query are passed to the
+     * data provider if set, and those of the grid are used otherwise. Fetching
+     * the pages in order continues from where the previous page ended.
+     * <p>
+     * Otherwise, the items are returned in the order they were selected,
+     * unless the query has an in-memory sorting. A filter of the query is only
+     * applied if it is a {@link java.util.function.Predicate}.
+     *
+     * @param query
+     *            the query defining the page, not {@code null}
+     * @return a stream of selected items
+     * @since 25.3
+     */
+    @SuppressWarnings("unchecked")
+    default Stream<T> fetchSelectedItems(Query<T, ?> query) {
+        Objects.requireNonNull(query, "query cannot be null");
+        Stream<T> items = getSelectedItems().stream();
+        if (query.getFilter().orElse(null) instanceof Predicate<?> filter) {
+            items = items.filter((Predicate<T>) filter);
+        }
+        if (query.getInMemorySorting() != null) {
+            items = items.sorted(query.getInMemorySorting());
+        }
+        return items.skip(query.getOffset()).limit(query.getLimit());
+    }
+
+    /**
+     * Adds a listener that is notified of selection changes with a symbolic
+     * description of the selection. The listener is only notified when
+     * symbolic select all is enabled.
+     *
+     * @param listener
+     *            the listener to add, not {@code null}
+     * @return a handle that can be used for removing the listener
+     * @see #setSymbolicSelectAll(boolean)
+     * @since 25.3
+     */
+    default Registration addSymbolicSelectionListener(
+            ComponentEventListener<SymbolicSelectionEvent<T>> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        // Never notified, as symbolic select all is not supported by default
+        return () -> {
+        };
+    }
 }
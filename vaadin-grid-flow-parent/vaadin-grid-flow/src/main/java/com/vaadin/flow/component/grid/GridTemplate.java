@@ -0,0 +1,384 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.data.renderer.Renderer;
+import com.vaadin.flow.function.SerializableComparator;
+import com.vaadin.flow.function.ValueProvider;
+
+/**
+ * An immutable definition of the columns of a {@link Grid}, which can be
+ * shared by any number of grid instances, for example by storing it in a
+ * static field.
+ * <p>
+ * The renderers and comparators of the columns are created once when the
+ * template is built, and reused by all grids that the template is applied to
+ * with {@link Grid#setColumns(GridTemplate)}. Each grid only creates the
+ * column components, which hold the state of the columns in that grid. This
+ * reduces the memory used per grid when the same grid is shown in many
+ * sessions.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * private static final GridTemplate&lt;Person&gt; TEMPLATE = GridTemplate
+ *         .&lt;Person&gt; builder()
+ *         .addColumn("name", Person::getName).setHeader("Name")
+ *         .setSortable(true)
+ *         .addColumn("age", Person::getAge).setHeader("Age")
+ *         .build();
+ *
+ * Grid&lt;Person&gt; grid = new Grid&lt;&gt;();
+ * grid.setColumns(TEMPLATE);
+ * </pre>
+ *
+ * <strong>Note:</strong> renderers added with
+ * {@link Builder#addColumn(String, LitRenderer)} are shared by all grids using
+ * the template, so they must not be modified after the template has been
+ * built, for example by calling {@link LitRenderer#withProperty} on them.
+ *
+ * @param <T>
+ *            the type of the grid items
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public final class GridTemplate<T> implements Serializable {
+
+    private final List<ColumnSpec<T>> columns;
+
+    private GridTemplate(List<ColumnSpec<T>> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * Creates a builder for a grid template.
+     *
+     * @param <T>
+     *            the type of the grid items
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Gets the keys of the columns of this template, in column order.
+     *
+     * @return an unmodifiable list of column keys
+     */
+    public List<String> getColumnKeys() {
+        return columns.stream().map(ColumnSpec::key).toList();
+    }
+
+    List<ColumnSpec<T>> getColumnSpecs() {
+        return columns;
+    }
+
+    /**
+     * The immutable definition of a single column.
+     */
+    record ColumnSpec<T>(String id, String key, Renderer<T> renderer,
+            SerializableComparator<T> comparator,
+            ValueProvider<T, ?> sortKeyProvider, String[] sortProperties,
+            String header, String width, Integer flexGrow, boolean autoWidth,
+            boolean resizable, boolean frozen, boolean sortable,
+            ColumnTextAlign textAlign) implements Serializable {
+    }
+
+    /**
+     * Builder for {@link GridTemplate}. Column settings apply to the column
+     * most recently added with one of the {@code addColumn} methods.
+     *
+     * @param <T>
+     *            the type of the grid items
+     */
+    public static final class Builder<T> implements Serializable {
+
+        private final List<ColumnSpecBuilder<T>> columns = new ArrayList<>();
+        private final Set<String> keys = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a text column. The value is converted to a string with
+         * {@link String#valueOf(Object)}, and {@code null} values are shown as
+         * empty strings. If the column is sortable, in-memory sorting
+         * compares the values when they are {@link Comparable}.
+         *
+         * @param key
+         *            the unique key of the column, not {@code null}
+         * @param valueProvider
+         *            the value provider, not {@code null}
+         * @return this builder
+         */
+        public Builder<T> addColumn(String key,
+                ValueProvider<T, ?> valueProvider) {
+            Objects.requireNonNull(valueProvider,
+                    "Value provider must not be null");
+            String id = createColumnId();
+            ColumnSpecBuilder<T> column = addColumn(key, id,
+                    new ColumnPathRenderer<>(id, item -> {
+                        Object value = valueProvider.apply(item);
+                        return value == null ? "" : String.valueOf(value);
+                    }));
+            column.comparator = (a, b) -> Grid.compareMaybeComparables(
+                    valueProvider.apply(a), valueProvider.apply(b));
+            column.sortKeyProvider = valueProvider;
+            return this;
+        }
+
+        /**
+         * Adds a column that uses the given renderer. The renderer is shared
+         * by all grids that the template is applied to.
+         * <p>
+         * Component renderers, including subclasses of
+         * {@link com.vaadin.flow.data.renderer.BasicRenderer}, are not
+         * supported, as they keep the components they create for each grid.
+         *
+         * @param key
+         *            the unique key of the column, not {@code null}
+         * @param renderer
+         *            the renderer, not {@code null}
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the renderer is a {@link ComponentRenderer}
+         */
+        public Builder<T> addColumn(String key, LitRenderer<T> renderer) {
+            Objects.requireNonNull(renderer, "Renderer must not be null");
+            if (renderer instanceof ComponentRenderer) {
+                throw new IllegalArgumentException(
+                        "Component renderers cannot be shared by grid templates");
+            }
+            addColumn(key, createColumnId(), renderer);
+            return this;
+        }
+
+        private ColumnSpecBuilder<T> addColumn(String key, String id,
+                Renderer<T> renderer) {
+            Objects.requireNonNull(key, "Key must not be null");
+            if (!keys.add(key)) {
+                throw new IllegalArgumentException(
+                        "Duplicate key for columns: " + key);
+            }
+            ColumnSpecBuilder<T> column = new ColumnSpecBuilder<>(id, key,
+                    renderer);
+            columns.add(column);
+            return column;
+        }
+
+        private String createColumnId() {
+            return "tpl" + columns.size();
+        }
+
+        /**
+         * Sets the header text of the current column.
+         *
+         * @param header
+         *            the header text
+         * @return this builder
+         * @see Grid.Column#setHeader(String)
+         */
+        public Builder<T> setHeader(String header) {
+            current().header = header;
+            return this;
+        }
+
+        /**
+         * Sets the width of the current column.
+         *
+         * @param width
+         *            the width as a CSS string
+         * @return this builder
+         * @see Grid.Column#setWidth(String)
+         */
+        public Builder<T> setWidth(String width) {
+            current().width = width;
+            return this;
+        }
+
+        /**
+         * Sets the flex grow ratio of the current column.
+         *
+         * @param flexGrow
+         *            the flex grow ratio
+         * @return this builder
+         * @see Grid.Column#setFlexGrow(int)
+         */
+        public Builder<T> setFlexGrow(int flexGrow) {
+            current().flexGrow = flexGrow;
+            return this;
+        }
+
+        /**
+         * Sets whether the width of the current column is computed from its
+         * content.
+         *
+         * @param autoWidth
+         *            whether to use automatic width
+         * @return this builder
+         * @see Grid.Column#setAutoWidth(boolean)
+         */
+        public Builder<T> setAutoWidth(boolean autoWidth) {
+            current().autoWidth = autoWidth;
+            return this;
+        }
+
+        /**
+         * Sets whether the current column can be resized by the user.
+         *
+         * @param resizable
+         *            whether the column is resizable
+         * @return this builder
+         * @see Grid.Column#setResizable(boolean)
+         */
+        public Builder<T> setResizable(boolean resizable) {
+            current().resizable = resizable;
+            return this;
+        }
+
+        /**
+         * Sets whether the current column is frozen.
+         *
+         * @param frozen
+         *            whether the column is frozen
+         * @return this builder
+         * @see Grid.Column#setFrozen(boolean)
+         */
+        public Builder<T> setFrozen(boolean frozen) {
+            current().frozen = frozen;
+            return this;
+        }
+
+        /**
+         * Sets the text alignment of the current column.
+         *
+         * @param textAlign
+         *            the text alignment
+         * @return this builder
+         * @see Grid.Column#setTextAlign(ColumnTextAlign)
+         */
+        public Builder<T> setTextAlign(ColumnTextAlign textAlign) {
+            current().textAlign = textAlign;
+            return this;
+        }
+
+        /**
+         * Sets whether the current column is sortable.
+         *
+         * @param sortable
+         *            whether the column is sortable
+         * @return this builder
+         * @see Grid.Column#setSortable(boolean)
+         */
+        public Builder<T> setSortable(boolean sortable) {
+            current().sortable = sortable;
+            return this;
+        }
+
+        /**
+         * Sets the comparator used for in-memory sorting of the current
+         * column, and makes the column sortable.
+         *
+         * @param comparator
+         *            the comparator, not {@code null}
+         * @return this builder
+         * @see Grid.Column#setComparator(java.util.Comparator)
+         */
+        public Builder<T> setComparator(
+                SerializableComparator<T> comparator) {
+            ColumnSpecBuilder<T> column = current();
+            column.comparator = Objects.requireNonNull(comparator,
+                    "Comparator must not be null");
+            column.sortKeyProvider = null;
+            column.sortable = true;
+            return this;
+        }
+
+        /**
+         * Sets the properties used for back end sorting of the current
+         * column, and makes the column sortable if any properties are given.
+         *
+         * @param properties
+         *            the sort properties
+         * @return this builder
+         * @see Grid.Column#setSortProperty(String...)
+         */
+        public Builder<T> setSortProperty(String... properties) {
+            ColumnSpecBuilder<T> column = current();
+            column.sortProperties = properties.clone();
+            column.sortable = properties.length > 0;
+            return this;
+        }
+
+        /**
+         * Builds the template.
+         *
+         * @return the immutable template
+         */
+        public GridTemplate<T> build() {
+            return new GridTemplate<>(
+                    columns.stream().map(ColumnSpecBuilder::build).toList());
+        }
+
+        private ColumnSpecBuilder<T> current() {
+            if (columns.isEmpty()) {
+                throw new IllegalStateException(
+                        "A column must be added before configuring it");
+            }
+            return columns.get(columns.size() - 1);
+        }
+    }
+
+    private static final class ColumnSpecBuilder<T> implements Serializable {
+        private final String id;
+        private final String key;
+        private final Renderer<T> renderer;
+        private SerializableComparator<T> comparator;
+        private ValueProvider<T, ?> sortKeyProvider;
+        private String[] sortProperties;
+        private String header;
+        private String width;
+        private Integer flexGrow;
+        private boolean autoWidth;
+        private boolean resizable;
+        private boolean frozen;
+        private boolean sortable;
+        private ColumnTextAlign textAlign;
+
+        private ColumnSpecBuilder(String id, String key,
+                Renderer<T> renderer) {
+            this.id = id;
+            this.key = key;
+            this.renderer = renderer;
+        }
+
+        private ColumnSpec<T> build() {
+            return new ColumnSpec<>(id, key, renderer, comparator,
+                    sortKeyProvider, sortProperties, header, width, flexGrow,
+                    autoWidth, resizable, frozen, sortable, textAlign);
+        }
+    }
+}
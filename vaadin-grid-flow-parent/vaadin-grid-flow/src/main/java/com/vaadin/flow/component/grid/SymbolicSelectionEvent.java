@@ -0,0 +1,118 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.data.provider.Query;
+
+/**
+ * Event fired when the selection of a multi-select grid changes, describing
+ * the selection without loading the selected items. The selection is either
+ * an explicit set of items, or all items matching the current filter except
+ * the items with the excluded ids.
+ * <p>
+ * The event is only fired when symbolic select all is enabled with
+ * {@link GridMultiSelectionModel#setSymbolicSelectAll(boolean)}.
+ *
+ * @param <T>
+ *            the grid bean type
+ * @author Vaadin Ltd
+ * @see GridMultiSelectionModel#addSymbolicSelectionListener(com.vaadin.flow.component.ComponentEventListener)
+ * @since 25.3
+ */
+public class SymbolicSelectionEvent<T> extends ComponentEvent<Grid<T>> {
+    private final GridMultiSelectionModel<T> selectionModel;
+    private final boolean allSelected;
+    private final Set<Object> excludedItemIds;
+
+    /**
+     * Creates a new symbolic selection event.
+     *
+     * @param source
+     *            the source component
+     * @param fromClient
+     *            {@code true} if the selection was changed by the user
+     * @param selectionModel
+     *            the selection model of the grid
+     * @param allSelected
+     *            {@code true} if all items except the excluded items are
+     *            selected
+     * @param excludedItemIds
+     *            the ids of the items excluded from the selection when all
+     *            items are selected
+     */
+    public SymbolicSelectionEvent(Grid<T> source, boolean fromClient,
+            GridMultiSelectionModel<T> selectionModel, boolean allSelected,
+            Set<Object> excludedItemIds) {
+        super(source, fromClient);
+        this.selectionModel = selectionModel;
+        this.allSelected = allSelected;
+        this.excludedItemIds = Collections
+                .unmodifiableSet(new LinkedHashSet<>(excludedItemIds));
+    }
+
+    /**
+     * Gets whether all items matching the current filter are selected, except
+     * the items returned by {@link #getExcludedItemIds()}.
+     *
+     * @return {@code true} if all items except the excluded items are
+     *         selected, {@code false} if the selection is an explicit set of
+     *         items
+     */
+    public boolean isAllSelected() {
+        return allSelected;
+    }
+
+    /**
+     * Gets the ids of the items excluded from the selection when all items
+     * are selected.
+     *
+     * @return an unmodifiable set of item ids, empty if
+     *         {@link #isAllSelected()} returns {@code false}
+     */
+    public Set<Object> getExcludedItemIds() {
+        return excludedItemIds;
+    }
+
+    /**
+     * Gets the number of selected items. This is a shorthand for
+     * {@link GridMultiSelectionModel#getSelectedItemCount()}, and reflects the
+     * selection at the time of calling.
+     *
+     * @return the number of selected items
+     */
+    public long getSelectedItemCount() {
+        return selectionModel.getSelectedItemCount();
+    }
+
+    /**
+     * Fetches a page of the selected items. This is a shorthand for
+     * {@link GridMultiSelectionModel#fetchSelectedItems(Query)}, and reflects
+     * the selection at the time of calling.
+     *
+     * @param query
+     *            the query defining the offset and limit of the page
+     * @return a stream of selected items
+     */
+    public Stream<T> fetchSelectedItems(Query<T, ?> query) {
+        return selectionModel.fetchSelectedItems(query);
+    }
+}
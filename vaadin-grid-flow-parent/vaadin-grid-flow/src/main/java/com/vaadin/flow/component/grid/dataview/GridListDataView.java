@@ -15,15 +15,23 @@
  */
 package com.vaadin.flow.component.grid.dataview;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.data.provider.AbstractListDataView;
 import com.vaadin.flow.data.provider.DataCommunicator;
+import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.IdentifierProvider;
+import com.vaadin.flow.data.provider.ListDataProvider;
 import com.vaadin.flow.function.SerializableBiConsumer;
 import com.vaadin.flow.function.SerializableComparator;
 import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.function.ValueProvider;
 
 /**
  * Data view implementation for Grid with in-memory list data. Provides
@@ -72,4 +80,71 @@ public class GridListDataView<T> extends AbstractListDataView<T> {
         super.setIdentifierProvider(identifierProvider);
         dataCommunicator.getKeyMapper().setIdentifierGetter(identifierProvider);
     }
+
+    /**
+     * Refreshes the rows of the items whose content has changed since the
+     * previous call to this method, instead of refreshing all data like
+     * {@link #refreshAll()} does. This is intended for views that reload the
+     * backing collection of a {@link ListDataProvider} periodically, where
+     * usually only a few items change between reloads.
+     * <p>
+     * The items are compared with a snapshot taken by the previous call, by
+     * their identifier and by the hash code of the value returned by the given
+     * provider as the content of an item. The content should cover the
+     * properties shown in the grid, as the hash code of the item itself is
+     * often based on its identifier only. For example, to refresh the rows of
+     * the persons whose name or email has changed:
+     *
+     * <pre>
+     * dataView.refreshChanges(
+     *         person -&gt; List.of(person.getName(), person.getEmail()));
+     * </pre>
+     *
+     * If the same items are shown in the same order, only the rows of the
+     * items whose content has changed are sent to the client again, as with
+     * {@link #refreshItem(Object)}. If items have been added, removed or moved,
+     * all data is refreshed. The first call, and the first call after the data
+     * provider has been changed, refreshes all data as there is no snapshot to
+     * compare with. Two different contents with the same hash code are not
+     * detected as a change.
+     *
+     * @param contentProvider
+     *            the provider for the content of an item, not <code>null</code>
+     * @since 25.3
+     */
+    public void refreshChanges(ValueProvider<T, ?> contentProvider) {
+        Objects.requireNonNull(contentProvider,
+                "Content provider cannot be null");
+        IdentifierProvider<T> identifierProvider = getIdentifierProvider();
+        List<T> items = getItems().toList();
+        List<Object> ids = new ArrayList<>(items.size());
+        int[] hashes = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            ids.add(identifierProvider.apply(item));
+            hashes[i] = Objects.hashCode(contentProvider.apply(item));
+        }
+
+        RefreshSnapshot previous = ComponentUtil.getData(component,
+                RefreshSnapshot.class);
+        ComponentUtil.setData(component, RefreshSnapshot.class,
+                new RefreshSnapshot(getDataProvider(), ids, hashes));
+
+        if (previous == null || previous.dataProvider() != getDataProvider()
+                || !previous.ids().equals(ids)) {
+            // The data communicator can only apply inserts, removes and moves
+            // by resetting, so structural changes refresh all data
+            refreshAll();
+            return;
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != previous.hashes()[i]) {
+                refreshItem(items.get(i));
+            }
+        }
+    }
+
+    private record RefreshSnapshot(DataProvider<?, ?> dataProvider,
+            List<Object> ids, int[] hashes) implements Serializable {
+    }
 }
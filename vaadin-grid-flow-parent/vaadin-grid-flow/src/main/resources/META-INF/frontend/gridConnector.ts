@@ -4,18 +4,47 @@ import { isFocusable } from '@vaadin/grid/src/vaadin-grid-active-item-mixin.js';
 import { GridFlowSelectionColumn } from './vaadin-grid-flow-selection-column.ts';
 import type { GridColumn } from '@vaadin/grid/src/vaadin-grid-column.js';
 import type { GridSorter } from '@vaadin/grid/src/vaadin-grid-sorter.js';
-import type { GridSorterDirection } from '@vaadin/grid/src/vaadin-grid-data-provider-mixin.js';
+import type { GridSorterDefinition, GridSorterDirection } from '@vaadin/grid/src/vaadin-grid-data-provider-mixin.js';
 import type { GridCellActivateEvent } from '@vaadin/grid/src/vaadin-grid-mixin.js';
 import type {
   FlowDataProviderController,
   FlowGrid,
   Item,
   ItemRange,
-  SelectionMode
+  SelectionMode,
+  SortKey
 } from './vaadin-grid/vaadin-grid-types.js';
 
 const requestDebouncerDelay = 150;
 
+// Delay for notifying the server of sorting and filtering done in the browser
+const clientSideNotifyDelay = 500;
+
+// Maximum number of remembered heights of lazily created item details
+const maxDetailsHeights = 1000;
+
+// Distance in pixels that a pressed pointer has to move before the drag data
+// is fetched, so that plain clicks do not fetch it
+const dragDataFetchDistance = 3;
+
+// Drag data types that fall back to the text of the row when lazily fetched
+// drag data has not arrived yet
+const plainTextDragDataTypes = ['text', 'text/plain'];
+
+function compareSortKeys(a: SortKey, b: SortKey): number {
+  // Same as the natural order with nulls last on the server
+  if (a === b) {
+    return 0;
+  }
+  if (a === null) {
+    return 1;
+  }
+  if (b === null) {
+    return -1;
+  }
+  return a < b ? -1 : a > b ? 1 : 0;
+}
+
 function isRangeEqual(range1: ItemRange | null, range2: ItemRange | null) {
   return range1?.[0] === range2?.[0] && range1?.[1] === range2?.[1];
 }
@@ -40,12 +69,24 @@ export class GridConnector {
 
   #requestDebouncer: Debouncer | null = null;
   #requestedRange: ItemRange | null = null;
+  #detailsRangeDebouncer: Debouncer | null = null;
+  #reportedDetailsRange: ItemRange | null = null;
+  #detailsHeights = new Map<string, number>();
+  #lazyDragData: Record<string, Record<string, string>> = {};
+  #pressedRow: { item: Item; x: number; y: number } | null = null;
 
   #selectedKeys: Record<string, Item> = {};
   #selectionMode: SelectionMode = 'SINGLE';
 
   #sorterDirectionsSetFromServer = false;
 
+  // While client-side data is active, all items in the server order. The grid
+  // cache then holds the sorted and filtered view of these items.
+  #clientSideItems: (Item | undefined)[] = [];
+  #clientSideFilter = '';
+  #clientSideSortDebouncer: Debouncer | null = null;
+  #clientSideFilterDebouncer: Debouncer | null = null;
+
   #preventRowUpdatesActive = 0;
 
   constructor(grid: FlowGrid) {
@@ -132,6 +173,11 @@ export class GridConnector {
   getFetchRange(): ItemRange {
     const grid = this.#grid;
 
+    if (grid.__clientSideData) {
+      // All items are needed for sorting and filtering in the browser
+      return [0, Math.max(this.#clientSideItems.length - 1, 0)];
+    }
+
     // Get the range of currently rendered rows
     let range = this.getRenderedRange();
 
@@ -241,9 +287,10 @@ export class GridConnector {
   }
 
   set(startIndex: number, items: Item[]): void {
-    const { rootCache } = this.#dataProviderController;
+    const clientSideData = this.#grid.__clientSideData;
+    const target = clientSideData ? this.#clientSideItems : this.#dataProviderController.rootCache.items;
     items.forEach((item, i) => {
-      rootCache.items[startIndex + i] = item;
+      target[startIndex + i] = item;
     });
 
     this.#preventRowUpdates(() => {
@@ -251,7 +298,11 @@ export class GridConnector {
       this.doDeselection(items.filter((item) => !item.selected && this.#selectedKeys[item.key]));
     });
 
-    this.#grid.__updateVisibleRows(startIndex, startIndex + items.length - 1);
+    if (clientSideData) {
+      this.#updateClientSideView();
+    } else {
+      this.#grid.__updateVisibleRows(startIndex, startIndex + items.length - 1);
+    }
   }
 
   /**
@@ -262,6 +313,14 @@ export class GridConnector {
   updateFlatData(updatedItems: Item[]): void {
     const { rootCache } = this.#dataProviderController;
 
+    if (this.#grid.__clientSideData) {
+      // An update may change the sort keys, so the whole view is updated
+      const updatedByKey = new Map(updatedItems.map((item) => [item.key, item]));
+      this.#clientSideItems = this.#clientSideItems.map((item) => (item && updatedByKey.get(item.key)) ?? item);
+      this.#updateClientSideView();
+      return;
+    }
+
     updatedItems.forEach((item) => {
       const itemContext = this.#dataProviderController.getItemContext(item);
       if (!itemContext) {
@@ -283,7 +342,8 @@ export class GridConnector {
       throw 'Got cleared data for index ' + index + ' which is not aligned with the page size of ' + grid.pageSize;
     }
 
-    const items = rootCache.items.slice(index, index + length).filter((item): item is Item => !!item);
+    const source = grid.__clientSideData ? this.#clientSideItems : rootCache.items;
+    const items = source.slice(index, index + length).filter((item): item is Item => !!item);
     if (items.length === 0) {
       return;
     }
@@ -292,22 +352,63 @@ export class GridConnector {
       this.doDeselection(items.filter((item) => this.#selectedKeys[item.key]));
     });
 
-    rootCache.items.fill(undefined, index, index + length);
+    source.fill(undefined, index, index + length);
 
-    grid.__updateVisibleRows(index, index + length - 1);
+    if (grid.__clientSideData) {
+      this.#updateClientSideView();
+    } else {
+      grid.__updateVisibleRows(index, index + length - 1);
+    }
   }
 
   reset(): void {
+    this.#clientSideItems = [];
     this.#dataProviderController.clearCache();
     this.#requestedRange = null;
     this.#requestDebouncer?.cancel();
+    this.#reportedDetailsRange = null;
+    this.#detailsHeights.clear();
     this.#grid.__updateVisibleRows();
   }
 
   updateSize(size: number): void {
+    if (this.#grid.__clientSideData) {
+      this.#clientSideItems.length = size;
+      this.#updateClientSideView();
+      return;
+    }
     this.#grid.size = size;
   }
 
+  /**
+   * Filters the rows in the browser while client-side data is active. A row
+   * is shown if any of its sort keys contains the filter, ignoring case.
+   *
+   * @param filter the text to filter with, or an empty string to show all rows
+   * @param notifyServer whether to notify the server of the new filter
+   */
+  setClientSideFilter(filter: string | null, notifyServer = true): void {
+    filter ??= '';
+    if (filter === this.#clientSideFilter) {
+      return;
+    }
+    this.#clientSideFilter = filter;
+
+    if (this.#grid.__clientSideData) {
+      this.#updateClientSideView();
+    }
+
+    if (notifyServer) {
+      this.#clientSideFilterDebouncer = Debouncer.debounce(
+        this.#clientSideFilterDebouncer,
+        timeOut.after(clientSideNotifyDelay),
+        () => {
+          this.#grid.$server.clientSideFilterChanged(this.#clientSideFilter);
+        }
+      );
+    }
+  }
+
   updateUniqueItemIdPath(path: string): void {
     this.#grid.itemIdPath = path;
   }
@@ -405,6 +506,10 @@ export class GridConnector {
         this.#dataProviderController.ensureFlatIndexLoaded(fetchRange[0]);
         this.#dataProviderController.ensureFlatIndexLoaded(fetchRange[1]);
       }
+
+      if (grid.__lazyDetails) {
+        this.#reportDetailsRange();
+      }
     };
 
     grid.dataProvider = (params, callback) => {
@@ -439,6 +544,10 @@ export class GridConnector {
       }
 
       Object.getPrototypeOf(grid).__updateRow.call(grid, row, ...args);
+
+      if (grid.__lazyDetails) {
+        this.#updateLazyDetails(row);
+      }
     };
 
     grid.__a11yUpdateRowSelected = (row, selected) => {
@@ -502,8 +611,24 @@ export class GridConnector {
       // Call the original __applySorters method in vaadin-grid-sort-mixin
       Object.getPrototypeOf(grid).__applySorters.call(grid, ...args);
 
+      if (sortersChanged && grid.__clientSideData) {
+        this.#updateClientSideView();
+      }
+
       if (sortersChanged && !this.#sorterDirectionsSetFromServer) {
-        grid.$server.sortersChanged(sorters);
+        if (grid.__clientSideData && this.#isClientSideDataLoaded() && this.#hasSortKeys(sorters)) {
+          // The rows are already sorted, so the server can be notified lazily
+          // and only needs to record the sort order
+          this.#clientSideSortDebouncer = Debouncer.debounce(
+            this.#clientSideSortDebouncer,
+            timeOut.after(clientSideNotifyDelay),
+            () => {
+              grid.$server.clientSideSortersChanged(grid._mapSorters());
+            }
+          );
+        } else {
+          grid.$server.sortersChanged(sorters);
+        }
       }
     };
 
@@ -609,8 +734,42 @@ export class GridConnector {
       );
     });
 
+    grid.addEventListener('pointerdown', (e) => {
+      const item = grid.getEventContext(e).item;
+      this.#pressedRow = null;
+      if (grid.__lazyDragData && grid.rowsDraggable && item) {
+        this.#pressedRow = { item, x: e.clientX, y: e.clientY };
+      }
+    });
+
+    grid.addEventListener('pointermove', (e) => {
+      // A drag is only likely once the pressed pointer moves, so the drag
+      // data is not fetched for plain clicks
+      const pressedRow = this.#pressedRow;
+      if (pressedRow && Math.hypot(e.clientX - pressedRow.x, e.clientY - pressedRow.y) >= dragDataFetchDistance) {
+        this.#pressedRow = null;
+        this.#fetchDragData(pressedRow.item);
+      }
+    });
+
+    ['pointerup', 'pointercancel'].forEach((type) => {
+      grid.addEventListener(type, () => {
+        this.#pressedRow = null;
+      });
+    });
+
     grid.addEventListener('grid-dragstart', (e) => {
       const { draggedItems, setDragData, setDraggedItemsCount } = e.detail;
+      const getDragData = (item: Item, type: string) =>
+        (item.dragData ?? this.#lazyDragData[item.key])?.[type] ??
+        (plainTextDragDataTypes.includes(type) ? this.#getFallbackDragData(item) : undefined);
+      // Types whose data has not arrived for any of the items are left out
+      const setDefinedDragData = (type: string, data: (string | undefined)[]) => {
+        const definedData = data.filter((value) => value !== undefined);
+        if (definedData.length > 0) {
+          setDragData(type, definedData.join('\n'));
+        }
+      };
 
       if (grid._isSelected(draggedItems[0])) {
         // Dragging selected (possibly multiple) items
@@ -618,7 +777,7 @@ export class GridConnector {
           Object.entries(grid.__selectionDragData).forEach(([type, data]) => setDragData(type, data));
         } else {
           (grid.__dragDataTypes || []).forEach((type) => {
-            setDragData(type, draggedItems.map((item) => item.dragData![type]).join('\n'));
+            setDefinedDragData(type, draggedItems.map((item) => getDragData(item, type)));
           });
         }
 
@@ -629,7 +788,7 @@ export class GridConnector {
       } else {
         // Dragging just one (non-selected) item
         (grid.__dragDataTypes || []).forEach((type) => {
-          setDragData(type, draggedItems[0].dragData![type]);
+          setDefinedDragData(type, [getDragData(draggedItems[0], type)]);
         });
       }
     });
@@ -709,6 +868,182 @@ export class GridConnector {
     }
   }
 
+  /**
+   * Gets the plain text drag data used for an item whose lazily fetched drag
+   * data has not arrived when the drag starts: the values of its text columns
+   * separated by tabs, like the default drag data of the grid, or the item
+   * key if it has no text columns.
+   */
+  #getFallbackDragData(item: Item): string {
+    const values = [...this.#grid.querySelectorAll<GridColumn>('vaadin-grid-column')]
+      .filter((column) => column.path && !column.hidden)
+      .map((column) => (item as unknown as Record<string, unknown>)[column.path!])
+      .filter((value) => value !== undefined && value !== null && value !== '');
+    return values.length > 0 ? values.join('\t') : item.key;
+  }
+
+  /**
+   * Fetches the drag data of the items that would be dragged if the user
+   * started dragging the given item. The native drag data can only be set
+   * synchronously when the drag starts, so the data is fetched ahead of time,
+   * when the user moves a pointer pressed on the row.
+   */
+  async #fetchDragData(item: Item | undefined): Promise<void> {
+    const grid = this.#grid;
+    if (!item || item.dragDisabled || (grid.__dragDataTypes || []).length === 0) {
+      return;
+    }
+
+    let items = [item];
+    if (grid._isSelected(item) && !grid.__selectionDragData) {
+      items = grid.selectedItems.filter((selected) => !selected.dragDisabled);
+    }
+
+    // Drop the data of earlier presses, as the items may have changed since
+    const request: Record<string, Record<string, string>> = {};
+    this.#lazyDragData = request;
+    const dragData = await grid.$server.fetchDragData(items.map((i) => i.key));
+    if (this.#lazyDragData === request) {
+      Object.assign(request, dragData);
+    }
+  }
+
+  /**
+   * Reports the rendered range to the server, which creates the details
+   * components only for the rows within the range.
+   */
+  #reportDetailsRange(): void {
+    this.#detailsRangeDebouncer = Debouncer.debounce(
+      this.#detailsRangeDebouncer,
+      timeOut.after(requestDebouncerDelay),
+      () => {
+        const range = this.getRenderedRange();
+        if (isRangeEqual(range, this.#reportedDetailsRange)) {
+          return;
+        }
+        this.#reportedDetailsRange = range;
+        this.#grid.$server.setDetailsRenderedRange(range[0], range[1]);
+      }
+    );
+  }
+
+  /**
+   * Remembers the height of the details of the row while its details
+   * component exists, and reserves that height while the server has released
+   * the component, so that the scroll position stays stable. The heights of
+   * closed details are dropped, and only the most recent ones are kept.
+   */
+  #updateLazyDetails(row: HTMLElement & { _item?: Item }): void {
+    const item = row._item;
+    const detailsCell = row.querySelector<HTMLElement>('[part~="details-cell"]');
+    if (!item || !detailsCell) {
+      return;
+    }
+
+    if (!item.detailsOpened) {
+      detailsCell.style.minHeight = '';
+      this.#detailsHeights.delete(item.key);
+    } else if (item.detailsPlaceholder) {
+      const height = this.#detailsHeights.get(item.key);
+      detailsCell.style.minHeight = height ? `${height}px` : '';
+    } else {
+      detailsCell.style.minHeight = '';
+      requestAnimationFrame(() => {
+        if (row._item === item && detailsCell.offsetHeight > 0) {
+          // Re-inserting keeps the most recently measured rows last, so the
+          // oldest heights are the first to be dropped
+          this.#detailsHeights.delete(item.key);
+          this.#detailsHeights.set(item.key, detailsCell.offsetHeight);
+          if (this.#detailsHeights.size > maxDetailsHeights) {
+            this.#detailsHeights.delete(this.#detailsHeights.keys().next().value!);
+          }
+        }
+      });
+    }
+
+    this.#reportDetailsRange();
+  }
+
+  #isClientSideDataLoaded(): boolean {
+    // Not using every() as it skips the holes of a sparse array
+    const items = this.#clientSideItems;
+    for (let i = 0; i < items.length; i++) {
+      if (!items[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Whether all items have comparable sort keys for the given sorters, so
+   * that the browser sorts them the same way as the server.
+   */
+  #hasSortKeys(sorters: GridSorterDefinition[]): boolean {
+    const items = this.#clientSideItems;
+    return sorters.every(({ path }) => {
+      const types = new Set<string>();
+      return items.every((item) => {
+        const sortKeys = item!.sortKeys;
+        if (!sortKeys || !(path in sortKeys)) {
+          return false;
+        }
+        const key = sortKeys[path];
+        if (key !== null) {
+          types.add(typeof key);
+        }
+        return types.size <= 1;
+      });
+    });
+  }
+
+  /**
+   * Updates the grid cache with the sorted and filtered client-side items.
+   * Until all items have been loaded, the items are shown as they are.
+   */
+  #updateClientSideView(): void {
+    const grid = this.#grid;
+    const items = this.#clientSideItems;
+    let view = items;
+
+    if (this.#isClientSideDataLoaded()) {
+      const filter = this.#clientSideFilter.toLowerCase();
+      view = items.filter((item) => {
+        return (
+          !filter ||
+          Object.values(item!.sortKeys ?? {}).some(
+            (key) => key !== null && String(key).toLowerCase().includes(filter)
+          )
+        );
+      });
+
+      // Otherwise the items are already in the order sorted by the server
+      const sorters = grid._mapSorters();
+      if (this.#hasSortKeys(sorters)) {
+        view.sort((a, b) => {
+          for (const { path, direction } of sorters) {
+            const result = compareSortKeys(a!.sortKeys![path], b!.sortKeys![path]);
+            if (result !== 0) {
+              return direction === 'desc' ? -result : result;
+            }
+          }
+          // Items with equal sort keys keep the order of the data provider
+          return (a!.sortIndex ?? 0) - (b!.sortIndex ?? 0);
+        });
+      }
+    }
+
+    if (grid.size !== view.length) {
+      grid.size = view.length;
+    }
+    const { rootCache } = this.#dataProviderController;
+    rootCache.items.length = 0;
+    for (let i = 0; i < view.length; i++) {
+      rootCache.items[i] = view[i];
+    }
+    grid.__updateVisibleRows();
+  }
+
   #preventRowUpdates(callback: () => void): void {
     try {
       this.#preventRowUpdatesActive++;
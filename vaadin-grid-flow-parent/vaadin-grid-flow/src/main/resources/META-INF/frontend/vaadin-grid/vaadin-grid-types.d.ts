@@ -12,18 +12,24 @@ import type { GridConnector } from '../gridConnector.js';
 
 export type { GridConnector };
 
+/** A value that the browser can sort by in the same way as the server */
+export type SortKey = string | number | boolean | null;
+
 /** An item sent by the server-side data communicator */
 export interface Item {
   key: string;
   selected?: boolean;
   selectable?: boolean;
   detailsOpened?: boolean;
+  detailsPlaceholder?: boolean;
   expanded?: boolean;
   level?: number;
   part?: Record<string, string>;
   dragData?: Record<string, string>;
   dragDisabled?: boolean;
   dropDisabled?: boolean;
+  sortKeys?: Record<string, SortKey>;
+  sortIndex?: number;
 }
 
 /** An inclusive range of item indexes: [start, end] */
@@ -45,10 +51,14 @@ export interface GridServer {
   deselect(key: string): void;
   deselectAll(): void;
   setDetailsVisible(key: string | null): void;
+  setDetailsRenderedRange(first: number, last: number): void;
+  fetchDragData(keys: string[]): Promise<Record<string, Record<string, string>>>;
   setShiftKeyDown(shiftKeyDown: boolean): void;
   setViewportRange(firstIndex: number, size: number): Promise<void>;
   setViewportRangeByIndexPath(indexes: number[], padding: number): Promise<number>;
   sortersChanged(sorters: GridSorterDefinition[]): void;
+  clientSideSortersChanged(sorters: GridSorterDefinition[]): void;
+  clientSideFilterChanged(filter: string): void;
   updateContextMenuTargetItem(key: string, columnId: string): void;
   updateExpandedState(key: unknown, expanded: boolean): void;
 }
@@ -69,8 +79,11 @@ export interface FlowGridInternals {
   $: { scroller: HTMLElement; table: HTMLElement; header: HTMLElement; footer: HTMLElement };
   $connector: GridConnector;
   $server: GridServer;
+  __clientSideData?: boolean;
   __deselectDisallowed: boolean;
   __disallowDetailsOnClick: boolean;
+  __lazyDetails?: boolean;
+  __lazyDragData?: boolean;
   __dragDataTypes?: string[];
   __selectionDragData?: Record<string, string>;
   __selectionDraggedItemsCount?: number;
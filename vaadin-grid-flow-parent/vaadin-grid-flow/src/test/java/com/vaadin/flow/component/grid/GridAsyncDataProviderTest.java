@@ -0,0 +1,405 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.shared.SelectionPreservationMode;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.tests.MockUIExtension;
+
+class GridAsyncDataProviderTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private List<Query<String, Void>> fetchQueries;
+    private List<CompletableFuture<List<String>>> fetches;
+    private List<CompletableFuture<Integer>> counts;
+    private AtomicInteger refreshes;
+    private AtomicInteger dataChangeEvents;
+    private AsyncDataProvider<String> dataProvider;
+
+    @BeforeEach
+    void setup() {
+        fetchQueries = new ArrayList<>();
+        fetches = new ArrayList<>();
+        counts = new ArrayList<>();
+        refreshes = new AtomicInteger();
+        dataChangeEvents = new AtomicInteger();
+        dataProvider = new AsyncDataProvider<>(this::startFetch,
+                this::startCount, Runnable::run, refreshes::incrementAndGet,
+                refreshes::incrementAndGet);
+        dataProvider.addDataProviderListener(
+                event -> dataChangeEvents.incrementAndGet());
+    }
+
+    @Test
+    void fetchPending_emptyResult() {
+        Assertions.assertEquals(0, fetch(0, 2).size());
+        Assertions.assertEquals(1, fetches.size());
+    }
+
+    @Test
+    void fetchCompleted_refreshed_resultServed() {
+        fetch(0, 2);
+        fetches.get(0).complete(List.of("a", "b"));
+
+        Assertions.assertEquals(1, refreshes.get());
+        Assertions.assertEquals(0, dataChangeEvents.get());
+        Assertions.assertEquals(List.of("a", "b"), fetch(0, 2));
+        Assertions.assertEquals(1, fetches.size());
+    }
+
+    @Test
+    void samePageRequestedWhilePending_fetchedOnce() {
+        fetch(0, 2);
+        fetch(0, 2);
+
+        Assertions.assertEquals(1, fetches.size());
+    }
+
+    @Test
+    void otherPageRequestedWhilePending_bothKept() {
+        fetch(0, 2);
+        fetch(2, 2);
+
+        Assertions.assertFalse(fetches.get(0).isCancelled());
+        Assertions.assertEquals(2, fetches.size());
+
+        fetches.get(1).complete(List.of("c", "d"));
+        fetches.get(0).complete(List.of("a", "b"));
+        Assertions.assertEquals(List.of("a", "b"), fetch(0, 2));
+        Assertions.assertEquals(List.of("c", "d"), fetch(2, 2));
+        Assertions.assertEquals(2, fetches.size());
+    }
+
+    @Test
+    void sortingChangedWhilePending_previousCancelled() {
+        fetch(0, 2);
+        var first = fetches.get(0);
+        dataProvider.fetch(new Query<>(0, 2,
+                List.of(new QuerySortOrder("name", SortDirection.ASCENDING)),
+                null, null)).toList();
+
+        Assertions.assertTrue(first.isCancelled());
+        Assertions.assertEquals(2, fetches.size());
+        first.obtrudeValue(List.of("a", "b"));
+        Assertions.assertEquals(0, refreshes.get());
+    }
+
+    @Test
+    void tooManyPagesPending_oldestCancelled() {
+        for (int i = 0; i <= AsyncDataProvider.MAX_PENDING_FETCHES; i++) {
+            fetch(i * 2, 2);
+        }
+
+        Assertions.assertTrue(fetches.get(0).isCancelled());
+        Assertions.assertTrue(fetches.subList(1, fetches.size()).stream()
+                .noneMatch(CompletableFuture::isCancelled));
+    }
+
+    @Test
+    void manyPagesReady_leastRecentlyUsedDiscarded() {
+        for (int i = 0; i <= AsyncDataProvider.MAX_READY_PAGES; i++) {
+            fetch(i * 2, 2);
+            fetches.get(i).complete(List.of("item " + i));
+            if (i > 0) {
+                // keep the first page in use
+                fetch(0, 2);
+            }
+        }
+
+        Assertions.assertEquals(List.of("item 0"), fetch(0, 2));
+        Assertions.assertEquals(0, fetch(2, 2).size());
+        Assertions.assertEquals(AsyncDataProvider.MAX_READY_PAGES + 2,
+                fetches.size());
+    }
+
+    @Test
+    void cancelPendingRequests_fetchedAgain_readyPagesKept() {
+        fetch(0, 2);
+        fetches.get(0).complete(List.of("a", "b"));
+        fetch(2, 2);
+        dataProvider.size(new Query<>());
+
+        dataProvider.cancelPendingRequests();
+
+        Assertions.assertTrue(fetches.get(1).isCancelled());
+        Assertions.assertTrue(counts.get(0).isCancelled());
+        Assertions.assertEquals(List.of("a", "b"), fetch(0, 2));
+        fetch(2, 2);
+        dataProvider.size(new Query<>());
+        Assertions.assertEquals(3, fetches.size());
+        Assertions.assertEquals(2, counts.size());
+    }
+
+    @Test
+    void fetchAlreadyCompleted_servedImmediately() {
+        var provider = new AsyncDataProvider<String>(
+                query -> CompletableFuture.completedFuture(List.of("a")),
+                query -> CompletableFuture.completedFuture(1), Runnable::run,
+                () -> {
+                }, () -> {
+                });
+
+        Assertions.assertEquals(1, provider.size(new Query<>()));
+        Assertions.assertEquals(List.of("a"),
+                provider.fetch(new Query<>()).toList());
+    }
+
+    @Test
+    void countPending_zero_countCompleted_countCached() {
+        Assertions.assertEquals(0, dataProvider.size(new Query<>()));
+        counts.get(0).complete(42);
+
+        Assertions.assertEquals(1, refreshes.get());
+        Assertions.assertEquals(0, dataChangeEvents.get());
+        Assertions.assertEquals(42, dataProvider.size(new Query<>()));
+        Assertions.assertEquals(42, dataProvider.size(new Query<>()));
+        Assertions.assertEquals(1, counts.size());
+    }
+
+    @Test
+    void fetchFailed_noRefresh_fetchedAgain() {
+        fetch(0, 2);
+        fetches.get(0).completeExceptionally(new RuntimeException("test"));
+
+        Assertions.assertEquals(0, refreshes.get());
+        fetch(0, 2);
+        Assertions.assertEquals(2, fetches.size());
+    }
+
+    @Test
+    void refreshAll_cachesCleared() {
+        dataProvider.size(new Query<>());
+        counts.get(0).complete(42);
+        fetch(0, 2);
+        fetches.get(0).complete(List.of("a", "b"));
+
+        dataProvider.refreshAll();
+
+        Assertions.assertEquals(0, dataProvider.size(new Query<>()));
+        Assertions.assertEquals(0, fetch(0, 2).size());
+        Assertions.assertEquals(2, counts.size());
+        Assertions.assertEquals(2, fetches.size());
+    }
+
+    @Test
+    void setItemsAsync_lazyDataViewUsesAsyncDataProvider() {
+        var grid = new Grid<String>();
+        grid.setItemsAsync(
+                query -> CompletableFuture.completedFuture(List.of("a")),
+                query -> CompletableFuture.completedFuture(1));
+
+        Assertions.assertInstanceOf(AsyncDataProvider.class,
+                grid.getDataProvider());
+    }
+
+    @Test
+    void gridViewportSpansSeveralPages_allPagesLoadedOnce() {
+        Grid<String> grid = createAttachedGrid();
+        grid.getDataCommunicator().setViewportRange(0, 120);
+        ui.fakeClientCommunication();
+        counts.get(0).complete(200);
+
+        completePendingFetches();
+
+        // Pages 0-49, 50-99 and 100-149
+        Assertions.assertEquals(3, fetches.size());
+        Assertions.assertTrue(
+                fetches.stream().noneMatch(CompletableFuture::isCancelled));
+        Assertions.assertEquals(200,
+                grid.getDataCommunicator().getItemCount());
+        Assertions.assertTrue(
+                grid.getDataCommunicator().getKeyMapper().has("Item 0"));
+        Assertions.assertTrue(
+                grid.getDataCommunicator().getKeyMapper().has("Item 119"));
+
+        ui.fakeClientCommunication();
+        Assertions.assertEquals(3, fetches.size());
+    }
+
+    @Test
+    void gridDetachedWhilePending_requestsCancelled_loadedAfterReattach() {
+        Grid<String> grid = createAttachedGrid();
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        ui.fakeClientCommunication();
+
+        ui.remove(grid);
+        Assertions.assertTrue(counts.get(0).isCancelled());
+
+        ui.add(grid);
+        ui.fakeClientCommunication();
+        Assertions.assertEquals(2, counts.size());
+        counts.get(1).complete(100);
+        ui.fakeClientCommunication();
+        Assertions.assertEquals(1, fetches.size());
+
+        ui.remove(grid);
+        Assertions.assertTrue(fetches.get(0).isCancelled());
+        // A result arriving while detached is ignored
+        fetches.get(0).obtrudeValue(List.of("Stale"));
+
+        ui.add(grid);
+        completePendingFetches();
+
+        Assertions.assertEquals(2, fetches.size());
+        Assertions.assertEquals(100,
+                grid.getDataCommunicator().getItemCount());
+        Assertions.assertTrue(
+                grid.getDataCommunicator().getKeyMapper().has("Item 49"));
+        Assertions.assertFalse(
+                grid.getDataCommunicator().getKeyMapper().has("Stale"));
+    }
+
+    @Test
+    void preserveAll_pagesArrive_selectionKept() {
+        Grid<String> grid = createAttachedGrid();
+        grid.setSelectionMode(Grid.SelectionMode.MULTI);
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        ui.fakeClientCommunication();
+        counts.get(0).complete(200);
+        completePendingFetches();
+        grid.asMultiSelect().select("Item 1", "Item 2");
+
+        grid.getDataCommunicator().setViewportRange(50, 100);
+        completePendingFetches();
+
+        Assertions.assertEquals(Set.of("Item 1", "Item 2"),
+                grid.getSelectedItems());
+        Assertions.assertTrue(
+                grid.getDataCommunicator().getKeyMapper().has("Item 149"));
+    }
+
+    @Test
+    void discard_pagesArrive_selectionKept() {
+        Grid<String> grid = createAttachedGrid();
+        grid.setSelectionPreservationMode(SelectionPreservationMode.DISCARD);
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        ui.fakeClientCommunication();
+        counts.get(0).complete(200);
+        completePendingFetches();
+        grid.select("Item 1");
+
+        grid.getDataCommunicator().setViewportRange(50, 100);
+        completePendingFetches();
+
+        Assertions.assertEquals(Set.of("Item 1"),
+                grid.getSelectedItems());
+        Assertions.assertTrue(
+                grid.getDataCommunicator().getKeyMapper().has("Item 149"));
+
+        grid.getDataProvider().refreshAll();
+        Assertions.assertTrue(grid.getSelectedItems().isEmpty());
+    }
+
+    @Test
+    void preserveExisting_notSupported() {
+        Grid<String> grid = createAttachedGrid();
+
+        // Fetching all items to find the existing ones is not possible with
+        // a lazy data provider, so arriving pages never fetch all items
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> grid.setSelectionPreservationMode(
+                        SelectionPreservationMode.PRESERVE_EXISTING));
+    }
+
+    @Test
+    void symbolicSelectAll_pagesArrive_allStillSelected() {
+        Grid<String> grid = createAttachedGrid();
+        grid.setSelectionMode(Grid.SelectionMode.MULTI);
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        ui.fakeClientCommunication();
+        counts.get(0).complete(200);
+        completePendingFetches();
+        GridMultiSelectionModel<String> selectionModel = (GridMultiSelectionModel<String>) grid
+                .getSelectionModel();
+        selectionModel.setSymbolicSelectAll(true);
+        selectionModel.selectAll();
+
+        grid.getDataCommunicator().setViewportRange(50, 100);
+        completePendingFetches();
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+    }
+
+    private Grid<String> createAttachedGrid() {
+        Grid<String> grid = new Grid<>();
+        grid.addColumn(item -> item);
+        grid.setItemsAsync(this::startFetch, this::startCount);
+        ui.add(grid);
+        return grid;
+    }
+
+    /**
+     * Completes the pending fetches with generated items until the grid stops
+     * requesting more pages.
+     */
+    private void completePendingFetches() {
+        for (int round = 0; round < 10; round++) {
+            ui.fakeClientCommunication();
+            boolean completed = false;
+            for (int i = 0; i < fetches.size(); i++) {
+                var future = fetches.get(i);
+                if (!future.isDone()) {
+                    var query = fetchQueries.get(i);
+                    future.complete(IntStream
+                            .range(query.getOffset(),
+                                    query.getOffset() + query.getLimit())
+                            .mapToObj(index -> "Item " + index).toList());
+                    completed = true;
+                }
+            }
+            if (!completed) {
+                return;
+            }
+        }
+        Assertions.fail("The grid kept requesting pages");
+    }
+
+    private CompletableFuture<List<String>> startFetch(
+            Query<String, Void> query) {
+        var future = new CompletableFuture<List<String>>();
+        fetchQueries.add(query);
+        fetches.add(future);
+        return future;
+    }
+
+    private CompletableFuture<Integer> startCount(Query<String, Void> query) {
+        var future = new CompletableFuture<Integer>();
+        counts.add(future);
+        return future;
+    }
+
+    private List<String> fetch(int offset, int limit) {
+        return dataProvider
+                .fetch(new Query<>(offset, limit, List.of(), null, null))
+                .toList();
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.data.event.SortEvent;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class GridClientSideDataTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private Grid<Person> grid;
+    private Column<Person> nameColumn;
+    private Column<Person> bornColumn;
+    private List<Person> people;
+
+    @BeforeEach
+    void setup() {
+        grid = new Grid<>();
+        nameColumn = grid.addColumn(Person::getName);
+        bornColumn = grid.addColumn(Person::getBorn);
+        people = new ArrayList<>(List.of(new Person("Bob", 1980),
+                new Person("alice", 1990), new Person(null, 1970)));
+        grid.setItems(people);
+        ui.add(grid);
+    }
+
+    @Test
+    void default_disabled() {
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(0, grid.getClientSideDataThreshold());
+        Assertions.assertFalse(grid.isClientSideDataActive());
+        Assertions.assertFalse(
+                grid.getElement().getProperty("__clientSideData", false));
+        Assertions.assertFalse(generateData(people.get(0)).has("sortKeys"));
+    }
+
+    @Test
+    void setThreshold_outOfRange_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> grid.setClientSideDataThreshold(-1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> grid.setClientSideDataThreshold(1001));
+    }
+
+    @Test
+    void setThreshold_itemCountBelow_active() {
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(grid.isClientSideDataActive());
+        Assertions.assertTrue(
+                grid.getElement().getProperty("__clientSideData", false));
+    }
+
+    @Test
+    void setThreshold_itemCountAbove_inactive() {
+        grid.setItems(IntStream.range(0, 20)
+                .mapToObj(i -> new Person("Person " + i, 2000)).toList());
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        Assertions.assertFalse(grid.isClientSideDataActive());
+    }
+
+    @Test
+    void itemCountExceedsThreshold_deactivated() {
+        grid.setClientSideDataThreshold(3);
+        ui.fakeClientCommunication();
+        Assertions.assertTrue(grid.isClientSideDataActive());
+
+        people.add(new Person("Carol", 2000));
+        grid.getDataProvider().refreshAll();
+        ui.fakeClientCommunication();
+        Assertions.assertFalse(grid.isClientSideDataActive());
+    }
+
+    @Test
+    void active_sortKeysGenerated() {
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        ObjectNode data = generateData(people.get(1));
+        ObjectNode sortKeys = (ObjectNode) data.get("sortKeys");
+        Assertions.assertEquals("alice",
+                sortKeys.get(nameColumn.getInternalId()).asString());
+        Assertions.assertEquals(1990,
+                sortKeys.get(bornColumn.getInternalId()).asInt());
+        Assertions.assertEquals(1, data.get("sortIndex").asInt());
+
+        ObjectNode nullName = (ObjectNode) generateData(people.get(2))
+                .get("sortKeys");
+        Assertions.assertTrue(
+                nullName.get(nameColumn.getInternalId()).isNull());
+    }
+
+    @Test
+    void customComparator_noSortKey() {
+        nameColumn.setComparator(
+                Comparator.comparing(Person::getName, String::compareTo));
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        ObjectNode sortKeys = (ObjectNode) generateData(people.get(0))
+                .get("sortKeys");
+        Assertions.assertFalse(sortKeys.has(nameColumn.getInternalId()));
+        Assertions.assertTrue(sortKeys.has(bornColumn.getInternalId()));
+    }
+
+    @Test
+    void dataViewSortComparator_sortIndexFollowsDataViewOrder() {
+        grid.getListDataView().setSortOrder(Person::getBorn,
+                SortDirection.ASCENDING);
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(0,
+                generateData(people.get(2)).get("sortIndex").asInt());
+        Assertions.assertEquals(2,
+                generateData(people.get(1)).get("sortIndex").asInt());
+    }
+
+    @Test
+    void clientSideSortersChanged_active_sortOrderSetWithoutResendingItems() {
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+        AtomicInteger generatedItems = countGeneratedItems();
+        List<SortEvent<Grid<Person>, GridSortOrder<Person>>> events = new ArrayList<>();
+        grid.addSortListener(events::add);
+
+        callClientCallable("clientSideSortersChanged",
+                createSorters(nameColumn, "asc"));
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(1, grid.getSortOrder().size());
+        Assertions.assertEquals(nameColumn,
+                grid.getSortOrder().get(0).getSorted());
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertTrue(events.get(0).isFromClient());
+        Assertions.assertEquals(0, generatedItems.get());
+    }
+
+    @Test
+    void clientSideSortersChanged_inactive_itemsResent() {
+        grid.getDataCommunicator().setViewportRange(0, 50);
+        ui.fakeClientCommunication();
+        AtomicInteger generatedItems = countGeneratedItems();
+
+        callClientCallable("clientSideSortersChanged",
+                createSorters(nameColumn, "asc"));
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(nameColumn,
+                grid.getSortOrder().get(0).getSorted());
+        Assertions.assertEquals(people.size(), generatedItems.get());
+    }
+
+    @Test
+    void sortersChanged_active_itemsResent() {
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+        AtomicInteger generatedItems = countGeneratedItems();
+
+        callClientCallable("sortersChanged", createSorters(nameColumn, "asc"));
+        ui.fakeClientCommunication();
+
+        Assertions.assertEquals(people.size(), generatedItems.get());
+    }
+
+    @Test
+    void templateColumns_sortKeysGenerated() {
+        grid.setColumns(GridTemplate.<Person> builder()
+                .addColumn("name", Person::getName).setSortable(true)
+                .addColumn("born", Person::getBorn)
+                .setComparator((a, b) -> Integer.compare(a.getBorn(),
+                        b.getBorn()))
+                .build());
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        ObjectNode sortKeys = (ObjectNode) generateData(people.get(1))
+                .get("sortKeys");
+        Assertions.assertEquals("alice", sortKeys
+                .get(grid.getColumnByKey("name").getInternalId()).asString());
+        Assertions.assertFalse(sortKeys
+                .has(grid.getColumnByKey("born").getInternalId()));
+    }
+
+    @Test
+    void clientSideFilterChanged_eventFired() {
+        List<ClientSideFilterChangeEvent<Person>> events = new ArrayList<>();
+        grid.addClientSideFilterChangeListener(events::add);
+
+        callClientCallable("clientSideFilterChanged", "ali");
+        callClientCallable("clientSideFilterChanged", "ali");
+
+        Assertions.assertEquals("ali", grid.getClientSideFilter());
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals("ali", events.get(0).getFilter());
+        Assertions.assertTrue(events.get(0).isFromClient());
+
+        callClientCallable("clientSideFilterChanged", (Object) null);
+        Assertions.assertEquals("", grid.getClientSideFilter());
+        Assertions.assertEquals(2, events.size());
+    }
+
+    @Test
+    void clientSideFilterChanged_dataViewNotFiltered() {
+        grid.setClientSideDataThreshold(10);
+        ui.fakeClientCommunication();
+
+        callClientCallable("clientSideFilterChanged", "ali");
+
+        Assertions.assertEquals(people.size(),
+                grid.getListDataView().getItemCount());
+    }
+
+    @Test
+    void clientSideFilterChanged_reattached_filterRestored() {
+        callClientCallable("clientSideFilterChanged", "ali");
+        ui.fakeClientCommunication();
+
+        ui.remove(grid);
+        ui.add(grid);
+
+        Assertions.assertTrue(ui.dumpPendingJavaScriptInvocations().stream()
+                .anyMatch(invocation -> invocation.getInvocation()
+                        .getExpression().contains("setClientSideFilter")
+                        && invocation.getInvocation().getParameters()
+                                .contains("ali")));
+    }
+
+    private AtomicInteger countGeneratedItems() {
+        AtomicInteger count = new AtomicInteger();
+        grid.addDataGenerator((item, data) -> count.incrementAndGet());
+        return count;
+    }
+
+    private ArrayNode createSorters(Column<Person> column, String direction) {
+        ObjectNode sorter = JacksonUtils.createObjectNode();
+        sorter.put("path", column.getInternalId());
+        sorter.put("direction", direction);
+        ArrayNode sorters = JacksonUtils.createArrayNode();
+        sorters.add(sorter);
+        return sorters;
+    }
+
+    private void callClientCallable(String name, Object argument) {
+        try {
+            Method method = Stream.of(Grid.class.getDeclaredMethods())
+                    .filter(m -> m.getName().equals(name)
+                            && m.getParameterCount() == 1)
+                    .findFirst().orElseThrow();
+            method.setAccessible(true);
+            method.invoke(grid, argument);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            Assertions.fail("Could not call Grid." + name + ": " + e);
+        }
+    }
+
+    private ObjectNode generateData(Person person) {
+        ObjectNode data = JacksonUtils.createObjectNode();
+        grid.getCompositeDataGenerator().generateData(person, data);
+        return data;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.internal.JacksonUtils;
+
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class GridDragDataLazyTest {
+
+    private Grid<Person> grid;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    void setup() {
+        alice = new Person("Alice", 1990);
+        bob = new Person("Bob", 1980);
+        grid = new Grid<>();
+        grid.setItems(List.of(alice, bob));
+        grid.setRowsDraggable(true);
+        grid.setDragDataGenerator("text", Person::getName);
+    }
+
+    @Test
+    void default_notLazy() {
+        Assertions.assertFalse(grid.isDragDataLazy());
+        Assertions.assertFalse(
+                grid.getElement().getProperty("__lazyDragData", false));
+    }
+
+    @Test
+    void setDragDataLazy_propertySet() {
+        grid.setDragDataLazy(true);
+
+        Assertions.assertTrue(grid.isDragDataLazy());
+        Assertions.assertTrue(
+                grid.getElement().getProperty("__lazyDragData", false));
+
+        grid.setDragDataLazy(false);
+        Assertions.assertFalse(grid.isDragDataLazy());
+    }
+
+    @Test
+    void notLazy_dragDataInRowData() {
+        ObjectNode data = generateData(alice);
+
+        Assertions.assertEquals("Alice",
+                data.get("dragData").get("text").asString());
+    }
+
+    @Test
+    void lazy_dragDataNotInRowData() {
+        grid.setDragFilter(person -> person != bob);
+        grid.setDragDataLazy(true);
+
+        Assertions.assertFalse(generateData(alice).has("dragData"));
+        ObjectNode bobData = generateData(bob);
+        Assertions.assertFalse(bobData.has("dragData"));
+        Assertions.assertTrue(bobData.get("dragDisabled").asBoolean());
+    }
+
+    @Test
+    void lazy_fetchDragData_dataOfDraggableItemsReturned() {
+        grid.setDragFilter(person -> person != bob);
+        grid.setDragDataLazy(true);
+
+        ObjectNode dragData = fetchDragData(getKey(alice), getKey(bob),
+                "unknown");
+
+        Assertions.assertEquals(List.of(getKey(alice)),
+                JacksonUtils.getKeys(dragData));
+        Assertions.assertEquals("Alice",
+                dragData.get(getKey(alice)).get("text").asString());
+    }
+
+    @Test
+    void lazy_rowsNotDraggable_fetchDragData_nothingReturned() {
+        grid.setDragDataLazy(true);
+        grid.setRowsDraggable(false);
+
+        Assertions.assertTrue(JacksonUtils
+                .getKeys(fetchDragData(getKey(alice))).isEmpty());
+    }
+
+    private String getKey(Person person) {
+        return grid.getDataCommunicator().getKeyMapper().key(person);
+    }
+
+    private ObjectNode generateData(Person person) {
+        ObjectNode data = JacksonUtils.createObjectNode();
+        grid.getCompositeDataGenerator().generateData(person, data);
+        return data;
+    }
+
+    private ObjectNode fetchDragData(String... keys) {
+        ArrayNode keyArray = JacksonUtils.createArrayNode();
+        for (String key : keys) {
+            keyArray.add(key);
+        }
+        try {
+            Method method = Grid.class.getDeclaredMethod("fetchDragData",
+                    ArrayNode.class);
+            method.setAccessible(true);
+            return (ObjectNode) method.invoke(grid, keyArray);
+        } catch (NoSuchMethodException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.node.ObjectNode;
+
+class GridItemDetailsLazyTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private final List<Person> people = IntStream.range(0, 100)
+            .mapToObj(i -> new Person("Person " + i, 1900 + i)).toList();
+    private final List<Span> details = new ArrayList<>();
+
+    @Test
+    void default_notLazy() {
+        Grid<Person> grid = new Grid<>();
+
+        Assertions.assertFalse(grid.isItemDetailsLazy());
+        Assertions.assertFalse(
+                grid.getElement().getProperty("__lazyDetails", false));
+        Assertions.assertEquals(10, grid.getItemDetailsRetention());
+    }
+
+    @Test
+    void setItemDetailsLazy_propertySet() {
+        Grid<Person> grid = new Grid<>();
+        grid.setItemDetailsLazy(true);
+
+        Assertions.assertTrue(grid.isItemDetailsLazy());
+        Assertions.assertTrue(
+                grid.getElement().getProperty("__lazyDetails", false));
+
+        grid.setItemDetailsLazy(false);
+        Assertions.assertFalse(
+                grid.getElement().getProperty("__lazyDetails", false));
+    }
+
+    @Test
+    void setItemDetailsRetention_valueStored() {
+        Grid<Person> grid = new Grid<>();
+        grid.setItemDetailsRetention(0);
+
+        Assertions.assertEquals(0, grid.getItemDetailsRetention());
+    }
+
+    @Test
+    void setItemDetailsRetention_negative_throws() {
+        Grid<Person> grid = new Grid<>();
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> grid.setItemDetailsRetention(-1));
+    }
+
+    @Test
+    void lazy_rowOutsideRenderedRange_placeholderSent() {
+        Grid<Person> grid = createLazyGrid();
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+
+        callMethod(grid, "setDetailsRenderedRange", 0, 10);
+
+        ObjectNode data = generateData(grid, person);
+        Assertions.assertTrue(data.get("detailsOpened").asBoolean());
+        Assertions.assertTrue(data.get("detailsPlaceholder").asBoolean());
+        Assertions.assertTrue(details.isEmpty());
+    }
+
+    @Test
+    void lazy_rowScrolledIntoRenderedRange_detailsCreated() {
+        Grid<Person> grid = createLazyGrid();
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+        callMethod(grid, "setDetailsRenderedRange", 0, 10);
+
+        callMethod(grid, "setDetailsRenderedRange", 45, 55);
+
+        ObjectNode data = generateData(grid, person);
+        Assertions.assertFalse(data.has("detailsPlaceholder"));
+        Assertions.assertEquals(1, details.size());
+        Assertions.assertTrue(details.get(0).getParent().isPresent());
+    }
+
+    @Test
+    void lazy_rowScrolledOutOfRenderedRange_detailsReleased() {
+        Grid<Person> grid = createLazyGrid();
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+        callMethod(grid, "setDetailsRenderedRange", 45, 55);
+        generateData(grid, person);
+        Span span = details.get(0);
+
+        callMethod(grid, "setDetailsRenderedRange", 0, 10);
+
+        Assertions.assertFalse(span.getParent().isPresent());
+        Assertions.assertTrue(grid.isDetailsVisible(person));
+        Assertions.assertTrue(generateData(grid, person)
+                .get("detailsPlaceholder").asBoolean());
+    }
+
+    @Test
+    void lazy_rowWithinRetention_detailsCreated() {
+        Grid<Person> grid = createLazyGrid();
+        grid.setItemDetailsRetention(5);
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+
+        callMethod(grid, "setDetailsRenderedRange", 55, 60);
+
+        Assertions.assertFalse(
+                generateData(grid, person).has("detailsPlaceholder"));
+    }
+
+    @Test
+    void lazy_rowOutsideRetention_placeholderSent() {
+        Grid<Person> grid = createLazyGrid();
+        grid.setItemDetailsRetention(5);
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+
+        callMethod(grid, "setDetailsRenderedRange", 56, 60);
+
+        Assertions.assertTrue(generateData(grid, person)
+                .get("detailsPlaceholder").asBoolean());
+    }
+
+    @Test
+    void lazy_renderedRangeOutsideViewport_clampedToViewport() {
+        Grid<Person> grid = createLazyGrid();
+        callMethod(grid, "setViewportRange", 0, 20);
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+
+        callMethod(grid, "setDetailsRenderedRange", 45, 55);
+
+        Assertions.assertTrue(generateData(grid, person)
+                .get("detailsPlaceholder").asBoolean());
+        Assertions.assertTrue(details.isEmpty());
+    }
+
+    @Test
+    void notLazy_rowOutsideRenderedRange_detailsCreated() {
+        Grid<Person> grid = createLazyGrid();
+        grid.setItemDetailsLazy(false);
+        Person person = people.get(50);
+        grid.setDetailsVisible(person, true);
+
+        callMethod(grid, "setDetailsRenderedRange", 0, 10);
+
+        Assertions.assertFalse(
+                generateData(grid, person).has("detailsPlaceholder"));
+        Assertions.assertEquals(1, details.size());
+    }
+
+    private Grid<Person> createLazyGrid() {
+        Grid<Person> grid = new Grid<>();
+        grid.setItems(people);
+        grid.setItemDetailsRenderer(new ComponentRenderer<>(person -> {
+            Span span = new Span(person.getName());
+            details.add(span);
+            return span;
+        }));
+        grid.setItemDetailsLazy(true);
+        grid.setItemDetailsRetention(0);
+        ui.add(grid);
+        callMethod(grid, "setViewportRange", 0, people.size());
+        return grid;
+    }
+
+    private static ObjectNode generateData(Grid<Person> grid, Person person) {
+        ObjectNode data = JacksonUtils.createObjectNode();
+        grid.getCompositeDataGenerator().generateData(person, data);
+        return data;
+    }
+
+    private static void callMethod(Grid<Person> grid, String name, int first,
+            int second) {
+        try {
+            Method method = Grid.class.getDeclaredMethod(name, int.class,
+                    int.class);
+            method.setAccessible(true);
+            method.invoke(grid, first, second);
+        } catch (NoSuchMethodException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
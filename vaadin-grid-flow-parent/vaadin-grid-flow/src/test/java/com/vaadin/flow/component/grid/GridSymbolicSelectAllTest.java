@@ -0,0 +1,314 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.grid.Grid.SelectionMode;
+import com.vaadin.flow.component.grid.dataview.GridListDataView;
+import com.vaadin.flow.component.shared.SelectionPreservationMode;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+class GridSymbolicSelectAllTest {
+
+    private static final int SIZE = 2_000_000;
+
+    private final AtomicInteger maxFetchLimit = new AtomicInteger();
+    private final List<Query<Integer, ?>> fetchQueries = new ArrayList<>();
+    private Grid<Integer> grid;
+    private GridMultiSelectionModel<Integer> selectionModel;
+
+    @BeforeEach
+    void setup() {
+        grid = new Grid<>();
+        grid.setItems(DataProvider.fromCallbacks(query -> {
+            maxFetchLimit.accumulateAndGet(query.getLimit(), Math::max);
+            fetchQueries.add(query);
+            return IntStream.range(query.getOffset(), SIZE)
+                    .limit(query.getLimit()).boxed();
+        }, query -> SIZE));
+        selectionModel = (GridMultiSelectionModel<Integer>) grid
+                .setSelectionMode(SelectionMode.MULTI);
+        selectionModel.setSymbolicSelectAll(true);
+    }
+
+    @Test
+    void selectAll_itemsNotFetched() {
+        selectionModel.selectAll();
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+        Assertions.assertEquals(SIZE, selectionModel.getSelectedItemCount());
+        Assertions.assertTrue(selectionModel.isSelected(SIZE - 1));
+        Assertions.assertEquals(0, maxFetchLimit.get());
+    }
+
+    @Test
+    void selectAll_deselectItems_itemsExcluded() {
+        selectionModel.selectAll();
+        grid.deselect(0);
+        selectionModel.deselectFromClient(2);
+
+        Assertions.assertFalse(selectionModel.isSelected(0));
+        Assertions.assertFalse(selectionModel.isSelected(2));
+        Assertions.assertEquals(SIZE - 2,
+                selectionModel.getSelectedItemCount());
+        Assertions.assertEquals(List.of(1, 3, 4),
+                selectionModel
+                        .fetchSelectedItems(new Query<>(0, 3, null, null, null))
+                        .toList());
+        Assertions.assertTrue(maxFetchLimit.get() <= grid.getPageSize());
+
+        grid.select(0);
+        Assertions.assertTrue(selectionModel.isSelected(0));
+        Assertions.assertEquals(SIZE - 1,
+                selectionModel.getSelectedItemCount());
+    }
+
+    @Test
+    void selectAll_symbolicEventFired_multiSelectionEventNotFired() {
+        List<SymbolicSelectionEvent<Integer>> events = new ArrayList<>();
+        selectionModel.addSymbolicSelectionListener(events::add);
+        AtomicInteger multiSelectionEvents = new AtomicInteger();
+        grid.addSelectionListener(
+                event -> multiSelectionEvents.incrementAndGet());
+
+        selectionModel.selectAll();
+        grid.deselect(5);
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertTrue(events.get(0).isAllSelected());
+        Assertions.assertTrue(events.get(0).getExcludedItemIds().isEmpty());
+        Assertions.assertEquals(Set.of(5),
+                events.get(1).getExcludedItemIds());
+        Assertions.assertEquals(0, multiSelectionEvents.get());
+    }
+
+    @Test
+    void selectAll_deselectAll_selectionEmpty() {
+        selectionModel.selectAll();
+        grid.deselect(1);
+        selectionModel.deselectAll();
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertFalse(selectionModel.isSelected(0));
+        Assertions.assertEquals(0, selectionModel.getSelectedItemCount());
+    }
+
+    @Test
+    void explicitSelection_countAndFetchUseSelectedItems() {
+        grid.select(7);
+        grid.select(3);
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertEquals(2, selectionModel.getSelectedItemCount());
+        Assertions.assertEquals(List.of(3), selectionModel
+                .fetchSelectedItems(new Query<>(1, 1, null, null, null))
+                .toList());
+    }
+
+    @Test
+    void symbolicSelectAllDisabled_selectionLoaded() {
+        grid.setItems(1, 2, 3);
+        selectionModel.selectAll();
+        grid.deselect(2);
+
+        selectionModel.setSymbolicSelectAll(false);
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertEquals(Set.of(1, 3),
+                grid.getSelectedItems());
+    }
+
+    @Test
+    void selectAll_getSelectedItems_itemsNotFetched() {
+        selectionModel.selectAll();
+        grid.deselect(1);
+
+        Set<Integer> selectedItems = grid.getSelectedItems();
+
+        Assertions.assertTrue(selectedItems.contains(0));
+        Assertions.assertFalse(selectedItems.contains(1));
+        Assertions.assertEquals(SIZE - 1, selectedItems.size());
+        Assertions.assertEquals(0, maxFetchLimit.get());
+        Assertions.assertEquals(List.of(0, 2, 3),
+                selectedItems.stream().limit(3).toList());
+    }
+
+    @Test
+    void selectAll_fetchPagesInOrder_continuesFromPreviousPage() {
+        selectionModel.selectAll();
+        grid.deselect(1);
+        grid.deselect(60);
+
+        Assertions.assertEquals(
+                IntStream.range(0, 52).filter(i -> i != 1).boxed().toList(),
+                selectionModel.fetchSelectedItems(
+                        new Query<>(0, 51, null, null, null)).toList());
+        fetchQueries.clear();
+        Assertions.assertEquals(
+                IntStream.range(52, 103).filter(i -> i != 60).boxed()
+                        .toList(),
+                selectionModel.fetchSelectedItems(
+                        new Query<>(51, 50, null, null, null)).toList());
+
+        // The second page starts after the last item of the first page
+        Assertions.assertEquals(52, fetchQueries.get(0).getOffset());
+    }
+
+    @Test
+    void selectAll_fetchPageWithoutExclusions_offsetPassedToBackend() {
+        selectionModel.selectAll();
+
+        Assertions.assertEquals(List.of(1000, 1001),
+                selectionModel.fetchSelectedItems(
+                        new Query<>(1000, 2, null, null, null)).toList());
+        Assertions.assertEquals(1000, fetchQueries.get(0).getOffset());
+    }
+
+    @Test
+    void selectAll_fetchWithSortOrders_sortOrdersPassedToBackend() {
+        List<QuerySortOrder> sortOrders = List
+                .of(new QuerySortOrder("value", SortDirection.DESCENDING));
+        selectionModel.selectAll();
+
+        selectionModel
+                .fetchSelectedItems(new Query<>(0, 1, sortOrders, null, null))
+                .toList();
+
+        Assertions.assertEquals(sortOrders,
+                fetchQueries.get(0).getSortOrders());
+    }
+
+    @Test
+    void selectAll_dataChanged_selectionKept() {
+        selectionModel.selectAll();
+        grid.deselect(1);
+
+        grid.getDataProvider().refreshAll();
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+        Assertions.assertTrue(selectionModel.isSelected(0));
+        Assertions.assertFalse(selectionModel.isSelected(1));
+        Assertions.assertEquals(SIZE - 1,
+                selectionModel.getSelectedItemCount());
+    }
+
+    @Test
+    void discardSelection_selectAll_dataChanged_selectionCleared() {
+        grid.setSelectionPreservationMode(SelectionPreservationMode.DISCARD);
+        List<SymbolicSelectionEvent<Integer>> events = new ArrayList<>();
+        selectionModel.addSymbolicSelectionListener(events::add);
+        selectionModel.selectAll();
+        grid.deselect(1);
+
+        grid.getDataProvider().refreshAll();
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertFalse(selectionModel.isSelected(0));
+        Assertions.assertEquals(0, selectionModel.getSelectedItemCount());
+        Assertions.assertFalse(events.get(events.size() - 1).isAllSelected());
+    }
+
+    @Test
+    void preserveExistingSelection_selectAll_dataChanged_selectionKept() {
+        GridListDataView<Integer> dataView = grid.setItems(1, 2, 3, 4);
+        grid.setSelectionPreservationMode(
+                SelectionPreservationMode.PRESERVE_EXISTING);
+        selectionModel.selectAll();
+        grid.deselect(2);
+
+        dataView.refreshAll();
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+        Assertions.assertEquals(Set.of(1, 3, 4), grid.getSelectedItems());
+    }
+
+    @Test
+    void selectAll_filtered_itemsOutsideFilterNotContained() {
+        GridListDataView<Integer> dataView = grid.setItems(1, 2, 3, 4);
+        dataView.setFilter(item -> item > 1);
+        selectionModel.selectAll();
+        grid.deselect(3);
+
+        Set<Integer> selectedItems = grid.getSelectedItems();
+        Assertions.assertFalse(selectedItems.contains(1));
+        Assertions.assertTrue(selectedItems.contains(2));
+        Assertions.assertFalse(selectedItems.contains(3));
+        Assertions.assertTrue(selectedItems.contains(4));
+
+        Set<Object> selectedIds = ((AbstractGridMultiSelectionModel<Integer>) selectionModel)
+                .getSelectedItemIds();
+        Assertions.assertFalse(selectedIds.contains(1));
+        Assertions.assertTrue(selectedIds.contains(2));
+        Assertions.assertFalse(selectedIds.contains(3));
+    }
+
+    @Test
+    void selectAll_itemRefreshed_selectionKept() {
+        selectionModel.selectAll();
+
+        grid.getDataProvider().refreshItem(5);
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+    }
+
+    @Test
+    void selectAll_itemsSet_selectionCleared() {
+        selectionModel.selectAll();
+
+        grid.setItems(1, 2, 3);
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertTrue(grid.getSelectedItems().isEmpty());
+    }
+
+    @Test
+    void selectAll_filterChanged_selectionCleared() {
+        GridListDataView<Integer> dataView = grid.setItems(1, 2, 3, 4);
+        selectionModel.selectAll();
+
+        dataView.setFilter(item -> item % 2 == 0);
+
+        Assertions.assertFalse(selectionModel.isAllSelected());
+        Assertions.assertEquals(0, selectionModel.getSelectedItemCount());
+    }
+
+    @Test
+    void selectAll_sortChanged_selectionKept() {
+        GridListDataView<Integer> dataView = grid.setItems(1, 2, 3, 4);
+        dataView.setFilter(item -> item > 1);
+        selectionModel.selectAll();
+
+        dataView.setSortComparator(Comparator.reverseOrder());
+
+        Assertions.assertTrue(selectionModel.isAllSelected());
+        Assertions.assertEquals(3, selectionModel.getSelectedItemCount());
+        Assertions.assertEquals(List.of(4, 3, 2), selectionModel
+                .fetchSelectedItems(new Query<>()).toList());
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.grid;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.grid.Grid.Column;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.renderer.ComponentRenderer;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.data.renderer.NumberRenderer;
+
+class GridTemplateTest {
+
+    private static final GridTemplate<Person> TEMPLATE = GridTemplate
+            .<Person> builder().addColumn("name", Person::getName)
+            .setHeader("Name").setSortable(true).setAutoWidth(true)
+            .addColumn("born", Person::getBorn).setWidth("100px")
+            .addColumn("link",
+                    LitRenderer.<Person> of("<a>${item.name}</a>")
+                            .withProperty("name", Person::getName))
+            .build();
+
+    @Test
+    void setColumns_columnsCreatedInOrder() {
+        Grid<Person> grid = new Grid<>();
+        grid.setColumns(TEMPLATE);
+
+        Assertions.assertEquals(List.of("name", "born", "link"),
+                grid.getColumns().stream().map(Column::getKey).toList());
+        Assertions.assertEquals(List.of("name", "born", "link"),
+                TEMPLATE.getColumnKeys());
+    }
+
+    @Test
+    void setColumns_columnSettingsApplied() {
+        Grid<Person> grid = new Grid<>();
+        grid.setColumns(TEMPLATE);
+
+        Column<Person> name = grid.getColumnByKey("name");
+        Assertions.assertEquals("Name", name.getHeaderText());
+        Assertions.assertTrue(name.isSortable());
+        Assertions.assertTrue(name.isAutoWidth());
+        Assertions.assertFalse(grid.getColumnByKey("born").isSortable());
+        Assertions.assertEquals("100px",
+                grid.getColumnByKey("born").getWidth());
+    }
+
+    @Test
+    void setColumns_twoGrids_renderersShared() {
+        Grid<Person> grid1 = new Grid<>();
+        grid1.setColumns(TEMPLATE);
+        Grid<Person> grid2 = new Grid<>();
+        grid2.setColumns(TEMPLATE);
+
+        Assertions.assertNotSame(grid1.getColumnByKey("name"),
+                grid2.getColumnByKey("name"));
+        Assertions.assertSame(grid1.getColumnByKey("name").getRenderer(),
+                grid2.getColumnByKey("name").getRenderer());
+        Assertions.assertSame(grid1.getColumnByKey("link").getRenderer(),
+                grid2.getColumnByKey("link").getRenderer());
+    }
+
+    @Test
+    void setColumns_valueProviderColumn_comparesValues() {
+        Grid<Person> grid = new Grid<>();
+        grid.setColumns(TEMPLATE);
+
+        var comparator = grid.getColumnByKey("born")
+                .getComparator(SortDirection.ASCENDING);
+        Assertions.assertTrue(comparator.compare(new Person("a", 1990),
+                new Person("b", 2000)) < 0);
+    }
+
+    @Test
+    void setColumns_twice_columnsReplaced() {
+        Grid<Person> grid = new Grid<>();
+        grid.addColumn(Person::getName).setKey("other");
+        grid.setColumns(TEMPLATE);
+        grid.setColumns(TEMPLATE);
+
+        Assertions.assertEquals(3, grid.getColumns().size());
+        Assertions.assertNull(grid.getColumnByKey("other"));
+    }
+
+    @Test
+    void builder_duplicateKey_throws() {
+        var builder = GridTemplate.<Person> builder().addColumn("name",
+                Person::getName);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.addColumn("name", Person::getName));
+    }
+
+    @Test
+    void builder_configureBeforeAddingColumn_throws() {
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> GridTemplate.<Person> builder().setHeader("Name"));
+    }
+
+    @Test
+    void builder_componentRenderer_throws() {
+        var builder = GridTemplate.<Person> builder();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.addColumn("name",
+                        new ComponentRenderer<>(
+                                person -> new Span(person.getName()))));
+    }
+
+    @Test
+    void builder_basicRenderer_throws() {
+        var builder = GridTemplate.<Person> builder();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> builder.addColumn("born",
+                        new NumberRenderer<>(Person::getBorn, Locale.US)));
+    }
+}
@@ -16,6 +16,8 @@
 package com.vaadin.flow.component.grid.dataview;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -24,6 +26,8 @@ import org.junit.jupiter.api.Test;
 
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.data.provider.AbstractListDataView;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.data.provider.HasListDataView;
 import com.vaadin.flow.data.provider.ListDataProvider;
 import com.vaadin.tests.dataprovider.AbstractListDataViewListenerTest;
@@ -170,6 +174,95 @@ class GridListDataViewTest extends AbstractListDataViewListenerTest {
                 "Non existent item found in data");
     }
 
+    @Test
+    void refreshChanges_firstCall_allDataRefreshed() {
+        List<String> items = new ArrayList<>(List.of("a1", "b1", "c1"));
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems(items);
+        List<DataChangeEvent<String>> events = new ArrayList<>();
+        grid.getDataProvider().addDataProviderListener(events::add);
+
+        dataView.refreshChanges(item -> item);
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertFalse(events.get(0) instanceof DataRefreshEvent);
+    }
+
+    @Test
+    void refreshChanges_contentChanged_onlyChangedItemsRefreshed() {
+        List<String> items = new ArrayList<>(List.of("a1", "b1", "c1"));
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems(items);
+        dataView.setIdentifierProvider(item -> item.substring(0, 1));
+        dataView.refreshChanges(item -> item);
+        List<DataChangeEvent<String>> events = new ArrayList<>();
+        grid.getDataProvider().addDataProviderListener(events::add);
+
+        dataView.refreshChanges(item -> item);
+        Assertions.assertTrue(events.isEmpty());
+
+        items.set(1, "b2");
+        dataView.refreshChanges(item -> item);
+
+        Assertions.assertEquals(1, events.size());
+        DataRefreshEvent<String> event = (DataRefreshEvent<String>) events
+                .get(0);
+        Assertions.assertEquals("b2", event.getItem());
+    }
+
+    @Test
+    void refreshChanges_itemsAddedRemovedOrMoved_allDataRefreshed() {
+        List<String> items = new ArrayList<>(List.of("a1", "b1", "c1"));
+        Grid<String> grid = new Grid<>();
+        GridListDataView<String> dataView = grid.setItems(items);
+        dataView.refreshChanges(item -> item);
+        List<DataChangeEvent<String>> events = new ArrayList<>();
+        grid.getDataProvider().addDataProviderListener(events::add);
+
+        items.add("d1");
+        dataView.refreshChanges(item -> item);
+        items.remove("a1");
+        dataView.refreshChanges(item -> item);
+        Collections.swap(items, 0, 1);
+        dataView.refreshChanges(item -> item);
+
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertTrue(events.stream()
+                .noneMatch(event -> event instanceof DataRefreshEvent));
+    }
+
+    @Test
+    void refreshChanges_contentProvider_changeOfContentDetected() {
+        List<StringBuilder> items = new ArrayList<>(
+                List.of(new StringBuilder("a"), new StringBuilder("b")));
+        Grid<StringBuilder> grid = new Grid<>();
+        GridListDataView<StringBuilder> dataView = grid.setItems(items);
+        dataView.refreshChanges(StringBuilder::toString);
+        List<DataChangeEvent<StringBuilder>> events = new ArrayList<>();
+        grid.getDataProvider().addDataProviderListener(events::add);
+
+        items.get(0).append("2");
+        dataView.refreshChanges(StringBuilder::toString);
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertSame(items.get(0),
+                ((DataRefreshEvent<StringBuilder>) events.get(0)).getItem());
+    }
+
+    @Test
+    void refreshChanges_dataProviderChanged_allDataRefreshed() {
+        Grid<String> grid = new Grid<>();
+        grid.setItems("a1", "b1").refreshChanges(item -> item);
+
+        GridListDataView<String> dataView = grid.setItems("a1", "b1");
+        List<DataChangeEvent<String>> events = new ArrayList<>();
+        grid.getDataProvider().addDataProviderListener(events::add);
+        dataView.refreshChanges(item -> item);
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertFalse(events.get(0) instanceof DataRefreshEvent);
+    }
+
     @Override
     protected HasListDataView<String, ? extends AbstractListDataView<String>> getComponent() {
         return new Grid<>();
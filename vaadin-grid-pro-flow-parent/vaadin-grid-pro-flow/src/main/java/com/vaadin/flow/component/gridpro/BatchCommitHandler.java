@@ -0,0 +1,37 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.gridpro;
+
+import java.util.List;
+
+import com.vaadin.flow.function.SerializableConsumer;
+
+/**
+ * Callback that is called when the pending edits of a {@link GridPro} in batch
+ * editing mode are committed.
+ *
+ * @param <T>
+ *            the item type
+ * @see GridPro#setBatchCommitHandler(BatchCommitHandler)
+ * @since 25.3
+ */
+public interface BatchCommitHandler<T> extends SerializableConsumer<List<T>> {
+
+    /**
+     * Called once for all pending edits, after the item updaters of the edited
+     * columns have been applied. Typically used to save all edited items to
+     * the backend in a single operation.
+     *
+     * @param items
+     *            the edited items, in the order in which they were first
+     *            edited
+     */
+    @Override
+    void accept(List<T> items);
+}
@@ -8,7 +8,10 @@
  */
 package com.vaadin.flow.component.gridpro;
 
+import java.io.Serializable;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -34,6 +37,7 @@ import com.vaadin.flow.data.provider.DataKeyMapper;
 import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.renderer.Renderer;
 import com.vaadin.flow.data.renderer.Rendering;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializablePredicate;
 import com.vaadin.flow.function.ValueProvider;
@@ -61,6 +65,11 @@ import tools.jackson.databind.node.ObjectNode;
 @JsModule("./gridProConnector.js")
 public class GridPro<E> extends Grid<E> {
 
+    private boolean batchEditing;
+    private BatchCommitHandler<E> batchCommitHandler;
+    private DomListenerRegistration focusOutRegistration;
+    private final Map<PendingEditKey, PendingEdit<E>> pendingEdits = new LinkedHashMap<>();
+
     /**
      * Instantiates a new CrudGrid for the supplied bean type.
      *
@@ -110,24 +119,20 @@ public class GridPro<E> extends Grid<E> {
             }
             EditColumn<E> column = (EditColumn<E>) getColumnByInternalId(
                     e.getPath());
+            Object value = column.getEditorType().equals("custom")
+                    ? column.getEditorField().getValue()
+                    : e.getSourceItem().get(e.getPath()).asString();
 
-            Object idBeforeUpdate = getItemId(e.getItem());
-            if (column.getEditorType().equals("custom")) {
-                column.getItemUpdater().accept(e.getItem(), null);
-            } else {
-                column.getItemUpdater().accept(e.getItem(),
-                        e.getSourceItem().get(e.getPath()).asString());
+            if (batchEditing) {
+                addPendingEdit(new PendingEdit<>(e.getItem(), column, value));
+                return;
             }
 
+            Object idBeforeUpdate = getItemId(e.getItem());
+            applyEdit(e.getItem(), column, value);
+
             if (!column.isManualRefresh()) {
-                Object idAfterUpdate = getItemId(e.getItem());
-                if (!Objects.equals(idBeforeUpdate, idAfterUpdate)) {
-                    LoggerFactory.getLogger(GridPro.class).warn(
-                            "An item updater modified the data provider ID of the edited item, which is not allowed. "
-                                    + "This can happen with classes that implement hashCode using fields that can be edited. "
-                                    + "Either change the hashCode implementation so that it does not rely on editable fields, or "
-                                    + "override DataProvider.getId() to generate a stable ID that does not change when editing fields.");
-                }
+                warnIfItemIdChanged(idBeforeUpdate, e.getItem());
                 getDataProvider().refreshItem(e.getItem());
             }
 
@@ -137,9 +142,20 @@ public class GridPro<E> extends Grid<E> {
             EditColumn<E> column = (EditColumn<E>) getColumnByInternalId(
                     e.getPath());
 
-            // Store the pre-edit value
-            var gridProPreEditValue = column.getValueProvider()
-                    .apply(e.getItem());
+            // Store the pre-edit value. A cell with a pending edit is edited
+            // again starting from the pending value.
+            var pendingEdit = getPendingEdit(e.getItem(), column);
+            Object gridProPreEditValue;
+            if (pendingEdit == null) {
+                gridProPreEditValue = column.getValueProvider()
+                        .apply(e.getItem());
+            } else if (EditorType.CHECKBOX.getTypeName()
+                    .equals(column.getEditorType())) {
+                gridProPreEditValue = Boolean
+                        .valueOf((String) pendingEdit.value());
+            } else {
+                gridProPreEditValue = pendingEdit.value();
+            }
             ComponentUtil.setData(column, "gridProPreEditValue",
                     gridProPreEditValue);
 
@@ -158,6 +174,276 @@ public class GridPro<E> extends Grid<E> {
                 getElement()));
     }
 
+    @SuppressWarnings("unchecked")
+    private void applyEdit(E item, EditColumn<E> column, Object value) {
+        if (column.getEditorType().equals("custom")) {
+            // The item updater of a custom column reads the value from the
+            // editor field, which may have been used for other cells since
+            // the edit was made in batch editing mode
+            if (!Objects.equals(column.getEditorField().getValue(), value)) {
+                column.getEditorField().setValue(value);
+            }
+            column.getItemUpdater().accept(item, null);
+        } else {
+            column.getItemUpdater().accept(item, (String) value);
+        }
+    }
+
+    private void warnIfItemIdChanged(Object idBeforeUpdate, E item) {
+        Object idAfterUpdate = getItemId(item);
+        if (!Objects.equals(idBeforeUpdate, idAfterUpdate)) {
+            LoggerFactory.getLogger(GridPro.class).warn(
+                    "An item updater modified the data provider ID of the edited item, which is not allowed. "
+                            + "This can happen with classes that implement hashCode using fields that can be edited. "
+                            + "Either change the hashCode implementation so that it does not rely on editable fields, or "
+                            + "override DataProvider.getId() to generate a stable ID that does not change when editing fields.");
+        }
+    }
+
+    /**
+     * Sets whether edits are collected into a batch instead of being applied
+     * one by one. By default, every cell edit immediately calls the item
+     * updater of the column and refreshes the edited row.
+     * <p>
+     * In batch editing mode, edits are only recorded as pending edits, and the
+     * new values are displayed in the cells until the edits are committed or
+     * discarded, also when the rows are fetched again. Editing a cell with a
+     * pending edit starts from the pending value. The pending values of custom
+     * editors are shown with the item label generator of the editor if it has
+     * one, such as a combo box. Columns added with
+     * {@link #addEditColumn(ValueProvider, Renderer)} keep showing the item
+     * as rendered by their renderer. Repeated edits to the same cell replace
+     * each other. When the edits are committed with
+     * {@link #flushPendingEdits()}, the item updaters are called for all
+     * pending edits, the batch commit handler is called once with all edited
+     * items, and each edited row is refreshed once.
+     * <p>
+     * Disabling batch editing commits the pending edits.
+     *
+     * @param batchEditing
+     *            {@code true} to collect edits into a batch, {@code false} to
+     *            apply each edit immediately
+     * @see #setBatchCommitHandler(BatchCommitHandler)
+     * @see #setCommitOnFocusOut(boolean)
+     * @since 25.3
+     */
+    public void setBatchEditing(boolean batchEditing) {
+        if (this.batchEditing && !batchEditing) {
+            flushPendingEdits();
+        }
+        this.batchEditing = batchEditing;
+    }
+
+    /**
+     * Gets whether edits are collected into a batch instead of being applied
+     * one by one.
+     *
+     * @return {@code true} if batch editing is enabled, {@code false}
+     *         otherwise
+     * @see #setBatchEditing(boolean)
+     * @since 25.3
+     */
+    public boolean isBatchEditing() {
+        return batchEditing;
+    }
+
+    /**
+     * Sets the handler that is called once with all edited items when the
+     * pending edits are committed in batch editing mode. Use it to save the
+     * items to the backend in a single operation.
+     *
+     * @param batchCommitHandler
+     *            the handler, or {@code null} to not use a handler
+     * @see #setBatchEditing(boolean)
+     * @since 25.3
+     */
+    public void setBatchCommitHandler(BatchCommitHandler<E> batchCommitHandler) {
+        this.batchCommitHandler = batchCommitHandler;
+    }
+
+    /**
+     * Gets the handler that is called when the pending edits are committed.
+     *
+     * @return the handler, or {@code null} if not set
+     * @since 25.3
+     */
+    public BatchCommitHandler<E> getBatchCommitHandler() {
+        return batchCommitHandler;
+    }
+
+    /**
+     * Sets whether the pending edits are committed automatically when the
+     * focus moves out of the grid. Only has an effect in batch editing mode.
+     * The default value is {@code false}.
+     *
+     * @param commitOnFocusOut
+     *            {@code true} to commit the pending edits when the grid loses
+     *            focus, {@code false} otherwise
+     * @see #setBatchEditing(boolean)
+     * @since 25.3
+     */
+    public void setCommitOnFocusOut(boolean commitOnFocusOut) {
+        if (commitOnFocusOut && focusOutRegistration == null) {
+            focusOutRegistration = getElement()
+                    .addEventListener("focusout", e -> flushPendingEdits())
+                    .setFilter("!element.contains(event.relatedTarget)");
+        } else if (!commitOnFocusOut && focusOutRegistration != null) {
+            focusOutRegistration.remove();
+            focusOutRegistration = null;
+        }
+    }
+
+    /**
+     * Gets whether the pending edits are committed automatically when the
+     * focus moves out of the grid.
+     *
+     * @return {@code true} if the pending edits are committed on focus out,
+     *         {@code false} otherwise
+     * @since 25.3
+     */
+    public boolean isCommitOnFocusOut() {
+        return focusOutRegistration != null;
+    }
+
+    /**
+     * Gets the edits that have not been committed yet, in the order in which
+     * the cells were first edited.
+     *
+     * @return an unmodifiable list of the pending edits, empty if there are
+     *         none
+     * @see #setBatchEditing(boolean)
+     * @since 25.3
+     */
+    public List<PendingEdit<E>> getPendingEdits() {
+        return List.copyOf(pendingEdits.values());
+    }
+
+    /**
+     * Gets whether there are edits that have not been committed yet.
+     *
+     * @return {@code true} if there are pending edits, {@code false}
+     *         otherwise
+     * @since 25.3
+     */
+    public boolean hasPendingEdits() {
+        return !pendingEdits.isEmpty();
+    }
+
+    /**
+     * Commits the pending edits. The item updaters are called for all pending
+     * edits, then the batch commit handler is called once with all edited
+     * items, and finally each edited row is refreshed once. Does nothing if
+     * there are no pending edits.
+     *
+     * @see #setBatchCommitHandler(BatchCommitHandler)
+     * @since 25.3
+     */
+    public void flushPendingEdits() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        var edits = List.copyOf(pendingEdits.values());
+        pendingEdits.clear();
+
+        // Collect the edited items in the order in which they were first
+        // edited before applying the edits, as applying them may change the
+        // hash codes of the items
+        Map<Object, EditedItem<E>> items = new LinkedHashMap<>();
+        for (var edit : edits) {
+            var refresh = !edit.column().isManualRefresh();
+            items.merge(getDataProvider().getId(edit.item()),
+                    new EditedItem<>(edit.item(), getItemId(edit.item()),
+                            refresh),
+                    (previous, ignore) -> previous.refresh() || !refresh
+                            ? previous
+                            : new EditedItem<>(previous.item(),
+                                    previous.idBeforeUpdate(), true));
+        }
+        edits.forEach(edit -> applyEdit(edit.item(), edit.column(),
+                edit.value()));
+
+        if (batchCommitHandler != null) {
+            batchCommitHandler.accept(items.values().stream()
+                    .map(EditedItem::item).toList());
+        }
+        items.values().forEach(edited -> {
+            if (edited.refresh()) {
+                warnIfItemIdChanged(edited.idBeforeUpdate(), edited.item());
+                getDataProvider().refreshItem(edited.item());
+            }
+        });
+    }
+
+    /**
+     * Discards the pending edits without calling the item updaters. The edited
+     * rows are refreshed to show their original values again.
+     *
+     * @since 25.3
+     */
+    public void discardPendingEdits() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        var items = pendingEdits.values().stream().map(PendingEdit::item)
+                .distinct().toList();
+        pendingEdits.clear();
+        items.forEach(getDataProvider()::refreshItem);
+    }
+
+    private void addPendingEdit(PendingEdit<E> edit) {
+        var key = new PendingEditKey(getDataProvider().getId(edit.item()),
+                edit.column().getInternalId());
+        // Replace the value of a previous edit of the same cell, keeping its
+        // original position
+        pendingEdits.put(key, edit);
+    }
+
+    /**
+     * Gets the pending edit of a cell.
+     *
+     * @param item
+     *            the item of the cell
+     * @param column
+     *            the column of the cell
+     * @return the pending edit, or {@code null} if the cell has no pending
+     *         edit
+     */
+    PendingEdit<E> getPendingEdit(E item, EditColumn<E> column) {
+        if (pendingEdits.isEmpty() || item == null) {
+            return null;
+        }
+        return pendingEdits.get(new PendingEditKey(
+                getDataProvider().getId(item), column.getInternalId()));
+    }
+
+    /**
+     * A cell edit that has not been committed yet in batch editing mode.
+     *
+     * @param item
+     *            the edited item
+     * @param column
+     *            the edited column
+     * @param value
+     *            the new value, which is a string for the built-in editor
+     *            types, or the value of the editor component for custom
+     *            editors
+     * @param <T>
+     *            the item type
+     * @see GridPro#setBatchEditing(boolean)
+     * @since 25.3
+     */
+    public record PendingEdit<T>(T item, EditColumn<T> column,
+            Object value) implements Serializable {
+    }
+
+    private record PendingEditKey(Object itemId,
+            String columnId) implements Serializable {
+    }
+
+    private record EditedItem<T>(T item, Object idBeforeUpdate,
+            boolean refresh) implements Serializable {
+    }
+
     /**
      * Returns the unique data provider ID of an item, or the item's hash code
      * when using the default data provider identity implementation.
@@ -212,6 +498,9 @@ public class GridPro<E> extends Grid<E> {
             super(grid, columnId, renderer);
 
             addDataGenerator(this::generateCellEditableData);
+            // Added after the data generator of the renderer, so that the
+            // value of a pending edit replaces the value of the item
+            addDataGenerator(this::generatePendingEditData);
 
             addAttachListener(e -> this.getElement().executeJs(
                     "window.Vaadin.Flow.gridProConnector.initCellEditableProvider($0)",
@@ -225,6 +514,54 @@ public class GridPro<E> extends Grid<E> {
             }
         }
 
+        @SuppressWarnings("unchecked")
+        private void generatePendingEditData(T item, ObjectNode jsonObject) {
+            var pendingEdit = ((GridPro<T>) getGrid()).getPendingEdit(item,
+                    this);
+            if (pendingEdit != null) {
+                jsonObject.put(getInternalId(),
+                        formatPendingValue(pendingEdit.value()));
+            }
+        }
+
+        /**
+         * Formats the value of a pending edit the same way as the column
+         * formats the values of its items. The values of a custom editor are
+         * formatted with the item label generator of the editor, if it has
+         * one, as they may be of a different type than the values shown in
+         * the column, for example an item selected in a combo box.
+         */
+        private String formatPendingValue(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (EditorType.CUSTOM.getTypeName().equals(getEditorType())
+                    && editorField != null) {
+                var itemLabelGenerator = getItemLabelGenerator(editorField);
+                if (itemLabelGenerator != null) {
+                    return itemLabelGenerator.apply(value);
+                }
+            }
+            return String.valueOf(value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static ItemLabelGenerator<Object> getItemLabelGenerator(
+                HasValueAndElement<?, ?> editorField) {
+            // Editors with items, such as combo box and select, have no
+            // common interface for their item label generator
+            try {
+                Object itemLabelGenerator = editorField.getClass()
+                        .getMethod("getItemLabelGenerator")
+                        .invoke(editorField);
+                return itemLabelGenerator instanceof ItemLabelGenerator
+                        ? (ItemLabelGenerator<Object>) itemLabelGenerator
+                        : null;
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+
         /**
          * Sets the itemUpdater function that will be called on item changed.
          *
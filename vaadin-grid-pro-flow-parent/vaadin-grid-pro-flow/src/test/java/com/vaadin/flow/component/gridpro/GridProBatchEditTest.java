@@ -0,0 +1,317 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.gridpro;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasValue;
+import com.vaadin.flow.component.HasValueAndElement;
+import com.vaadin.flow.component.ItemLabelGenerator;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.data.provider.CompositeDataGenerator;
+import com.vaadin.flow.data.provider.ListDataProvider;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.node.ObjectNode;
+
+class GridProBatchEditTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private TestGridPro<Person> grid;
+    private GridPro.EditColumn<Person> nameColumn;
+    private GridPro.EditColumn<Person> friendColumn;
+    private Person first = new Person("first", 1990);
+    private Person second = new Person("second", 1991);
+    private List<Person> refreshedItems = new ArrayList<>();
+    private List<List<Person>> commits = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        grid = new TestGridPro<>();
+        grid.setItems(new ListDataProvider<>(List.of(first, second)) {
+            @Override
+            public void refreshItem(Person item) {
+                refreshedItems.add(item);
+                super.refreshItem(item);
+            }
+        });
+        nameColumn = (GridPro.EditColumn<Person>) grid
+                .addEditColumn(Person::getName).text(Person::setName);
+        friendColumn = (GridPro.EditColumn<Person>) grid
+                .addEditColumn(Person::getName).text((item,
+                        value) -> item.setFriend(new Person(value, 0)));
+        grid.setBatchCommitHandler(commits::add);
+        ui.add(grid);
+    }
+
+    @Test
+    void batchEditingDisabled_editAppliedAndRefreshedImmediately() {
+        edit(first, nameColumn, "foo");
+
+        Assertions.assertEquals("foo", first.getName());
+        Assertions.assertEquals(List.of(first), refreshedItems);
+        Assertions.assertFalse(grid.hasPendingEdits());
+        Assertions.assertTrue(commits.isEmpty());
+    }
+
+    @Test
+    void batchEditing_editPending_notApplied() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+
+        Assertions.assertEquals("first", first.getName());
+        Assertions.assertTrue(refreshedItems.isEmpty());
+        Assertions.assertTrue(grid.hasPendingEdits());
+
+        var edit = grid.getPendingEdits().get(0);
+        Assertions.assertEquals(first, edit.item());
+        Assertions.assertEquals(nameColumn, edit.column());
+        Assertions.assertEquals("foo", edit.value());
+    }
+
+    @Test
+    void batchEditing_sameCellEditedTwice_lastValueKept() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+        edit(first, nameColumn, "bar");
+
+        Assertions.assertEquals(1, grid.getPendingEdits().size());
+        Assertions.assertEquals("bar", grid.getPendingEdits().get(0).value());
+    }
+
+    @Test
+    void batchEditing_flush_appliedCommittedAndRefreshedOncePerItem() {
+        grid.setBatchEditing(true);
+        edit(second, nameColumn, "foo");
+        edit(first, nameColumn, "bar");
+        edit(second, friendColumn, "baz");
+
+        grid.flushPendingEdits();
+
+        Assertions.assertEquals("bar", first.getName());
+        Assertions.assertEquals("foo", second.getName());
+        Assertions.assertEquals("baz", second.getFriend().getName());
+        Assertions.assertEquals(List.of(List.of(second, first)), commits);
+        Assertions.assertEquals(List.of(second, first), refreshedItems);
+        Assertions.assertFalse(grid.hasPendingEdits());
+    }
+
+    @Test
+    void batchEditing_noPendingEdits_flush_handlerNotCalled() {
+        grid.setBatchEditing(true);
+        grid.flushPendingEdits();
+
+        Assertions.assertTrue(commits.isEmpty());
+    }
+
+    @Test
+    void batchEditing_manualRefreshColumn_itemNotRefreshed() {
+        var column = (GridPro.EditColumn<Person>) grid
+                .addEditColumn(Person::getName).withManualRefresh()
+                .text(Person::setName);
+        grid.setBatchEditing(true);
+        edit(first, column, "foo");
+
+        grid.flushPendingEdits();
+
+        Assertions.assertEquals("foo", first.getName());
+        Assertions.assertEquals(List.of(List.of(first)), commits);
+        Assertions.assertTrue(refreshedItems.isEmpty());
+    }
+
+    @Test
+    void batchEditing_discard_notAppliedAndRefreshed() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+        edit(first, friendColumn, "bar");
+
+        grid.discardPendingEdits();
+
+        Assertions.assertEquals("first", first.getName());
+        Assertions.assertNull(first.getFriend());
+        Assertions.assertEquals(List.of(first), refreshedItems);
+        Assertions.assertTrue(commits.isEmpty());
+        Assertions.assertFalse(grid.hasPendingEdits());
+    }
+
+    @Test
+    void disableBatchEditing_pendingEditsFlushed() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+
+        grid.setBatchEditing(false);
+
+        Assertions.assertEquals("foo", first.getName());
+        Assertions.assertEquals(List.of(List.of(first)), commits);
+    }
+
+    @Test
+    void batchEditing_rowGeneratedAgain_pendingValueShown() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+
+        grid.getDataProvider().refreshItem(first);
+
+        Assertions.assertEquals("foo", generateData(first)
+                .get(nameColumn.getInternalId()).asString());
+        Assertions.assertEquals("first", generateData(first)
+                .get(friendColumn.getInternalId()).asString());
+        Assertions.assertEquals("second", generateData(second)
+                .get(nameColumn.getInternalId()).asString());
+    }
+
+    @Test
+    void batchEditing_discard_itemValueShown() {
+        grid.setBatchEditing(true);
+        edit(first, nameColumn, "foo");
+
+        grid.discardPendingEdits();
+
+        Assertions.assertEquals("first", generateData(first)
+                .get(nameColumn.getInternalId()).asString());
+    }
+
+    @Test
+    void batchEditing_customEditor_editedAgain_startsFromPendingValue() {
+        var editor = new TestCustomEditor();
+        var column = (GridPro.EditColumn<Person>) grid
+                .addEditColumn(Person::getName)
+                .custom(editor, Person::setName);
+        grid.setBatchEditing(true);
+
+        startEdit(first, column);
+        editor.setValue("foo");
+        edit(first, column, "foo");
+        // The editor is used for another cell in the meantime
+        startEdit(second, column);
+        Assertions.assertEquals("second", editor.getValue());
+
+        startEdit(first, column);
+
+        Assertions.assertEquals("foo", editor.getValue());
+        Assertions.assertEquals("foo", generateData(first)
+                .get(column.getInternalId()).asString());
+        Assertions.assertEquals("first", first.getName());
+    }
+
+    @Test
+    void batchEditing_customEditorWithItemLabelGenerator_labelShown() {
+        var editor = new TestItemEditor();
+        var column = (GridPro.EditColumn<Person>) grid
+                .addEditColumn(Person::getName)
+                .custom(editor, Person::getFriend, Person::setFriend);
+        grid.setBatchEditing(true);
+
+        startEdit(first, column);
+        editor.setValue(second);
+        edit(first, column, "");
+
+        Assertions.assertEquals("Friend: second", generateData(first)
+                .get(column.getInternalId()).asString());
+    }
+
+    @Test
+    void setCommitOnFocusOut_isCommitOnFocusOut() {
+        Assertions.assertFalse(grid.isCommitOnFocusOut());
+        grid.setCommitOnFocusOut(true);
+        Assertions.assertTrue(grid.isCommitOnFocusOut());
+        grid.setCommitOnFocusOut(false);
+        Assertions.assertFalse(grid.isCommitOnFocusOut());
+    }
+
+    private void edit(Person item, GridPro.EditColumn<Person> column,
+            String value) {
+        var key = grid.getDataCommunicator().getKeyMapper().key(item);
+        var sourceItem = JacksonUtils.createObjectNode();
+        sourceItem.put("key", key);
+        sourceItem.put(column.getInternalId(), value);
+        ComponentUtil.fireEvent(grid, new GridPro.ItemPropertyChangedEvent<>(
+                grid, true, sourceItem, column.getInternalId()));
+    }
+
+    private void startEdit(Person item, GridPro.EditColumn<Person> column) {
+        var key = grid.getDataCommunicator().getKeyMapper().key(item);
+        var sourceItem = JacksonUtils.createObjectNode();
+        sourceItem.put("key", key);
+        ComponentUtil.fireEvent(grid, new GridPro.CellEditStartedEvent<>(grid,
+                true, sourceItem, column.getInternalId()));
+    }
+
+    private ObjectNode generateData(Person item) {
+        var data = JacksonUtils.createObjectNode();
+        grid.getCompositeDataGenerator().generateData(item, data);
+        return data;
+    }
+
+    private static class TestGridPro<E> extends GridPro<E> {
+        @Override
+        protected CompositeDataGenerator<E> getCompositeDataGenerator() {
+            return super.getCompositeDataGenerator();
+        }
+    }
+
+    @Tag("test-item-editor")
+    static class TestItemEditor extends Component implements
+            HasValueAndElement<HasValue.ValueChangeEvent<Person>, Person> {
+        private Person value;
+
+        @Override
+        public void setValue(Person value) {
+            this.value = value;
+        }
+
+        @Override
+        public Person getValue() {
+            return value;
+        }
+
+        @Override
+        public Registration addValueChangeListener(
+                HasValue.ValueChangeListener<? super HasValue.ValueChangeEvent<Person>> listener) {
+            return null;
+        }
+
+        public ItemLabelGenerator<Person> getItemLabelGenerator() {
+            return person -> "Friend: " + person.getName();
+        }
+    }
+
+    @Tag("test-custom-editor")
+    private static class TestCustomEditor extends Component implements
+            HasValueAndElement<HasValue.ValueChangeEvent<String>, String> {
+        private String value;
+
+        @Override
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public Registration addValueChangeListener(
+                HasValue.ValueChangeListener<? super HasValue.ValueChangeEvent<String>> listener) {
+            return null;
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.component.icon;
 
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
 import com.vaadin.flow.dom.SignalBinding;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.server.AbstractStreamResource;
@@ -22,6 +24,7 @@ import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.StreamResourceRegistry;
 import com.vaadin.flow.server.streams.AbstractDownloadHandler;
 import com.vaadin.flow.server.streams.DownloadHandler;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.signals.Signal;
 
 /**
@@ -33,6 +36,8 @@ import com.vaadin.flow.signals.Signal;
 public class SvgIcon extends AbstractIcon<SvgIcon> {
     private static final String STYLE_FILL = "fill";
 
+    private Registration sharedSrcRegistration;
+
     /**
      * Default constructor. Creates an empty SVG icon.
      */
@@ -203,6 +208,7 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
      *            the source file of the icon
      */
     public void setSrc(String src) {
+        unbindSharedSrc();
         getElement().setAttribute("src", src);
     }
 
@@ -231,6 +237,7 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
      */
     @Deprecated(since = "24.8", forRemoval = true)
     public void setSrc(AbstractStreamResource src) {
+        unbindSharedSrc();
         getElement().setAttribute("src", src);
     }
 
@@ -265,6 +272,7 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
      * @since 24.8
      */
     public void setSrc(DownloadHandler src) {
+        unbindSharedSrc();
         if (src instanceof AbstractDownloadHandler<?> handler) {
             // change disposition to inline in pre-defined handlers,
             // where it is 'attachment' by default
@@ -296,6 +304,50 @@ public class SvgIcon extends AbstractIcon<SvgIcon> {
         setSymbol(symbol);
     }
 
+    /**
+     * Defines the source of the icon as a resource that is shared by the whole
+     * application. All icons that use equal shared resources reference the
+     * same URL, which the browser can cache, instead of each icon registering
+     * its own resource.
+     * <p>
+     * The URL of the resource is resolved when the icon is attached, so
+     * {@link #getSrc()} may return {@code null} until then.
+     *
+     * @param src
+     *            the shared resource, not {@code null}
+     * @see SharedResource
+     * @since 25.3
+     */
+    public void setSrc(SharedResource src) {
+        unbindSharedSrc();
+        sharedSrcRegistration = SharedResourceRegistry.bind(this, "src", src);
+    }
+
+    /**
+     * Defines the source as a shared resource and the symbol to be used in the
+     * icon.
+     *
+     * @param src
+     *            the shared resource of the icon sprite file, not
+     *            {@code null}
+     * @param symbol
+     *            the symbol reference of the icon
+     * @see #setSrc(SharedResource)
+     * @see #setSymbol(String)
+     * @since 25.3
+     */
+    public void setSrc(SharedResource src, String symbol) {
+        setSrc(src);
+        setSymbol(symbol);
+    }
+
+    private void unbindSharedSrc() {
+        if (sharedSrcRegistration != null) {
+            sharedSrcRegistration.remove();
+            sharedSrcRegistration = null;
+        }
+    }
+
     /**
      * Gets the source defined in the icon.
      *
@@ -18,13 +18,21 @@ package com.vaadin.flow.component.icon.tests;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.component.icon.SvgIcon;
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
 import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.streams.DownloadEvent;
 import com.vaadin.flow.server.streams.DownloadHandler;
 import com.vaadin.tests.MockUIExtension;
@@ -187,6 +195,79 @@ class SvgIconTest {
         Assertions.assertNull(icon.getStyle().get("fill"));
     }
 
+    @Test
+    void setSharedResource_hasSrc_registeredWhileAttached() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        var icon = new SvgIcon();
+
+        icon.setSrc(resource, "symbol");
+
+        Assertions.assertEquals(resource.getUrl(), icon.getSrc());
+        Assertions.assertEquals("symbol", icon.getSymbol());
+        Assertions.assertFalse(registry.isRegistered(resource));
+
+        ui.add(icon);
+        Assertions.assertTrue(registry.isRegistered(resource));
+
+        ui.remove(icon);
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void sameSharedResourceInManyIcons_registeredOnce() {
+        var registry = setupSharedResourceRegistry();
+        for (int i = 0; i < 10; i++) {
+            var icon = new SvgIcon();
+            icon.setSrc(getSharedResource());
+            ui.add(icon);
+        }
+
+        Assertions.assertEquals(1, registry.size());
+    }
+
+    @Test
+    void attachedWithSharedResource_setSrc_sharedResourceReleased() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        var icon = new SvgIcon();
+        icon.setSrc(resource);
+        ui.add(icon);
+
+        icon.setSrc("path/to/file.svg");
+
+        Assertions.assertEquals("path/to/file.svg", icon.getSrc());
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @AfterEach
+    void clearCurrentService() {
+        VaadinService.setCurrent(null);
+    }
+
+    private SharedResourceRegistry setupSharedResourceRegistry() {
+        var registry = new AtomicReference<SharedResourceRegistry>();
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Mockito.when(context.getAttribute(
+                Mockito.eq(SharedResourceRegistry.class), Mockito.any()))
+                .thenAnswer(invocation -> registry.updateAndGet(
+                        current -> current != null ? current
+                                : create(invocation.getArgument(1))));
+        Mockito.when(ui.getService().getContext()).thenReturn(context);
+        VaadinService.setCurrent(ui.getService());
+        return SharedResourceRegistry.get(ui.getService());
+    }
+
+    private static SharedResourceRegistry create(
+            Supplier<SharedResourceRegistry> supplier) {
+        return supplier.get();
+    }
+
+    private static SharedResource getSharedResource() {
+        return SharedResource.fromContent("image.svg", "image/svg+xml",
+                "<svg></svg>".getBytes(StandardCharsets.UTF_8));
+    }
+
     private static StreamResource getStreamResource() {
         return new StreamResource("image.svg", () -> new ByteArrayInputStream(
                 "<svg></svg>".getBytes(StandardCharsets.UTF_8)));
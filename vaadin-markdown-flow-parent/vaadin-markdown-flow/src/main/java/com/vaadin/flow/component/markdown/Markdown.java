@@ -25,6 +25,8 @@ import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.dom.SignalBinding;
+import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.signals.BindingActiveException;
 import com.vaadin.flow.signals.Signal;
 
 /**
@@ -40,9 +42,28 @@ import com.vaadin.flow.signals.Signal;
 public class Markdown extends Component implements HasSize {
 
     private final SignalPropertySupport<String> contentSupport = SignalPropertySupport
-            .create(this, this::handleContentChange);
+            .create(this, this::replaceContent);
 
-    private String clientContent;
+    /*
+     * The content is kept in an append-only buffer, so that streaming content
+     * with appendContent does not copy the whole content on every call. The
+     * buffer is null when the content is null.
+     */
+    private StringBuilder content;
+
+    private String contentString;
+
+    private boolean contentBound;
+
+    /*
+     * The number of characters at the start of the content that the client
+     * has, or -1 if the client content is not a prefix of the content.
+     */
+    private int clientLength;
+
+    private boolean clientContentNull = true;
+
+    private StateTree.ExecutionRegistration pendingContentUpdate;
 
     /**
      * Default constructor. Creates an empty Markdown.
@@ -81,17 +102,30 @@ public class Markdown extends Component implements HasSize {
      */
     public void setContent(String content) {
         contentSupport.set(content);
+        // The property support only has the content that was last set, as
+        // appended content is kept in the buffer
+        replaceContent(content);
     }
 
     /**
-     * Appends the markdown content.
+     * Appends the markdown content. Appending is optimized for streaming
+     * content in small parts, for example the tokens of an LLM response: the
+     * existing content is not copied, and the parts appended during a
+     * roundtrip are sent to the client together.
      *
      * @param content
      *            the markdown content to append
      */
     public void appendContent(String content) {
-        var current = contentSupport.get();
-        setContent((current == null ? "" : current) + content);
+        if (contentBound) {
+            throw new BindingActiveException();
+        }
+        if (this.content == null) {
+            this.content = new StringBuilder();
+        }
+        this.content.append(content);
+        contentString = null;
+        scheduleContentUpdate();
     }
 
     /**
@@ -100,7 +134,13 @@ public class Markdown extends Component implements HasSize {
      * @return the markdown content
      */
     public String getContent() {
-        return contentSupport.get();
+        if (content == null) {
+            return null;
+        }
+        if (contentString == null) {
+            contentString = content.toString();
+        }
+        return contentString;
     }
 
     /**
@@ -117,49 +157,79 @@ public class Markdown extends Component implements HasSize {
      * @since 25.3
      */
     public SignalBinding<String> bindContent(Signal<String> contentSignal) {
-        return contentSupport.bind(contentSignal);
+        SignalBinding<String> binding = contentSupport.bind(contentSignal);
+        contentBound = contentSignal != null;
+        return binding;
     }
 
     @Override
     protected void onAttach(AttachEvent attachEvent) {
         super.onAttach(attachEvent);
-        if (contentSupport.get() != null) {
-            clientContent = null;
+        // The client element starts without content
+        clientContentNull = true;
+        clientLength = 0;
+        if (pendingContentUpdate != null) {
+            pendingContentUpdate.remove();
+            pendingContentUpdate = null;
+        }
+        if (content != null) {
             scheduleContentUpdate();
         }
     }
 
-    private void handleContentChange(String content) {
+    private void replaceContent(String newContent) {
+        String oldContent = getContent();
+        if (Objects.equals(oldContent, newContent)) {
+            return;
+        }
+        if (newContent == null) {
+            if (!clientContentNull) {
+                clientLength = -1;
+            }
+        } else if (clientLength > 0 && !newContent.regionMatches(0,
+                oldContent, 0, clientLength)) {
+            clientLength = -1;
+        }
+        content = newContent == null ? null : new StringBuilder(newContent);
+        contentString = newContent;
         scheduleContentUpdate();
     }
 
     private void scheduleContentUpdate() {
-        getElement().getNode()
-                .runWhenAttached(ui -> ui.beforeClientResponse(this, ctx -> {
-                    var serverContent = contentSupport.get();
-                    if (Objects.equals(clientContent, serverContent)) {
-                        return;
-                    }
-
-                    if (serverContent != null && clientContent != null
-                            && serverContent.startsWith(clientContent)) {
-                        // This is a simple optimization to a common case where
-                        // new content is streamed at the end of the existing
-                        // content.
-                        // If the updated serverContent starts with the
-                        // clientContent, we can just send the difference to
-                        // the client.
-                        getElement().executeJs("this.content += $0",
-                                serverContent
-                                        .substring(clientContent.length()));
-                    } else {
-                        // In all other cases, we need to send the whole updated
-                        // content.
-                        getElement().executeJs("this.content = $0",
-                                serverContent);
-                    }
-
-                    clientContent = serverContent;
+        // A single update per roundtrip sends everything that has changed
+        if (pendingContentUpdate != null) {
+            return;
+        }
+        getUI().ifPresent(ui -> pendingContentUpdate = ui
+                .beforeClientResponse(this, context -> {
+                    pendingContentUpdate = null;
+                    updateClientContent();
                 }));
     }
+
+    private void updateClientContent() {
+        if (content == null) {
+            if (!clientContentNull) {
+                getElement().executeJs("this.content = $0", (Object) null);
+                clientContentNull = true;
+                clientLength = 0;
+            }
+            return;
+        }
+        int length = content.length();
+        if (!clientContentNull && clientLength == length) {
+            return;
+        }
+        if (!clientContentNull && clientLength >= 0) {
+            // The client content is a prefix of the content, which is the
+            // common case when content is streamed, so only the rest of the
+            // content has to be sent.
+            getElement().executeJs("this.content += $0",
+                    content.substring(clientLength));
+        } else {
+            getElement().executeJs("this.content = $0", getContent());
+        }
+        clientContentNull = false;
+        clientLength = length;
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.markdown.tests;
+
+import java.util.function.BiConsumer;
+
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.markdown.Markdown;
+import com.vaadin.flow.server.VaadinSession;
+
+/**
+ * Measures streaming content token by token into a {@link Markdown}, using
+ * {@link Markdown#appendContent(String)} and, for comparison,
+ * {@link Markdown#setContent(String)} with the whole content. Not run as part
+ * of the test suite. Run the {@link #main(String[])} method with the number of
+ * tokens and the number of tokens per roundtrip as optional arguments, for
+ * example {@code 100000 20}.
+ */
+public class MarkdownStreamingBenchmark {
+
+    private static final String TOKEN = "lorem ";
+
+    public static void main(String[] args) {
+        int tokenCount = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        int tokensPerRoundtrip = args.length > 1 ? Integer.parseInt(args[1])
+                : 10;
+
+        run("appendContent", tokenCount, tokensPerRoundtrip,
+                (markdown, token) -> markdown.appendContent(token));
+        run("setContent", tokenCount, tokensPerRoundtrip,
+                (markdown, token) -> markdown
+                        .setContent(markdown.getContent() + token));
+    }
+
+    private static void run(String name, int tokenCount,
+            int tokensPerRoundtrip,
+            BiConsumer<Markdown, String> streamer) {
+        UI ui = new UI();
+        ui.getInternals().setSession(Mockito.mock(VaadinSession.class));
+        Markdown markdown = new Markdown("");
+        ui.add(markdown);
+
+        long sentCharacters = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < tokenCount; i++) {
+            streamer.accept(markdown, TOKEN);
+            if ((i + 1) % tokensPerRoundtrip == 0 || i == tokenCount - 1) {
+                sentCharacters += roundtrip(ui);
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%s: %d tokens in %.1f ms, %d characters sent%n",
+                name, tokenCount, millis, sentCharacters);
+    }
+
+    private static long roundtrip(UI ui) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        ui.getInternals().getStateTree().collectChanges(ignore -> {
+        });
+        return ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                .map(invocation -> invocation.getInvocation().getParameters()
+                        .get(0))
+                .mapToLong(parameter -> String.valueOf(parameter).length())
+                .sum();
+    }
+}
@@ -153,6 +153,67 @@ class MarkdownTest {
         Assertions.assertEquals("**Hello** _World_", markdown.getContent());
     }
 
+    @Test
+    void appendContentMultipleTimes_singleUpdatePerRoundtrip() {
+        markdown.appendContent("**Hello**");
+        markdown.appendContent(" _World_");
+        assertUpdateMarkdownCall(markdown, "**Hello** _World_", false);
+
+        markdown.appendContent("!");
+        markdown.appendContent("!");
+        Assertions.assertEquals("**Hello** _World_!!", markdown.getContent());
+        assertUpdateMarkdownCall(markdown, "!!", true);
+    }
+
+    @Test
+    void setContent_appendContent_fullContentSent() {
+        markdown.setContent("**Hello**");
+        assertUpdateMarkdownCall(markdown, "**Hello**", false);
+
+        markdown.setContent("**Foobar**");
+        markdown.appendContent("!");
+        Assertions.assertEquals("**Foobar**!", markdown.getContent());
+        assertUpdateMarkdownCall(markdown, "**Foobar**!", false);
+    }
+
+    @Test
+    void appendContent_setPreviousContent_contentReplaced() {
+        markdown.setContent("**Hello**");
+        markdown.appendContent(" _World_");
+        assertUpdateMarkdownCall(markdown, "**Hello** _World_", false);
+
+        markdown.setContent("**Hello**");
+        Assertions.assertEquals("**Hello**", markdown.getContent());
+        assertUpdateMarkdownCall(markdown, "**Hello**", false);
+    }
+
+    @Test
+    void appendContent_contentSetToNull_fullContentSent() {
+        markdown.setContent("**Hello**");
+        assertUpdateMarkdownCall(markdown, "**Hello**", false);
+
+        markdown.setContent(null);
+        markdown.appendContent("**World**");
+        Assertions.assertEquals("**World**", markdown.getContent());
+        assertUpdateMarkdownCall(markdown, "**World**", false);
+
+        markdown.appendContent("!");
+        assertUpdateMarkdownCall(markdown, "!", true);
+    }
+
+    @Test
+    void detach_appendContent_attach_fullContentSent() {
+        markdown.setContent("**Hello**");
+        assertUpdateMarkdownCall(markdown, "**Hello**", false);
+
+        markdown.removeFromParent();
+        markdown.appendContent(" _World_");
+        Assertions.assertEquals(0, getPendingJavaScriptInvocations().size());
+
+        ui.add(markdown);
+        assertUpdateMarkdownCall(markdown, "**Hello** _World_", false);
+    }
+
     private void assertUpdateMarkdownCall(Component component, String content,
             boolean isAppend) {
         var pendingJavaScriptInvocations = getPendingJavaScriptInvocations();
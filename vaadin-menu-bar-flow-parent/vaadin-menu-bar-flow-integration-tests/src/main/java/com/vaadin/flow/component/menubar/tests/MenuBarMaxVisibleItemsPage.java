@@ -0,0 +1,49 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.menubar.tests;
+
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.NativeButton;
+import com.vaadin.flow.component.menubar.MenuBar;
+import com.vaadin.flow.router.Route;
+
+@Route("vaadin-menu-bar/max-visible-items")
+public class MenuBarMaxVisibleItemsPage extends Div {
+    public MenuBarMaxVisibleItemsPage() {
+        MenuBar menuBar = new MenuBar();
+        for (int i = 1; i <= 8; i++) {
+            menuBar.addItem("Item " + i);
+        }
+        menuBar.setMaxVisibleItems(3);
+
+        NativeButton toggleReverseCollapse = new NativeButton(
+                "Toggle reverse collapse order",
+                event -> menuBar.setReverseCollapseOrder(
+                        !menuBar.isReverseCollapseOrder()));
+        toggleReverseCollapse.setId("toggle-reverse-collapse");
+
+        NativeButton setI18n = new NativeButton("Set i18n",
+                event -> menuBar.setI18n(
+                        new MenuBar.MenuBarI18n().setMoreItems("All items")));
+        setI18n.setId("set-i18n");
+
+        NativeButton removeLimit = new NativeButton("Remove limit",
+                event -> menuBar.setMaxVisibleItems(0));
+        removeLimit.setId("remove-limit");
+
+        add(menuBar, toggleReverseCollapse, setI18n, removeLimit);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.menubar.tests;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.menubar.testbench.MenuBarButtonElement;
+import com.vaadin.flow.component.menubar.testbench.MenuBarElement;
+import com.vaadin.flow.component.menubar.testbench.MenuBarItemElement;
+import com.vaadin.flow.testutil.TestPath;
+import com.vaadin.testbench.TestBenchElement;
+import com.vaadin.tests.AbstractComponentIT;
+
+@TestPath("vaadin-menu-bar/max-visible-items")
+public class MenuBarMaxVisibleItemsIT extends AbstractComponentIT {
+    private MenuBarElement menuBar;
+
+    @Before
+    public void init() {
+        open();
+        menuBar = $(MenuBarElement.class).waitForFirst();
+    }
+
+    @Test
+    public void itemsBeyondLimitInSubMenuOfLastButton() {
+        List<MenuBarButtonElement> buttons = menuBar.getButtons();
+        Assert.assertEquals(List.of("Item 1", "Item 2", "Item 3", "…"),
+                getTexts(buttons));
+
+        Assert.assertEquals(
+                List.of("Item 4", "Item 5", "Item 6", "Item 7", "Item 8"),
+                getTexts(buttons.get(3).openSubMenu().getMenuItems()));
+    }
+
+    @Test
+    public void reverseCollapseOrder_itemsBeyondLimitInSubMenuOfFirstButton() {
+        $("button").id("toggle-reverse-collapse").click();
+
+        List<MenuBarButtonElement> buttons = menuBar.getButtons();
+        Assert.assertEquals(List.of("…", "Item 6", "Item 7", "Item 8"),
+                getTexts(buttons));
+
+        Assert.assertEquals(
+                List.of("Item 1", "Item 2", "Item 3", "Item 4", "Item 5"),
+                getTexts(buttons.get(0).openSubMenu().getMenuItems()));
+    }
+
+    @Test
+    public void limitButtonHasAccessibleName() {
+        Assert.assertEquals("More items", getLimitButtonLabel());
+
+        $("button").id("set-i18n").click();
+        Assert.assertEquals("All items", getLimitButtonLabel());
+    }
+
+    @Test
+    public void removeLimit_allItemsShownAsButtons() {
+        $("button").id("remove-limit").click();
+
+        Assert.assertEquals(8, menuBar.getButtons().size());
+    }
+
+    private String getLimitButtonLabel() {
+        List<MenuBarButtonElement> buttons = menuBar.getButtons();
+        return buttons.get(buttons.size() - 1).$("vaadin-menu-bar-item")
+                .first().getAttribute("aria-label");
+    }
+
+    private static List<String> getTexts(
+            List<? extends TestBenchElement> elements) {
+        return elements.stream().map(TestBenchElement::getText).toList();
+    }
+}
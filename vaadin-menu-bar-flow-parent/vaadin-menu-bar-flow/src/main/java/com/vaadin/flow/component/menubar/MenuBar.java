@@ -16,8 +16,12 @@
 package com.vaadin.flow.component.menubar;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -41,8 +45,12 @@ import com.vaadin.flow.component.shared.SlotUtils;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.function.SerializableRunnable;
+import com.vaadin.flow.function.SerializableSupplier;
 import com.vaadin.flow.internal.JacksonUtils;
 
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
 /**
  * Menu Bar is a horizontal button bar with hierarchical drop-down menus. Menu
  * items can either trigger an action, open a menu, or work as a toggle.
@@ -66,6 +74,8 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
 
     private boolean updateScheduled = false;
 
+    private boolean overflowItemsLoaded = false;
+
     /**
      * Creates an empty menu bar component.
      * <p>
@@ -74,6 +84,13 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
     public MenuBar() {
         menuItemsArrayGenerator = new MenuItemsArrayGenerator<>(this);
         // Not a lambda because of UI serialization purposes
+        menuItemsArrayGenerator.setRootComponents(
+                new SerializableSupplier<Stream<Component>>() {
+                    @Override
+                    public Stream<Component> get() {
+                        return getAttachedItems();
+                    }
+                });
         SerializableRunnable resetContent = new SerializableRunnable() {
             @Override
             public void run() {
@@ -88,6 +105,8 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
             initConnector(appId);
             resetContent();
         });
+        getElement().addEventListener("overflow-items-requested",
+                event -> loadOverflowItems());
     }
 
     /**
@@ -381,6 +400,11 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
      */
     public void setReverseCollapseOrder(boolean reverseCollapseOrder) {
         getElement().setProperty("reverseCollapse", reverseCollapseOrder);
+        if (getMaxVisibleItems() > 0) {
+            // Move the button for the items beyond the limit, which also
+            // changes the items that are attached
+            resetContent();
+        }
     }
 
     /**
@@ -396,6 +420,56 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
         return getElement().getProperty("reverseCollapse", false);
     }
 
+    /**
+     * Sets the maximum number of root level items shown as buttons in the menu
+     * bar. The items exceeding the limit are placed in the sub menu of an
+     * additional button at the end of the button row, or at the start when
+     * {@link #setReverseCollapseOrder(boolean) reverse collapse order} is
+     * used. The limit is {@code 0} by default, which means that every item is
+     * shown as a button until the menu bar overflows horizontally. The
+     * accessible name of the additional button can be localized with
+     * {@link MenuBarI18n#setMoreItems(String)}.
+     * <p>
+     * The browser renders and measures a button for every root level item to
+     * determine which buttons fit in the menu bar. With a large number of
+     * items, for example one for each open document, limiting the number of
+     * buttons keeps the initial rendering and resizing fast. The items beyond
+     * the limit are not attached, and nothing but their text and enabled state
+     * is sent to the browser, until the sub menu of the additional button is
+     * about to be opened for the first time. The items are then attached with
+     * their sub menus and stay attached. To also avoid creating the components
+     * of nested items up front, use
+     * {@link SubMenu#setLazyContent(SerializableConsumer)}.
+     *
+     * @param maxVisibleItems
+     *            the maximum number of items shown as buttons, or {@code 0}
+     *            for no limit
+     * @throws IllegalArgumentException
+     *             if the limit is negative
+     * @since 25.3
+     */
+    public void setMaxVisibleItems(int maxVisibleItems) {
+        if (maxVisibleItems < 0) {
+            throw new IllegalArgumentException(
+                    "The maximum number of visible items cannot be negative");
+        }
+        getElement().setProperty("_maxVisibleItems", maxVisibleItems);
+        resetContent();
+    }
+
+    /**
+     * Gets the maximum number of root level items shown as buttons in the menu
+     * bar.
+     *
+     * @return the maximum number of items shown as buttons, or {@code 0} for
+     *         no limit
+     * @see #setMaxVisibleItems(int)
+     * @since 25.3
+     */
+    public int getMaxVisibleItems() {
+        return getElement().getProperty("_maxVisibleItems", 0);
+    }
+
     /**
      * Sets tab navigation for the menu bar.
      *
@@ -444,6 +518,10 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
         this.i18n = Objects.requireNonNull(i18n,
                 "The i18n properties object should not be null");
         getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        if (getMaxVisibleItems() > 0) {
+            // Update the label of the button for the items beyond the limit
+            updateButtons();
+        }
     }
 
     void resetContent() {
@@ -456,6 +534,7 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
             return;
         }
         runBeforeClientResponse(ui -> {
+            updateOverflowItems();
             // When calling `generateItems` without providing a node id, it will
             // use the previously generated items tree, only updating the
             // disabled and hidden properties of the root items = the menu bar
@@ -466,6 +545,78 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
         updateScheduled = true;
     }
 
+    /**
+     * Gets the root level items that are attached. When a limit for the number
+     * of visible items is set, the items beyond the limit are left out until
+     * the client requests them.
+     */
+    private Stream<Component> getAttachedItems() {
+        Set<MenuItem> overflowItems = new HashSet<>(getOverflowItems());
+        return getItems().stream().filter(item -> !overflowItems.contains(item))
+                .map(Component.class::cast);
+    }
+
+    /**
+     * Gets the root level items beyond the limit for the number of visible
+     * items that have not been attached yet, in the order of the items. Hidden
+     * items don't count towards the limit.
+     */
+    private List<MenuItem> getOverflowItems() {
+        int maxVisibleItems = getMaxVisibleItems();
+        if (maxVisibleItems == 0 || overflowItemsLoaded) {
+            return List.of();
+        }
+        List<MenuItem> items = new ArrayList<>(getItems());
+        if (isReverseCollapseOrder()) {
+            Collections.reverse(items);
+        }
+        int visibleItems = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).isVisible() && ++visibleItems > maxVisibleItems) {
+                List<MenuItem> overflowItems = new ArrayList<>(
+                        items.subList(i, items.size()));
+                if (isReverseCollapseOrder()) {
+                    Collections.reverse(overflowItems);
+                }
+                return overflowItems;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Sends the text and enabled state of the visible items that have not been
+     * attached yet, which the client shows in the sub menu of the button for
+     * the items beyond the limit.
+     */
+    private void updateOverflowItems() {
+        ArrayNode entries = JacksonUtils.createArrayNode();
+        getOverflowItems().stream().filter(Component::isVisible)
+                .forEach(item -> {
+                    ObjectNode entry = JacksonUtils.createObjectNode();
+                    entry.put("text", item.getElement().getTextRecursively());
+                    entry.put("disabled", !item.isEnabled());
+                    entries.add(entry);
+                });
+        if (!entries.isEmpty()) {
+            getElement().setPropertyJson("_overflowItems", entries);
+        } else if (getElement().hasProperty("_overflowItems")) {
+            getElement().removeProperty("_overflowItems");
+        }
+    }
+
+    /**
+     * Attaches the items beyond the limit for the number of visible items,
+     * when the client is about to open the sub menu of the button for them.
+     */
+    private void loadOverflowItems() {
+        if (overflowItemsLoaded) {
+            return;
+        }
+        overflowItemsLoaded = true;
+        resetContent();
+    }
+
     private void initConnector(String appId) {
         getElement().executeJs(
                 "window.Vaadin.Flow.menubarConnector.initLazy(this, $0)",
@@ -485,6 +636,8 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class MenuBarI18n implements Serializable {
         private String moreOptions;
+        private String moreItems;
+        private String loading;
 
         /**
          * Gets the text that is used on the overflow button to make it
@@ -508,6 +661,63 @@ public class MenuBar extends Component implements HasEnabled, HasMenuItems,
             this.moreOptions = moreOptions;
             return this;
         }
+
+        /**
+         * Gets the text that is used on the button for the items exceeding
+         * the {@link MenuBar#setMaxVisibleItems(int) maximum number of visible
+         * items} to make it accessible.
+         *
+         * @return the aria-label of the button for the items beyond the limit
+         * @since 25.3
+         */
+        public String getMoreItems() {
+            return moreItems;
+        }
+
+        /**
+         * Sets the text that is used on the button for the items exceeding
+         * the {@link MenuBar#setMaxVisibleItems(int) maximum number of visible
+         * items} to make it accessible.
+         *
+         * @param moreItems
+         *            the aria-label of the button for the items beyond the
+         *            limit
+         * @return this instance for method chaining
+         * @since 25.3
+         */
+        public MenuBarI18n setMoreItems(String moreItems) {
+            this.moreItems = moreItems;
+            return this;
+        }
+
+        /**
+         * Gets the text that is used on the placeholder item shown in a sub
+         * menu with lazy content until the content has been loaded, to make it
+         * accessible.
+         *
+         * @return the aria-label of the placeholder item
+         * @see SubMenu#setLazyContent(SerializableConsumer)
+         * @since 25.3
+         */
+        public String getLoading() {
+            return loading;
+        }
+
+        /**
+         * Sets the text that is used on the placeholder item shown in a sub
+         * menu with lazy content until the content has been loaded, to make it
+         * accessible.
+         *
+         * @param loading
+         *            the aria-label of the placeholder item
+         * @return this instance for method chaining
+         * @see SubMenu#setLazyContent(SerializableConsumer)
+         * @since 25.3
+         */
+        public MenuBarI18n setLoading(String loading) {
+            this.loading = loading;
+            return this;
+        }
     }
 
     /**
@@ -31,6 +31,25 @@ class MenuBarRootItem extends MenuBarItem {
         }
     }
 
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        if (menuBar.getMaxVisibleItems() > 0) {
+            // Hidden items don't count towards the limit, so the items that
+            // are attached may change
+            menuBar.resetContent();
+        }
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        super.setEnabled(enabled);
+        if (menuBar.getMaxVisibleItems() > 0) {
+            // Update the enabled state of the items that are not attached yet
+            menuBar.updateButtons();
+        }
+    }
+
     /**
      * Adds one or more theme names to this item. Multiple theme names can be
      * specified by using multiple parameters.
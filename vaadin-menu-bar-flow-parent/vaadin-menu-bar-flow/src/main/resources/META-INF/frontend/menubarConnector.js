@@ -38,6 +38,12 @@ function initLazy(menubar, appId) {
     }
   });
 
+  // Request the items beyond the limit from the server when the user is about
+  // to open the sub menu of the button for them
+  ['mouseover', 'focusin', 'click'].forEach((event) => {
+    menubar.addEventListener(event, (e) => requestOverflowItems(menubar, e));
+  });
+
   menubar.$connector = {
     /**
      * Generates and assigns the items to the menu bar.
@@ -63,7 +69,8 @@ function initLazy(menubar, appId) {
       }
 
       if (nodeId) {
-        menubar.__generatedItems = window.Vaadin.Flow.contextMenuConnector.generateItemsTree(appId, nodeId);
+        menubar.__rootNodeId = nodeId;
+        menubar.__generatedItems = window.Vaadin.Flow.contextMenuConnector.generateItemsTree(appId, nodeId, menubar);
       }
 
       let items = menubar.__generatedItems || [];
@@ -94,11 +101,104 @@ function initLazy(menubar, appId) {
       // to update the disabled state and re-render buttons.
       items = items.filter((item) => !item.component.hidden);
 
+      items = limitVisibleItems(menubar, items);
+
       menubar.items = items;
+    },
+
+    /**
+     * Generates the sub menu items of the given items again, keeping the rest
+     * of the items tree.
+     *
+     * @param {...HTMLElement} components the items whose sub menus have changed
+     */
+    generateSubItems(...components) {
+      const { generateSubItemsTree } = window.Vaadin.Flow.contextMenuConnector;
+      if (!components.every((component) => generateSubItemsTree(appId, component, menubar))) {
+        menubar.$connector.generateItems(menubar.__rootNodeId);
+        return;
+      }
+      menubar.$connector.generateItems();
     }
   };
 }
 
+/**
+ * Moves the root items exceeding the maximum number of visible items into the
+ * sub menu of an additional root item, so that the menu bar only renders and
+ * measures buttons for the items within the limit. The components of the moved
+ * items are only rendered when the sub menu is opened.
+ *
+ * The items beyond the limit that the server has not attached yet are only
+ * available as data entries in the `_overflowItems` property. They are shown
+ * in the sub menu as plain items until the server has attached them.
+ *
+ * @param {HTMLElement} menubar
+ * @param {Array} items
+ */
+function limitVisibleItems(menubar, items) {
+  const maxVisibleItems = menubar._maxVisibleItems;
+  const overflowEntries = (maxVisibleItems && menubar._overflowItems) || [];
+  menubar.__pendingOverflowItems = overflowEntries.length > 0;
+  if (!maxVisibleItems || (items.length <= maxVisibleItems && overflowEntries.length === 0)) {
+    return items;
+  }
+
+  // Reuse the same component so that the button is not re-created on every update
+  if (!menubar.__moreItemsComponent) {
+    menubar.__moreItemsComponent = document.createElement('vaadin-menu-bar-item');
+    menubar.__moreItemsComponent.textContent = '…';
+    // The component is moved to a sub menu when the button overflows
+    ['mouseover', 'click'].forEach((event) => {
+      menubar.__moreItemsComponent.addEventListener(event, (e) => requestOverflowItems(menubar, e));
+    });
+  }
+  const component = menubar.__moreItemsComponent;
+  const i18n = menubar.i18n || {};
+  component.setAttribute('aria-label', i18n.moreItems || 'More items');
+
+  const entries = overflowEntries.map(createOverflowEntry);
+  const overflowCount = Math.max(items.length - maxVisibleItems, 0);
+  if (menubar.reverseCollapse) {
+    const children = [...entries, ...items.slice(0, overflowCount)];
+    return [{ component, children }, ...items.slice(overflowCount)];
+  }
+  const children = [...items.slice(maxVisibleItems), ...entries];
+  return [...items.slice(0, maxVisibleItems), { component, children }];
+}
+
+/**
+ * Creates a plain item for an item beyond the limit that the server has not
+ * attached yet.
+ *
+ * @param {{text: string, disabled: boolean}} entry
+ */
+function createOverflowEntry(entry) {
+  const component = document.createElement('vaadin-menu-bar-item');
+  component.textContent = entry.text;
+  return { component, disabled: entry.disabled };
+}
+
+/**
+ * Requests the server to attach the items beyond the limit when the given
+ * event targets the button for them, that is when the button is hovered,
+ * focused or clicked.
+ *
+ * @param {HTMLElement} menubar
+ * @param {Event} event
+ */
+function requestOverflowItems(menubar, event) {
+  const component = menubar.__moreItemsComponent;
+  if (!menubar.__pendingOverflowItems || !component) {
+    return;
+  }
+  const path = event.composedPath();
+  if (path.includes(component) || path.some((node) => node.item && node.item.component === component)) {
+    menubar.__pendingOverflowItems = false;
+    menubar.dispatchEvent(new CustomEvent('overflow-items-requested'));
+  }
+}
+
 function setClassName(component) {
   const item = component._rootItem || component._item;
 
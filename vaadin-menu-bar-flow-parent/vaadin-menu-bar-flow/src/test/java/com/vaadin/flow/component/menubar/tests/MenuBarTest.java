@@ -18,12 +18,21 @@ package com.vaadin.flow.component.menubar.tests;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 
 import com.vaadin.flow.component.contextmenu.MenuItem;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.menubar.MenuBar;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.tests.MockUIExtension;
+
+import tools.jackson.databind.JsonNode;
 
 class MenuBarTest {
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
 
     private MenuBar menuBar;
     private MenuItem item1, item2;
@@ -117,6 +126,119 @@ class MenuBarTest {
                 menuBar.getElement().getProperty("tabNavigation", false));
     }
 
+    @Test
+    void getMaxVisibleItems_noLimitByDefault() {
+        Assertions.assertEquals(0, menuBar.getMaxVisibleItems());
+        Assertions.assertFalse(
+                menuBar.getElement().hasProperty("_maxVisibleItems"));
+    }
+
+    @Test
+    void setMaxVisibleItems_getMaxVisibleItems() {
+        menuBar.setMaxVisibleItems(5);
+        Assertions.assertEquals(5, menuBar.getMaxVisibleItems());
+        Assertions.assertEquals(5,
+                menuBar.getElement().getProperty("_maxVisibleItems", 0));
+
+        menuBar.setMaxVisibleItems(0);
+        Assertions.assertEquals(0, menuBar.getMaxVisibleItems());
+    }
+
+    @Test
+    void setMaxVisibleItems_negative_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> menuBar.setMaxVisibleItems(-1));
+    }
+
+    @Test
+    void setI18n_moreItems_setToElement() {
+        menuBar.setI18n(new MenuBar.MenuBarI18n().setMoreItems("All items"));
+
+        String json = menuBar.getElement().getPropertyRaw("i18n").toString();
+        Assertions.assertTrue(json.contains("\"moreItems\":\"All items\""));
+        Assertions.assertFalse(json.contains("moreOptions"));
+    }
+
+    @Test
+    void setMaxVisibleItems_itemsBeyondLimitNotAttached() {
+        MenuItem item3 = menuBar.addItem("baz");
+        MenuItem item4 = menuBar.addItem("qux");
+        menuBar.setMaxVisibleItems(2);
+        ui.add(menuBar);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(item1.isAttached());
+        Assertions.assertTrue(item2.isAttached());
+        Assertions.assertFalse(item3.isAttached());
+        Assertions.assertFalse(item4.isAttached());
+
+        JsonNode entries = (JsonNode) menuBar.getElement()
+                .getPropertyRaw("_overflowItems");
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals("baz", entries.get(0).get("text").asString());
+        Assertions.assertEquals("qux", entries.get(1).get("text").asString());
+    }
+
+    @Test
+    void setMaxVisibleItems_reverseCollapseOrder_firstItemsNotAttached() {
+        MenuItem item3 = menuBar.addItem("baz");
+        menuBar.setMaxVisibleItems(2);
+        menuBar.setReverseCollapseOrder(true);
+        ui.add(menuBar);
+        ui.fakeClientCommunication();
+
+        Assertions.assertFalse(item1.isAttached());
+        Assertions.assertTrue(item2.isAttached());
+        Assertions.assertTrue(item3.isAttached());
+    }
+
+    @Test
+    void setMaxVisibleItems_hiddenItemsNotCounted() {
+        MenuItem item3 = menuBar.addItem("baz");
+        MenuItem item4 = menuBar.addItem("qux");
+        menuBar.setMaxVisibleItems(2);
+        ui.add(menuBar);
+        ui.fakeClientCommunication();
+
+        item1.setVisible(false);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(item3.isAttached());
+        Assertions.assertFalse(item4.isAttached());
+        JsonNode entries = (JsonNode) menuBar.getElement()
+                .getPropertyRaw("_overflowItems");
+        Assertions.assertEquals(1, entries.size());
+    }
+
+    @Test
+    void setMaxVisibleItems_overflowItemsRequested_itemsAttached() {
+        MenuItem item3 = menuBar.addItem("baz");
+        menuBar.setMaxVisibleItems(2);
+        ui.add(menuBar);
+        ui.fakeClientCommunication();
+
+        menuBar.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(menuBar.getElement(),
+                        "overflow-items-requested",
+                        JacksonUtils.createObjectNode()));
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(item3.isAttached());
+        Assertions.assertFalse(
+                menuBar.getElement().hasProperty("_overflowItems"));
+    }
+
+    @Test
+    void noMaxVisibleItems_allItemsAttached() {
+        ui.add(menuBar);
+        ui.fakeClientCommunication();
+
+        Assertions.assertTrue(item1.isAttached());
+        Assertions.assertTrue(item2.isAttached());
+        Assertions.assertFalse(
+                menuBar.getElement().hasProperty("_overflowItems"));
+    }
+
     private void assertChildrenAndItems(MenuItem... expected) {
         Object[] menuItems = menuBar.getChildren().toArray();
         Assertions.assertArrayEquals(expected, menuItems);
@@ -31,6 +31,7 @@ import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.HasTooltip;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.shared.Registration;
 
@@ -152,6 +153,6 @@ public class MessageInput extends Component
     public void setI18n(MessageInputI18n i18n) {
         this.i18n = Objects.requireNonNull(i18n,
                 "The i18n object should not be null");
-        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        SharedI18nRegistry.setI18nProperty(this, JacksonUtils.beanToJson(i18n));
     }
 }
@@ -33,12 +33,15 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
 import com.vaadin.flow.internal.NodeOwner;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.server.AbstractStreamResource;
 import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.StreamRegistration;
 import com.vaadin.flow.server.StreamResourceRegistry;
+import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.streams.AbstractDownloadHandler;
 import com.vaadin.flow.server.streams.DownloadHandler;
@@ -72,6 +75,8 @@ public class MessageListItem implements Serializable {
     private Registration pendingRegistration;
     private Command pendingHandle;
     private AbstractStreamResource imageResource;
+    private SharedResource sharedImage;
+    private Registration sharedImageRegistration;
 
     private Set<String> themeNames = new LinkedHashSet<>();
     private Set<String> classNames = new LinkedHashSet<>();
@@ -284,15 +289,32 @@ public class MessageListItem implements Serializable {
      * If the image is set as a stream resource with
      * {@link MessageListItem#setUserImageHandler(DownloadHandler)}, this method
      * will return a URL that is generated for that resource.
+     * <p>
+     * If the image is set as a shared resource with
+     * {@link MessageListItem#setSharedUserImage(SharedResource)}, the URL of
+     * the resource in the application of the message list is returned, or
+     * {@code null} if the item is not in an attached message list and there is
+     * no current service.
      *
      * @return the URL to the message sender's image, or {@code null} if none is
      *         set
      */
     @JsonProperty("userImg")
     public String getUserImage() {
+        if (sharedImage != null) {
+            return getSharedImageUrl();
+        }
         return userImage;
     }
 
+    private String getSharedImageUrl() {
+        if (getHost() != null) {
+            return SharedResourceRegistry.resolveUrl(getHost(), sharedImage);
+        }
+        return VaadinService.getCurrent() != null ? sharedImage.getUrl()
+                : null;
+    }
+
     /**
      * Sets the URL to the message sender's image. The image be displayed in an
      * avatar in the message component.
@@ -307,6 +329,7 @@ public class MessageListItem implements Serializable {
      */
     public void setUserImage(String userImage) {
         unsetResource();
+        unsetSharedImage();
         this.userImage = userImage;
         propsChanged();
     }
@@ -471,6 +494,7 @@ public class MessageListItem implements Serializable {
      * @since 24.8
      */
     public void setUserImageHandler(DownloadHandler downloadHandler) {
+        unsetSharedImage();
         if (downloadHandler == null) {
             unsetResource();
             return;
@@ -499,6 +523,7 @@ public class MessageListItem implements Serializable {
      */
     @Deprecated(since = "24.8", forRemoval = true)
     public void setUserImageResource(AbstractStreamResource resource) {
+        unsetSharedImage();
         imageResource = resource;
 
         if (resource == null) {
@@ -518,6 +543,47 @@ public class MessageListItem implements Serializable {
         propsChanged();
     }
 
+    /**
+     * Sets the image for the message sender's avatar as a resource that is
+     * shared by the whole application. Items that use equal shared resources,
+     * such as the messages of the same user, reference the same URL, which the
+     * browser can cache, instead of each item registering its own resource in
+     * the session.
+     * <p>
+     * Setting the image with this method overrides the image URL set with
+     * {@link MessageListItem#setUserImage(String)} and the image resource set
+     * with {@link MessageListItem#setUserImageHandler(DownloadHandler)}.
+     *
+     * @param resource
+     *            the shared image resource, or {@code null} to remove the
+     *            image
+     * @see SharedResource
+     * @since 25.3
+     */
+    public void setSharedUserImage(SharedResource resource) {
+        unsetResource();
+        unsetSharedImage();
+        sharedImage = resource;
+        userImage = null;
+        retainSharedImage();
+        propsChanged();
+    }
+
+    private void retainSharedImage() {
+        if (sharedImage != null && getHost() != null) {
+            sharedImageRegistration = SharedResourceRegistry
+                    .retain(getHost(), sharedImage);
+        }
+    }
+
+    private void unsetSharedImage() {
+        if (sharedImageRegistration != null) {
+            sharedImageRegistration.remove();
+            sharedImageRegistration = null;
+        }
+        sharedImage = null;
+    }
+
     private void doSetResource(AbstractStreamResource resource) {
         final URI targetUri;
         if (VaadinSession.getCurrent() != null) {
@@ -613,7 +679,12 @@ public class MessageListItem implements Serializable {
     }
 
     void setHost(MessageList host) {
+        if (sharedImageRegistration != null) {
+            sharedImageRegistration.remove();
+            sharedImageRegistration = null;
+        }
         this.host = host;
+        retainSharedImage();
         if (pendingHandle != null) {
             attachPendingRegistration(pendingHandle);
             pendingHandle = null;
@@ -15,19 +15,28 @@
  */
 package com.vaadin.flow.component.messages.tests;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.component.messages.MessageList;
 import com.vaadin.flow.component.messages.MessageListItem;
+import com.vaadin.flow.component.shared.SharedResource;
+import com.vaadin.flow.component.shared.SharedResourceRegistry;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.VaadinContext;
+import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.streams.DownloadHandler;
 import com.vaadin.flow.server.streams.DownloadResponse;
 import com.vaadin.tests.MockUIExtension;
@@ -133,6 +142,69 @@ class MessageListTest {
         Assertions.assertNull(item1.getUserImageResource());
     }
 
+    @Test
+    void setSharedUserImage_urlSet_registeredWhileListAttached() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        item1.setSharedUserImage(resource);
+        item2.setSharedUserImage(getSharedResource());
+
+        Assertions.assertEquals(resource.getUrl(), item1.getUserImage());
+        Assertions.assertEquals(resource.getUrl(), item2.getUserImage());
+
+        messageList.setItems(item1, item2);
+        Assertions.assertFalse(registry.isRegistered(resource));
+
+        ui.add(messageList);
+        Assertions.assertEquals(1, registry.size());
+
+        ui.remove(messageList);
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void setSharedUserImage_noCurrentService_urlResolvedWhenAttached() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        VaadinService.setCurrent(null);
+
+        item1.setSharedUserImage(resource);
+        messageList.setItems(item1);
+        Assertions.assertNull(item1.getUserImage());
+
+        ui.add(messageList);
+        Assertions.assertEquals(registry.getUrl(resource),
+                item1.getUserImage());
+    }
+
+    @Test
+    void attached_setUserImage_sharedUserImageReleased() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        item1.setSharedUserImage(resource);
+        messageList.setItems(item1);
+        ui.add(messageList);
+
+        item1.setUserImage("foo/bar");
+
+        Assertions.assertEquals("foo/bar", item1.getUserImage());
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
+    @Test
+    void attached_setSharedUserImageNull_imageRemovedAndReleased() {
+        var registry = setupSharedResourceRegistry();
+        var resource = getSharedResource();
+        item1.setSharedUserImage(resource);
+        messageList.setItems(item1);
+        ui.add(messageList);
+
+        item1.setSharedUserImage(null);
+
+        Assertions.assertNull(item1.getUserImage());
+        Assertions.assertFalse(registry.isRegistered(resource));
+    }
+
     @Test
     void addThemeNames_serialize_separatedBySpaces() {
         item1.addThemeNames("foo", "bar");
@@ -284,4 +356,32 @@ class MessageListTest {
             return theme.asString();
         }
     }
+
+    @AfterEach
+    void clearCurrentService() {
+        VaadinService.setCurrent(null);
+    }
+
+    private SharedResourceRegistry setupSharedResourceRegistry() {
+        var registry = new AtomicReference<SharedResourceRegistry>();
+        VaadinContext context = Mockito.mock(VaadinContext.class);
+        Mockito.when(context.getAttribute(
+                Mockito.eq(SharedResourceRegistry.class), Mockito.any()))
+                .thenAnswer(invocation -> registry.updateAndGet(
+                        current -> current != null ? current
+                                : create(invocation.getArgument(1))));
+        Mockito.when(ui.getService().getContext()).thenReturn(context);
+        VaadinService.setCurrent(ui.getService());
+        return SharedResourceRegistry.get(ui.getService());
+    }
+
+    private static SharedResourceRegistry create(
+            Supplier<SharedResourceRegistry> supplier) {
+        return supplier.get();
+    }
+
+    private static SharedResource getSharedResource() {
+        return SharedResource.fromContent("user.png", "image/png",
+                "png".getBytes(StandardCharsets.UTF_8));
+    }
 }
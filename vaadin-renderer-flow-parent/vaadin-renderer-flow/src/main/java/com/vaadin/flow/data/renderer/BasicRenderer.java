@@ -17,6 +17,7 @@ package com.vaadin.flow.data.renderer;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.data.provider.DataKeyMapper;
 import com.vaadin.flow.dom.Element;
@@ -36,6 +37,14 @@ import com.vaadin.flow.function.ValueProvider;
  * {@link ComponentRenderer} API, so components that use renderers server-side
  * to generate content, such as {@code RadioButtonGroup} or {@code ListBox}, can
  * use it as well.
+ * <p>
+ * By default, values are formatted on the server with
+ * {@link #getFormattedValue(Object)}. Renderers created in client-side
+ * formatting mode, such as with
+ * {@link NumberRenderer#clientSide(ValueProvider, java.util.Locale)},
+ * instead send the raw values and let the browser format them with the
+ * {@code Intl} API. Server-side formatting is still used for components that
+ * render the values as server-side components.
  *
  * @author Vaadin Ltd
  *
@@ -45,10 +54,13 @@ import com.vaadin.flow.function.ValueProvider;
  *            the type of the output object, such as Number or LocalDate
  * @since 22.0
  */
+@JsModule("./vaadin-renderer/intl-format.ts")
 public abstract class BasicRenderer<SOURCE, TARGET>
         extends ComponentRenderer<Component, SOURCE> {
 
     private final ValueProvider<SOURCE, TARGET> valueProvider;
+    private IntlFormat clientFormat;
+    private String clientNullRepresentation;
 
     /**
      * Builds a new renderer using the value provider as the source of values to
@@ -72,9 +84,46 @@ public abstract class BasicRenderer<SOURCE, TARGET>
 
     @Override
     protected String getTemplateExpression() {
+        if (clientFormat != null) {
+            return clientFormat.getTemplateExpression("value",
+                    clientNullRepresentation);
+        }
         return "${item.label}";
     }
 
+    /**
+     * Switches this renderer to client-side formatting mode, where the raw
+     * values returned by {@link #getClientValue(Object)} are sent instead of
+     * the formatted strings, and formatted in the browser with the given
+     * format. Must be called before the renderer is used.
+     *
+     * @param format
+     *            the format to use in the browser, not {@code null}
+     * @param nullRepresentation
+     *            the textual representation of the {@code null} value
+     */
+    void setClientFormat(IntlFormat format, String nullRepresentation) {
+        clientFormat = format;
+        clientNullRepresentation = nullRepresentation;
+        removeProperty("label");
+        withProperty("value", item -> {
+            TARGET value = valueProvider.apply(item);
+            return value == null ? null : getClientValue(value);
+        });
+    }
+
+    /**
+     * Gets the raw value sent to the browser in client-side formatting mode.
+     * By default, the value itself is sent.
+     *
+     * @param value
+     *            the target object, not {@code null}
+     * @return the value to send
+     */
+    Object getClientValue(TARGET value) {
+        return value;
+    }
+
     protected ValueProvider<SOURCE, TARGET> getValueProvider() {
         return valueProvider;
     }
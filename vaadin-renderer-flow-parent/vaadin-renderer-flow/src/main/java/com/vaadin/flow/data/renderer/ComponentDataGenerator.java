@@ -15,6 +15,12 @@
  */
 package com.vaadin.flow.data.renderer;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.Component;
@@ -49,6 +55,12 @@ public class ComponentDataGenerator<T>
     private String nodeIdPropertyName;
     private Element container;
 
+    // Used instead of the rendered components of the super class when
+    // recycling is enabled, so that released components can be kept attached
+    private final boolean recycling;
+    private final Map<String, Component> recyclingComponents;
+    private final Deque<Component> recyclePool;
+
     /**
      * Creates a new generator.
      *
@@ -62,6 +74,9 @@ public class ComponentDataGenerator<T>
             ValueProvider<T, String> keyMapper) {
         this.componentRenderer = componentRenderer;
         this.keyMapper = keyMapper;
+        this.recycling = componentRenderer.getRecyclePoolSize() > 0;
+        this.recyclingComponents = recycling ? new HashMap<>() : null;
+        this.recyclePool = recycling ? new ArrayDeque<>() : null;
     }
 
     @Override
@@ -84,13 +99,11 @@ public class ComponentDataGenerator<T>
         if (oldRenderedComponent != null) {
             nodeId = oldRenderedComponent.getElement().getNode().getId();
         } else {
-            Component renderedComponent = createComponent(item);
-            if (renderedComponent.getParent().isPresent()) {
-                LoggerFactory.getLogger(ComponentDataGenerator.class).warn(
-                        "The 'createComponent' method returned a component '{}' which already has a parent."
-                                + " It means that most likely your component renderer '{}' class is implemented incorrectly",
-                        renderedComponent.getClass().getName(),
-                        componentRenderer.getClass().getName());
+            Component renderedComponent = recycling ? recycleComponent(item)
+                    : null;
+            if (renderedComponent == null) {
+                renderedComponent = createComponent(item);
+                warnIfHasParent(renderedComponent);
             }
             registerRenderedComponent(itemKey, renderedComponent);
 
@@ -100,6 +113,112 @@ public class ComponentDataGenerator<T>
         jsonObject.put(nodeIdPropertyName, nodeId);
     }
 
+    private void warnIfHasParent(Component renderedComponent) {
+        if (renderedComponent.getParent().isPresent()) {
+            LoggerFactory.getLogger(ComponentDataGenerator.class).warn(
+                    "The 'createComponent' method returned a component '{}' which already has a parent."
+                            + " It means that most likely your component renderer '{}' class is implemented incorrectly",
+                    renderedComponent.getClass().getName(),
+                    componentRenderer.getClass().getName());
+        }
+    }
+
+    /**
+     * Takes a component from the recycle pool and binds it to the given item.
+     *
+     * @return the component for the item, or {@code null} if there is no
+     *         pooled component
+     */
+    private Component recycleComponent(T item) {
+        Component pooledComponent = recyclePool.poll();
+        if (pooledComponent == null) {
+            componentRenderer.recordRecycleResult(false);
+            return null;
+        }
+        Component component = ensureNonNullComponent(
+                componentRenderer.rebindComponent(pooledComponent, item));
+        boolean reused = component == pooledComponent;
+        if (!reused) {
+            pooledComponent.getElement().removeFromParent();
+        }
+        componentRenderer.recordRecycleResult(reused);
+        return component;
+    }
+
+    @Override
+    public void refreshData(T item) {
+        if (!recycling) {
+            super.refreshData(item);
+            return;
+        }
+        String itemKey = getItemKey(item);
+        Component oldComponent = getRenderedComponent(itemKey);
+        if (oldComponent != null) {
+            registerRenderedComponent(itemKey,
+                    updateComponent(oldComponent, item));
+        }
+    }
+
+    @Override
+    public void destroyData(T item) {
+        if (!recycling) {
+            super.destroyData(item);
+            return;
+        }
+        Component component = recyclingComponents.remove(getItemKey(item));
+        if (component == null) {
+            return;
+        }
+        if (recyclePool.size() < componentRenderer.getRecyclePoolSize()) {
+            // Keep the component attached to the container, so that it can
+            // be reused without recreating its state on the client
+            recyclePool.push(component);
+        } else {
+            component.getElement().removeFromParent();
+        }
+    }
+
+    @Override
+    public void destroyAllData() {
+        if (!recycling) {
+            super.destroyAllData();
+            return;
+        }
+        var components = new ArrayList<>(recyclingComponents.values());
+        components.addAll(recyclePool);
+        recyclingComponents.clear();
+        recyclePool.clear();
+        components.forEach(component -> component.getElement()
+                .removeFromParent());
+    }
+
+    @Override
+    protected Component getRenderedComponent(String itemKey) {
+        if (!recycling) {
+            return super.getRenderedComponent(itemKey);
+        }
+        return recyclingComponents.get(itemKey);
+    }
+
+    @Override
+    protected void registerRenderedComponent(String itemKey,
+            Component component) {
+        if (!recycling) {
+            super.registerRenderedComponent(itemKey, component);
+            return;
+        }
+        Component oldComponent = recyclingComponents.put(itemKey, component);
+        if (oldComponent == component) {
+            return;
+        }
+        if (oldComponent != null) {
+            oldComponent.getElement().removeFromParent();
+        }
+        if (!getContainer().equals(component.getElement().getParent())) {
+            getContainer().appendChild(component.getElement());
+        }
+    }
+
     @Override
     protected Component createComponent(T item) {
         return ensureNonNullComponent(componentRenderer.createComponent(item));
@@ -55,6 +55,9 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
     private SerializableFunction<SOURCE, COMPONENT> componentFunction;
     private SerializableBiFunction<Component, SOURCE, Component> componentUpdateFunction;
     private SerializableBiConsumer<COMPONENT, SOURCE> itemConsumer;
+    private int recyclePoolSize;
+    private long recycleHitCount;
+    private long recycleMissCount;
 
     /**
      * Creates a new ComponentRenderer that uses the componentSupplier to
@@ -243,4 +246,115 @@ public class ComponentRenderer<COMPONENT extends Component, SOURCE>
         }
         return createComponent(item);
     }
+
+    /**
+     * Sets the maximum number of components that are kept for reuse when
+     * their items are no longer rendered, for example when they are scrolled
+     * out of view in a grid. Instead of creating a new component for each item
+     * that is rendered, a pooled component is then bound to the new item. This
+     * reduces the number of components created and removed while scrolling
+     * fast. The default value is {@code 0}, which disables recycling.
+     * <p>
+     * A pooled component is bound to a new item with the update function set
+     * with {@link #ComponentRenderer(SerializableFunction, SerializableBiFunction)},
+     * or with the item consumer set with
+     * {@link #ComponentRenderer(SerializableSupplier, SerializableBiConsumer)}.
+     * The update function or item consumer must fully reset the state of the
+     * component, as it may have been used for another item before. Pooled
+     * components stay attached while they are in the pool, so they do not
+     * receive detach and attach events when they are reused.
+     * <p>
+     * The pool size must be set before the renderer is used in a component.
+     *
+     * @param recyclePoolSize
+     *            the maximum number of pooled components, or {@code 0} to
+     *            disable recycling
+     * @throws IllegalArgumentException
+     *             if the pool size is negative
+     * @since 25.3
+     */
+    public void setRecyclePoolSize(int recyclePoolSize) {
+        if (recyclePoolSize < 0) {
+            throw new IllegalArgumentException(
+                    "The recycle pool size cannot be negative");
+        }
+        this.recyclePoolSize = recyclePoolSize;
+    }
+
+    /**
+     * Gets the maximum number of components that are kept for reuse.
+     *
+     * @return the maximum number of pooled components, or {@code 0} if
+     *         recycling is disabled
+     * @see #setRecyclePoolSize(int)
+     * @since 25.3
+     */
+    public int getRecyclePoolSize() {
+        return recyclePoolSize;
+    }
+
+    /**
+     * Gets the number of times a pooled component was reused for a new item
+     * since recycling was enabled.
+     *
+     * @return the number of pool hits
+     * @see #setRecyclePoolSize(int)
+     * @since 25.3
+     */
+    public long getRecycleHitCount() {
+        return recycleHitCount;
+    }
+
+    /**
+     * Gets the number of times a new component had to be created for a new
+     * item since recycling was enabled, because no pooled component was
+     * available or it could not be reused.
+     *
+     * @return the number of pool misses
+     * @see #setRecyclePoolSize(int)
+     * @since 25.3
+     */
+    public long getRecycleMissCount() {
+        return recycleMissCount;
+    }
+
+    /**
+     * Gets the ratio of new items that were rendered with a pooled component.
+     *
+     * @return the pool hit rate between {@code 0} and {@code 1}, or {@code 0}
+     *         if no items have been rendered with recycling enabled
+     * @see #setRecyclePoolSize(int)
+     * @since 25.3
+     */
+    public double getRecycleHitRate() {
+        long total = recycleHitCount + recycleMissCount;
+        return total == 0 ? 0 : (double) recycleHitCount / total;
+    }
+
+    /**
+     * Binds a pooled component to a new item.
+     *
+     * @param pooledComponent
+     *            the pooled component, not {@code null}
+     * @param item
+     *            the new item
+     * @return the component to use for the item, which is the pooled
+     *         component if it could be reused
+     */
+    @SuppressWarnings("unchecked")
+    Component rebindComponent(Component pooledComponent, SOURCE item) {
+        if (componentUpdateFunction == null && itemConsumer != null) {
+            itemConsumer.accept((COMPONENT) pooledComponent, item);
+            return pooledComponent;
+        }
+        return updateComponent(pooledComponent, item);
+    }
+
+    void recordRecycleResult(boolean hit) {
+        if (hit) {
+            recycleHitCount++;
+        } else {
+            recycleMissCount++;
+        }
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.renderer;
+
+import java.io.Serializable;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.vaadin.flow.internal.JacksonSerializer;
+import com.vaadin.flow.internal.JacksonUtils;
+
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Describes how the browser formats values with the {@code Intl} API, for
+ * renderers that send raw values instead of formatted strings. The descriptor
+ * is part of the template expression, so it is sent once per renderer instead
+ * of once per item.
+ * <p>
+ * Dates and date-times are sent as epoch milliseconds of the local date-time
+ * in UTC, and are formatted in the UTC time zone, so that the browser's time
+ * zone does not affect the result.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+final class IntlFormat implements Serializable {
+
+    private final String descriptor;
+
+    private IntlFormat(String type, Locale locale, ObjectNode options) {
+        ObjectNode json = JacksonUtils.createObjectNode();
+        json.put("type", type);
+        json.put("locale", locale.toLanguageTag());
+        json.set("options", options);
+        descriptor = json.toString();
+    }
+
+    /**
+     * Creates a number format.
+     *
+     * @param locale
+     *            the locale, not {@code null}
+     * @param minimumFractionDigits
+     *            the minimum number of fraction digits
+     * @param maximumFractionDigits
+     *            the maximum number of fraction digits
+     * @return the format
+     */
+    static IntlFormat number(Locale locale, int minimumFractionDigits,
+            int maximumFractionDigits) {
+        ObjectNode options = JacksonUtils.createObjectNode();
+        options.put("minimumFractionDigits", minimumFractionDigits);
+        options.put("maximumFractionDigits", maximumFractionDigits);
+        return new IntlFormat("number", Objects.requireNonNull(locale),
+                options);
+    }
+
+    /**
+     * Creates a date-time format.
+     *
+     * @param locale
+     *            the locale, not {@code null}
+     * @param dateStyle
+     *            the style of the date part, not {@code null}
+     * @param timeStyle
+     *            the style of the time part, or {@code null} to omit the time
+     * @return the format
+     */
+    static IntlFormat dateTime(Locale locale, FormatStyle dateStyle,
+            FormatStyle timeStyle) {
+        ObjectNode options = JacksonUtils.createObjectNode();
+        options.put("dateStyle", toIntlStyle(dateStyle));
+        if (timeStyle != null) {
+            options.put("timeStyle", toIntlStyle(timeStyle));
+        }
+        options.put("timeZone", "UTC");
+        return new IntlFormat("dateTime", Objects.requireNonNull(locale),
+                options);
+    }
+
+    private static String toIntlStyle(FormatStyle style) {
+        return style.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Gets a Lit template expression that formats the given item property
+     * with this format.
+     *
+     * @param property
+     *            the name of the item property holding the raw value
+     * @param nullRepresentation
+     *            the text shown for {@code null} values
+     * @return the template expression
+     */
+    String getTemplateExpression(String property, String nullRepresentation) {
+        return String.format(
+                "${item.%1$s == null ? %2$s : window.Vaadin.formatIntl(%3$s, item.%1$s)}",
+                property, toJsString(nullRepresentation),
+                toJsString(descriptor));
+    }
+
+    private static String toJsString(String value) {
+        return JacksonSerializer.toJson(Objects.requireNonNullElse(value, ""))
+                .toString();
+    }
+}
@@ -308,6 +308,17 @@ public class LitRenderer<SOURCE> extends Renderer<SOURCE> {
         return this;
     }
 
+    /**
+     * Removes a property previously added with
+     * {@link #withProperty(String, ValueProvider)}.
+     *
+     * @param property
+     *            the name of the property to remove
+     */
+    void removeProperty(String property) {
+        valueProviders.remove(property);
+    }
+
     /**
      * Adds a function that can be called from within the template expression.
      * <p>
@@ -190,6 +190,55 @@ public class LocalDateRenderer<SOURCE>
         this.nullRepresentation = nullRepresentation;
     }
 
+    /**
+     * Creates a LocalDateRenderer that formats dates in the browser.
+     * <p>
+     * Instead of formatting each date on the server, the renderer sends the
+     * dates as epoch values and the browser formats them with
+     * {@code Intl.DateTimeFormat} in the given locale and style. The result
+     * may differ slightly from {@link DateTimeFormatter#ofLocalizedDate}, as
+     * it depends on the locale data of the browser. Components that render
+     * the value as a server-side component format it on the server with
+     * {@link DateTimeFormatter#ofLocalizedDate(FormatStyle)}.
+     *
+     * @param <SOURCE>
+     *            the type of the input item
+     * @param valueProvider
+     *            the callback to provide a {@link LocalDate} to the renderer,
+     *            not <code>null</code>
+     * @param dateStyle
+     *            the format style of the date, not <code>null</code>
+     * @param locale
+     *            the locale to use, not <code>null</code>
+     * @param nullRepresentation
+     *            the textual representation of the <code>null</code> value
+     * @return the renderer
+     * @since 25.3
+     */
+    public static <SOURCE> LocalDateRenderer<SOURCE> clientSide(
+            ValueProvider<SOURCE, LocalDate> valueProvider,
+            FormatStyle dateStyle, Locale locale, String nullRepresentation) {
+        if (dateStyle == null) {
+            throw new IllegalArgumentException("date style may not be null");
+        }
+        if (locale == null) {
+            throw new IllegalArgumentException("locale may not be null");
+        }
+        LocalDateRenderer<SOURCE> renderer = new LocalDateRenderer<>(
+                valueProvider,
+                () -> DateTimeFormatter.ofLocalizedDate(dateStyle)
+                        .withLocale(locale),
+                nullRepresentation);
+        renderer.setClientFormat(IntlFormat.dateTime(locale, dateStyle, null),
+                nullRepresentation);
+        return renderer;
+    }
+
+    @Override
+    Object getClientValue(LocalDate date) {
+        return date.toEpochDay() * 86_400_000L;
+    }
+
     @Override
     protected String getFormattedValue(LocalDate date) {
         try {
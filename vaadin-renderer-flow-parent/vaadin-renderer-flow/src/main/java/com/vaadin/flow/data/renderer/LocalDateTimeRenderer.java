@@ -16,6 +16,7 @@
 package com.vaadin.flow.data.renderer;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.Locale;
@@ -199,6 +200,69 @@ public class LocalDateTimeRenderer<SOURCE>
         this.nullRepresentation = nullRepresentation;
     }
 
+    /**
+     * Creates a LocalDateTimeRenderer that formats date-times in the browser.
+     * <p>
+     * Instead of formatting each date-time on the server, the renderer sends
+     * the date-times as epoch values and the browser formats them with
+     * {@code Intl.DateTimeFormat} in the given locale and styles. The result
+     * may differ slightly from {@link DateTimeFormatter#ofLocalizedDateTime},
+     * as it depends on the locale data of the browser. Components that render
+     * the value as a server-side component format it on the server with
+     * {@link DateTimeFormatter#ofLocalizedDateTime(FormatStyle, FormatStyle)}.
+     * <p>
+     * The {@code FULL} and {@code LONG} time styles are not supported, as they
+     * include a time zone, which {@link LocalDateTime} does not have.
+     *
+     * @param <SOURCE>
+     *            the type of the input item
+     * @param valueProvider
+     *            the callback to provide a {@link LocalDateTime} to the
+     *            renderer, not <code>null</code>
+     * @param dateStyle
+     *            the format style of the date part, not <code>null</code>
+     * @param timeStyle
+     *            the format style of the time part, {@code MEDIUM} or
+     *            {@code SHORT}
+     * @param locale
+     *            the locale to use, not <code>null</code>
+     * @param nullRepresentation
+     *            the textual representation of the <code>null</code> value
+     * @return the renderer
+     * @since 25.3
+     */
+    public static <SOURCE> LocalDateTimeRenderer<SOURCE> clientSide(
+            ValueProvider<SOURCE, LocalDateTime> valueProvider,
+            FormatStyle dateStyle, FormatStyle timeStyle, Locale locale,
+            String nullRepresentation) {
+        if (dateStyle == null) {
+            throw new IllegalArgumentException("date style may not be null");
+        }
+        if (timeStyle != FormatStyle.MEDIUM
+                && timeStyle != FormatStyle.SHORT) {
+            throw new IllegalArgumentException(
+                    "time style must be MEDIUM or SHORT, was " + timeStyle);
+        }
+        if (locale == null) {
+            throw new IllegalArgumentException("locale may not be null");
+        }
+        LocalDateTimeRenderer<SOURCE> renderer = new LocalDateTimeRenderer<>(
+                valueProvider,
+                () -> DateTimeFormatter
+                        .ofLocalizedDateTime(dateStyle, timeStyle)
+                        .withLocale(locale),
+                nullRepresentation);
+        renderer.setClientFormat(
+                IntlFormat.dateTime(locale, dateStyle, timeStyle),
+                nullRepresentation);
+        return renderer;
+    }
+
+    @Override
+    Object getClientValue(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     @Override
     protected String getFormattedValue(LocalDateTime dateTime) {
         return dateTime == null ? nullRepresentation
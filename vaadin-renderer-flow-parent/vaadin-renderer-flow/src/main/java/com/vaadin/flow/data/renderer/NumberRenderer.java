@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.data.renderer;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.NumberFormat;
 import java.util.Locale;
 
@@ -33,6 +35,11 @@ import com.vaadin.flow.function.ValueProvider;
  */
 public class NumberRenderer<SOURCE> extends BasicRenderer<SOURCE, Number> {
 
+    /**
+     * The largest integer that a JavaScript number can represent exactly.
+     */
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
     private Locale locale;
     private NumberFormat numberFormat;
     private String formatString;
@@ -197,6 +204,103 @@ public class NumberRenderer<SOURCE> extends BasicRenderer<SOURCE, Number> {
         this.nullRepresentation = nullRepresentation;
     }
 
+    /**
+     * Creates a number renderer that formats numbers in the browser.
+     * <p>
+     * Instead of formatting each number on the server, the renderer sends the
+     * raw numbers and the browser formats them with {@code Intl.NumberFormat}
+     * in the given locale, with up to three fraction digits. Numbers that a
+     * JavaScript number cannot represent exactly, such as {@link BigDecimal},
+     * {@link BigInteger} and large {@code long} values, are sent as decimal
+     * strings. Components that render the value as a server-side component
+     * format it on the server with {@link NumberFormat#getInstance(Locale)}.
+     *
+     * @param <SOURCE>
+     *            the type of the input item
+     * @param valueProvider
+     *            the callback to provide a {@link Number} to the renderer, not
+     *            <code>null</code>
+     * @param locale
+     *            the locale in which to display numbers, not <code>null</code>
+     * @return the renderer
+     * @since 25.3
+     */
+    public static <SOURCE> NumberRenderer<SOURCE> clientSide(
+            ValueProvider<SOURCE, Number> valueProvider, Locale locale) {
+        return clientSide(valueProvider, locale, 0, 3, "");
+    }
+
+    /**
+     * Creates a number renderer that formats numbers in the browser.
+     * <p>
+     * Instead of formatting each number on the server, the renderer sends the
+     * raw numbers and the browser formats them with {@code Intl.NumberFormat}
+     * in the given locale and with the given number of fraction digits.
+     * Numbers that a JavaScript number cannot represent exactly, such as
+     * {@link BigDecimal}, {@link BigInteger} and large {@code long} values, are
+     * sent as decimal strings. Components that render the value as a
+     * server-side component format it on the server with an equivalent
+     * {@link NumberFormat}.
+     *
+     * @param <SOURCE>
+     *            the type of the input item
+     * @param valueProvider
+     *            the callback to provide a {@link Number} to the renderer, not
+     *            <code>null</code>
+     * @param locale
+     *            the locale in which to display numbers, not <code>null</code>
+     * @param minimumFractionDigits
+     *            the minimum number of fraction digits, from 0 to 20
+     * @param maximumFractionDigits
+     *            the maximum number of fraction digits, from
+     *            {@code minimumFractionDigits} to 20
+     * @param nullRepresentation
+     *            the textual representation of <code>null</code> value
+     * @return the renderer
+     * @since 25.3
+     */
+    public static <SOURCE> NumberRenderer<SOURCE> clientSide(
+            ValueProvider<SOURCE, Number> valueProvider, Locale locale,
+            int minimumFractionDigits, int maximumFractionDigits,
+            String nullRepresentation) {
+        if (locale == null) {
+            throw new IllegalArgumentException("Locale may not be null");
+        }
+        if (minimumFractionDigits < 0
+                || maximumFractionDigits < minimumFractionDigits
+                || maximumFractionDigits > 20) {
+            throw new IllegalArgumentException(
+                    "Invalid number of fraction digits: minimum "
+                            + minimumFractionDigits + ", maximum "
+                            + maximumFractionDigits);
+        }
+        NumberFormat numberFormat = NumberFormat.getInstance(locale);
+        numberFormat.setMinimumFractionDigits(minimumFractionDigits);
+        numberFormat.setMaximumFractionDigits(maximumFractionDigits);
+        NumberRenderer<SOURCE> renderer = new NumberRenderer<>(valueProvider,
+                numberFormat, nullRepresentation);
+        renderer.setClientFormat(IntlFormat.number(locale,
+                minimumFractionDigits, maximumFractionDigits),
+                nullRepresentation);
+        return renderer;
+    }
+
+    @Override
+    Object getClientValue(Number value) {
+        // Intl.NumberFormat formats decimal strings without converting them to
+        // a double, so precision is kept for values outside the safe range
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof BigInteger
+                || (value instanceof Long longValue
+                        && (longValue > MAX_SAFE_INTEGER
+                                || longValue < -MAX_SAFE_INTEGER))) {
+            return value.toString();
+        }
+        return value;
+    }
+
     @Override
     protected String getFormattedValue(Number value) {
         String stringValue;
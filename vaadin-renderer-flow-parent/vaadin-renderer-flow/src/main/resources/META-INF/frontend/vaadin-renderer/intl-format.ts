@@ -0,0 +1,25 @@
+const _window = window as any;
+_window.Vaadin = _window.Vaadin || {};
+
+type Formatter = { format(value: number | string): string };
+
+const formatters = new Map<string, Formatter>();
+
+/**
+ * Formats a raw value sent by a renderer in client-side formatting mode.
+ * Formatters are created once per descriptor and reused for all values.
+ *
+ * @param descriptor JSON with the format type, locale and Intl options.
+ * @param value The number, the decimal string of a number that cannot be
+ * represented exactly as a number, or the epoch milliseconds of a date.
+ */
+_window.Vaadin.formatIntl = (descriptor: string, value: number | string): string => {
+  let formatter = formatters.get(descriptor);
+  if (!formatter) {
+    const { type, locale, options } = JSON.parse(descriptor);
+    formatter =
+      type === 'number' ? new Intl.NumberFormat(locale, options) : new Intl.DateTimeFormat(locale, options);
+    formatters.set(descriptor, formatter);
+  }
+  return formatter.format(value);
+};
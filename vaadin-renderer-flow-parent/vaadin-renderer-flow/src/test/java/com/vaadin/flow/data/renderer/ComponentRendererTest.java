@@ -225,4 +225,104 @@ class ComponentRendererTest {
                 "The two components should be the same");
     }
 
+    @Test
+    void recycling_scrolling_pooledComponentsReused() {
+        AtomicInteger createInvocations = new AtomicInteger();
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                () -> {
+                    createInvocations.incrementAndGet();
+                    return new TestDiv();
+                }, (div, item) -> div.setText(item));
+        renderer.setRecyclePoolSize(50);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        // simulate scrolling through 1000 items with 50 items in the viewport
+        for (int page = 0; page < 20; page++) {
+            for (int i = 0; i < 50; i++) {
+                generator.generateData(String.valueOf(page * 50 + i),
+                        JacksonUtils.createObjectNode());
+            }
+            for (int i = 0; i < 50; i++) {
+                generator.destroyData(String.valueOf(page * 50 + i));
+            }
+        }
+
+        Assertions.assertEquals(50, createInvocations.get());
+        Assertions.assertEquals(950, renderer.getRecycleHitCount());
+        Assertions.assertEquals(50, renderer.getRecycleMissCount());
+        Assertions.assertEquals(0.95, renderer.getRecycleHitRate(), 0.0001);
+        Assertions.assertEquals(50,
+                generator.getContainer().getChildCount());
+    }
+
+    @Test
+    void recycling_pooledComponentReboundToNewItem() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                TestDiv::new, (div, item) -> div.setText(item));
+        renderer.setRecyclePoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        ObjectNode first = JacksonUtils.createObjectNode();
+        generator.generateData("foo", first);
+        TestDiv div = (TestDiv) generator.getRenderedComponent("foo");
+        generator.destroyData("foo");
+
+        ObjectNode second = JacksonUtils.createObjectNode();
+        generator.generateData("bar", second);
+
+        Assertions.assertSame(div, generator.getRenderedComponent("bar"));
+        Assertions.assertEquals("bar", div.getText());
+        Assertions.assertEquals(first.get("nodeid"), second.get("nodeid"));
+    }
+
+    @Test
+    void recycling_poolFull_componentRemoved() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                TestDiv::new, (div, item) -> div.setText(item));
+        renderer.setRecyclePoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+        generator.destroyData("foo");
+        generator.destroyData("bar");
+
+        Assertions.assertEquals(1, generator.getContainer().getChildCount());
+
+        generator.destroyAllData();
+        Assertions.assertEquals(0, generator.getContainer().getChildCount());
+    }
+
+    @Test
+    void recycling_updateFunctionReturnsNewComponent_countedAsMiss() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                item -> new TestDiv(), (component, item) -> new TestDiv());
+        renderer.setRecyclePoolSize(1);
+        ComponentDataGenerator<String> generator = createGenerator(renderer);
+
+        generator.generateData("foo", JacksonUtils.createObjectNode());
+        generator.destroyData("foo");
+        generator.generateData("bar", JacksonUtils.createObjectNode());
+
+        Assertions.assertEquals(0, renderer.getRecycleHitCount());
+        Assertions.assertEquals(2, renderer.getRecycleMissCount());
+        Assertions.assertEquals(1, generator.getContainer().getChildCount());
+    }
+
+    @Test
+    void recyclePoolSize_negative_throws() {
+        ComponentRenderer<TestDiv, String> renderer = new ComponentRenderer<>(
+                TestDiv::new);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> renderer.setRecyclePoolSize(-1));
+    }
+
+    private static ComponentDataGenerator<String> createGenerator(
+            ComponentRenderer<TestDiv, String> renderer) {
+        ComponentDataGenerator<String> generator = new ComponentDataGenerator<>(
+                renderer, item -> item);
+        generator.setContainer(new Element("div"));
+        generator.setNodeIdPropertyName("nodeid");
+        return generator;
+    }
 }
@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,4 +68,18 @@ class FormattedRenderersSerializableTest {
         new ObjectOutputStream(new ByteArrayOutputStream())
                 .writeObject(renderer);
     }
+
+    @Test
+    void clientSideRenderersAreSerializable() throws IOException {
+        new ObjectOutputStream(new ByteArrayOutputStream()).writeObject(
+                NumberRenderer.clientSide(value -> 42, Locale.ENGLISH));
+        new ObjectOutputStream(new ByteArrayOutputStream())
+                .writeObject(LocalDateRenderer.clientSide(
+                        value -> LocalDate.now(), FormatStyle.MEDIUM,
+                        Locale.ENGLISH, ""));
+        new ObjectOutputStream(new ByteArrayOutputStream())
+                .writeObject(LocalDateTimeRenderer.clientSide(
+                        value -> LocalDateTime.now(), FormatStyle.MEDIUM,
+                        FormatStyle.SHORT, Locale.ENGLISH, ""));
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.renderer;
+
+import java.time.LocalDate;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.function.ValueProvider;
+
+class LocalDateRendererTest {
+
+    @Test
+    void clientSide_sentAsEpochMillisInUtc() {
+        LocalDateRenderer<LocalDate> renderer = LocalDateRenderer.clientSide(
+                ValueProvider.identity(), FormatStyle.MEDIUM, Locale.US, "-");
+
+        Assertions.assertEquals(0L,
+                getClientValue(renderer, LocalDate.of(1970, 1, 1)));
+        Assertions.assertEquals(1_709_164_800_000L,
+                getClientValue(renderer, LocalDate.of(2024, 2, 29)));
+        Assertions.assertEquals(-86_400_000L,
+                getClientValue(renderer, LocalDate.of(1969, 12, 31)));
+        Assertions.assertNull(getClientValue(renderer, null));
+    }
+
+    @Test
+    void clientSide_templateFormatsInUtc() {
+        LocalDateRenderer<LocalDate> renderer = LocalDateRenderer.clientSide(
+                ValueProvider.identity(), FormatStyle.MEDIUM, Locale.US, "-");
+
+        String template = renderer.getTemplateExpression();
+        Assertions.assertTrue(template.contains("window.Vaadin.formatIntl("));
+        Assertions.assertTrue(
+                template.contains("\\\"timeZone\\\":\\\"UTC\\\""));
+        Assertions.assertTrue(
+                template.contains("\\\"dateStyle\\\":\\\"medium\\\""));
+        Assertions.assertFalse(template.contains("timeStyle"));
+    }
+
+    private static <T> Object getClientValue(LitRenderer<T> renderer,
+            T value) {
+        return renderer.getValueProviders().get("value").apply(value);
+    }
+}
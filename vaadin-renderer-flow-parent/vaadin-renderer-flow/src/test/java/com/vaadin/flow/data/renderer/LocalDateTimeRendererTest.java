@@ -0,0 +1,67 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.renderer;
+
+import java.time.LocalDateTime;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.function.ValueProvider;
+
+class LocalDateTimeRendererTest {
+
+    @Test
+    void clientSide_sentAsEpochMillisInUtc() {
+        LocalDateTimeRenderer<LocalDateTime> renderer = LocalDateTimeRenderer
+                .clientSide(ValueProvider.identity(), FormatStyle.MEDIUM,
+                        FormatStyle.SHORT, Locale.US, "-");
+
+        Assertions.assertEquals(1_709_217_045_123L, getClientValue(renderer,
+                LocalDateTime.of(2024, 2, 29, 14, 30, 45, 123_000_000)));
+        Assertions.assertEquals(-1L, getClientValue(renderer,
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000)));
+        Assertions.assertNull(getClientValue(renderer, null));
+    }
+
+    @Test
+    void clientSide_templateHasTimeStyle() {
+        LocalDateTimeRenderer<LocalDateTime> renderer = LocalDateTimeRenderer
+                .clientSide(ValueProvider.identity(), FormatStyle.MEDIUM,
+                        FormatStyle.SHORT, Locale.US, "-");
+
+        String template = renderer.getTemplateExpression();
+        Assertions.assertTrue(
+                template.contains("\\\"timeStyle\\\":\\\"short\\\""));
+        Assertions.assertTrue(
+                template.contains("\\\"timeZone\\\":\\\"UTC\\\""));
+    }
+
+    @Test
+    void clientSide_zonedTimeStyle_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> LocalDateTimeRenderer.clientSide(
+                        ValueProvider.identity(), FormatStyle.MEDIUM,
+                        FormatStyle.LONG, Locale.US, "-"));
+    }
+
+    private static <T> Object getClientValue(LitRenderer<T> renderer,
+            T value) {
+        return renderer.getValueProviders().get("value").apply(value);
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.vaadin.flow.data.renderer;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Assertions;
@@ -39,4 +41,63 @@ class NumberRendererTest {
         Assertions.assertEquals("1.2", formatted);
     }
 
+    @Test
+    void clientSide_templateFormatsInBrowser() {
+        NumberRenderer<Number> renderer = NumberRenderer.clientSide(
+                ValueProvider.identity(), Locale.GERMANY, 2, 2, "-");
+
+        String template = renderer.getTemplateExpression();
+        Assertions.assertTrue(template.contains("window.Vaadin.formatIntl("));
+        Assertions.assertTrue(template.contains("de-DE"));
+        Assertions.assertFalse(template.contains("item.label"));
+    }
+
+    @Test
+    void clientSide_serverSideFallbackUsesSameFormat() {
+        NumberRenderer<Number> renderer = NumberRenderer.clientSide(
+                ValueProvider.identity(), Locale.GERMANY, 2, 2, "-");
+
+        Assertions.assertEquals("1,20", renderer.getFormattedValue(1.2));
+        Assertions.assertEquals("-", renderer.getFormattedValue(null));
+    }
+
+    @Test
+    void clientSide_invalidFractionDigits_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> NumberRenderer.clientSide(ValueProvider.identity(),
+                        Locale.GERMANY, 3, 2, ""));
+    }
+
+    @Test
+    void clientSide_smallNumbers_sentAsNumbers() {
+        NumberRenderer<Number> renderer = NumberRenderer.clientSide(
+                ValueProvider.identity(), Locale.ENGLISH);
+
+        Assertions.assertEquals(1.5, getClientValue(renderer, 1.5));
+        Assertions.assertEquals(42L, getClientValue(renderer, 42L));
+        Assertions.assertEquals(9007199254740991L,
+                getClientValue(renderer, 9007199254740991L));
+        Assertions.assertNull(getClientValue(renderer, null));
+    }
+
+    @Test
+    void clientSide_preciseNumbers_sentAsStrings() {
+        NumberRenderer<Number> renderer = NumberRenderer.clientSide(
+                ValueProvider.identity(), Locale.ENGLISH);
+
+        Assertions.assertEquals("9007199254740993",
+                getClientValue(renderer, 9007199254740993L));
+        Assertions.assertEquals("-9223372036854775808",
+                getClientValue(renderer, Long.MIN_VALUE));
+        Assertions.assertEquals("123456789012345678901234567890",
+                getClientValue(renderer,
+                        new BigInteger("123456789012345678901234567890")));
+        Assertions.assertEquals("10000000000000000.01", getClientValue(
+                renderer, new BigDecimal("1.000000000000000001E16")));
+    }
+
+    private static Object getClientValue(NumberRenderer<Number> renderer,
+            Number value) {
+        return renderer.getValueProviders().get("value").apply(value);
+    }
 }
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.richtexteditor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sanitizes the HTML value of a rich text editor, caching the result for each
+ * top-level block of the value, such as a paragraph or a list. When a large
+ * document is edited, only the blocks that have changed since the previous
+ * call are sanitized again.
+ * <p>
+ * Each block is sanitized on its own, and the result of sanitizing a block is
+ * always well-formed, so the joined result is as safe as sanitizing the whole
+ * value at once. If the value can not be split into blocks, for example
+ * because it has unclosed tags, the whole value is sanitized.
+ */
+final class HtmlSanitizer implements Serializable {
+
+    private static final Set<String> VOID_ELEMENTS = Set.of("area", "base",
+            "br", "col", "embed", "hr", "img", "input", "link", "meta",
+            "source", "track", "wbr");
+
+    private String lastInput;
+    private String lastOutput;
+    private Map<String, String> blockCache = new HashMap<>();
+
+    /**
+     * Sanitizes the given HTML with {@link RichTextEditor#sanitize(String)},
+     * reusing the results of the previous call for unchanged blocks.
+     *
+     * @param html
+     *            the HTML to sanitize, not {@code null}
+     * @return the sanitized HTML
+     */
+    String sanitize(String html) {
+        if (html.equals(lastInput)) {
+            return lastOutput;
+        }
+        List<String> blocks = splitBlocks(html);
+        // Only the blocks of the latest value are kept, so the cache never
+        // grows beyond the size of the document
+        Map<String, String> newBlockCache = new HashMap<>();
+        String result;
+        if (blocks == null) {
+            result = RichTextEditor.sanitize(html);
+        } else {
+            StringBuilder builder = new StringBuilder(html.length());
+            for (String block : blocks) {
+                String sanitized = newBlockCache.get(block);
+                if (sanitized == null) {
+                    sanitized = blockCache.get(block);
+                    if (sanitized == null) {
+                        sanitized = RichTextEditor.sanitize(block);
+                    }
+                    newBlockCache.put(block, sanitized);
+                }
+                builder.append(sanitized);
+            }
+            result = builder.toString();
+        }
+        blockCache = newBlockCache;
+        lastInput = html;
+        lastOutput = result;
+        return result;
+    }
+
+    /**
+     * Splits the given HTML into its top-level blocks. Text between blocks is
+     * included in the following block.
+     *
+     * @param html
+     *            the HTML to split
+     * @return the blocks, or {@code null} if the HTML is not well-formed
+     */
+    static List<String> splitBlocks(String html) {
+        List<String> blocks = new ArrayList<>();
+        int length = html.length();
+        int depth = 0;
+        int blockStart = 0;
+        int index = 0;
+        while (index < length) {
+            if (html.charAt(index) != '<' || index + 1 == length) {
+                index++;
+                continue;
+            }
+            char next = html.charAt(index + 1);
+            if (html.startsWith("<!--", index)) {
+                int end = html.indexOf("-->", index + 4);
+                if (end < 0) {
+                    return null;
+                }
+                index = end + 3;
+                continue;
+            }
+            if (next != '/' && next != '!' && !Character.isLetter(next)) {
+                // Not a tag, for example a less-than sign in text
+                index++;
+                continue;
+            }
+            int tagEnd = findTagEnd(html, index);
+            if (tagEnd < 0) {
+                return null;
+            }
+            if (next == '/') {
+                depth--;
+                if (depth < 0) {
+                    return null;
+                }
+            } else if (next != '!' && !isVoidTag(html, index, tagEnd)) {
+                depth++;
+            }
+            index = tagEnd + 1;
+            if (depth == 0) {
+                blocks.add(html.substring(blockStart, index));
+                blockStart = index;
+            }
+        }
+        if (depth != 0) {
+            return null;
+        }
+        if (blockStart < length) {
+            blocks.add(html.substring(blockStart));
+        }
+        return blocks;
+    }
+
+    private static int findTagEnd(String html, int tagStart) {
+        char quote = 0;
+        for (int i = tagStart + 1; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isVoidTag(String html, int tagStart, int tagEnd) {
+        if (html.charAt(tagEnd - 1) == '/') {
+            return true;
+        }
+        int nameEnd = tagStart + 1;
+        while (nameEnd < tagEnd
+                && Character.isLetterOrDigit(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        return VOID_ELEMENTS.contains(html.substring(tagStart + 1, nameEnd)
+                .toLowerCase(Locale.ENGLISH));
+    }
+}
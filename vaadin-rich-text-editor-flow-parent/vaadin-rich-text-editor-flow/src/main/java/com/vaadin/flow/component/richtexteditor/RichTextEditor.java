@@ -10,6 +10,7 @@ package com.vaadin.flow.component.richtexteditor;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,15 +33,19 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.data.binder.Binder;
 import com.vaadin.flow.data.value.HasValueChangeMode;
 import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.dom.PropertyChangeListener;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.JacksonSerializer;
 import com.vaadin.flow.internal.JacksonUtils;
 import com.vaadin.flow.shared.Registration;
 
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 
 /**
@@ -69,6 +74,71 @@ public class RichTextEditor
         implements CompositionNotifier, InputNotifier, KeyNotifier, HasSize,
         HasStyle, HasValueChangeMode, HasThemeVariant<RichTextEditorVariant> {
 
+    /*
+     * The number of values the client keeps while waiting for the server to
+     * acknowledge one of them. If no value is acknowledged, for example
+     * because the component is disabled, the client sends the whole value.
+     */
+    private static final int MAX_UNACKNOWLEDGED_VALUES = 20;
+
+    /*
+     * The number of applied values the server keeps as possible bases of
+     * splices. A splice can be based on a value acknowledged before the
+     * latest one, if the client sent it before receiving the latest
+     * acknowledgement.
+     */
+    private static final int MAX_SPLICE_BASES = 3;
+
+    /*
+     * Evaluated on the client when the HTML value changes in incremental
+     * value sync mode. Numbers the new HTML value and keeps it until the
+     * server acknowledges it. Compares the new value with the last value
+     * acknowledged by the server, and returns the changed range as a splice
+     * of that value, or the whole value if no value has been acknowledged.
+     * The event may still be dropped by a debounce or ignored by the server,
+     * so the base only moves forward when the server acknowledges a value.
+     */
+    static final String HTML_VALUE_SPLICE = "(() => {"
+            + "const next = element.htmlValue;"
+            + "const seq = element.__htmlValueSeq = (element.__htmlValueSeq || 0) + 1;"
+            + "let sent = element.__sentHtmlValues;"
+            + "if (!sent || sent.size >= " + MAX_UNACKNOWLEDGED_VALUES + ") {"
+            + " sent = element.__sentHtmlValues = new Map();"
+            + " element.__syncedHtmlValue = undefined; }"
+            + "sent.set(seq, next);"
+            + "const prev = element.__syncedHtmlValue;"
+            + "if (prev === undefined) { return { seq: seq, full: next }; }"
+            + "const max = Math.min(prev.length, next.length);"
+            + "let start = 0;"
+            + "while (start < max && prev[start] === next[start]) { start++; }"
+            + "let end = 0;"
+            + "while (end < max - start && prev[prev.length - 1 - end] === next[next.length - 1 - end]) { end++; }"
+            + "return { seq: seq, base: element.__syncedHtmlSeq, length: prev.length,"
+            + " start: start, remove: prev.length - start - end,"
+            + " insert: next.substring(start, next.length - end) };"
+            + "})()";
+
+    /*
+     * Run on the client when the server has applied the value with the given
+     * sequence number, to use it as the base of the following splices.
+     */
+    private static final String HTML_VALUE_ACK = "const sent = this.__sentHtmlValues;"
+            + "if (sent && sent.has($0) && !(this.__syncedHtmlSeq >= $0)) {"
+            + " this.__syncedHtmlValue = sent.get($0);"
+            + " this.__syncedHtmlSeq = $0;"
+            + " for (const seq of [...sent.keys()]) { if (seq <= $0) { sent.delete(seq); } } }";
+
+    /*
+     * Run on the client when a splice does not apply to any value known by
+     * the server. Numbers the current value, uses it as the base of the
+     * following splices and returns it.
+     */
+    private static final String HTML_VALUE_RESYNC = "const seq = this.__htmlValueSeq = (this.__htmlValueSeq || 0) + 1;"
+            + "this.__sentHtmlValues = new Map();"
+            + "this.__syncedHtmlValue = this.htmlValue;"
+            + "this.__syncedHtmlSeq = seq;"
+            + "return { seq: seq, value: this.htmlValue };";
+
     private ValueChangeMode currentMode;
     private RichTextEditorI18n i18n;
     private AsHtml asHtml;
@@ -76,6 +146,15 @@ public class RichTextEditor
 
     private boolean pendingPresentationUpdate = false;
 
+    private HtmlSanitizer sanitizer;
+
+    private boolean incrementalValueSync;
+    private DomListenerRegistration htmlValueSpliceRegistration;
+    private final LinkedHashMap<Long, String> spliceBases = new LinkedHashMap<>();
+
+    private String emptyCheckValue;
+    private boolean emptyCheckResult;
+
     /**
      * Gets the internationalization object previously set for this component.
      * <p>
@@ -98,7 +177,7 @@ public class RichTextEditor
     public void setI18n(RichTextEditorI18n i18n) {
         this.i18n = Objects.requireNonNull(i18n,
                 "The i18n properties object should not be null");
-        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        SharedI18nRegistry.setI18nProperty(this, JacksonUtils.beanToJson(i18n));
     }
 
     void runBeforeClientResponse(SerializableConsumer<UI> command) {
@@ -155,8 +234,130 @@ public class RichTextEditor
     @Override
     public void setValueChangeMode(ValueChangeMode valueChangeMode) {
         currentMode = valueChangeMode;
-        setSynchronizedEvent(ValueChangeMode.eventForMode(valueChangeMode,
-                "html-value-changed"));
+        String eventName = ValueChangeMode.eventForMode(valueChangeMode,
+                "html-value-changed");
+        if (htmlValueSpliceRegistration != null) {
+            htmlValueSpliceRegistration.remove();
+            htmlValueSpliceRegistration = null;
+        }
+        if (incrementalValueSync) {
+            setSynchronizedEvent(null);
+            if (eventName != null) {
+                htmlValueSpliceRegistration = getElement()
+                        .addEventListener(eventName, this::onHtmlValueSplice)
+                        .addEventData(HTML_VALUE_SPLICE);
+            }
+        } else {
+            setSynchronizedEvent(eventName);
+        }
+    }
+
+    /**
+     * Sets whether changes to the value are sent from the client to the
+     * server incrementally. When enabled, the client only sends the part of
+     * the HTML value that has changed since the previous synchronization, and
+     * only the changed blocks of the value are sanitized on the server. This
+     * reduces the network traffic and server load when editing large
+     * documents, especially with {@link ValueChangeMode#EAGER}.
+     * <p>
+     * The value on the server is the same in both modes, but the
+     * {@code htmlValue} element property is not synchronized from the client
+     * when incremental value sync is enabled.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @param incrementalValueSync
+     *            {@code true} to send value changes incrementally,
+     *            {@code false} to send the whole value
+     * @since 25.3
+     */
+    public void setIncrementalValueSync(boolean incrementalValueSync) {
+        this.incrementalValueSync = incrementalValueSync;
+        // The caching sanitizer keeps copies of the value, so it is only
+        // used when it saves work for incremental changes
+        sanitizer = incrementalValueSync ? new HtmlSanitizer() : null;
+        spliceBases.clear();
+        setValueChangeMode(currentMode);
+    }
+
+    /**
+     * Gets whether changes to the value are sent from the client to the
+     * server incrementally.
+     *
+     * @return {@code true} if value changes are sent incrementally,
+     *         {@code false} otherwise
+     * @see #setIncrementalValueSync(boolean)
+     * @since 25.3
+     */
+    public boolean isIncrementalValueSync() {
+        return incrementalValueSync;
+    }
+
+    private void onHtmlValueSplice(DomEvent event) {
+        JsonNode splice = event.getEventData().get(HTML_VALUE_SPLICE);
+        String base = splice == null ? null
+                : spliceBases.get(splice.path("base").asLong(-1));
+        String htmlValue = applyHtmlValueSplice(base, splice);
+        if (htmlValue == null) {
+            // The client and server are out of sync, for example because the
+            // value was set on the server in the meantime, so fetch the whole
+            // value and use it as the base of the following changes
+            getElement().executeJs(HTML_VALUE_RESYNC)
+                    .then(jsonNode -> setHtmlValueFromClient(
+                            jsonNode.path("seq").asLong(),
+                            jsonNode.path("value").asString(), false));
+            return;
+        }
+        if (!splice.has("full")) {
+            // The client no longer uses the values before the base
+            long baseSeq = splice.path("base").asLong();
+            spliceBases.keySet().removeIf(seq -> seq < baseSeq);
+        }
+        setHtmlValueFromClient(splice.path("seq").asLong(), htmlValue, true);
+    }
+
+    private void setHtmlValueFromClient(long seq, String htmlValue,
+            boolean acknowledge) {
+        spliceBases.put(seq, htmlValue);
+        while (spliceBases.size() > MAX_SPLICE_BASES) {
+            spliceBases.pollFirstEntry();
+        }
+        if (acknowledge) {
+            getElement().executeJs(HTML_VALUE_ACK, seq);
+        }
+        setModelValue(presentationToModel(this, htmlValue), true);
+    }
+
+    /**
+     * Applies a splice created by the client to the value it is based on.
+     *
+     * @param base
+     *            the value with the sequence number given as the base of the
+     *            splice, or {@code null} if the server does not know it
+     * @param splice
+     *            the splice sent by the client
+     * @return the new HTML value, or {@code null} if the splice does not
+     *         apply to the base value
+     */
+    static String applyHtmlValueSplice(String base, JsonNode splice) {
+        if (splice == null || !splice.isObject() || !splice.has("seq")) {
+            return null;
+        }
+        if (splice.has("full")) {
+            return splice.get("full").asString();
+        }
+        if (base == null) {
+            return null;
+        }
+        int baseLength = splice.path("length").asInt(-1);
+        int start = splice.path("start").asInt(-1);
+        int remove = splice.path("remove").asInt(-1);
+        if (baseLength != base.length() || start < 0 || remove < 0
+                || start + remove > baseLength) {
+            return null;
+        }
+        return base.substring(0, start) + splice.path("insert").asString()
+                + base.substring(start + remove);
     }
 
     /**
@@ -209,28 +410,42 @@ public class RichTextEditor
 
     @Override
     protected void setPresentationValue(String newPresentationValue) {
-        String presentationValue = modelToPresentation(newPresentationValue);
+        String presentationValue = modelToPresentation(this,
+                newPresentationValue);
         getElement().setProperty("htmlValue", presentationValue);
+        // In incremental value sync mode, the client sends the whole value
+        // after the value has been set on the server
+        spliceBases.clear();
         // htmlValue property is not writeable, HTML value needs to be set using
         // method exposed by web component instead
         if (!pendingPresentationUpdate) {
             pendingPresentationUpdate = true;
             runBeforeClientResponse(ui -> {
-                getElement().callJsFunction("dangerouslySetHtmlValue",
-                        getElement().getProperty("htmlValue"));
+                if (incrementalValueSync) {
+                    getElement().executeJs(
+                            "this.__syncedHtmlValue = undefined; this.__sentHtmlValues = undefined; this.dangerouslySetHtmlValue($0)",
+                            getElement().getProperty("htmlValue"));
+                } else {
+                    getElement().callJsFunction("dangerouslySetHtmlValue",
+                            getElement().getProperty("htmlValue"));
+                }
                 pendingPresentationUpdate = false;
             });
         }
     }
 
-    private static String presentationToModel(String htmlValue) {
+    private static String presentationToModel(RichTextEditor editor,
+            String htmlValue) {
         // Sanitize HTML coming from client
-        return sanitize(htmlValue);
+        return editor.sanitizer != null ? editor.sanitizer.sanitize(htmlValue)
+                : sanitize(htmlValue);
     }
 
-    private static String modelToPresentation(String htmlValue) {
+    private static String modelToPresentation(RichTextEditor editor,
+            String htmlValue) {
         // Sanitize HTML sent to client
-        return sanitize(htmlValue);
+        return editor.sanitizer != null ? editor.sanitizer.sanitize(htmlValue)
+                : sanitize(htmlValue);
     }
 
     /**
@@ -253,7 +468,17 @@ public class RichTextEditor
      */
     @Override
     public boolean isEmpty() {
-        Document document = org.jsoup.Jsoup.parse(getValue());
+        String value = getValue();
+        // The value is only parsed again when it has changed
+        if (!value.equals(emptyCheckValue)) {
+            emptyCheckResult = isEmpty(value);
+            emptyCheckValue = value;
+        }
+        return emptyCheckResult;
+    }
+
+    private static boolean isEmpty(String value) {
+        Document document = org.jsoup.Jsoup.parse(value);
 
         // Get non-normalized text including spaces and newlines
         // Note that <br>s count as newlines
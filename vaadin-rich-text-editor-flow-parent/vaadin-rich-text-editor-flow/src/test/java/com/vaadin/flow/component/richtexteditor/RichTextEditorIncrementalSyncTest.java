@@ -0,0 +1,211 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.richtexteditor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.HasValue.ValueChangeEvent;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+import tools.jackson.databind.node.ObjectNode;
+
+class RichTextEditorIncrementalSyncTest {
+
+    private static final String DOCUMENT = "<h1>Title</h1>"
+            + "<p>First <strong>bold</strong></p>"
+            + "<ul><li>One</li><li>Two<br></li></ul>"
+            + "<p><img src=\"a.png\"></p>";
+
+    @Test
+    void splitBlocks_topLevelBlocksReturned() {
+        Assertions.assertEquals(
+                List.of("<h1>Title</h1>", "<p>First <strong>bold</strong></p>",
+                        "<ul><li>One</li><li>Two<br></li></ul>",
+                        "<p><img src=\"a.png\"></p>"),
+                HtmlSanitizer.splitBlocks(DOCUMENT));
+    }
+
+    @Test
+    void splitBlocks_quotedGreaterThan_notTagEnd() {
+        Assertions.assertEquals(
+                List.of("<p title=\"a > b\">x</p>", "<p>y</p>"),
+                HtmlSanitizer.splitBlocks("<p title=\"a > b\">x</p><p>y</p>"));
+    }
+
+    @Test
+    void splitBlocks_unclosedTag_null() {
+        Assertions.assertNull(HtmlSanitizer.splitBlocks("<p>a</p><p>b"));
+        Assertions.assertNull(HtmlSanitizer.splitBlocks("<p>a</p></p>"));
+    }
+
+    @Test
+    void sanitize_sameResultAsSanitizingWholeValue() {
+        String html = DOCUMENT
+                + "<p onclick=\"alert(1)\">x<script>alert(2)</script></p>"
+                + "<p><a href=\"javascript:alert(3)\">link</a></p>";
+        Assertions.assertEquals(RichTextEditor.sanitize(html),
+                new HtmlSanitizer().sanitize(html));
+    }
+
+    @Test
+    void sanitize_malformedValue_sameResultAsSanitizingWholeValue() {
+        String html = "<p>a</p><p><script>alert(1)";
+        Assertions.assertEquals(RichTextEditor.sanitize(html),
+                new HtmlSanitizer().sanitize(html));
+    }
+
+    @Test
+    void sanitize_changedBlock_otherBlocksReused() {
+        HtmlSanitizer sanitizer = new HtmlSanitizer();
+        sanitizer.sanitize(DOCUMENT);
+        String changed = DOCUMENT.replace("Title", "Changed title");
+
+        Assertions.assertEquals(RichTextEditor.sanitize(changed),
+                sanitizer.sanitize(changed));
+    }
+
+    @Test
+    void applyHtmlValueSplice_fullValue() {
+        Assertions.assertEquals("<p>foo</p>", RichTextEditor
+                .applyHtmlValueSplice(null, createFull(1, "<p>foo</p>")));
+    }
+
+    @Test
+    void applyHtmlValueSplice_changedRangeReplaced() {
+        Assertions.assertEquals("<p>fox</p><p>bar</p>",
+                RichTextEditor.applyHtmlValueSplice("<p>foo</p><p>bar</p>",
+                        createSplice(2, 1, 20, 5, 1, "x")));
+    }
+
+    @Test
+    void applyHtmlValueSplice_baseMismatch_null() {
+        Assertions.assertNull(RichTextEditor.applyHtmlValueSplice("<p>foo</p>",
+                createSplice(2, 1, 20, 5, 1, "x")));
+        Assertions.assertNull(RichTextEditor.applyHtmlValueSplice(null,
+                createSplice(2, 1, 20, 5, 1, "x")));
+        Assertions.assertNull(RichTextEditor.applyHtmlValueSplice("<p>foo</p>",
+                createSplice(2, 1, 10, 8, 5, "x")));
+    }
+
+    @Test
+    void incrementalValueSync_splices_valueUpdated() {
+        RichTextEditor rte = createIncrementalEditor();
+        List<ValueChangeEvent<String>> events = new ArrayList<>();
+        rte.addValueChangeListener(events::add);
+
+        fireHtmlValueChanged(rte, createFull(1, "<p>foo</p><p>bar</p>"));
+        Assertions.assertEquals("<p>foo</p><p>bar</p>", rte.getValue());
+
+        fireHtmlValueChanged(rte, createSplice(2, 1, 20, 5, 1, "x"));
+        Assertions.assertEquals("<p>fox</p><p>bar</p>", rte.getValue());
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertTrue(events.get(1).isFromClient());
+    }
+
+    @Test
+    void incrementalValueSync_spliceSentBeforeAcknowledgement_applied() {
+        RichTextEditor rte = createIncrementalEditor();
+        fireHtmlValueChanged(rte, createFull(1, "<p>foo</p>"));
+        fireHtmlValueChanged(rte, createSplice(2, 1, 10, 5, 1, "x"));
+
+        // Sent by the client before the acknowledgement of value 2 arrived,
+        // so it is still based on value 1
+        fireHtmlValueChanged(rte, createSplice(3, 1, 10, 5, 1, "y"));
+
+        Assertions.assertEquals("<p>foy</p>", rte.getValue());
+    }
+
+    @Test
+    void incrementalValueSync_divergedBaseOfSameLength_valueNotChanged() {
+        RichTextEditor rte = createIncrementalEditor();
+        fireHtmlValueChanged(rte, createFull(1, "<p>foo</p>"));
+
+        // Value 2 was dropped before reaching the server, but the client
+        // used it as the base of value 3. Both bases have the same length.
+        fireHtmlValueChanged(rte, createSplice(3, 2, 10, 5, 1, "x"));
+
+        Assertions.assertEquals("<p>foo</p>", rte.getValue());
+    }
+
+    @Test
+    void incrementalValueSync_valueSetOnServer_spliceNotApplied() {
+        RichTextEditor rte = createIncrementalEditor();
+        fireHtmlValueChanged(rte, createFull(1, "<p>foo</p>"));
+        rte.setValue("<p>bar</p>");
+
+        fireHtmlValueChanged(rte, createSplice(2, 1, 10, 5, 1, "x"));
+
+        Assertions.assertEquals("<p>bar</p>", rte.getValue());
+    }
+
+    @Test
+    void incrementalValueSync_spliceSanitized() {
+        RichTextEditor rte = createIncrementalEditor();
+
+        fireHtmlValueChanged(rte, createFull(1, "<p>foo</p>"));
+        fireHtmlValueChanged(rte, createSplice(2, 1, 10, 10, 0,
+                "<p><script>alert(1)</script></p>"));
+
+        Assertions.assertEquals("<p>foo</p><p></p>", rte.getValue());
+    }
+
+    @Test
+    void isEmpty_valueChanged_updated() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setValue("<p><br></p>");
+        Assertions.assertTrue(rte.isEmpty());
+        rte.setValue("<p>foo</p>");
+        Assertions.assertFalse(rte.isEmpty());
+    }
+
+    private static RichTextEditor createIncrementalEditor() {
+        RichTextEditor rte = new RichTextEditor();
+        rte.setIncrementalValueSync(true);
+        rte.setValueChangeMode(ValueChangeMode.EAGER);
+        return rte;
+    }
+
+    private static ObjectNode createFull(long seq, String value) {
+        ObjectNode full = JacksonUtils.createObjectNode();
+        full.put("seq", seq);
+        full.put("full", value);
+        return full;
+    }
+
+    private static ObjectNode createSplice(long seq, long base, int length,
+            int start, int remove, String insert) {
+        ObjectNode splice = JacksonUtils.createObjectNode();
+        splice.put("seq", seq);
+        splice.put("base", base);
+        splice.put("length", length);
+        splice.put("start", start);
+        splice.put("remove", remove);
+        splice.put("insert", insert);
+        return splice;
+    }
+
+    private static void fireHtmlValueChanged(RichTextEditor rte,
+            ObjectNode splice) {
+        Element element = rte.getElement();
+        ObjectNode eventData = JacksonUtils.createObjectNode();
+        eventData.set(RichTextEditor.HTML_VALUE_SPLICE, splice);
+        element.getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(element, "html-value-changed",
+                        eventData));
+    }
+}
@@ -27,7 +27,11 @@ import com.vaadin.flow.component.Tag;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.shared.HasThemeVariant;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.TreeData;
+import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
 import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
 import com.vaadin.flow.internal.JacksonUtils;
 
 /**
@@ -35,7 +39,10 @@ import com.vaadin.flow.internal.JacksonUtils;
  * <p>
  * Items can be added using {@link #addItem(SideNavItem...)} and hierarchy can
  * be created by adding {@link SideNavItem} instances to other
- * {@link SideNavItem} instances.
+ * {@link SideNavItem} instances. For a large hierarchy, the items can instead
+ * be created from a data provider with
+ * {@link #setItems(HierarchicalDataProvider, SerializableFunction)}, so that
+ * child items are only created when their parent item is expanded.
  *
  * @author Vaadin Ltd
  * @since 24.1
@@ -50,6 +57,8 @@ public class SideNav extends Component implements HasSideNavItems, HasSize,
 
     private SideNavI18n i18n;
 
+    private SideNavDataController<?> dataController;
+
     /**
      * Creates a new menu without any label.
      */
@@ -179,6 +188,66 @@ public class SideNav extends Component implements HasSideNavItems, HasSize,
         getElement().setProperty("noAutoExpand", !autoExpand);
     }
 
+    /**
+     * Replaces the items of this side navigation menu with items created from
+     * the given data provider. Only the items of the root level are created
+     * right away. The child items of an item are fetched and created when the
+     * item is expanded, and removed when it is collapsed.
+     * <p>
+     * The item generator should not add child items to the created
+     * {@link SideNavItem} instances, and items should not be added to or
+     * removed from the menu manually while the items are created from the data
+     * provider.
+     *
+     * @param dataProvider
+     *            the data provider to create the items from, not {@code null}
+     * @param itemGenerator
+     *            the function that creates the navigation item for an item,
+     *            not {@code null}
+     * @param <T>
+     *            the type of the items in the data provider
+     * @return the controller that allows expanding and refreshing the items
+     * @since 25.3
+     */
+    public <T> SideNavDataController<T> setItems(
+            HierarchicalDataProvider<T, ?> dataProvider,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        Objects.requireNonNull(dataProvider, "Data provider cannot be null");
+        Objects.requireNonNull(itemGenerator,
+                "Item generator cannot be null");
+        if (dataController != null) {
+            dataController.dispose();
+            dataController = null;
+        }
+        removeAll();
+        SideNavDataController<T> controller = new SideNavDataController<>(
+                this, dataProvider, itemGenerator);
+        dataController = controller;
+        return controller;
+    }
+
+    /**
+     * Replaces the items of this side navigation menu with items created from
+     * the given tree data. The child items of an item are only created when
+     * the item is expanded.
+     *
+     * @param treeData
+     *            the tree data to create the items from, not {@code null}
+     * @param itemGenerator
+     *            the function that creates the navigation item for an item,
+     *            not {@code null}
+     * @param <T>
+     *            the type of the items in the tree data
+     * @return the controller that allows expanding and refreshing the items
+     * @see #setItems(HierarchicalDataProvider, SerializableFunction)
+     * @since 25.3
+     */
+    public <T> SideNavDataController<T> setItems(TreeData<T> treeData,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        Objects.requireNonNull(treeData, "Tree data cannot be null");
+        return setItems(new TreeDataProvider<>(treeData), itemGenerator);
+    }
+
     /**
      * Gets the internationalization object previously set for this component.
      * <p>
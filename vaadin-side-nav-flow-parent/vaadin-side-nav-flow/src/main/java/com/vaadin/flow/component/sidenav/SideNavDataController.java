@@ -0,0 +1,375 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.sidenav;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalDataProvider;
+import com.vaadin.flow.data.provider.hierarchy.HierarchicalQuery;
+import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.shared.Registration;
+
+/**
+ * Creates the items of a {@link SideNav} from a hierarchical data provider.
+ * Only the root items are created initially. The child items of an item are
+ * fetched from the data provider and created when the item is expanded, and
+ * removed again when the item is collapsed, so that a large navigation
+ * hierarchy only costs as much memory as the part of it that is shown.
+ * <p>
+ * An instance is returned by
+ * {@link SideNav#setItems(HierarchicalDataProvider, SerializableFunction)}.
+ * Items that are not shown yet can be revealed with {@link #expand(Object)},
+ * for example the parent of the item that links to the current route:
+ *
+ * <pre>
+ * public void afterNavigation(AfterNavigationEvent event) {
+ *     Page page = pages.findByPath(event.getLocation().getPath());
+ *     if (page != null &amp;&amp; page.getParent() != null) {
+ *         controller.expand(page.getParent());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *            the type of the items in the data provider
+ *
+ * @author Vaadin Ltd
+ * @since 25.3
+ */
+public class SideNavDataController<T> implements Serializable {
+
+    private final SideNav sideNav;
+    private final HierarchicalDataProvider<T, ?> dataProvider;
+    private final SerializableFunction<T, SideNavItem> itemGenerator;
+    private final Map<Object, Node> nodes = new HashMap<>();
+    private final List<Node> rootNodes = new ArrayList<>();
+    private final List<Registration> registrations = new ArrayList<>();
+
+    private SerializableFunction<T, T> parentProvider;
+    private Registration dataProviderListenerRegistration;
+    private boolean refreshOnAttach;
+
+    SideNavDataController(SideNav sideNav,
+            HierarchicalDataProvider<T, ?> dataProvider,
+            SerializableFunction<T, SideNavItem> itemGenerator) {
+        this.sideNav = sideNav;
+        this.dataProvider = dataProvider;
+        this.itemGenerator = itemGenerator;
+        if (dataProvider instanceof TreeDataProvider<T> treeDataProvider) {
+            parentProvider = item -> treeDataProvider.getTreeData()
+                    .getParent(item);
+        }
+
+        registrations.add(sideNav.addAttachListener(event -> {
+            addDataProviderListener();
+            if (refreshOnAttach) {
+                refreshOnAttach = false;
+                refreshAll();
+            }
+        }));
+        registrations.add(sideNav.addDetachListener(event -> {
+            removeDataProviderListener();
+            // Changes to the data are not tracked while detached
+            refreshOnAttach = true;
+        }));
+        if (sideNav.isAttached()) {
+            addDataProviderListener();
+        }
+
+        createChildNodes(null, Set.of());
+    }
+
+    /**
+     * Sets the function used to find the parent of an item, which is needed
+     * by {@link #expand(Object)} to create the ancestors of an item that is not
+     * shown yet. When the items are set with a {@link TreeDataProvider}, the
+     * parents are found from its tree data by default.
+     *
+     * @param parentProvider
+     *            the function that returns the parent of an item, or
+     *            {@code null} for a root item
+     */
+    public void setParentProvider(SerializableFunction<T, T> parentProvider) {
+        this.parentProvider = parentProvider;
+    }
+
+    /**
+     * Gets the function used to find the parent of an item.
+     *
+     * @return the parent provider, or {@code null} if not set
+     */
+    public SerializableFunction<T, T> getParentProvider() {
+        return parentProvider;
+    }
+
+    /**
+     * Expands the navigation item of the given item and of all its ancestors,
+     * creating the items that are not shown yet.
+     *
+     * @param item
+     *            the item to expand, not {@code null}
+     * @throws IllegalStateException
+     *             if the item is not shown yet and no parent provider is set
+     * @throws IllegalArgumentException
+     *             if the item is not in the data provider
+     */
+    public void expand(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        getOrCreateNode(item).sideNavItem.setExpanded(true);
+    }
+
+    /**
+     * Collapses the navigation item of the given item, removing the navigation
+     * items of its descendants. Does nothing if the item is not shown.
+     *
+     * @param item
+     *            the item to collapse, not {@code null}
+     */
+    public void collapse(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        Node node = nodes.get(dataProvider.getId(item));
+        if (node != null) {
+            node.sideNavItem.setExpanded(false);
+        }
+    }
+
+    /**
+     * Gets the navigation item created for the given item.
+     *
+     * @param item
+     *            the item to get the navigation item for, not {@code null}
+     * @return the navigation item, or an empty optional if the item is not
+     *         shown because its parent is collapsed
+     */
+    public Optional<SideNavItem> getSideNavItem(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        return Optional.ofNullable(nodes.get(dataProvider.getId(item)))
+                .map(node -> node.sideNavItem);
+    }
+
+    /**
+     * Creates all shown navigation items again from the data provider. Items
+     * that are expanded stay expanded if they are still in the data provider.
+     * This is done automatically when the data provider fires a data change
+     * event.
+     */
+    public void refreshAll() {
+        Set<Object> expandedIds = new HashSet<>();
+        rootNodes.forEach(node -> collectExpandedIds(node, expandedIds));
+        rootNodes.forEach(this::removeNode);
+        rootNodes.clear();
+        createChildNodes(null, expandedIds);
+    }
+
+    /**
+     * Creates the navigation item of the given item and of its shown
+     * descendants again. Does nothing if the item is not shown. This is done
+     * automatically when the data provider fires a data refresh event for an
+     * item.
+     *
+     * @param item
+     *            the item to refresh, not {@code null}
+     */
+    public void refreshItem(T item) {
+        Objects.requireNonNull(item, "Item cannot be null");
+        Node oldNode = nodes.get(dataProvider.getId(item));
+        if (oldNode == null) {
+            return;
+        }
+        Set<Object> expandedIds = new HashSet<>();
+        collectExpandedIds(oldNode, expandedIds);
+
+        HasSideNavItems container = getContainer(oldNode.parent);
+        List<Node> siblings = getChildNodes(oldNode.parent);
+        int index = container.getItems().indexOf(oldNode.sideNavItem);
+        removeNode(oldNode);
+
+        Node node = createNode(item, oldNode.parent, expandedIds);
+        siblings.set(siblings.indexOf(oldNode), node);
+        container.addItemAtIndex(index, node.sideNavItem);
+    }
+
+    /**
+     * Stops creating items from the data provider. Called when the items of
+     * the side navigation are set again.
+     */
+    void dispose() {
+        removeDataProviderListener();
+        registrations.forEach(Registration::remove);
+        registrations.clear();
+    }
+
+    private void createChildNodes(Node parent, Set<Object> expandedIds) {
+        HasSideNavItems container = getContainer(parent);
+        List<Node> childNodes = getChildNodes(parent);
+        fetchChildren(dataProvider, parent == null ? null : parent.item)
+                .forEach(item -> {
+                    Node node = createNode(item, parent, expandedIds);
+                    childNodes.add(node);
+                    container.addItem(node.sideNavItem);
+                });
+    }
+
+    private Node createNode(T item, Node parent, Set<Object> expandedIds) {
+        SideNavItem sideNavItem = Objects.requireNonNull(
+                itemGenerator.apply(item),
+                "The item generator must not return null");
+        Node node = new Node(item, sideNavItem, parent);
+        nodes.put(dataProvider.getId(item), node);
+        if (!dataProvider.hasChildren(item)) {
+            return node;
+        }
+
+        // An empty child item makes the web component show the toggle button
+        // of an item whose children have not been created
+        node.placeholder = new Element("vaadin-side-nav-item")
+                .setAttribute("slot", "children").setAttribute("hidden", true);
+        sideNavItem.getElement().appendChild(node.placeholder);
+        if (expandedIds.contains(dataProvider.getId(item))) {
+            sideNavItem.setExpanded(true);
+        }
+        if (sideNavItem.isExpanded()) {
+            loadChildren(node, expandedIds);
+        }
+        sideNavItem.getElement().addPropertyChangeListener("expanded",
+                event -> {
+                    if (sideNavItem.isExpanded()) {
+                        loadChildren(node, Set.of());
+                    } else {
+                        releaseChildren(node);
+                    }
+                });
+        return node;
+    }
+
+    private void loadChildren(Node node, Set<Object> expandedIds) {
+        if (node.children != null) {
+            return;
+        }
+        node.children = new ArrayList<>();
+        node.sideNavItem.getElement().removeChild(node.placeholder);
+        createChildNodes(node, expandedIds);
+    }
+
+    private void releaseChildren(Node node) {
+        if (node.children == null) {
+            return;
+        }
+        node.children.forEach(this::removeNode);
+        node.children = null;
+        node.sideNavItem.getElement().appendChild(node.placeholder);
+    }
+
+    private void removeNode(Node node) {
+        if (node.children != null) {
+            node.children.forEach(this::removeNode);
+        }
+        nodes.remove(dataProvider.getId(node.item));
+        getContainer(node.parent).remove(node.sideNavItem);
+    }
+
+    private Node getOrCreateNode(T item) {
+        Node node = nodes.get(dataProvider.getId(item));
+        if (node != null) {
+            return node;
+        }
+        if (parentProvider == null) {
+            throw new IllegalStateException(
+                    "The item is not shown and its parent is not known. "
+                            + "Use setParentProvider to set a parent provider.");
+        }
+        T parent = parentProvider.apply(item);
+        if (parent != null) {
+            getOrCreateNode(parent).sideNavItem.setExpanded(true);
+            node = nodes.get(dataProvider.getId(item));
+        }
+        if (node == null) {
+            throw new IllegalArgumentException(
+                    "The item is not in the data provider");
+        }
+        return node;
+    }
+
+    private void collectExpandedIds(Node node, Set<Object> expandedIds) {
+        if (node.children != null) {
+            expandedIds.add(dataProvider.getId(node.item));
+            node.children.forEach(child -> collectExpandedIds(child,
+                    expandedIds));
+        }
+    }
+
+    private HasSideNavItems getContainer(Node node) {
+        return node == null ? sideNav : node.sideNavItem;
+    }
+
+    private List<Node> getChildNodes(Node node) {
+        return node == null ? rootNodes : node.children;
+    }
+
+    private void addDataProviderListener() {
+        if (dataProviderListenerRegistration == null) {
+            dataProviderListenerRegistration = dataProvider
+                    .addDataProviderListener(event -> {
+                        if (event instanceof DataRefreshEvent<T> refreshEvent) {
+                            refreshItem(refreshEvent.getItem());
+                        } else {
+                            refreshAll();
+                        }
+                    });
+        }
+    }
+
+    private void removeDataProviderListener() {
+        if (dataProviderListenerRegistration != null) {
+            dataProviderListenerRegistration.remove();
+            dataProviderListenerRegistration = null;
+        }
+    }
+
+    private static <T, F> Stream<T> fetchChildren(
+            HierarchicalDataProvider<T, F> dataProvider, T parent) {
+        return dataProvider.fetchChildren(new HierarchicalQuery<>(null, parent));
+    }
+
+    private final class Node implements Serializable {
+
+        private final T item;
+        private final SideNavItem sideNavItem;
+        private final Node parent;
+        // null for an item without children
+        private Element placeholder;
+        // null while the children have not been created
+        private List<Node> children;
+
+        private Node(T item, SideNavItem sideNavItem, Node parent) {
+            this.item = item;
+            this.sideNavItem = sideNavItem;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component.sidenav.tests;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.vaadin.flow.component.sidenav.HasSideNavItems;
+import com.vaadin.flow.component.sidenav.SideNav;
+import com.vaadin.flow.component.sidenav.SideNavDataController;
+import com.vaadin.flow.component.sidenav.SideNavItem;
+import com.vaadin.flow.data.provider.hierarchy.TreeData;
+import com.vaadin.flow.data.provider.hierarchy.TreeDataProvider;
+import com.vaadin.tests.MockUIExtension;
+
+class SideNavDataControllerTest {
+
+    @RegisterExtension
+    MockUIExtension ui = new MockUIExtension();
+
+    private SideNav sideNav;
+    private TreeData<String> treeData;
+    private SideNavDataController<String> controller;
+
+    @BeforeEach
+    void setup() {
+        sideNav = new SideNav();
+        treeData = new TreeData<>();
+        treeData.addItems(null, "Admin", "Reports");
+        treeData.addItems("Admin", "Users", "Groups");
+        treeData.addItems("Users", "Active users", "Locked users");
+        controller = sideNav.setItems(treeData, SideNavItem::new);
+    }
+
+    @Test
+    void setItems_onlyRootItemsCreated() {
+        Assertions.assertEquals(List.of("Admin", "Reports"), labels(sideNav));
+        Assertions.assertTrue(controller.getSideNavItem("Admin").isPresent());
+        Assertions.assertTrue(controller.getSideNavItem("Users").isEmpty());
+        Assertions.assertTrue(item("Admin").getItems().isEmpty());
+    }
+
+    @Test
+    void setItems_parentHasPlaceholderChild() {
+        Assertions.assertEquals(1,
+                item("Admin").getElement().getChildren()
+                        .filter(child -> "children"
+                                .equals(child.getAttribute("slot")))
+                        .count());
+        Assertions.assertEquals(0,
+                item("Reports").getElement().getChildren()
+                        .filter(child -> "children"
+                                .equals(child.getAttribute("slot")))
+                        .count());
+    }
+
+    @Test
+    void setItems_existingItemsReplaced() {
+        SideNav nav = new SideNav();
+        nav.addItem(new SideNavItem("Manual"));
+        nav.setItems(treeData, SideNavItem::new);
+
+        Assertions.assertEquals(List.of("Admin", "Reports"), labels(nav));
+    }
+
+    @Test
+    void expandItem_childrenCreated() {
+        item("Admin").setExpanded(true);
+
+        Assertions.assertEquals(List.of("Users", "Groups"),
+                labels(item("Admin")));
+        Assertions.assertTrue(controller.getSideNavItem("Users").isPresent());
+        Assertions.assertTrue(
+                controller.getSideNavItem("Active users").isEmpty());
+    }
+
+    @Test
+    void collapseItem_descendantsReleased() {
+        SideNavItem admin = item("Admin");
+        admin.setExpanded(true);
+        item("Users").setExpanded(true);
+
+        admin.setExpanded(false);
+
+        Assertions.assertTrue(admin.getItems().isEmpty());
+        Assertions.assertTrue(controller.getSideNavItem("Users").isEmpty());
+        Assertions.assertTrue(
+                controller.getSideNavItem("Active users").isEmpty());
+
+        admin.setExpanded(true);
+        Assertions.assertEquals(List.of("Users", "Groups"), labels(admin));
+        Assertions.assertFalse(item("Users").isExpanded());
+    }
+
+    @Test
+    void expandNestedItem_ancestorsExpanded() {
+        controller.expand("Users");
+
+        Assertions.assertTrue(item("Admin").isExpanded());
+        Assertions.assertTrue(item("Users").isExpanded());
+        Assertions.assertEquals(List.of("Active users", "Locked users"),
+                labels(item("Users")));
+    }
+
+    @Test
+    void expandUnknownItem_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> controller.expand("Missing"));
+    }
+
+    @Test
+    void expandHiddenItemWithoutParentProvider_throws() {
+        controller.setParentProvider(null);
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> controller.expand("Users"));
+    }
+
+    @Test
+    void collapse_descendantsReleased() {
+        controller.expand("Users");
+        controller.collapse("Admin");
+
+        Assertions.assertFalse(item("Admin").isExpanded());
+        Assertions.assertTrue(controller.getSideNavItem("Users").isEmpty());
+    }
+
+    @Test
+    void refreshAll_expandedItemsStayExpanded() {
+        controller.expand("Users");
+        treeData.addItem("Admin", "Roles");
+
+        controller.refreshAll();
+
+        Assertions.assertEquals(List.of("Admin", "Reports"), labels(sideNav));
+        Assertions.assertEquals(List.of("Users", "Groups", "Roles"),
+                labels(item("Admin")));
+        Assertions.assertEquals(List.of("Active users", "Locked users"),
+                labels(item("Users")));
+    }
+
+    @Test
+    void refreshItem_itemCreatedAgain() {
+        controller.expand("Admin");
+        SideNavItem admin = item("Admin");
+
+        controller.refreshItem("Admin");
+
+        Assertions.assertNotSame(admin, item("Admin"));
+        Assertions.assertEquals(List.of("Admin", "Reports"), labels(sideNav));
+        Assertions.assertTrue(item("Admin").isExpanded());
+        Assertions.assertEquals(List.of("Users", "Groups"),
+                labels(item("Admin")));
+    }
+
+    @Test
+    void attached_dataProviderRefreshed_itemsCreatedAgain() {
+        TreeDataProvider<String> dataProvider = new TreeDataProvider<>(
+                treeData);
+        controller = sideNav.setItems(dataProvider, SideNavItem::new);
+        ui.add(sideNav);
+
+        treeData.addItem(null, "Settings");
+        dataProvider.refreshAll();
+
+        Assertions.assertEquals(List.of("Admin", "Reports", "Settings"),
+                labels(sideNav));
+    }
+
+    @Test
+    void detached_dataProviderRefreshed_itemsCreatedAgainOnAttach() {
+        TreeDataProvider<String> dataProvider = new TreeDataProvider<>(
+                treeData);
+        controller = sideNav.setItems(dataProvider, SideNavItem::new);
+        ui.add(sideNav);
+        ui.remove(sideNav);
+
+        treeData.addItem(null, "Settings");
+        dataProvider.refreshAll();
+        Assertions.assertEquals(List.of("Admin", "Reports"), labels(sideNav));
+
+        ui.add(sideNav);
+        Assertions.assertEquals(List.of("Admin", "Reports", "Settings"),
+                labels(sideNav));
+    }
+
+    private SideNavItem item(String item) {
+        return controller.getSideNavItem(item).orElseThrow();
+    }
+
+    private static List<String> labels(HasSideNavItems container) {
+        return container.getItems().stream().map(SideNavItem::getLabel)
+                .toList();
+    }
+}
@@ -266,6 +266,21 @@ public interface SpreadsheetHandler extends GroupingHandler {
      */
     public void onPaste(String text);
 
+    /**
+     * Client pasted a large text at current selection, which is sent in
+     * chunks. The chunks are sent in order and are joined before parsing. The
+     * chunks of a previous paste are discarded when a chunk with a new paste
+     * ID is received.
+     *
+     * @param pasteId
+     *            the ID of the paste that this chunk belongs to
+     * @param text
+     *            the text of this chunk
+     * @param last
+     *            {@code true} if this is the last chunk of the pasted text
+     */
+    public void onPasteChunk(int pasteId, String text, boolean last);
+
     /**
      * Called after successful cut operation; currently selected cells should be
      * cleared
@@ -44,6 +44,17 @@ import com.vaadin.client.communication.RpcProxy;
 public class SpreadsheetWidget extends Composite implements SheetHandler,
         FormulaBarHandler, SheetTabSheetHandler, Focusable {
 
+    /**
+     * Maximum number of characters of pasted text sent to the server in one
+     * message.
+     */
+    private static final int PASTE_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * The ID of the latest paste that was sent in chunks.
+     */
+    private int pasteId;
+
     public interface SheetContextMenuHandler {
         /**
          * Right click (event) on top of the cell at the indexes.
@@ -2025,7 +2036,28 @@ public class SpreadsheetWidget extends Composite implements SheetHandler,
 
     @Override
     public void onSheetPaste(String text) {
-        spreadsheetHandler.onPaste(text);
+        if (text.length() <= PASTE_CHUNK_SIZE) {
+            spreadsheetHandler.onPaste(text);
+            return;
+        }
+        // Send large clipboard contents in chunks, one per task, so that a
+        // single message does not exceed the maximum message size. The
+        // server joins the chunks of the same paste before parsing.
+        final int id = ++pasteId;
+        final int[] position = { 0 };
+        Scheduler.get().scheduleFixedDelay(() -> {
+            if (id != pasteId) {
+                // a new paste has been started
+                return false;
+            }
+            int start = position[0];
+            int end = Math.min(text.length(), start + PASTE_CHUNK_SIZE);
+            position[0] = end;
+            boolean last = end >= text.length();
+            spreadsheetHandler.onPasteChunk(id, text.substring(start, end),
+                    last);
+            return !last;
+        }, 0);
     }
 
     @Override
@@ -790,6 +790,10 @@ public class SpreadsheetJsApi {
         getServerRpcInstance().setOnPasteCallback(callback);
     }
 
+    public void setOnPasteChunkCallback(JsConsumer<String> callback) {
+        getServerRpcInstance().setOnPasteChunkCallback(callback);
+    }
+
     public void setClearSelectedCellsOnCutCallback(JsConsumer<Void> callback) {
         getServerRpcInstance().setClearSelectedCellsOnCutCallback(callback);
     }
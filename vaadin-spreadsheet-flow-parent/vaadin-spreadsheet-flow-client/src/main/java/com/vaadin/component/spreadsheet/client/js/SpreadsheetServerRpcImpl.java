@@ -60,6 +60,7 @@ public class SpreadsheetServerRpcImpl
     private JsConsumer<String> setCellStyleWidthRatiosCallback;
     private JsConsumer<Void> protectedCellWriteAttemptedCallback;
     private JsConsumer<String> onPasteCallback;
+    private JsConsumer<String> onPasteChunkCallback;
     private JsConsumer<Void> clearSelectedCellsOnCutCallback;
     private JsConsumer<String> updateCellCommentCallback;
     private JsConsumer<String> contextMenuOpenOnSelectionCallback;
@@ -205,6 +206,10 @@ public class SpreadsheetServerRpcImpl
         onPasteCallback = callback;
     }
 
+    public void setOnPasteChunkCallback(JsConsumer<String> callback) {
+        onPasteChunkCallback = callback;
+    }
+
     public void setClearSelectedCellsOnCutCallback(JsConsumer<Void> callback) {
         clearSelectedCellsOnCutCallback = callback;
     }
@@ -445,6 +450,11 @@ public class SpreadsheetServerRpcImpl
         call(onPasteCallback, text);
     }
 
+    @Override
+    public void onPasteChunk(int pasteId, String text, boolean last) {
+        call(onPasteChunkCallback, pasteId, text, last);
+    }
+
     @Override
     public void clearSelectedCellsOnCut() {
         call(clearSelectedCellsOnCutCallback);
@@ -525,6 +525,7 @@ public class CellValueManager implements Serializable {
      */
     protected void markCellForUpdate(Cell cell) {
         markedCells.add(SpreadsheetUtil.toKey(cell));
+        spreadsheet.onCellChanged(cell);
     }
 
     /**
@@ -553,6 +554,7 @@ public class CellValueManager implements Serializable {
         cd.row = cell.getRowIndex() + 1;
         removedCells.add(cd);
         clearCellCache(cellKey);
+        spreadsheet.onCellChanged(cell);
     }
 
     /**
@@ -0,0 +1,369 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.awt.font.FontRenderContext;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * Computes the width that fits the content of a column, as a faster
+ * replacement for {@link Sheet#autoSizeColumn(int)}.
+ * <p>
+ * Instead of laying out the text of every cell, the widths of the glyphs of
+ * each font are measured once and cached, and the width of a text is the sum
+ * of the widths of its characters. Numeric cells are only formatted and
+ * measured when no cell with the same style, sign, magnitude and number of
+ * decimals has been measured before, as those would have the same formatted
+ * length. Text cells are sampled: only the texts with the largest estimated
+ * widths are measured. Like {@link Sheet#autoSizeColumn(int)}, cells in merged
+ * regions are ignored and the cached results of formula cells are used.
+ */
+final class ColumnAutofitter {
+
+    private static final FontRenderContext FONT_RENDER_CONTEXT = new FontRenderContext(
+            null, true, true);
+
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+
+    /**
+     * The number of texts with the largest estimated widths that are measured
+     * in each column.
+     */
+    private static final int MAX_SAMPLED_TEXTS = 100;
+
+    /**
+     * The number of fonts whose glyph widths are cached. The least recently
+     * used font is discarded when more fonts are used.
+     */
+    private static final int MAX_CACHED_FONTS = 32;
+
+    /**
+     * The number of non-ASCII glyph widths that are cached for each font.
+     */
+    private static final int MAX_CACHED_GLYPHS = 4096;
+
+    private static final Map<FontKey, GlyphWidths> GLYPH_WIDTHS = Collections
+            .synchronizedMap(
+                    new LinkedHashMap<FontKey, GlyphWidths>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<FontKey, GlyphWidths> eldest) {
+                            return size() > MAX_CACHED_FONTS;
+                        }
+                    });
+
+    private ColumnAutofitter() {
+    }
+
+    /**
+     * Computes the widths that fit the content of the given columns. The
+     * columns are read and measured one at a time on the calling thread, as
+     * the sheet is not thread safe.
+     *
+     * @param sheet
+     *            the sheet to measure
+     * @param columnIndexes
+     *            the indexes of the columns, 0-based
+     * @param locale
+     *            the locale for formatting numeric values
+     * @return the widths of the columns in units of 1/256th of a character
+     *         width, as used by {@link Sheet#setColumnWidth(int, int)}, or
+     *         {@code -1} for columns without content
+     */
+    static int[] measureColumns(Sheet sheet, int[] columnIndexes,
+            Locale locale) {
+        Workbook workbook = sheet.getWorkbook();
+        float defaultCharWidth = getGlyphWidths(
+                getFontKey(workbook.getFontAt(0))).width('0');
+        int[] widths = new int[columnIndexes.length];
+        if (defaultCharWidth <= 0) {
+            Arrays.fill(widths, -1);
+            return widths;
+        }
+        DataFormatter formatter = new DataFormatter(locale);
+        for (int i = 0; i < columnIndexes.length; i++) {
+            widths[i] = measureColumn(
+                    readColumn(sheet, columnIndexes[i], defaultCharWidth),
+                    defaultCharWidth, formatter);
+        }
+        return widths;
+    }
+
+    /**
+     * Reads the cells of a column that need to be measured: the numbers whose
+     * formatted length has not been seen yet, and the texts with the largest
+     * estimated widths.
+     */
+    private static List<CellText> readColumn(Sheet sheet, int column,
+            float defaultCharWidth) {
+        Workbook workbook = sheet.getWorkbook();
+        List<CellRangeAddress> mergedRegions = new ArrayList<>();
+        for (CellRangeAddress region : sheet.getMergedRegions()) {
+            if (region.getFirstColumn() <= column
+                    && region.getLastColumn() >= column) {
+                mergedRegions.add(region);
+            }
+        }
+        Set<NumberShape> measuredShapes = new HashSet<>();
+        Map<Integer, FontKey> fonts = new HashMap<>();
+        Map<FontKey, GlyphWidths> glyphWidths = new HashMap<>();
+
+        List<CellText> texts = new ArrayList<>();
+        PriorityQueue<CellText> sampledTexts = new PriorityQueue<>(
+                Comparator.comparingDouble(text -> text.estimatedWidth));
+        for (Row row : sheet) {
+            Cell cell = row.getCell(column);
+            if (cell == null || isMerged(mergedRegions, row.getRowNum())) {
+                continue;
+            }
+            CellStyle style = cell.getCellStyle();
+            CellText text = read(cell, style, measuredShapes);
+            if (text == null) {
+                continue;
+            }
+            text.font = fonts.computeIfAbsent(style.getFontIndexAsInt(),
+                    index -> getFontKey(workbook.getFontAt(index)));
+            text.rotation = style.getRotation();
+            text.indention = style.getIndention();
+            if (text.text == null) {
+                texts.add(text);
+                continue;
+            }
+            // The width of a text is estimated from its length, so that only
+            // the widest candidates are measured
+            GlyphWidths glyphs = glyphWidths.computeIfAbsent(text.font,
+                    ColumnAutofitter::getGlyphWidths);
+            text.estimatedWidth = text.text.length() * glyphs.width('0')
+                    / defaultCharWidth + text.indention;
+            sampledTexts.add(text);
+            if (sampledTexts.size() > MAX_SAMPLED_TEXTS) {
+                // discard the text with the smallest estimated width
+                sampledTexts.poll();
+            }
+        }
+        texts.addAll(sampledTexts);
+        return texts;
+    }
+
+    private static int measureColumn(List<CellText> texts,
+            float defaultCharWidth, DataFormatter formatter) {
+        double width = -1;
+        for (CellText cellText : texts) {
+            String text = cellText.text != null ? cellText.text
+                    : formatter.formatRawCellContents(cellText.value,
+                            cellText.formatIndex, cellText.formatString);
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+            width = Math.max(width,
+                    measure(text, getGlyphWidths(cellText.font),
+                            cellText.rotation) / defaultCharWidth
+                            + cellText.indention);
+        }
+        if (width < 0) {
+            return -1;
+        }
+        return (int) Math.min(width * 256, MAX_COLUMN_WIDTH);
+    }
+
+    private static boolean isMerged(List<CellRangeAddress> mergedRegions,
+            int rowIndex) {
+        for (CellRangeAddress region : mergedRegions) {
+            if (region.getFirstRow() <= rowIndex
+                    && region.getLastRow() >= rowIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the content of the cell, or {@code null} if the cell does not
+     * need to be measured.
+     */
+    private static CellText read(Cell cell, CellStyle style,
+            Set<NumberShape> measuredShapes) {
+        CellType type = cell.getCellType();
+        if (type == CellType.FORMULA) {
+            type = cell.getCachedFormulaResultType();
+        }
+        switch (type) {
+        case STRING:
+            String text = cell.getRichStringCellValue().getString();
+            return text == null || text.isEmpty() ? null : new CellText(text);
+        case BOOLEAN:
+            return new CellText(String.valueOf(cell.getBooleanCellValue())
+                    .toUpperCase(Locale.ROOT));
+        case NUMERIC:
+            double value = cell.getNumericCellValue();
+            int formatIndex = style.getDataFormat();
+            String formatString = style.getDataFormatString();
+            if (!DateUtil.isADateFormat(formatIndex, formatString)
+                    && !measuredShapes.add(NumberShape.of(
+                            style.getIndex(), value))) {
+                // a number with the same formatted length has been measured
+                return null;
+            }
+            CellText number = new CellText(null);
+            number.value = value;
+            number.formatIndex = formatIndex;
+            number.formatString = formatString;
+            return number;
+        default:
+            return null;
+        }
+    }
+
+    private static double measure(String text, GlyphWidths glyphs,
+            short rotation) {
+        double width = 0;
+        double lineWidth = 0;
+        int lines = 1;
+        for (int i = 0; i < text.length();) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint == '\n') {
+                width = Math.max(width, lineWidth);
+                lineWidth = 0;
+                lines++;
+            } else {
+                lineWidth += glyphs.width(codePoint);
+            }
+        }
+        width = Math.max(width, lineWidth);
+        if (rotation == 0) {
+            return width;
+        }
+        // 0xFF is used for vertically stacked text
+        double angle = Math.toRadians(rotation == 0xFF ? 90 : rotation);
+        double height = glyphs.lineHeight * lines;
+        return Math.abs(width * Math.cos(angle))
+                + Math.abs(height * Math.sin(angle));
+    }
+
+    private static FontKey getFontKey(Font font) {
+        return new FontKey(font.getFontName(), font.getFontHeightInPoints(),
+                font.getBold(), font.getItalic());
+    }
+
+    private static GlyphWidths getGlyphWidths(FontKey key) {
+        return GLYPH_WIDTHS.computeIfAbsent(key, GlyphWidths::new);
+    }
+
+    private record FontKey(String name, short heightInPoints, boolean bold,
+            boolean italic) {
+    }
+
+    /**
+     * The content of a cell and the properties of its style that are needed
+     * for measuring it, copied from the sheet so that the measuring does not
+     * access the sheet. The text is {@code null} for a numeric value that has
+     * not been formatted yet.
+     */
+    private static final class CellText {
+        private final String text;
+        private double value;
+        private int formatIndex;
+        private String formatString;
+        private FontKey font;
+        private short rotation;
+        private short indention;
+        private double estimatedWidth;
+
+        private CellText(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * Properties of a number that determine the length of its formatted value
+     * for a given cell style.
+     */
+    private record NumberShape(int styleIndex, boolean negative,
+            int magnitude, int decimals) {
+
+        static NumberShape of(int styleIndex, double value) {
+            if (value == 0 || !Double.isFinite(value)) {
+                return new NumberShape(styleIndex, false,
+                        Double.isNaN(value) ? 1 : 0, 0);
+            }
+            BigDecimal decimal = BigDecimal.valueOf(value)
+                    .stripTrailingZeros();
+            return new NumberShape(styleIndex, value < 0,
+                    decimal.precision() - decimal.scale(),
+                    Math.max(0, decimal.scale()));
+        }
+    }
+
+    /**
+     * The advance widths of the characters of a font, in points.
+     */
+    private static final class GlyphWidths {
+        private final java.awt.Font font;
+        private final float[] ascii = new float[128];
+        private final Map<Integer, Float> others = new ConcurrentHashMap<>();
+        private final float lineHeight;
+
+        private GlyphWidths(FontKey key) {
+            int style = (key.bold() ? java.awt.Font.BOLD : 0)
+                    | (key.italic() ? java.awt.Font.ITALIC : 0);
+            font = new java.awt.Font(key.name(), style, key.heightInPoints());
+            for (int c = 0; c < ascii.length; c++) {
+                ascii[c] = advance(c);
+            }
+            lineHeight = font.getLineMetrics("0", FONT_RENDER_CONTEXT)
+                    .getHeight();
+        }
+
+        private float width(int codePoint) {
+            if (codePoint < ascii.length) {
+                return ascii[codePoint];
+            }
+            Float width = others.get(codePoint);
+            if (width == null) {
+                width = advance(codePoint);
+                if (others.size() < MAX_CACHED_GLYPHS) {
+                    others.put(codePoint, width);
+                }
+            }
+            return width;
+        }
+
+        private float advance(int codePoint) {
+            return (float) font
+                    .getStringBounds(new String(Character.toChars(codePoint)),
+                            FONT_RENDER_CONTEXT)
+                    .getWidth();
+        }
+    }
+}
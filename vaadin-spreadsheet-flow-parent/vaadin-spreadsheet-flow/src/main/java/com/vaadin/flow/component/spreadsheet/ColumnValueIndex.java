@@ -0,0 +1,134 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * Dictionary of the formatted cell values of a single column range, mapping
+ * each distinct value to a bitmap of the rows that contain it.
+ * <p>
+ * The index is built on first use by scanning the range once. After that, only
+ * the rows that have been reported as changed through {@link #markChanged(int)}
+ * are read again, together with the rows containing formulas, as their values
+ * can change without the cell itself being edited.
+ * <p>
+ * Bit indexes are the 0-based row indexes of the sheet.
+ */
+class ColumnValueIndex implements Serializable {
+
+    private final Spreadsheet spreadsheet;
+    private final int firstRow;
+    private final int lastRow;
+    private final int column;
+
+    private Map<String, BitSet> rowsByValue;
+    private String[] rowValues;
+    private final BitSet formulaRows = new BitSet();
+    private final BitSet changedRows = new BitSet();
+
+    /**
+     * Creates an index for the given column range of the active sheet.
+     *
+     * @param spreadsheet
+     *            the spreadsheet to read the values from
+     * @param firstRow
+     *            the first row of the range, 0-based
+     * @param lastRow
+     *            the last row of the range, 0-based
+     * @param column
+     *            the column of the range, 0-based
+     */
+    ColumnValueIndex(Spreadsheet spreadsheet, int firstRow, int lastRow,
+            int column) {
+        this.spreadsheet = spreadsheet;
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.column = column;
+    }
+
+    /**
+     * Gets the distinct values of the range, each mapped to the rows that
+     * contain the value. The returned bitmaps must not be modified.
+     *
+     * @return an unmodifiable map from cell value to rows
+     */
+    Map<String, BitSet> getRowsByValue() {
+        if (rowsByValue == null) {
+            build();
+        } else {
+            changedRows.or(formulaRows);
+            for (int row = changedRows.nextSetBit(
+                    firstRow); row >= 0 && row <= lastRow; row = changedRows
+                            .nextSetBit(row + 1)) {
+                update(row);
+            }
+        }
+        changedRows.clear();
+        return Collections.unmodifiableMap(rowsByValue);
+    }
+
+    /**
+     * Marks the given row to be read again on next access.
+     *
+     * @param row
+     *            the changed row, 0-based
+     */
+    void markChanged(int row) {
+        if (rowsByValue != null && row >= firstRow && row <= lastRow) {
+            changedRows.set(row);
+        }
+    }
+
+    /**
+     * Discards the index, so that it is built again on next access.
+     */
+    void invalidate() {
+        rowsByValue = null;
+        rowValues = null;
+        formulaRows.clear();
+        changedRows.clear();
+    }
+
+    private void build() {
+        rowsByValue = new HashMap<>();
+        rowValues = new String[lastRow - firstRow + 1];
+        formulaRows.clear();
+        for (int row = firstRow; row <= lastRow; row++) {
+            update(row);
+        }
+    }
+
+    private void update(int row) {
+        Cell cell = spreadsheet.getCell(row, column);
+        formulaRows.set(row,
+                cell != null && cell.getCellType() == CellType.FORMULA);
+        String value = spreadsheet.getCellValue(cell);
+        String oldValue = rowValues[row - firstRow];
+        if (value.equals(oldValue)) {
+            return;
+        }
+        if (oldValue != null) {
+            BitSet oldRows = rowsByValue.get(oldValue);
+            oldRows.clear(row);
+            if (oldRows.isEmpty()) {
+                rowsByValue.remove(oldValue);
+            }
+        }
+        rowsByValue.computeIfAbsent(value, key -> new BitSet()).set(row);
+        rowValues[row - firstRow] = value;
+    }
+}
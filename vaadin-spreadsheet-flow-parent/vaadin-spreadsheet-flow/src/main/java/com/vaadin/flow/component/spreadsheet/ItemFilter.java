@@ -8,13 +8,17 @@
  */
 package com.vaadin.flow.component.spreadsheet;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -33,6 +37,11 @@ import com.vaadin.flow.data.provider.ListDataProvider;
  * <p>
  * Has a check box for selecting all items (cell values), and one check box per
  * unique cell value that can be found within the cells of the table column.
+ * <p>
+ * The distinct values of the column are kept in an index that maps each value
+ * to the rows containing it. The index is built when first needed and updated
+ * incrementally when cells of the column are edited, so opening the pop-up or
+ * changing the selection does not read all cells of the column again.
  * 
  * @since 23.1
  */
@@ -50,7 +59,8 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
     private PopupButton popupButton;
     private boolean cancelValueChangeUpdate;
     private SpreadsheetFilterTable filterTable;
-    private Set<Integer> filteredRows;
+    private final BitSet filteredRows = new BitSet();
+    private final ColumnValueIndex valueIndex;
 
     /**
      * Constructs a new item filter for the given spreadsheet, filtering range,
@@ -73,7 +83,9 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
         this.filterTable = filterTable;
 
         allCellValues = new ArrayList<>();
-        filteredRows = new HashSet<>();
+        valueIndex = new ColumnValueIndex(spreadsheet,
+                filterRange.getFirstRow(), filterRange.getLastRow(),
+                filterRange.getFirstColumn());
         initComponents();
         updateOptions();
     }
@@ -229,10 +241,16 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      * @return the cell values
      */
     protected Set<String> getVisibleValues() {
-        Set<String> values = getAllValues();
-        for (int r : filteredRows) {
-            values.remove(spreadsheet.getCellValue(
-                    spreadsheet.getCell(r, filterRange.getFirstColumn())));
+        BitSet otherShown = getRowsShownByOtherFilters();
+
+        Set<String> values = new HashSet<>();
+        for (Map.Entry<String, BitSet> entry : valueIndex.getRowsByValue()
+                .entrySet()) {
+            BitSet rows = entry.getValue();
+            if (rows.intersects(otherShown)
+                    && !rows.intersects(filteredRows)) {
+                values.add(entry.getKey());
+            }
         }
         return values;
     }
@@ -244,21 +262,29 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      * @return the cell values
      */
     protected Set<String> getAllValues() {
-        Set<Integer> otherHidden = filterTable
-                .getRowsHiddenByOtherFilters(this);
+        BitSet otherShown = getRowsShownByOtherFilters();
 
         Set<String> values = new HashSet<>();
-        for (int r = filterRange.getFirstRow(); r <= filterRange
-                .getLastRow(); r++) {
-            if (otherHidden.contains(r)) {
-                continue;
+        for (Map.Entry<String, BitSet> entry : valueIndex.getRowsByValue()
+                .entrySet()) {
+            if (entry.getValue().intersects(otherShown)) {
+                values.add(entry.getKey());
             }
-            values.add(spreadsheet.getCellValue(
-                    spreadsheet.getCell(r, filterRange.getFirstColumn())));
         }
         return values;
     }
 
+    /**
+     * Gets the rows of the filter range that are not hidden by other columns'
+     * filters, so that a value is shown by them if its rows intersect these.
+     */
+    private BitSet getRowsShownByOtherFilters() {
+        BitSet rows = new BitSet();
+        rows.set(filterRange.getFirstRow(), filterRange.getLastRow() + 1);
+        rows.andNot(filterTable.getRowsHiddenByOtherFilters(this));
+        return rows;
+    }
+
     /**
      * Updates the filtered rows to reflect the new filtered values.
      *
@@ -266,30 +292,65 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
      *            the values that are NOT filtered
      */
     protected void updateFilteredItems(Collection<String> visibleValues) {
-        Set<Integer> otherHidden = filterTable
-                .getRowsHiddenByOtherFilters(this);
+        Set<String> visible = visibleValues instanceof Set<String> set ? set
+                : new HashSet<>(visibleValues);
 
         filteredRows.clear();
-        for (int r = filterRange.getFirstRow(); r <= filterRange
-                .getLastRow(); r++) {
-            if (otherHidden.contains(r)) {
-                continue;
-            }
-            String cellValue = spreadsheet.getCellValue(
-                    spreadsheet.getCell(r, filterRange.getFirstColumn()));
-            if (!visibleValues.contains(cellValue)) {
-                filteredRows.add(r);
+        for (Map.Entry<String, BitSet> entry : valueIndex.getRowsByValue()
+                .entrySet()) {
+            if (!visible.contains(entry.getKey())) {
+                filteredRows.or(entry.getValue());
             }
         }
+        filteredRows.andNot(filterTable.getRowsHiddenByOtherFilters(this));
 
         filterTable.onFiltersUpdated();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned set is an unmodifiable view of the rows filtered by this
+     * filter.
+     */
     @Override
     public Set<Integer> getFilteredRows() {
+        return new BitSetView(filteredRows);
+    }
+
+    /**
+     * Gets the rows filtered by this filter as a bitmap of 0-based row
+     * indexes. The returned bitmap must not be modified.
+     *
+     * @return the filtered rows
+     */
+    BitSet getFilteredRowBits() {
         return filteredRows;
     }
 
+    /**
+     * Marks the value of the given row as changed, so that it is read again
+     * when the filter options are updated.
+     *
+     * @param row
+     *            the changed row, 0-based
+     */
+    void onRowChanged(int row) {
+        valueIndex.markChanged(row);
+    }
+
+    /**
+     * Discards the indexed values of the column, for example when rows have
+     * been shifted, so that all cells are read again when needed.
+     */
+    void invalidateValueIndex() {
+        valueIndex.invalidate();
+    }
+
+    int getColumn() {
+        return filterRange.getFirstColumn();
+    }
+
     @Override
     public void clearFilter() {
         cancelValueChangeUpdate = true;
@@ -298,4 +359,52 @@ public class ItemFilter extends Div implements SpreadsheetFilter {
         filteredRows.clear();
         cancelValueChangeUpdate = false;
     }
+
+    /**
+     * Unmodifiable set view of the bits of a bitmap.
+     */
+    private static final class BitSetView extends AbstractSet<Integer> {
+        private final BitSet bits;
+
+        private BitSetView(BitSet bits) {
+            this.bits = bits;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer index && index >= 0 && bits.get(index);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return bits.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return bits.cardinality();
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<>() {
+                private int next = bits.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public Integer next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    int current = next;
+                    next = bits.nextSetBit(current + 1);
+                    return current;
+                }
+            };
+        }
+    }
 }
@@ -17,6 +17,7 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -32,7 +33,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
-import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -274,6 +275,12 @@ public class Spreadsheet extends Component
 
     private boolean insideCustomEditorCallback;
 
+    private int pasteBatchSize = 1000;
+
+    private int maxPasteLength = 16 * 1024 * 1024;
+
+    private transient Executor pasteExecutor;
+
     int getCols() {
         return cols;
     }
@@ -793,9 +800,11 @@ public class Spreadsheet extends Component
     private static final int FILTER_BUTTON_PIXEL_PADDING = 2;
 
     /**
-     * Map of autofitted column widths in points
+     * Map of autofitted column widths. An entry is marked as stale when a cell
+     * in the column is changed, after which the column is measured again on
+     * the next autofit.
      */
-    private Map<CellReference, Integer> autofittedColumnWidths = new WeakHashMap<>();
+    private Map<CellReference, AutofittedWidth> autofittedColumnWidths = new HashMap<>();
 
     private SpreadsheetClientRpc clientRpc = new SpreadsheetClientRpc() {
         @Override
@@ -2629,6 +2638,7 @@ public class Spreadsheet extends Component
         getFormulaEvaluator().clearAllCachedResultValues();
         getConditionalFormattingEvaluator().clearAllCachedValues();
         valueManager.clearCachedContent();
+        invalidateFilterValueIndexes();
 
         // only reload if the cells have been loaded once previously
         if (firstColumn == -1) {
@@ -2761,9 +2771,11 @@ public class Spreadsheet extends Component
 
     /**
      * Sets the column to automatically adjust the column width to fit the
-     * largest cell content within the column. This is a POI feature, and is
-     * meant to be called after all the data for the target column has been
-     * written. See {@link Sheet#autoSizeColumn(int)}.
+     * largest cell content within the column. This is meant to be called after
+     * all the data for the target column has been written. The result is
+     * similar to {@link Sheet#autoSizeColumn(int)}, but the text is measured
+     * using cached glyph widths, and the width is reused until a cell in the
+     * column is changed.
      * <p>
      * This does not take into account cells that have custom Vaadin components
      * inside them.
@@ -2772,27 +2784,72 @@ public class Spreadsheet extends Component
      *            Index of the target column, 0-based
      */
     public void autofitColumn(int columnIndex) {
+        autofitColumns(columnIndex);
+    }
+
+    /**
+     * Sets the columns to automatically adjust their widths to fit the largest
+     * cell content within each column. The columns that need to be measured
+     * are read and measured one at a time on the calling thread.
+     * <p>
+     * This does not take into account cells that have custom Vaadin components
+     * inside them.
+     *
+     * @param columnIndexes
+     *            Indexes of the target columns, 0-based
+     * @see #autofitColumn(int)
+     * @since 25.3
+     */
+    public void autofitColumns(int... columnIndexes) {
         final Sheet activeSheet = getActiveSheet();
-        try {
-            activeSheet.autoSizeColumn(columnIndex);
-        } catch (NullPointerException e) {
-            // NullPointerException is being thrown in POI. Catch to prevent
-            // breaking the UI.
-            LOGGER.trace(
-                    "Poi threw NullPointerException when trying to autofit column",
-                    e);
-            return;
+        int[] columnWidths = new int[columnIndexes.length];
+        List<Integer> measured = new ArrayList<>();
+        for (int i = 0; i < columnIndexes.length; i++) {
+            AutofittedWidth cached = autofittedColumnWidths
+                    .get(getAutofitKey(activeSheet, columnIndexes[i]));
+            if (cached != null && !cached.stale()) {
+                columnWidths[i] = cached.columnWidth();
+            } else {
+                measured.add(i);
+            }
+        }
+        if (!measured.isEmpty()) {
+            int[] widths;
+            try {
+                widths = ColumnAutofitter.measureColumns(activeSheet,
+                        measured.stream().mapToInt(i -> columnIndexes[i])
+                                .toArray(),
+                        getLocale());
+            } catch (NullPointerException e) {
+                // NullPointerException is being thrown in POI. Catch to
+                // prevent breaking the UI.
+                LOGGER.trace(
+                        "Poi threw NullPointerException when trying to autofit column",
+                        e);
+                return;
+            }
+            for (int i = 0; i < widths.length; i++) {
+                columnWidths[measured.get(i)] = widths[i];
+            }
         }
-        int columnPixelWidth = getColumnAutofitPixelWidth(columnIndex,
-                (int) activeSheet.getColumnWidthInPixels(columnIndex));
 
         int[] _colW = Arrays.copyOf(getColW(), getColW().length);
-        _colW[columnIndex] = columnPixelWidth;
+        for (int i = 0; i < columnIndexes.length; i++) {
+            int columnIndex = columnIndexes[i];
+            if (columnWidths[i] >= 0) {
+                activeSheet.setColumnWidth(columnIndex, columnWidths[i]);
+            }
+            _colW[columnIndex] = getColumnAutofitPixelWidth(columnIndex,
+                    (int) activeSheet.getColumnWidthInPixels(columnIndex),
+                    columnWidths[i]);
+        }
         setColW(_colW);
 
-        getCellValueManager().clearCacheForColumn(columnIndex + 1);
-        getCellValueManager().loadCellData(firstRow, columnIndex + 1, lastRow,
-                columnIndex + 1);
+        for (int columnIndex : columnIndexes) {
+            getCellValueManager().clearCacheForColumn(columnIndex + 1);
+            getCellValueManager().loadCellData(firstRow, columnIndex + 1,
+                    lastRow, columnIndex + 1);
+        }
 
         if (hasSheetOverlays()) {
             reloadImageSizesFromPOI = true;
@@ -2800,6 +2857,78 @@ public class Spreadsheet extends Component
         }
     }
 
+    private static CellReference getAutofitKey(Sheet sheet, int columnIndex) {
+        return new CellReference(sheet.getSheetName(), 0, columnIndex, true,
+                true);
+    }
+
+    /**
+     * Called when the value of the given cell has changed or the cell has been
+     * removed, to update the data derived from the cell values.
+     *
+     * @param cell
+     *            the changed cell
+     */
+    void onCellChanged(Cell cell) {
+        invalidateAutofittedWidth(cell);
+        for (SpreadsheetTable table : tables) {
+            if (table instanceof SpreadsheetFilterTable filterTable) {
+                filterTable.onCellChanged(cell);
+            }
+        }
+    }
+
+    private void invalidateFilterValueIndexes() {
+        for (SpreadsheetTable table : tables) {
+            if (table instanceof SpreadsheetFilterTable filterTable) {
+                filterTable.invalidateValueIndexes();
+            }
+        }
+    }
+
+    /**
+     * Marks the autofitted width of the column of the given cell as stale, so
+     * that the column is measured again on the next autofit.
+     *
+     * @param cell
+     *            the changed cell
+     */
+    void invalidateAutofittedWidth(Cell cell) {
+        if (autofittedColumnWidths.isEmpty()) {
+            return;
+        }
+        autofittedColumnWidths.computeIfPresent(
+                getAutofitKey(cell.getSheet(), cell.getColumnIndex()),
+                (key, width) -> width.asStale());
+    }
+
+    /**
+     * Marks all autofitted column widths as stale.
+     */
+    void invalidateAutofittedWidths() {
+        autofittedColumnWidths.replaceAll((key, width) -> width.asStale());
+    }
+
+    /**
+     * An autofitted column width.
+     *
+     * @param pixelWidth
+     *            the width of the column in pixels after autofit
+     * @param columnWidth
+     *            the measured width in units of 1/256th of a character width,
+     *            or {@code -1} if the column had no content
+     * @param stale
+     *            whether cells in the column have changed since
+     */
+    private record AutofittedWidth(int pixelWidth, int columnWidth,
+            boolean stale) implements Serializable {
+
+        AutofittedWidth asStale() {
+            return stale ? this
+                    : new AutofittedWidth(pixelWidth, columnWidth, true);
+        }
+    }
+
     /**
      * Shifts rows between startRow and endRow n number of rows. If you use a
      * negative number for n, the rows will be shifted upwards. This method
@@ -2850,6 +2979,8 @@ public class Spreadsheet extends Component
         int lastNonBlankRow = getLastNonBlankRow(sheet);
         sheet.shiftRows(startRow, endRow, n, copyRowHeight,
                 resetOriginalRowHeight);
+        invalidateAutofittedWidths();
+        invalidateFilterValueIndexes();
         // need to re-send the cell values to client
         // remove all cached cell data that is now empty
         getFormulaEvaluator().clearAllCachedResultValues();
@@ -2962,13 +3093,17 @@ public class Spreadsheet extends Component
      *            Index of the target column, 0 based
      * @param autofitWidth
      *            The autofit width without the button, in pixels
+     * @param columnWidth
+     *            The measured width of the column content, see
+     *            {@link AutofittedWidth#columnWidth()}
      * @return Pixel width of the column
      */
-    private int getColumnAutofitPixelWidth(int columnIndex, int autofitWidth) {
+    private int getColumnAutofitPixelWidth(int columnIndex, int autofitWidth,
+            int columnWidth) {
         List<SpreadsheetTable> tablesForActiveSheet = getTablesForActiveSheet();
-        CellReference cr = new CellReference(getActiveSheet().getSheetName(), 0,
-                columnIndex, true, true);
-        autofittedColumnWidths.put(cr, autofitWidth);
+        CellReference cr = getAutofitKey(getActiveSheet(), columnIndex);
+        autofittedColumnWidths.put(cr,
+                new AutofittedWidth(autofitWidth, columnWidth, false));
         for (SpreadsheetTable st : tablesForActiveSheet) {
             if (!(st instanceof SpreadsheetFilterTable)) {
                 continue;
@@ -3446,6 +3581,29 @@ public class Spreadsheet extends Component
         reloadSheetStyles(true, true);
     }
 
+    /**
+     * Hides or shows the given rows. Only the rows in the first bitmap are
+     * updated, so callers pass just the rows whose visibility changes, and the
+     * style calculations are deferred until visibility of all rows are
+     * updated. POI has no API for hiding a range of rows, so each given row is
+     * still updated separately.
+     *
+     * @see #setRowHidden(int, boolean)
+     *
+     * @param rows
+     *            the 0-based indexes of the rows to update
+     * @param hiddenRows
+     *            the 0-based indexes of the rows that should be hidden, rows
+     *            not included are shown
+     */
+    void setRowsHidden(BitSet rows, BitSet hiddenRows) {
+        for (int rowIndex = rows.nextSetBit(0); rowIndex >= 0; rowIndex = rows
+                .nextSetBit(rowIndex + 1)) {
+            doSetRowHidden(rowIndex, hiddenRows.get(rowIndex));
+        }
+        reloadSheetStyles(true, true);
+    }
+
     private void reloadSheetStyles(boolean calculateSheetSizes,
             boolean updateOverlays) {
         if (calculateSheetSizes) {
@@ -3696,6 +3854,7 @@ public class Spreadsheet extends Component
         styler = null;
 
         valueManager.clearCachedContent();
+        autofittedColumnWidths.clear();
         selectionManager.clear();
         historyManager.clear();
         invalidFormulas.clear();
@@ -5139,7 +5298,8 @@ public class Spreadsheet extends Component
             if (!autofittedColumnWidths.containsKey(cr)) {
                 continue;
             }
-            Integer autofittedWidth = autofittedColumnWidths.get(cr);
+            int autofittedWidth = autofittedColumnWidths.get(cr)
+                    .pixelWidth();
             int currentWidth = (int) filteredSheet
                     .getColumnWidthInPixels(cr.getCol());
             // only update columns that haven't changed size since the last
@@ -5613,6 +5773,179 @@ public class Spreadsheet extends Component
         return addListener(ProtectedEditEvent.class, listener::writeAttempted);
     }
 
+    /**
+     * Gets the number of rows that are written to the sheet in one batch when
+     * text is pasted from the clipboard.
+     *
+     * @return the number of rows in a batch
+     * @see #setPasteBatchSize(int)
+     */
+    public int getPasteBatchSize() {
+        return pasteBatchSize;
+    }
+
+    /**
+     * Sets the number of rows that are written to the sheet in one batch when
+     * text is pasted from the clipboard. The default is 1000.
+     * <p>
+     * When the pasted text has more rows than fit in one batch, the text is
+     * parsed with the {@link #setPasteExecutor(Executor) paste executor}, and
+     * each batch is written in a separate {@code UI.access} call, so that the
+     * session is not locked for the whole paste. A
+     * {@link PasteProgressEvent} is fired after each batch. This requires
+     * server push to be enabled, so that the batches are shown as they are
+     * written. Without push, as well as for smaller pastes and pastes into a
+     * spreadsheet that is not attached, all rows are written immediately.
+     *
+     * @param pasteBatchSize
+     *            the number of rows in a batch, at least 1
+     * @since 25.3
+     */
+    public void setPasteBatchSize(int pasteBatchSize) {
+        if (pasteBatchSize < 1) {
+            throw new IllegalArgumentException(
+                    "Paste batch size must be at least 1");
+        }
+        this.pasteBatchSize = pasteBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of characters of text that can be pasted from
+     * the clipboard at once.
+     *
+     * @return the maximum length of pasted text
+     * @see #setMaxPasteLength(int)
+     * @since 25.3
+     */
+    public int getMaxPasteLength() {
+        return maxPasteLength;
+    }
+
+    /**
+     * Sets the maximum number of characters of text that can be pasted from
+     * the clipboard at once. Large pasted texts are sent to the server in
+     * chunks, which are buffered in memory until the whole text has been
+     * received. A paste that is longer than the limit is ignored, and its
+     * buffered chunks are discarded. The default is 16777216 characters.
+     *
+     * @param maxPasteLength
+     *            the maximum length of pasted text, at least 1
+     * @since 25.3
+     */
+    public void setMaxPasteLength(int maxPasteLength) {
+        if (maxPasteLength < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum paste length must be at least 1");
+        }
+        this.maxPasteLength = maxPasteLength;
+    }
+
+    /**
+     * Gets the executor that is used for parsing large pasted texts and for
+     * scheduling the batches in which they are written.
+     *
+     * @return the paste executor, or {@code null} if the executor of the
+     *         application is used
+     * @see #setPasteExecutor(Executor)
+     * @since 25.3
+     */
+    public Executor getPasteExecutor() {
+        return pasteExecutor;
+    }
+
+    /**
+     * Sets the executor that is used for parsing large pasted texts and for
+     * scheduling the batches in which they are written. By default, the
+     * executor of the application is used, see
+     * {@link com.vaadin.flow.server.VaadinService#getExecutor()}.
+     *
+     * @param pasteExecutor
+     *            the executor to use, or {@code null} to use the executor of
+     *            the application
+     * @see #setPasteBatchSize(int)
+     * @since 25.3
+     */
+    public void setPasteExecutor(Executor pasteExecutor) {
+        this.pasteExecutor = pasteExecutor;
+    }
+
+    /**
+     * An event that is fired after each batch of rows has been written to the
+     * sheet when text is pasted from the clipboard.
+     *
+     * @see Spreadsheet#setPasteBatchSize(int)
+     * @since 25.3
+     */
+    public static class PasteProgressEvent extends ComponentEvent<Spreadsheet> {
+
+        private final int writtenRows;
+        private final int totalRows;
+
+        public PasteProgressEvent(Spreadsheet source, int writtenRows,
+                int totalRows) {
+            super(source, false);
+            this.writtenRows = writtenRows;
+            this.totalRows = totalRows;
+        }
+
+        /**
+         * Gets the number of rows that have been written so far.
+         *
+         * @return the number of written rows
+         */
+        public int getWrittenRows() {
+            return writtenRows;
+        }
+
+        /**
+         * Gets the total number of pasted rows.
+         *
+         * @return the total number of rows
+         */
+        public int getTotalRows() {
+            return totalRows;
+        }
+
+        /**
+         * Gets whether all rows have been written.
+         *
+         * @return {@code true} if the paste is complete, {@code false}
+         *         otherwise
+         */
+        public boolean isComplete() {
+            return writtenRows >= totalRows;
+        }
+    }
+
+    /**
+     * A listener for the progress of pasting text from the clipboard.
+     */
+    @FunctionalInterface
+    public interface PasteProgressListener extends Serializable {
+
+        /**
+         * Called after a batch of pasted rows has been written to the sheet.
+         *
+         * @param event
+         *            the progress event
+         */
+        public void onPasteProgress(PasteProgressEvent event);
+    }
+
+    /**
+     * Adds a listener for the progress of pasting text from the clipboard.
+     *
+     * @param listener
+     *            the listener to add
+     * @return a {@link Registration} for removing the event listener
+     * @since 25.3
+     */
+    public Registration addPasteProgressListener(
+            PasteProgressListener listener) {
+        return addListener(PasteProgressEvent.class,
+                listener::onPasteProgress);
+    }
+
     /**
      * Creates or removes a freeze pane from the currently active sheet.
      *
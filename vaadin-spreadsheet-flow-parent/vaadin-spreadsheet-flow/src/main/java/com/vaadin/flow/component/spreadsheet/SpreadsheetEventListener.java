@@ -163,6 +163,9 @@ public class SpreadsheetEventListener
             handler.protectedCellWriteAttempted();
         } else if ("onPaste".equals(type)) {
             handler.onPaste(toStr(pars, 0));
+        } else if ("onPasteChunk".equals(type)) {
+            handler.onPasteChunk(toInt(pars, 0), toStr(pars, 1),
+                    toBool(pars, 2));
         } else if ("clearSelectedCellsOnCut".equals(type)) {
             handler.clearSelectedCellsOnCut();
         } else if ("updateCellComment".equals(type)) {
@@ -8,15 +8,13 @@
  */
 package com.vaadin.flow.component.spreadsheet;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFTable;
@@ -175,11 +173,7 @@ public class SpreadsheetFilterTable extends SpreadsheetTable {
             }
         }
 
-        getSpreadsheet().setRowsHidden(IntStream
-                .range(filteringRegion.getFirstRow(),
-                        filteringRegion.getLastRow() + 1)
-                .boxed().collect(
-                        Collectors.toMap(Function.identity(), index -> false)));
+        setFilteredRowsHidden(new BitSet());
     }
 
     /**
@@ -274,25 +268,61 @@ public class SpreadsheetFilterTable extends SpreadsheetTable {
      * added your own SpreadsheetFilter.
      */
     public void onFiltersUpdated() {
-        Set<Integer> filteredRows = new HashSet<>();
+        BitSet filteredRows = new BitSet();
         for (Entry<PopupButton, HashSet<SpreadsheetFilter>> entry : popupButtonToFiltersMap
                 .entrySet()) {
             PopupButton popupButton = entry.getKey();
             HashSet<SpreadsheetFilter> filters = entry.getValue();
-            HashSet<Integer> temp = new HashSet<Integer>();
+            BitSet temp = new BitSet();
             for (SpreadsheetFilter filter : filters) {
-                temp.addAll(filter.getFilteredRows());
+                addFilteredRows(temp, filter);
             }
             popupButtonToClearButtonMap.get(popupButton)
                     .setEnabled(!temp.isEmpty());
             popupButton.markActive(!temp.isEmpty());
-            filteredRows.addAll(temp);
+            filteredRows.or(temp);
+        }
+        setFilteredRowsHidden(filteredRows);
+    }
+
+    /**
+     * Hides the rows of the filtering region that are set in the given bitmap
+     * and shows the other rows of the region. Only the rows whose visibility
+     * changes are updated, which are found by comparing the bitmap with the
+     * rows currently hidden in the sheet.
+     */
+    private void setFilteredRowsHidden(BitSet filteredRows) {
+        Spreadsheet spreadsheet = getSpreadsheet();
+        int firstRow = filteringRegion.getFirstRow();
+        int lastRow = filteringRegion.getLastRow();
+        // Read from the sheet, as the application may have hidden or shown
+        // rows of the region since the previous update
+        BitSet hiddenRows = new BitSet();
+        for (int r = firstRow; r <= lastRow; r++) {
+            if (spreadsheet.isRowHidden(r)) {
+                hiddenRows.set(r);
+            }
+        }
+        BitSet newHiddenRows = (BitSet) filteredRows.clone();
+        newHiddenRows.clear(0, firstRow);
+        newHiddenRows.clear(lastRow + 1, Math.max(lastRow + 1,
+                newHiddenRows.length()));
+        BitSet changedRows = hiddenRows;
+        changedRows.xor(newHiddenRows);
+        if (!changedRows.isEmpty()) {
+            spreadsheet.setRowsHidden(changedRows, newHiddenRows);
+        }
+    }
+
+    private static void addFilteredRows(BitSet rows,
+            SpreadsheetFilter filter) {
+        if (filter instanceof ItemFilter itemFilter) {
+            rows.or(itemFilter.getFilteredRowBits());
+        } else {
+            for (int row : filter.getFilteredRows()) {
+                rows.set(row);
+            }
         }
-        getSpreadsheet().setRowsHidden(IntStream
-                .range(filteringRegion.getFirstRow(),
-                        filteringRegion.getLastRow() + 1)
-                .boxed().collect(Collectors.toMap(Function.identity(),
-                        filteredRows::contains)));
     }
 
     /**
@@ -301,21 +331,59 @@ public class SpreadsheetFilterTable extends SpreadsheetTable {
      *
      * @param self
      *            Filter to exclude from the union
-     * @return Rows hidden by other filters
+     * @return Rows hidden by other filters, as a bitmap of 0-based row indexes
      */
-    Set<Integer> getRowsHiddenByOtherFilters(SpreadsheetFilter self) {
-        Set<Integer> hidden = new HashSet<>();
+    BitSet getRowsHiddenByOtherFilters(SpreadsheetFilter self) {
+        BitSet hidden = new BitSet();
         for (HashSet<SpreadsheetFilter> filters : popupButtonToFiltersMap
                 .values()) {
             for (SpreadsheetFilter filter : filters) {
                 if (!filter.equals(self)) {
-                    hidden.addAll(filter.getFilteredRows());
+                    addFilteredRows(hidden, filter);
                 }
             }
         }
         return hidden;
     }
 
+    /**
+     * Called when the value of the given cell has changed, to keep the value
+     * indexes of the item filters up to date.
+     *
+     * @param cell
+     *            the changed cell
+     */
+    void onCellChanged(Cell cell) {
+        if (cell.getSheet() != getSheet()
+                || !filteringRegion.isInRange(cell)) {
+            return;
+        }
+        for (HashSet<SpreadsheetFilter> filters : popupButtonToFiltersMap
+                .values()) {
+            for (SpreadsheetFilter filter : filters) {
+                if (filter instanceof ItemFilter itemFilter
+                        && itemFilter.getColumn() == cell.getColumnIndex()) {
+                    itemFilter.onRowChanged(cell.getRowIndex());
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the value indexes of the item filters, for example after rows
+     * have been shifted.
+     */
+    void invalidateValueIndexes() {
+        for (HashSet<SpreadsheetFilter> filters : popupButtonToFiltersMap
+                .values()) {
+            for (SpreadsheetFilter filter : filters) {
+                if (filter instanceof ItemFilter itemFilter) {
+                    itemFilter.invalidateValueIndex();
+                }
+            }
+        }
+    }
+
     /**
      * Registers a new filter to this filter table and adds it inside the given
      * pop-up button.
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.ClientAnchor;
@@ -25,12 +27,15 @@ import org.apache.poi.ss.usermodel.Drawing;
 import org.apache.poi.ss.usermodel.RichTextString;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.spreadsheet.Spreadsheet.CellValueChangeEvent;
+import com.vaadin.flow.component.spreadsheet.Spreadsheet.PasteProgressEvent;
 import com.vaadin.flow.component.spreadsheet.Spreadsheet.ProtectedEditEvent;
 import com.vaadin.flow.component.spreadsheet.command.CellValueCommand;
 import com.vaadin.flow.component.spreadsheet.rpc.SpreadsheetServerRpc;
@@ -43,8 +48,24 @@ import com.vaadin.flow.component.spreadsheet.rpc.SpreadsheetServerRpc;
 @SuppressWarnings("serial")
 public class SpreadsheetHandlerImpl implements SpreadsheetServerRpc {
 
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(SpreadsheetHandlerImpl.class);
+
     private Spreadsheet spreadsheet;
 
+    /**
+     * The maximum number of cells written in one batch for which the formula
+     * evaluator is notified of each cell separately. Above this, its whole
+     * cache is cleared once instead.
+     */
+    private static final int NOTIFY_UPDATED_CELLS_LIMIT = 1000;
+
+    private StringBuilder pasteBuffer;
+
+    private int pasteBufferId;
+
+    private transient CompletableFuture<Void> pendingPastes;
+
     public SpreadsheetHandlerImpl(Spreadsheet spreadsheet) {
         this.spreadsheet = spreadsheet;
     }
@@ -245,6 +266,11 @@ public class SpreadsheetHandlerImpl implements SpreadsheetServerRpc {
 
     @Override
     public void onConnectorInit() {
+        // the paste IDs of a new client start again from the beginning
+        pasteBuffer = null;
+        pasteBufferId = 0;
+        // the pastes of the previous client are not waited for
+        pendingPastes = null;
         spreadsheet.onConnectorInit();
     }
 
@@ -255,56 +281,239 @@ public class SpreadsheetHandlerImpl implements SpreadsheetServerRpc {
 
     @Override
     public void onPaste(String text) {
-        Workbook workbook = spreadsheet.getWorkbook();
-        Sheet activesheet = workbook.getSheetAt(workbook.getActiveSheetIndex());
+        if (text.length() > spreadsheet.getMaxPasteLength()) {
+            LOGGER.warn(
+                    "Ignored a paste of {} characters, which is more than the maximum paste length",
+                    text.length());
+            return;
+        }
+        PasteOperation paste = new PasteOperation(
+                spreadsheet.getSelectedCellReference());
+        int batchSize = spreadsheet.getPasteBatchSize();
+        UI ui = spreadsheet.getUI().orElse(null);
+        // Without push, the batches written in the background would only be
+        // sent to the client with the next request
+        if (ui == null || !ui.getPushConfiguration().getPushMode().isEnabled()
+                || !hasMoreLines(text, batchSize)) {
+            paste.parse(text);
+            while (!paste.writeBatch(batchSize, false)) {
+                // write all batches within this request
+            }
+            return;
+        }
 
-        CellReference selectedCellReference = spreadsheet
-                .getSelectedCellReference();
+        // Parse large pastes in the background, and write them in batches
+        // without holding the session lock in between. Pastes are written in
+        // the order in which they were received.
+        Executor executor = spreadsheet.getPasteExecutor() != null
+                ? spreadsheet.getPasteExecutor()
+                : ui.getSession().getService().getExecutor();
+        CompletableFuture<Void> parsed = CompletableFuture
+                .runAsync(() -> paste.parse(text), executor);
+        CompletableFuture<Void> previous = pendingPastes != null
+                ? pendingPastes
+                : CompletableFuture.completedFuture(null);
+        pendingPastes = CompletableFuture.allOf(previous, parsed)
+                .thenCompose(ignore -> writeBatchesAsync(ui, executor, paste,
+                        batchSize))
+                .exceptionally(error -> {
+                    LOGGER.error("Pasting failed", error);
+                    return null;
+                });
+    }
+
+    @Override
+    public void onPasteChunk(int pasteId, String text, boolean last) {
+        if (pasteId != pasteBufferId) {
+            // a new paste was started, discard the chunks of the previous one
+            pasteBufferId = pasteId;
+            pasteBuffer = new StringBuilder(text.length());
+        }
+        if (pasteBuffer == null) {
+            // the paste has been discarded or completed
+            return;
+        }
+        if (pasteBuffer.length() + text.length() > spreadsheet
+                .getMaxPasteLength()) {
+            LOGGER.warn(
+                    "Ignored a paste of more than {} characters, which is the maximum paste length",
+                    spreadsheet.getMaxPasteLength());
+            pasteBuffer = null;
+            return;
+        }
+        pasteBuffer.append(text);
+        if (last) {
+            String pasted = pasteBuffer.toString();
+            pasteBuffer = null;
+            onPaste(pasted);
+        }
+    }
+
+    private static CompletableFuture<Void> writeBatchesAsync(UI ui,
+            Executor executor, PasteOperation paste, int batchSize) {
+        CompletableFuture<Boolean> batch = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                ui.access(() -> {
+                    try {
+                        batch.complete(paste.writeBatch(batchSize, true));
+                    } catch (RuntimeException e) {
+                        batch.completeExceptionally(e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // the UI has been detached
+                batch.completeExceptionally(e);
+            }
+        });
+        return batch.thenCompose(done -> done
+                ? CompletableFuture.completedFuture(null)
+                : writeBatchesAsync(ui, executor, paste, batchSize));
+    }
 
-        String[] lines;
-        if (text.indexOf("\r\n") > -1) {
-            lines = text.split("\r\n");
-        } else if (text.indexOf("\n") > -1) {
-            lines = text.split("\n");
-        } else {
-            lines = text.split("\r");
+    /**
+     * Checks whether the text has more lines than the given limit, without
+     * splitting it.
+     */
+    private static boolean hasMoreLines(String text, int limit) {
+        char separator = text.indexOf('\n') > -1 ? '\n' : '\r';
+        int lines = 1;
+        for (int i = text.indexOf(separator); i > -1; i = text
+                .indexOf(separator, i + 1)) {
+            if (++lines > limit) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        int pasteHeight = lines.length;
-        int pasteWidth = 1;
-        for (String line : lines) {
-            String[] tokens = splitOnTab(line);
-            pasteWidth = Math.max(pasteWidth, tokens.length);
+    /**
+     * A paste of tab-separated text into the active sheet, starting from the
+     * selected cell. The text can be parsed in any thread, but the rows must
+     * be written with the session locked.
+     */
+    private class PasteOperation {
+        private final Sheet sheet;
+        private final int rowIndex;
+        private final int colIndex;
+
+        private List<String[]> lines;
+        private int pasteWidth;
+        private int writtenRows;
+        private CellValueCommand command;
+
+        private PasteOperation(CellReference selectedCellReference) {
+            sheet = spreadsheet.getActiveSheet();
+            rowIndex = selectedCellReference.getRow();
+            colIndex = selectedCellReference.getCol();
         }
 
-        int rowIndex = selectedCellReference.getRow();
-        int colIndex = selectedCellReference.getCol();
+        private void parse(String text) {
+            String[] rows;
+            if (text.indexOf("\r\n") > -1) {
+                rows = text.split("\r\n");
+            } else if (text.indexOf("\n") > -1) {
+                rows = text.split("\n");
+            } else {
+                rows = text.split("\r");
+            }
+            List<String[]> result = new ArrayList<>(rows.length);
+            int width = 1;
+            for (String row : rows) {
+                String[] tokens = splitOnTab(row);
+                width = Math.max(width, tokens.length);
+                result.add(tokens);
+            }
+            lines = result;
+            pasteWidth = width;
+        }
 
-        // Check for protected cells at target
-        for (int i = 0; i < pasteHeight; i++) {
-            for (int j = 0; j < pasteWidth; j++) {
-                CellAddress cellAddress = new CellAddress(rowIndex + i,
-                        colIndex + j);
-                if (spreadsheet.isCellLocked(cellAddress)) {
+        /**
+         * Writes the next batch of rows to the sheet.
+         *
+         * @param batchSize
+         *            the maximum number of rows to write
+         * @param incremental
+         *            whether to send the written cells to the client after
+         *            each batch
+         * @return {@code true} if the paste is complete or cancelled,
+         *         {@code false} if there are rows left to write
+         */
+        private boolean writeBatch(int batchSize, boolean incremental) {
+            if (spreadsheet.getActiveSheet() != sheet) {
+                // the user switched sheets while the paste was in progress
+                if (writtenRows > 0) {
+                    finish();
+                }
+                return true;
+            }
+            int pasteHeight = lines.size();
+            if (command == null) {
+                if (isTargetLocked()) {
                     protectedCellWriteAttempted();
-                    return;
+                    return true;
+                }
+                command = new CellValueCommand(spreadsheet);
+            }
+
+            int firstRow = writtenRows;
+            int endRow = Math.min(pasteHeight, firstRow + batchSize);
+            // capture the previous values of each batch just before writing
+            // it, instead of the whole pasted area at once
+            command.captureCellRangeValues(
+                    new CellRangeAddress(rowIndex + firstRow,
+                            rowIndex + endRow - 1, colIndex,
+                            colIndex + pasteWidth - 1));
+            // notifying the formula evaluator of every cell only invalidates
+            // the dependent formulas, but it gets slow for many cells, so the
+            // whole formula cache is cleared once for a large batch instead
+            boolean notifyCells = (endRow - firstRow)
+                    * pasteWidth <= NOTIFY_UPDATED_CELLS_LIMIT;
+            for (int i = firstRow; i < endRow; i++) {
+                writeRow(i, notifyCells);
+            }
+            if (!notifyCells) {
+                spreadsheet.getCellValueManager().getFormulaEvaluator()
+                        .clearAllCachedResultValues();
+            }
+            writtenRows = endRow;
+
+            if (writtenRows < pasteHeight) {
+                if (incremental) {
+                    spreadsheet.updateMarkedCells();
                 }
+                spreadsheet.fireEvent(new PasteProgressEvent(spreadsheet,
+                        writtenRows, pasteHeight));
+                return false;
             }
+            finish();
+            spreadsheet.fireEvent(new PasteProgressEvent(spreadsheet,
+                    writtenRows, pasteHeight));
+            return true;
         }
 
-        CellValueCommand command = new CellValueCommand(spreadsheet);
-        CellRangeAddress affectedRange = new CellRangeAddress(rowIndex,
-                rowIndex + pasteHeight - 1, colIndex,
-                colIndex + pasteWidth - 1);
-        command.captureCellRangeValues(affectedRange);
-
-        for (int i = 0; i < pasteHeight; i++) {
-            String line = lines[i];
-            Row row = activesheet.getRow(rowIndex + i);
+        private boolean isTargetLocked() {
+            // Locking cells only works if the sheet is protected
+            if (!spreadsheet.isActiveSheetProtected()) {
+                return false;
+            }
+            for (int i = 0; i < lines.size(); i++) {
+                for (int j = 0; j < pasteWidth; j++) {
+                    if (spreadsheet.isCellLocked(
+                            new CellAddress(rowIndex + i, colIndex + j))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void writeRow(int index, boolean notifyCells) {
+            Row row = sheet.getRow(rowIndex + index);
             if (row == null) {
-                row = activesheet.createRow(rowIndex + i);
+                row = sheet.createRow(rowIndex + index);
             }
-            String[] tokens = splitOnTab(line);
+            String[] tokens = lines.get(index);
             for (int j = 0; j < pasteWidth; j++) {
                 Cell cell = row.getCell(colIndex + j);
                 if (cell == null) {
@@ -325,18 +534,27 @@ public class SpreadsheetHandlerImpl implements SpreadsheetServerRpc {
                 }
 
                 spreadsheet.getCellValueManager().markCellForUpdate(cell);
-                spreadsheet.getCellValueManager().getFormulaEvaluator()
-                        .notifyUpdateCell(cell);
+                if (notifyCells) {
+                    spreadsheet.getCellValueManager().getFormulaEvaluator()
+                            .notifyUpdateCell(cell);
+                }
             }
         }
 
-        spreadsheet.getSpreadsheetHistoryManager().addCommand(command);
-        spreadsheet.updateMarkedCells();
-        // re-set selection to copied area
-        spreadsheet.setSelectionRange(rowIndex, colIndex,
-                rowIndex + pasteHeight - 1, colIndex + pasteWidth - 1);
-
-        fireCellValueChangeEvent(affectedRange);
+        private void finish() {
+            CellRangeAddress affectedRange = new CellRangeAddress(rowIndex,
+                    rowIndex + writtenRows - 1, colIndex,
+                    colIndex + pasteWidth - 1);
+            spreadsheet.getSpreadsheetHistoryManager().addCommand(command);
+            spreadsheet.updateMarkedCells();
+            if (spreadsheet.getActiveSheet() == sheet) {
+                // re-set selection to copied area
+                spreadsheet.setSelectionRange(rowIndex, colIndex,
+                        rowIndex + writtenRows - 1,
+                        colIndex + pasteWidth - 1);
+            }
+            fireCellValueChangeEvent(affectedRange);
+        }
     }
 
     private void fireCellValueChangeEvent(CellRangeAddress region) {
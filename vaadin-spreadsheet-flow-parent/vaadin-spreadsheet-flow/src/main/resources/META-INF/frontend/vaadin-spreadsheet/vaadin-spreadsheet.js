@@ -442,6 +442,10 @@ export class VaadinSpreadsheet extends LitElement {
       this.dispatchEvent(this.createEvent('onPaste', e));
     });
 
+    this.api.setOnPasteChunkCallback((e) => {
+      this.dispatchEvent(this.createEvent('onPasteChunk', e));
+    });
+
     this.api.setClearSelectedCellsOnCutCallback((e) => {
       this.dispatchEvent(this.createEvent('clearSelectedCellsOnCut', e));
     });
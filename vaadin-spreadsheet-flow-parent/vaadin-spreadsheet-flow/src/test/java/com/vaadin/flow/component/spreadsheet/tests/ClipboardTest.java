@@ -8,17 +8,22 @@
  */
 package com.vaadin.flow.component.spreadsheet.tests;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.component.spreadsheet.Spreadsheet;
 import com.vaadin.flow.component.spreadsheet.Spreadsheet.CellValueChangeEvent;
 import com.vaadin.flow.component.spreadsheet.Spreadsheet.ProtectedEditEvent;
+import com.vaadin.flow.shared.communication.PushMode;
 import com.vaadin.tests.MockUIExtension;
 
 class ClipboardTest {
@@ -82,6 +87,164 @@ class ClipboardTest {
         Assertions.assertEquals("B2", getCellValue("B2"));
     }
 
+    @Test
+    void pasteChunks_joinedBeforeParsing() {
+        spreadsheet.setSelection("A1");
+        pasteChunk("[1, \"A1\\tB\", false]");
+        Assertions.assertNull(spreadsheet.getCell("A1"));
+
+        pasteChunk("[1, \"1\\nA2\\tB2\", true]");
+        Assertions.assertEquals("A1", getCellValue("A1"));
+        Assertions.assertEquals("B1", getCellValue("B1"));
+        Assertions.assertEquals("B2", getCellValue("B2"));
+    }
+
+    @Test
+    void pasteChunks_newPasteId_previousChunksDiscarded() {
+        spreadsheet.setSelection("A1");
+        pasteChunk("[1, \"X\", false]");
+        pasteChunk("[2, \"A\", false]");
+        pasteChunk("[2, \"1\", true]");
+
+        Assertions.assertEquals("A1", getCellValue("A1"));
+    }
+
+    @Test
+    void pasteChunks_longerThanMaxPasteLength_ignored() {
+        spreadsheet.setMaxPasteLength(3);
+        spreadsheet.setSelection("A1");
+        pasteChunk("[1, \"AB\", false]");
+        pasteChunk("[1, \"CD\", false]");
+        pasteChunk("[1, \"E\", true]");
+
+        Assertions.assertNull(spreadsheet.getCell("A1"));
+    }
+
+    @Test
+    void paste_longerThanMaxPasteLength_ignored() {
+        spreadsheet.setMaxPasteLength(3);
+        spreadsheet.setSelection("A1");
+        paste("[\"ABCD\"]");
+
+        Assertions.assertNull(spreadsheet.getCell("A1"));
+    }
+
+    @Test
+    void setMaxPasteLength_zero_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> spreadsheet.setMaxPasteLength(0));
+    }
+
+    @Test
+    void paste_formulaDependsOnPastedCells_formulaRecalculated() {
+        spreadsheet.createCell(0, 0, 1);
+        spreadsheet.createCell(1, 0, 2);
+        spreadsheet.createFormulaCell(2, 0, "A1+A2");
+        Assertions.assertEquals(3, evaluate("A3"), 0.0);
+
+        spreadsheet.setSelection("A1");
+        paste("[\"10\\n20\"]");
+
+        Assertions.assertEquals(30, evaluate("A3"), 0.0);
+    }
+
+    @Test
+    void paste_moreRowsThanBatchSize_noPasteExecutor_applicationExecutorUsed() {
+        ui.add(spreadsheet);
+        enablePush();
+        Mockito.when(ui.getService().getExecutor()).thenReturn(Runnable::run);
+        spreadsheet.setPasteBatchSize(2);
+
+        spreadsheet.setSelection("A1");
+        paste("[\"A1\\nA2\\nA3\"]");
+
+        Mockito.verify(ui.getService()).getExecutor();
+        Assertions.assertEquals("A3", getCellValue("A3"));
+    }
+
+    @Test
+    void paste_moreRowsThanBatchSize_writtenInBatches() {
+        ui.add(spreadsheet);
+        enablePush();
+        spreadsheet.setPasteExecutor(Runnable::run);
+        spreadsheet.setPasteBatchSize(2);
+        var progress = new ArrayList<Integer>();
+        spreadsheet.addPasteProgressListener(
+                e -> progress.add(e.getWrittenRows()));
+        var cellValueChange = new AtomicReference<CellValueChangeEvent>();
+        spreadsheet.addCellValueChangeListener(cellValueChange::set);
+
+        spreadsheet.setSelection("A1");
+        paste("[\"A1\\nA2\\nA3\\nA4\\nA5\"]");
+
+        Assertions.assertEquals(List.of(2, 4, 5), progress);
+        Assertions.assertEquals("A1", getCellValue("A1"));
+        Assertions.assertEquals("A5", getCellValue("A5"));
+        Assertions.assertEquals(5,
+                cellValueChange.get().getChangedCells().size());
+    }
+
+    @Test
+    void paste_moreRowsThanBatchSize_undo_allBatchesReverted() {
+        ui.add(spreadsheet);
+        enablePush();
+        spreadsheet.setPasteExecutor(Runnable::run);
+        spreadsheet.setPasteBatchSize(2);
+        spreadsheet.setSelection("A1");
+        paste("[\"A1\\nA2\\nA3\"]");
+        paste("[\"B1\\nB2\\nB3\"]");
+
+        undo();
+
+        Assertions.assertEquals("A1", getCellValue("A1"));
+        Assertions.assertEquals("A3", getCellValue("A3"));
+    }
+
+    @Test
+    void paste_moreRowsThanBatchSize_noPush_writtenImmediately() {
+        ui.add(spreadsheet);
+        var executor = Mockito.mock(Executor.class);
+        spreadsheet.setPasteExecutor(executor);
+        spreadsheet.setPasteBatchSize(2);
+        var progress = new ArrayList<Integer>();
+        spreadsheet.addPasteProgressListener(
+                e -> progress.add(e.getWrittenRows()));
+
+        spreadsheet.setSelection("A1");
+        paste("[\"A1\\nA2\\nA3\"]");
+
+        Mockito.verifyNoInteractions(executor);
+        Assertions.assertEquals("A3", getCellValue("A3"));
+        Assertions.assertEquals(List.of(2, 3), progress);
+    }
+
+    @Test
+    void paste_pendingPasteBeforeReattach_nextPasteNotDelayed() {
+        ui.add(spreadsheet);
+        enablePush();
+        var executor = Mockito.mock(Executor.class);
+        spreadsheet.setPasteExecutor(executor);
+        spreadsheet.setPasteBatchSize(2);
+        spreadsheet.setSelection("A1");
+        // never parsed, as the executor does not run anything
+        paste("[\"A1\\nA2\\nA3\"]");
+
+        ui.remove(spreadsheet);
+        ui.add(spreadsheet);
+        TestHelper.fireClientEvent(spreadsheet, "onConnectorInit", "[]");
+        spreadsheet.setPasteExecutor(Runnable::run);
+        spreadsheet.setSelection("B1");
+        paste("[\"B1\\nB2\\nB3\"]");
+
+        Assertions.assertEquals("B3", getCellValue("B3"));
+    }
+
+    @Test
+    void setPasteBatchSize_zero_throws() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> spreadsheet.setPasteBatchSize(0));
+    }
+
     @Test
     void lockedCell_paste_cellHasOriginalValue() {
         lockCell("A1");
@@ -297,10 +460,24 @@ class ClipboardTest {
         return spreadsheet.getCell(cellAddress).getStringCellValue();
     }
 
+    private void enablePush() {
+        Mockito.when(ui.getService().ensurePushAvailable()).thenReturn(true);
+        ui.getUI().getPushConfiguration().setPushMode(PushMode.AUTOMATIC);
+    }
+
     private void paste(String clipboardContent) {
         TestHelper.fireClientEvent(spreadsheet, "onPaste", clipboardContent);
     }
 
+    private void pasteChunk(String chunk) {
+        TestHelper.fireClientEvent(spreadsheet, "onPasteChunk", chunk);
+    }
+
+    private double evaluate(String cellAddress) {
+        return spreadsheet.getFormulaEvaluator()
+                .evaluate(spreadsheet.getCell(cellAddress)).getNumberValue();
+    }
+
     private void undo() {
         TestHelper.fireClientEvent(spreadsheet, "onUndo", "[]");
     }
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2000-2026 Vaadin Ltd.
+ *
+ * This program is available under Vaadin Commercial License and Service Terms.
+ *
+ * See {@literal <https://vaadin.com/commercial-license-and-service-terms>} for the full
+ * license.
+ */
+package com.vaadin.flow.component.spreadsheet.tests;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.vaadin.flow.component.spreadsheet.Spreadsheet;
+
+class ColumnAutofitTest {
+
+    private Spreadsheet spreadsheet;
+
+    @BeforeEach
+    void init() {
+        spreadsheet = new Spreadsheet();
+        spreadsheet.setLocale(Locale.US);
+    }
+
+    @Test
+    void autofit_longerText_widerColumn() {
+        spreadsheet.createCell(0, 0, "short");
+        spreadsheet.createCell(0, 1, "a considerably longer text");
+
+        spreadsheet.autofitColumns(0, 1);
+
+        Assertions.assertTrue(getColumnWidth(1) > getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_widestCellDeterminesWidth() {
+        spreadsheet.createCell(0, 0, "a considerably longer text");
+        spreadsheet.createCell(1, 0, "short");
+        spreadsheet.createCell(0, 1, "a considerably longer text");
+
+        spreadsheet.autofitColumns(0, 1);
+
+        Assertions.assertEquals(getColumnWidth(1), getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_numbers_widestNumberDeterminesWidth() {
+        for (int i = 0; i < 1000; i++) {
+            spreadsheet.createCell(i, 0, (double) i);
+        }
+        spreadsheet.createCell(0, 1, 999d);
+
+        spreadsheet.autofitColumns(0, 1);
+
+        Assertions.assertEquals(getColumnWidth(1), getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_manyTexts_widestTextDeterminesWidth() {
+        for (int i = 0; i < 1000; i++) {
+            spreadsheet.createCell(i, 0, i == 500 ? "a considerably longer text"
+                    : "text " + i);
+        }
+        spreadsheet.createCell(0, 1, "a considerably longer text");
+
+        spreadsheet.autofitColumns(0, 1);
+
+        Assertions.assertEquals(getColumnWidth(1), getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_multiLineText_longestLineDeterminesWidth() {
+        spreadsheet.createCell(0, 0, "short\na considerably longer text");
+        spreadsheet.createCell(0, 1, "a considerably longer text");
+
+        spreadsheet.autofitColumns(0, 1);
+
+        Assertions.assertEquals(getColumnWidth(1), getColumnWidth(0));
+    }
+
+    @Test
+    void autofitColumns_sameWidthsAsAutofitColumn() {
+        Spreadsheet other = new Spreadsheet();
+        other.setLocale(Locale.US);
+        for (Spreadsheet sheet : new Spreadsheet[] { spreadsheet, other }) {
+            for (int column = 0; column < 8; column++) {
+                for (int row = 0; row < 100; row++) {
+                    sheet.createCell(row, column,
+                            column % 2 == 0 ? "text " + row * column
+                                    : (double) row * column / 7);
+                }
+            }
+        }
+
+        spreadsheet.autofitColumns(0, 1, 2, 3, 4, 5, 6, 7);
+        for (int column = 0; column < 8; column++) {
+            other.autofitColumn(column);
+        }
+
+        for (int column = 0; column < 8; column++) {
+            Assertions.assertEquals(
+                    other.getActiveSheet().getColumnWidth(column),
+                    getColumnWidth(column));
+        }
+    }
+
+    @Test
+    void autofit_emptyColumn_widthNotChanged() {
+        int width = getColumnWidth(0);
+
+        spreadsheet.autofitColumn(0);
+
+        Assertions.assertEquals(width, getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_resize_autofitAgain_sameWidth() {
+        spreadsheet.createCell(0, 0, "a considerably longer text");
+        spreadsheet.autofitColumn(0);
+        int width = getColumnWidth(0);
+
+        spreadsheet.setColumnWidth(0, 10);
+        spreadsheet.autofitColumn(0);
+
+        Assertions.assertEquals(width, getColumnWidth(0));
+    }
+
+    @Test
+    void autofit_editCell_autofitAgain_widthUpdated() {
+        spreadsheet.createCell(0, 0, "short");
+        spreadsheet.autofitColumn(0);
+        int width = getColumnWidth(0);
+
+        spreadsheet.createCell(1, 0, "a considerably longer text");
+        spreadsheet.autofitColumn(0);
+
+        Assertions.assertTrue(getColumnWidth(0) > width);
+    }
+
+    private int getColumnWidth(int columnIndex) {
+        return spreadsheet.getActiveSheet().getColumnWidth(columnIndex);
+    }
+}
@@ -226,6 +226,87 @@ class FilterTableTest {
         Assertions.assertTrue(spreadsheet.isRowHidden(5));
     }
 
+    @Test
+    void editCell_reopenPopup_optionsUpdated() {
+        getPopupButton(1).openPopup();
+
+        spreadsheet.createCell(2, 1, "edited");
+        getPopupButton(1).openPopup();
+
+        List<String> options = getFilterCheckboxGroup(1).getListDataView()
+                .getItems().toList();
+        Assertions.assertTrue(options.contains("edited"));
+        Assertions.assertFalse(options.contains("3"));
+    }
+
+    @Test
+    void editCellToExistingValue_filterValue_bothRowsHidden() {
+        getPopupButton(1).openPopup();
+
+        spreadsheet.createCell(2, 1, 4d);
+        getPopupButton(1).openPopup();
+        getFilterCheckboxGroup(1).deselect("4");
+
+        Assertions.assertEquals(2, getItemFilter(1).getFilteredRows().size());
+        Assertions.assertTrue(spreadsheet.isRowHidden(2));
+        Assertions.assertTrue(spreadsheet.isRowHidden(3));
+        Assertions.assertFalse(spreadsheet.isRowHidden(4));
+    }
+
+    @Test
+    void filterInTwoColumns_clearOne_onlyOtherRowsHidden() {
+        getFilterCheckboxGroup(1).deselect("4");
+        getFilterCheckboxGroup(2).deselect("7");
+
+        getFilterCheckboxGroup(1).select("4");
+
+        Assertions.assertFalse(spreadsheet.isRowHidden(3));
+        Assertions.assertTrue(spreadsheet.isRowHidden(5));
+    }
+
+    @Test
+    void filter_changeFilteredValue_previousRowShown() {
+        getFilterCheckboxGroup(1).deselect("4");
+        getFilterCheckboxGroup(1).select("4");
+        getFilterCheckboxGroup(1).deselect("5");
+
+        Assertions.assertFalse(spreadsheet.isRowHidden(3));
+        Assertions.assertTrue(spreadsheet.isRowHidden(4));
+    }
+
+    @Test
+    void rowHiddenBeforeFiltering_clearAllFilters_rowShown() {
+        spreadsheet.setRowHidden(4, true);
+        getFilterCheckboxGroup(1).deselect("4");
+
+        table.clearAllFilters();
+
+        Assertions.assertFalse(spreadsheet.isRowHidden(3));
+        Assertions.assertFalse(spreadsheet.isRowHidden(4));
+    }
+
+    @Test
+    void filteredRowShownBySpreadsheet_filterAnotherValue_rowHiddenAgain() {
+        getFilterCheckboxGroup(1).deselect("4");
+        spreadsheet.setRowHidden(3, false);
+
+        getFilterCheckboxGroup(1).deselect("5");
+
+        Assertions.assertTrue(spreadsheet.isRowHidden(3));
+        Assertions.assertTrue(spreadsheet.isRowHidden(4));
+    }
+
+    @Test
+    void rowHiddenBySpreadsheetAfterFiltering_clearFilter_rowShown() {
+        getFilterCheckboxGroup(1).deselect("4");
+        spreadsheet.setRowHidden(5, true);
+
+        getFilterCheckboxGroup(1).select("4");
+
+        Assertions.assertFalse(spreadsheet.isRowHidden(3));
+        Assertions.assertFalse(spreadsheet.isRowHidden(5));
+    }
+
     private Checkbox getSelectAllCheckbox(int column) {
         return (Checkbox) getItemFilter(column).getChildren()
                 .filter(component -> component instanceof Checkbox).findFirst()
@@ -37,6 +37,7 @@ import com.vaadin.flow.component.dependency.NpmPackage;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.shared.HasThemeVariant;
 import com.vaadin.flow.component.shared.SlotUtils;
+import com.vaadin.flow.component.shared.internal.SharedI18nRegistry;
 import com.vaadin.flow.dom.DomEventListener;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.JacksonUtils;
@@ -1003,7 +1004,7 @@ public class Upload extends Component implements HasEnabled, HasSize, HasStyle,
     public void setI18n(UploadI18N i18n) {
         this.i18n = Objects.requireNonNull(i18n,
                 "The i18n properties object should not be null");
-        getElement().setPropertyJson("i18n", JacksonUtils.beanToJson(i18n));
+        SharedI18nRegistry.setI18nProperty(this, JacksonUtils.beanToJson(i18n));
     }
 
     void runBeforeClientResponse(SerializableConsumer<UI> command) {